@@ -0,0 +1,107 @@
+package backend.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import backend.controller.scan.IndicatorCalculationController;
+import backend.dao.DAOManager;
+import backend.dao.instrument.InstrumentDAO;
+import backend.dao.quotation.persistence.QuotationDAO;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
+import backend.model.instrument.Quotation;
+
+/**
+ * Persists synthetic instruments in the database for benchmarks that read their data using DAOs. The data are stored
+ * the same way as after a scan: All quotations have their indicators and the most recent quotations their RS numbers.
+ *
+ * @author Michael
+ */
+public class BenchmarkDatabase {
+    /**
+     * DAO to access Instrument data.
+     */
+    private final InstrumentDAO instrumentDAO;
+
+    /**
+     * DAO to access Quotation data.
+     */
+    private final QuotationDAO quotationDAO;
+
+    /**
+     * Controller used for indicator calculations.
+     */
+    private final IndicatorCalculationController indicatorCalculator;
+
+    /**
+     * Initializes the BenchmarkDatabase.
+     */
+    public BenchmarkDatabase() {
+        this.instrumentDAO = DAOManager.getInstance().getInstrumentDAO();
+        this.quotationDAO = DAOManager.getInstance().getQuotationDAO();
+        this.indicatorCalculator = new IndicatorCalculationController();
+    }
+
+    /**
+     * Deletes all instruments and their quotations that remain in the database. The database is not recreated at
+     * startup. If a benchmark fails, its tear down is skipped and the remaining instruments would let the next setup
+     * fail. Stocks are deleted first, because they can reference sectors and industry groups.
+     *
+     * @throws Exception Deletion failed.
+     */
+    public void deleteRemainingInstruments() throws Exception {
+        List<Instrument> remainingInstruments = new ArrayList<>();
+
+        remainingInstruments.addAll(this.instrumentDAO.getInstruments(InstrumentType.STOCK));
+        remainingInstruments.addAll(this.instrumentDAO.getInstruments(InstrumentType.SECTOR));
+        remainingInstruments.addAll(this.instrumentDAO.getInstruments(InstrumentType.IND_GROUP));
+
+        for (Instrument instrument : remainingInstruments) {
+            this.quotationDAO.deleteQuotations(this.quotationDAO.getQuotationsOfInstrument(instrument.getId()));
+            this.instrumentDAO.deleteInstrument(instrument);
+        }
+    }
+
+    /**
+     * Calculates the indicators of the given instruments and inserts the instruments and their quotations.
+     *
+     * @param instruments The instruments.
+     * @throws Exception Insertion failed.
+     */
+    public void insertInstruments(final List<Instrument> instruments) throws Exception {
+        List<Quotation> recentQuotations = new ArrayList<>(instruments.size());
+
+        for (Instrument instrument : instruments) {
+            this.instrumentDAO.insertInstrument(instrument);
+            this.quotationDAO.insertQuotations(instrument.getQuotations());
+            this.quotationDAO.updateQuotations(this.indicatorCalculator.calculateIndicators(instrument));
+            recentQuotations.add(instrument.getQuotationsSortedByDate().get(0));
+        }
+
+        this.indicatorCalculator.calculateRsNumbers(recentQuotations);
+        this.quotationDAO.updateQuotations(recentQuotations);
+    }
+
+    /**
+     * Deletes the given instruments and their quotations.
+     *
+     * @param instruments The instruments.
+     * @throws Exception Deletion failed.
+     */
+    public void deleteInstruments(final List<Instrument> instruments) throws Exception {
+        for (Instrument instrument : instruments) {
+            this.quotationDAO.deleteQuotations(instrument.getQuotations());
+            this.instrumentDAO.deleteInstrument(instrument);
+        }
+    }
+
+    /**
+     * Closes the database connection.
+     *
+     * @throws IOException Closing failed.
+     */
+    public void close() throws IOException {
+        DAOManager.getInstance().close();
+    }
+}
@@ -0,0 +1,126 @@
+package backend.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import backend.controller.chart.priceVolume.ChartOverlay;
+import backend.controller.chart.priceVolume.PriceVolumeChartController;
+import backend.model.instrument.Instrument;
+import backend.webservice.Indicator;
+
+/**
+ * Measures the creation of a price volume chart and its rendering as PNG image.
+ *
+ * @author Michael
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChartRenderingBenchmark {
+    /**
+     * The seed used for generation of the trading history.
+     */
+    private static final long SEED = 1;
+
+    /**
+     * The number of quotations of the trading history.
+     */
+    private static final int HISTORY_LENGTH = 1260;
+
+    /**
+     * The width of the rendered chart.
+     */
+    private static final int CHART_WIDTH = 1600;
+
+    /**
+     * The height of the rendered chart.
+     */
+    private static final int CHART_HEIGHT = 700;
+
+    /**
+     * The Indicator that is displayed above the chart.
+     */
+    @Param({ "NONE", "BBW", "SLOW_STOCHASTIC" })
+    private Indicator indicator;
+
+    /**
+     * Access to the benchmark data in the database.
+     */
+    private BenchmarkDatabase database;
+
+    /**
+     * The Instrument whose chart is rendered.
+     */
+    private Instrument instrument;
+
+    /**
+     * All chart overlays.
+     */
+    private List<String> overlays;
+
+    /**
+     * Controller used for chart creation.
+     */
+    private PriceVolumeChartController chartController;
+
+    /**
+     * Persists the Instrument and its trading history.
+     *
+     * @throws Exception Setup failed.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        this.database = new BenchmarkDatabase();
+        this.database.deleteRemainingInstruments();
+        this.instrument = new QuotationGenerator(SEED).getInstrument("BM", HISTORY_LENGTH);
+        this.database.insertInstruments(List.of(this.instrument));
+        this.chartController = new PriceVolumeChartController();
+        this.overlays = new ArrayList<>();
+
+        for (ChartOverlay overlay : ChartOverlay.values()) {
+            this.overlays.add(overlay.toString());
+        }
+    }
+
+    /**
+     * Deletes the Instrument and its trading history.
+     *
+     * @throws Exception Tear down failed.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        this.database.deleteInstruments(List.of(this.instrument));
+        this.database.close();
+    }
+
+    /**
+     * Creates the chart and renders it as PNG image.
+     *
+     * @return The PNG image.
+     * @throws Exception Chart creation failed.
+     */
+    @Benchmark
+    public byte[] getPriceVolumeChartAsPng() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JFreeChart chart = this.chartController.getPriceVolumeChart(this.instrument.getId(), this.overlays, true,
+                this.indicator, null);
+
+        ChartUtils.writeChartAsPNG(output, chart, CHART_WIDTH, CHART_HEIGHT);
+
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,117 @@
+package backend.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import backend.dao.quotation.provider.QuotationProviderGlobeAndMailDAO;
+import backend.model.StockExchange;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.Quotation;
+
+/**
+ * Measures the extraction of the current Quotation from a locally stored page of theglobeandmail.com. Rendering with a
+ * new WebClient per Quotation, rendering with a pooled WebClient and parsing of the static HTML are compared. The
+ * allocation per Quotation is reported by the GC profiler.
+ *
+ * @author Michael
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GlobeAndMailQuoteBenchmark {
+    /**
+     * The path of the locally stored page.
+     */
+    private static final Path PAGE_PATH = Paths.get("src", "test", "resources", "GlobeAndMail",
+            "GlobeAndMailTSXVQuotePMET.htm");
+
+    /**
+     * The URL of the locally stored page.
+     */
+    private String pageUrl;
+
+    /**
+     * The HTML of the locally stored page.
+     */
+    private String html;
+
+    /**
+     * The Instrument whose Quotation is extracted.
+     */
+    private Instrument instrument;
+
+    /**
+     * DAO whose WebClients are reused across quotations.
+     */
+    private QuotationProviderGlobeAndMailDAO pooledDAO;
+
+    /**
+     * Reads the locally stored page.
+     *
+     * @throws Exception Setup failed.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        this.pageUrl = PAGE_PATH.toAbsolutePath().toUri().toString();
+        this.html = Files.readString(PAGE_PATH);
+        this.instrument = new Instrument("PMET", StockExchange.TSXV);
+        this.pooledDAO = new QuotationProviderGlobeAndMailDAO();
+    }
+
+    /**
+     * Closes the pooled WebClients.
+     */
+    @TearDown
+    public void tearDown() {
+        this.pooledDAO.close();
+    }
+
+    /**
+     * Renders the page with a new WebClient that is closed afterwards.
+     *
+     * @return The Quotation.
+     * @throws Exception Quotation extraction failed.
+     */
+    @Benchmark
+    public Quotation renderWithNewWebClient() throws Exception {
+        QuotationProviderGlobeAndMailDAO dao = new QuotationProviderGlobeAndMailDAO();
+
+        try {
+            return dao.getQuotationFromRenderedPage(this.pageUrl, this.instrument);
+        } finally {
+            dao.close();
+        }
+    }
+
+    /**
+     * Renders the page with a pooled WebClient.
+     *
+     * @return The Quotation.
+     * @throws Exception Quotation extraction failed.
+     */
+    @Benchmark
+    public Quotation renderWithPooledWebClient() throws Exception {
+        return this.pooledDAO.getQuotationFromRenderedPage(this.pageUrl, this.instrument);
+    }
+
+    /**
+     * Parses the static HTML of the page without rendering.
+     *
+     * @return The Quotation.
+     */
+    @Benchmark
+    public Quotation parseStaticHtml() {
+        return this.pooledDAO.getQuotationFromHtml(this.html, this.instrument);
+    }
+}
@@ -0,0 +1,109 @@
+package backend.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import backend.controller.instrumentCheck.HealthCheckProfile;
+import backend.controller.instrumentCheck.InstrumentCheckController;
+import backend.model.instrument.Instrument;
+import backend.model.protocol.Protocol;
+
+/**
+ * Measures the health check of a single Instrument. Each HealthCheckProfile is benchmarked separately.
+ *
+ * @author Michael
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HealthCheckBenchmark {
+    /**
+     * The seed used for generation of the trading history.
+     */
+    private static final long SEED = 1;
+
+    /**
+     * The number of trading days between the start date of the health check and the most recent Quotation.
+     */
+    private static final int CHECK_DAYS = 30;
+
+    /**
+     * The HealthCheckProfile that is used.
+     */
+    @Param
+    private HealthCheckProfile profile;
+
+    /**
+     * The number of quotations of the trading history.
+     */
+    @Param({ "252", "1260" })
+    private int historyLength;
+
+    /**
+     * Access to the benchmark data in the database.
+     */
+    private BenchmarkDatabase database;
+
+    /**
+     * The Instrument that is checked.
+     */
+    private Instrument instrument;
+
+    /**
+     * The start date of the health check.
+     */
+    private Date startDate;
+
+    /**
+     * Controller used for health checks.
+     */
+    private InstrumentCheckController instrumentCheckController;
+
+    /**
+     * Persists the Instrument and its trading history.
+     *
+     * @throws Exception Setup failed.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        this.database = new BenchmarkDatabase();
+        this.database.deleteRemainingInstruments();
+        this.instrument = new QuotationGenerator(SEED).getInstrument("BM", this.historyLength);
+        this.database.insertInstruments(List.of(this.instrument));
+        this.startDate = this.instrument.getQuotationsSortedByDate().get(CHECK_DAYS).getDate();
+        this.instrumentCheckController = new InstrumentCheckController();
+    }
+
+    /**
+     * Deletes the Instrument and its trading history.
+     *
+     * @throws Exception Tear down failed.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        this.database.deleteInstruments(List.of(this.instrument));
+        this.database.close();
+    }
+
+    /**
+     * Checks the health of the Instrument.
+     *
+     * @return The protocol of the health check.
+     * @throws Exception Health check failed.
+     */
+    @Benchmark
+    public Protocol checkInstrument() throws Exception {
+        return this.instrumentCheckController.checkInstrument(this.instrument.getId(), this.startDate, this.profile);
+    }
+}
@@ -0,0 +1,120 @@
+package backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import backend.calculator.BollingerCalculator;
+import backend.controller.scan.IndicatorCalculationController;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.Quotation;
+import backend.model.instrument.QuotationArray;
+
+/**
+ * Measures the calculation of indicators based on the trading history of a single Instrument.
+ *
+ * @author Michael
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IndicatorCalculationBenchmark {
+    /**
+     * The seed used for generation of the trading history.
+     */
+    private static final long SEED = 1;
+
+    /**
+     * The period used for Bollinger BandWidth calculation.
+     */
+    private static final int BBW_PERIOD = 10;
+
+    /**
+     * The standard deviation used for Bollinger BandWidth calculation.
+     */
+    private static final float BBW_STANDARD_DEVIATION = 2;
+
+    /**
+     * The percentile of the Bollinger BandWidth threshold.
+     */
+    private static final int BBW_THRESHOLD_PERCENT = 25;
+
+    /**
+     * The number of quotations of the trading history.
+     */
+    @Param({ "252", "1260", "2520" })
+    private int historyLength;
+
+    /**
+     * The Instrument whose indicators are calculated.
+     */
+    private Instrument instrument;
+
+    /**
+     * The quotations of the Instrument sorted by date.
+     */
+    private QuotationArray sortedQuotations;
+
+    /**
+     * Controller used for indicator calculations.
+     */
+    private IndicatorCalculationController indicatorCalculator;
+
+    /**
+     * Calculator for Bollinger Bands.
+     */
+    private BollingerCalculator bollingerCalculator;
+
+    /**
+     * Generates the trading history and initially calculates its indicators.
+     */
+    @Setup
+    public void setUp() {
+        this.instrument = new QuotationGenerator(SEED).getInstrument("BM", this.historyLength);
+        this.sortedQuotations = new QuotationArray(this.instrument.getQuotationsSortedByDate());
+        this.indicatorCalculator = new IndicatorCalculationController();
+        this.bollingerCalculator = new BollingerCalculator();
+
+        this.indicatorCalculator.calculateIndicators(this.instrument);
+    }
+
+    /**
+     * Calculates the indicators of the whole trading history.
+     *
+     * @return The quotations with calculated indicators.
+     */
+    @Benchmark
+    public List<Quotation> calculateIndicatorsFullHistory() {
+        return this.indicatorCalculator.calculateIndicators(this.instrument);
+    }
+
+    /**
+     * Calculates the indicators of a trading history whose indicators have been calculated before. Only the most recent
+     * Quotation is calculated.
+     *
+     * @return The quotations with calculated indicators.
+     */
+    @Benchmark
+    public List<Quotation> calculateIndicatorsIncremental() {
+        return this.indicatorCalculator.calculateIndicatorsIncremental(this.instrument);
+    }
+
+    /**
+     * Determines the Bollinger BandWidth threshold of the most recent Quotation.
+     *
+     * @return The threshold.
+     */
+    @Benchmark
+    public float getBollingerBandWidthThreshold() {
+        return this.bollingerCalculator.getBollingerBandWidthThreshold(BBW_PERIOD, BBW_STANDARD_DEVIATION,
+                BBW_THRESHOLD_PERCENT, this.sortedQuotations.getQuotations().get(0), this.sortedQuotations);
+    }
+}
@@ -0,0 +1,179 @@
+package backend.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import backend.model.Currency;
+import backend.model.StockExchange;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
+import backend.model.instrument.Quotation;
+
+/**
+ * Generates instruments with a synthetic trading history. The prices follow a random walk. Using the same seed always
+ * results in the same trading histories.
+ *
+ * @author Michael
+ */
+public class QuotationGenerator {
+    /**
+     * The number of decimals of generated prices.
+     */
+    private static final int PRICE_SCALE = 2;
+
+    /**
+     * The close price of the oldest Quotation.
+     */
+    private static final double INITIAL_PRICE = 50;
+
+    /**
+     * The standard deviation of the daily price change.
+     */
+    private static final double DAILY_VOLATILITY = 0.02;
+
+    /**
+     * The maximum distance of high and low from the body of the candle.
+     */
+    private static final double MAX_INTRADAY_RANGE = 0.015;
+
+    /**
+     * The minimum trading volume of a day.
+     */
+    private static final long MIN_VOLUME = 100000;
+
+    /**
+     * The range of the trading volume of a day above the minimum volume.
+     */
+    private static final long VOLUME_RANGE = 5000000;
+
+    /**
+     * The generator of random numbers.
+     */
+    private final Random random;
+
+    /**
+     * Initializes the QuotationGenerator.
+     *
+     * @param seed The seed of the random number generator.
+     */
+    public QuotationGenerator(final long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Gets the given number of stocks each having a trading history of the given length.
+     *
+     * @param numberOfInstruments The number of instruments.
+     * @param historyLength       The number of quotations of each Instrument.
+     * @return The instruments.
+     */
+    public List<Instrument> getInstruments(final int numberOfInstruments, final int historyLength) {
+        List<Instrument> instruments = new ArrayList<>(numberOfInstruments);
+
+        for (int i = 0; i < numberOfInstruments; i++) {
+            instruments.add(this.getInstrument("BM" + i, historyLength));
+        }
+
+        return instruments;
+    }
+
+    /**
+     * Gets a stock with a trading history of the given length. The newest Quotation is dated today. Weekends are
+     * skipped.
+     *
+     * @param symbol        The symbol of the Instrument.
+     * @param historyLength The number of quotations.
+     * @return The Instrument.
+     */
+    public Instrument getInstrument(final String symbol, final int historyLength) {
+        Instrument instrument = new Instrument();
+        List<Quotation> quotations = new ArrayList<>(historyLength);
+        List<Date> dates = this.getTradingDays(historyLength);
+        double close = INITIAL_PRICE;
+        double open;
+
+        instrument.setSymbol(symbol);
+        instrument.setName("Benchmark " + symbol);
+        instrument.setStockExchange(StockExchange.NDQ);
+        instrument.setType(InstrumentType.STOCK);
+
+        // Start with the oldest Quotation.
+        for (int i = historyLength - 1; i >= 0; i--) {
+            open = close;
+            close = Math.max(open * (1 + this.random.nextGaussian() * DAILY_VOLATILITY), 1);
+            quotations.add(this.getQuotation(instrument, dates.get(i), open, close));
+        }
+
+        // The quotations are provided sorted by date descending.
+        Collections.reverse(quotations);
+        instrument.setQuotations(quotations);
+
+        return instrument;
+    }
+
+    /**
+     * Gets a Quotation with the given prices. High, low and volume are determined randomly.
+     *
+     * @param instrument The Instrument of the Quotation.
+     * @param date       The date of the Quotation.
+     * @param open       The open price.
+     * @param close      The close price.
+     * @return The Quotation.
+     */
+    private Quotation getQuotation(final Instrument instrument, final Date date, final double open,
+            final double close) {
+
+        Quotation quotation = new Quotation();
+        double high = Math.max(open, close) * (1 + this.random.nextDouble() * MAX_INTRADAY_RANGE);
+        double low = Math.min(open, close) * (1 - this.random.nextDouble() * MAX_INTRADAY_RANGE);
+
+        quotation.setDate(date);
+        quotation.setOpen(this.getPrice(open));
+        quotation.setHigh(this.getPrice(high));
+        quotation.setLow(this.getPrice(low));
+        quotation.setClose(this.getPrice(close));
+        quotation.setCurrency(Currency.USD);
+        quotation.setVolume(MIN_VOLUME + (long) (this.random.nextDouble() * VOLUME_RANGE));
+        quotation.setInstrument(instrument);
+
+        return quotation;
+    }
+
+    /**
+     * Converts the given value to a price.
+     *
+     * @param value The value.
+     * @return The price.
+     */
+    private BigDecimal getPrice(final double value) {
+        return BigDecimal.valueOf(value).setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Gets the given number of trading days. The first day is today. Weekends are skipped.
+     *
+     * @param numberOfDays The number of trading days.
+     * @return The trading days sorted by date descending.
+     */
+    private List<Date> getTradingDays(final int numberOfDays) {
+        List<Date> tradingDays = new ArrayList<>(numberOfDays);
+        Calendar calendar = Calendar.getInstance();
+
+        while (tradingDays.size() < numberOfDays) {
+            if (calendar.get(Calendar.DAY_OF_WEEK) != Calendar.SATURDAY
+                    && calendar.get(Calendar.DAY_OF_WEEK) != Calendar.SUNDAY) {
+                tradingDays.add(calendar.getTime());
+            }
+
+            calendar.add(Calendar.DAY_OF_YEAR, -1);
+        }
+
+        return tradingDays;
+    }
+}
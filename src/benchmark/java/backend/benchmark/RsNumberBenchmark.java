@@ -0,0 +1,82 @@
+package backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import backend.controller.scan.IndicatorCalculationController;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.Quotation;
+
+/**
+ * Measures the ranking of the most recent quotations of all instruments by their RS numbers.
+ *
+ * @author Michael
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RsNumberBenchmark {
+    /**
+     * The seed used for generation of the trading histories.
+     */
+    private static final long SEED = 1;
+
+    /**
+     * The number of quotations of each trading history. One year is required for calculation of the RS percent sum.
+     */
+    private static final int HISTORY_LENGTH = 260;
+
+    /**
+     * The number of instruments that are ranked.
+     */
+    @Param({ "500", "5000" })
+    private int numberOfInstruments;
+
+    /**
+     * The most recent Quotation of each Instrument.
+     */
+    private List<Quotation> recentQuotations;
+
+    /**
+     * Controller used for indicator calculations.
+     */
+    private IndicatorCalculationController indicatorCalculator;
+
+    /**
+     * Generates the instruments and calculates the indicators of their most recent quotations.
+     */
+    @Setup
+    public void setUp() {
+        List<Instrument> instruments = new QuotationGenerator(SEED).getInstruments(this.numberOfInstruments,
+                HISTORY_LENGTH);
+
+        this.indicatorCalculator = new IndicatorCalculationController();
+        this.recentQuotations = new ArrayList<>(this.numberOfInstruments);
+
+        for (Instrument instrument : instruments) {
+            this.recentQuotations.add(this.indicatorCalculator.calculateIndicators(instrument).get(0));
+        }
+    }
+
+    /**
+     * Calculates the RS numbers of the most recent quotations.
+     *
+     * @return The ranked quotations.
+     */
+    @Benchmark
+    public List<Quotation> calculateRsNumbers() {
+        this.indicatorCalculator.calculateRsNumbers(this.recentQuotations);
+
+        return this.recentQuotations;
+    }
+}
@@ -0,0 +1,135 @@
+package backend.benchmark;
+
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import backend.dao.DAOManager;
+import backend.dao.quotation.persistence.QuotationDAO;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
+import backend.model.instrument.Quotation;
+import backend.webservice.ScanTemplate;
+
+/**
+ * Measures the query of quotations that match a ScanTemplate. Each ScanTemplate is benchmarked separately.
+ *
+ * @author Michael
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScanTemplateBenchmark {
+    /**
+     * The seed used for generation of the trading histories.
+     */
+    private static final long SEED = 1;
+
+    /**
+     * The number of quotations of each trading history.
+     */
+    private static final int HISTORY_LENGTH = 260;
+
+    /**
+     * The number of trading days between the start date of the RS_SINCE_DATE template and the most recent Quotation.
+     */
+    private static final int RS_SINCE_DATE_DAYS = 20;
+
+    /**
+     * The ScanTemplate that is applied.
+     */
+    @Param
+    private ScanTemplate scanTemplate;
+
+    /**
+     * The number of instruments the ScanTemplate is applied to.
+     */
+    @Param({ "100" })
+    private int numberOfInstruments;
+
+    /**
+     * Access to the benchmark data in the database.
+     */
+    private BenchmarkDatabase database;
+
+    /**
+     * The instruments the ScanTemplate is applied to.
+     */
+    private List<Instrument> instruments;
+
+    /**
+     * The industry group of all instruments. It is the divisor of the RS-Line of the RS_NEAR_HIGH_IG template.
+     */
+    private Instrument industryGroup;
+
+    /**
+     * DAO to access Quotation data.
+     */
+    private QuotationDAO quotationDAO;
+
+    /**
+     * The start date of the RS_SINCE_DATE template. Format used: yyyy-MM-dd.
+     */
+    private String startDate;
+
+    /**
+     * Persists the instruments, their industry group and their trading histories.
+     *
+     * @throws Exception Setup failed.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        QuotationGenerator quotationGenerator = new QuotationGenerator(SEED);
+
+        this.database = new BenchmarkDatabase();
+        this.database.deleteRemainingInstruments();
+        this.instruments = quotationGenerator.getInstruments(this.numberOfInstruments, HISTORY_LENGTH);
+        this.industryGroup = quotationGenerator.getInstrument("BMIG", HISTORY_LENGTH);
+        this.industryGroup.setType(InstrumentType.IND_GROUP);
+        this.database.insertInstruments(List.of(this.industryGroup));
+
+        for (Instrument instrument : this.instruments) {
+            instrument.setIndustryGroup(this.industryGroup);
+        }
+
+        this.database.insertInstruments(this.instruments);
+        this.quotationDAO = DAOManager.getInstance().getQuotationDAO();
+        this.startDate = dateFormat
+                .format(this.instruments.get(0).getQuotationsSortedByDate().get(RS_SINCE_DATE_DAYS).getDate());
+    }
+
+    /**
+     * Deletes the instruments, their industry group and their trading histories.
+     *
+     * @throws Exception Tear down failed.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        this.database.deleteInstruments(this.instruments);
+        this.database.deleteInstruments(List.of(this.industryGroup));
+        this.database.close();
+    }
+
+    /**
+     * Gets the quotations that match the ScanTemplate.
+     *
+     * @return The matching quotations.
+     * @throws Exception Quotation determination failed.
+     */
+    @Benchmark
+    public List<Quotation> getQuotationsByTemplate() throws Exception {
+        return this.quotationDAO.getQuotationsByTemplate(this.scanTemplate, InstrumentType.STOCK, this.startDate, null,
+                null);
+    }
+}
@@ -0,0 +1,96 @@
+package backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import backend.controller.scan.StatisticCalculationController;
+import backend.model.instrument.Instrument;
+import backend.model.statistic.Statistic;
+
+/**
+ * Measures the calculation of statistics based on the persisted trading histories of multiple instruments.
+ *
+ * @author Michael
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatisticBenchmark {
+    /**
+     * The seed used for generation of the trading histories.
+     */
+    private static final long SEED = 1;
+
+    /**
+     * The number of instruments whose statistics are calculated.
+     */
+    @Param({ "50", "200" })
+    private int numberOfInstruments;
+
+    /**
+     * The number of quotations of each trading history.
+     */
+    @Param({ "252" })
+    private int historyLength;
+
+    /**
+     * Access to the benchmark data in the database.
+     */
+    private BenchmarkDatabase database;
+
+    /**
+     * The instruments whose statistics are calculated.
+     */
+    private List<Instrument> instruments;
+
+    /**
+     * Controller used for Statistic calculation.
+     */
+    private StatisticCalculationController statisticCalculator;
+
+    /**
+     * Persists the instruments and their trading histories.
+     *
+     * @throws Exception Setup failed.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        this.database = new BenchmarkDatabase();
+        this.database.deleteRemainingInstruments();
+        this.instruments = new QuotationGenerator(SEED).getInstruments(this.numberOfInstruments, this.historyLength);
+        this.database.insertInstruments(this.instruments);
+        this.statisticCalculator = new StatisticCalculationController();
+    }
+
+    /**
+     * Deletes the instruments and their trading histories.
+     *
+     * @throws Exception Tear down failed.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        this.database.deleteInstruments(this.instruments);
+        this.database.close();
+    }
+
+    /**
+     * Calculates the statistics of all trading days.
+     *
+     * @return The statistics.
+     * @throws Exception Statistic calculation failed.
+     */
+    @Benchmark
+    public List<Statistic> calculateStatistics() throws Exception {
+        return this.statisticCalculator.calculateStatistics(this.instruments, null);
+    }
+}
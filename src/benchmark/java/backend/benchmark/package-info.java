@@ -0,0 +1,9 @@
+/**
+ * This module provides JMH benchmarks that measure the performance of calculations, scans, health checks and chart
+ * rendering based on synthetic trading histories. The extraction of current quotations is measured based on locally
+ * stored pages. Benchmarks that read their data using DAOs store the synthetic instruments in the test database and
+ * delete them at tear down.
+ *
+ * @author Michael
+ */
+package backend.benchmark;
@@ -2,11 +2,10 @@ package backend.calculator;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.Collections;
 
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
+import backend.model.instrument.QuotationSeries;
 
 /**
  * Performs calculations of indicators developed by John Bollinger based on the instruments quotations.
@@ -42,30 +41,79 @@ public class BollingerCalculator {
         float standardDeviation = this.getStandardDeviation(this.getPricesAsArray(period, quotation, sortedQuotations));
         float simpleMovingAverage = this.movingAverageCalculator.getSimpleMovingAverage(period, quotation,
                 sortedQuotations);
-        float middleBand;
-        float upperBand;
-        float lowerBand;
-        float bandWidth;
-        BigDecimal roundedResult;
-        final int multiplierOfFormula = 100;
 
-        if (standardDeviation == 0 || simpleMovingAverage == 0) {
-            return 0;
+        return this.getBollingerBandWidth(standardDeviations, standardDeviation, simpleMovingAverage);
+    }
+
+    /**
+     * Calculates the Bollinger BandWidth of all quotations of the trading history. The Simple Moving Average is
+     * maintained as a rolling window. Therefore the calculation effort grows linear with the length of the history.
+     *
+     * @param period             The number of quotations on which the calculation is based.
+     * @param standardDeviations The standard deviation used for calculation of the upper and lower Bollinger Band.
+     * @param sortedQuotations   A list of quotations sorted by date that build the trading history used for Bollinger
+     *                           BandWidth calculation.
+     * @return The Bollinger BandWidth values. The index of each value equals the index of the Quotation within the
+     *         sorted quotations. The value is 0, if not enough quotations exist for calculation.
+     */
+    public float[] getBollingerBandWidths(final int period, final float standardDeviations,
+            final QuotationArray sortedQuotations) {
+
+        int numberOfQuotations = sortedQuotations.getQuotations().size();
+        float[] prices = new float[numberOfQuotations];
+
+        for (int i = 0; i < numberOfQuotations; i++) {
+            prices[i] = sortedQuotations.getQuotations().get(i).getClose().floatValue();
         }
 
-        // Calculate the Bollinger Bands.
-        middleBand = simpleMovingAverage;
-        upperBand = simpleMovingAverage + (standardDeviation * standardDeviations);
-        lowerBand = simpleMovingAverage - (standardDeviation * standardDeviations);
+        return this.getBollingerBandWidths(period, standardDeviations, prices,
+                this.movingAverageCalculator.getSimpleMovingAverages(period, sortedQuotations));
+    }
 
-        // Calculate the Bollinger BandWidth.
-        bandWidth = ((upperBand - lowerBand) / middleBand) * multiplierOfFormula;
+    /**
+     * Calculates the Bollinger BandWidth of all quotations of the given QuotationSeries.
+     *
+     * @param period             The number of quotations on which the calculation is based.
+     * @param standardDeviations The standard deviation used for calculation of the upper and lower Bollinger Band.
+     * @param quotationSeries    The trading history used for Bollinger BandWidth calculation.
+     * @return The Bollinger BandWidth values. The index of each value equals the index of the Quotation within the
+     *         QuotationSeries. The value is 0, if not enough quotations exist for calculation.
+     */
+    public float[] getBollingerBandWidths(final int period, final float standardDeviations,
+            final QuotationSeries quotationSeries) {
 
-        // Round to two decimal places.
-        roundedResult = new BigDecimal(bandWidth);
-        roundedResult = roundedResult.setScale(2, RoundingMode.HALF_UP);
+        float[] prices = new float[quotationSeries.size()];
 
-        return roundedResult.floatValue();
+        for (int i = 0; i < quotationSeries.size(); i++) {
+            prices[i] = quotationSeries.getCloseAsFloat(i);
+        }
+
+        return this.getBollingerBandWidths(period, standardDeviations, prices,
+                this.movingAverageCalculator.getSimpleMovingAverages(period, quotationSeries));
+    }
+
+    /**
+     * Calculates the Bollinger BandWidth of all given prices.
+     *
+     * @param period               The number of prices on which the calculation is based.
+     * @param standardDeviations   The standard deviation used for calculation of the upper and lower Bollinger Band.
+     * @param prices               The closing prices sorted by date, beginning with the newest price.
+     * @param simpleMovingAverages The Simple Moving Averages of the prices.
+     * @return The Bollinger BandWidth values. The value is 0, if not enough prices exist for calculation.
+     */
+    private float[] getBollingerBandWidths(final int period, final float standardDeviations, final float[] prices,
+            final float[] simpleMovingAverages) {
+
+        float[] bandWidths = new float[prices.length];
+        float standardDeviation;
+
+        for (int i = 0; i <= (prices.length - period); i++) {
+            standardDeviation = this.getStandardDeviation(prices, i, period);
+            bandWidths[i] = this.getBollingerBandWidth(standardDeviations, standardDeviation,
+                    simpleMovingAverages[i]);
+        }
+
+        return bandWidths;
     }
 
     /**
@@ -84,10 +132,9 @@ public class BollingerCalculator {
             final int percentThreshold, final Quotation quotation, final QuotationArray sortedQuotations) {
 
         int indexOfQuotation = 0;
-        int thresholdIndex;
-        float bollingerBandWidth;
-        Quotation tempQuotation;
-        ArrayList<Float> bbwValues = new ArrayList<>();
+        int numberOfValues = 0;
+        float[] bandWidths;
+        float[] bbwValues;
         final int hundredPercent = 100;
 
         // Get the starting point of calculation.
@@ -99,24 +146,22 @@ public class BollingerCalculator {
         }
 
         // Calculate all Bollinger BandWidth values and store results.
-        for (int i = indexOfQuotation; i <= (sortedQuotations.getQuotations().size() - period); i++) {
-            tempQuotation = sortedQuotations.getQuotations().get(i);
-            bollingerBandWidth = this.getBollingerBandWidth(period, standardDeviations, tempQuotation,
-                    sortedQuotations);
+        bandWidths = this.getBollingerBandWidths(period, standardDeviations, sortedQuotations);
+        bbwValues = new float[bandWidths.length - indexOfQuotation];
 
-            if (bollingerBandWidth > 0) {
-                bbwValues.add(bollingerBandWidth);
+        for (int i = indexOfQuotation; i <= (sortedQuotations.getQuotations().size() - period); i++) {
+            if (bandWidths[i] > 0) {
+                bbwValues[numberOfValues] = bandWidths[i];
+                numberOfValues++;
             }
         }
 
-        // Sort values descending.
-        Collections.sort(bbwValues);
-        Collections.reverse(bbwValues);
-
-        // Get the index of the threshold value.
-        thresholdIndex = bbwValues.size() - (bbwValues.size() * percentThreshold / hundredPercent) - 1;
+        if (numberOfValues == 0) {
+            return 0;
+        }
 
-        return bbwValues.get(thresholdIndex);
+        // The threshold is the value at the given percentile of all values sorted ascending.
+        return this.selectKthSmallest(bbwValues, numberOfValues, numberOfValues * percentThreshold / hundredPercent);
     }
 
     /**
@@ -126,6 +171,18 @@ public class BollingerCalculator {
      * @return The standard deviation.
      */
     public float getStandardDeviation(final float[] inputValues) {
+        return this.getStandardDeviation(inputValues, 0, inputValues.length);
+    }
+
+    /**
+     * Calculates the standard deviation based on a range of the given input values.
+     *
+     * @param inputValues The values for standard deviation calculation.
+     * @param offset      The index of the first value of the range.
+     * @param length      The number of values of the range.
+     * @return The standard deviation.
+     */
+    private float getStandardDeviation(final float[] inputValues, final int offset, final int length) {
         float sum = 0;
         float mean;
         float deviationFromMean;
@@ -136,18 +193,18 @@ public class BollingerCalculator {
         BigDecimal roundedResult;
         final int scale = 4;
 
-        if (inputValues.length == 0) {
+        if (length == 0) {
             return 0;
         }
 
         // 1. Calculate the mean of all values.
-        for (int i = 0; i < inputValues.length; i++) {
+        for (int i = offset; i < offset + length; i++) {
             sum += inputValues[i];
         }
 
-        mean = sum / inputValues.length;
+        mean = sum / length;
 
-        for (int i = 0; i < inputValues.length; i++) {
+        for (int i = offset; i < offset + length; i++) {
             // 2. Get the deviation from the mean.
             deviationFromMean = inputValues[i] - mean;
 
@@ -159,7 +216,7 @@ public class BollingerCalculator {
         }
 
         // 5. Calculate the variance.
-        variance = sumOfSquares / inputValues.length;
+        variance = sumOfSquares / length;
 
         // 6. Calculate the square root of the variance.
         standardDeviation = (float) Math.sqrt(variance);
@@ -171,6 +228,96 @@ public class BollingerCalculator {
         return roundedResult.floatValue();
     }
 
+    /**
+     * Calculates the Bollinger BandWidth based on the standard deviation and the Simple Moving Average.
+     *
+     * @param standardDeviations  The standard deviation used for calculation of the upper and lower Bollinger Band.
+     * @param standardDeviation   The standard deviation of the prices.
+     * @param simpleMovingAverage The Simple Moving Average of the prices.
+     * @return The Bollinger BandWidth.
+     */
+    private float getBollingerBandWidth(final float standardDeviations, final float standardDeviation,
+            final float simpleMovingAverage) {
+        float middleBand;
+        float upperBand;
+        float lowerBand;
+        float bandWidth;
+        BigDecimal roundedResult;
+        final int multiplierOfFormula = 100;
+
+        if (standardDeviation == 0 || simpleMovingAverage == 0) {
+            return 0;
+        }
+
+        // Calculate the Bollinger Bands.
+        middleBand = simpleMovingAverage;
+        upperBand = simpleMovingAverage + (standardDeviation * standardDeviations);
+        lowerBand = simpleMovingAverage - (standardDeviation * standardDeviations);
+
+        // Calculate the Bollinger BandWidth.
+        bandWidth = ((upperBand - lowerBand) / middleBand) * multiplierOfFormula;
+
+        // Round to two decimal places.
+        roundedResult = new BigDecimal(bandWidth);
+        roundedResult = roundedResult.setScale(2, RoundingMode.HALF_UP);
+
+        return roundedResult.floatValue();
+    }
+
+    /**
+     * Selects the k-th smallest value of the given values using the quickselect algorithm. The order of the values is
+     * changed during selection.
+     *
+     * @param values         The values.
+     * @param numberOfValues The number of values that are taken into account, beginning at index 0.
+     * @param k              The zero-based rank of the requested value.
+     * @return The k-th smallest value.
+     */
+    private float selectKthSmallest(final float[] values, final int numberOfValues, final int k) {
+        int left = 0;
+        int right = numberOfValues - 1;
+        int i;
+        int j;
+        float pivot;
+        float temp;
+
+        while (left < right) {
+            pivot = values[(left + right) >>> 1];
+            i = left;
+            j = right;
+
+            // Partition the values around the pivot.
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+
+                while (values[j] > pivot) {
+                    j--;
+                }
+
+                if (i <= j) {
+                    temp = values[i];
+                    values[i] = values[j];
+                    values[j] = temp;
+                    i++;
+                    j--;
+                }
+            }
+
+            // Continue with the partition that contains the k-th value.
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return values[k];
+            }
+        }
+
+        return values[k];
+    }
+
     /**
      * Provides an array of prices for the given number of quotations.
      *
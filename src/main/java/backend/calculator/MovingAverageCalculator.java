@@ -2,9 +2,11 @@ package backend.calculator;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
+import backend.model.instrument.QuotationSeries;
 
 /**
  * Performs calculations of moving averages based on the instruments quotations.
@@ -28,13 +30,24 @@ public class MovingAverageCalculator {
      */
     public float getSimpleMovingAverage(final int period, final Quotation quotation,
             final QuotationArray sortedQuotations) {
-        int indexOfQuotation = 0;
+        return this.getSimpleMovingAverage(period, sortedQuotations.getQuotations().indexOf(quotation),
+                sortedQuotations);
+    }
+
+    /**
+     * Returns the Simple Moving Average for the given period.
+     *
+     * @param period           The number of quotations on which the Simple Moving Average is based.
+     * @param indexOfQuotation The index of the Quotation for which the Simple Moving Average is calculated.
+     * @param sortedQuotations A list of quotations sorted by date that build the trading history used for Simple Moving
+     *                         Average calculation.
+     * @return The Simple Moving Average.
+     */
+    public float getSimpleMovingAverage(final int period, final int indexOfQuotation,
+            final QuotationArray sortedQuotations) {
         BigDecimal sum = new BigDecimal(0);
         BigDecimal average;
 
-        // Get the starting point of average calculation.
-        indexOfQuotation = sortedQuotations.getQuotations().indexOf(quotation);
-
         // Check if enough quotations exist for average calculation.
         if ((sortedQuotations.getQuotations().size() - period - indexOfQuotation) < 0) {
             return 0;
@@ -51,6 +64,69 @@ public class MovingAverageCalculator {
         return average.floatValue();
     }
 
+    /**
+     * Returns the Simple Moving Averages of all quotations of the trading history. The sum of prices is maintained as
+     * a rolling window starting at the oldest Quotation. Therefore the whole history is processed in a single pass.
+     *
+     * @param period           The number of quotations on which the Simple Moving Average is based.
+     * @param sortedQuotations A list of quotations sorted by date that build the trading history.
+     * @return The Simple Moving Averages. The index of each value equals the index of the Quotation within the sorted
+     *         quotations. The value is 0, if not enough quotations exist for calculation.
+     */
+    public float[] getSimpleMovingAverages(final int period, final QuotationArray sortedQuotations) {
+        List<Quotation> quotations = sortedQuotations.getQuotations();
+        int numberOfQuotations = quotations.size();
+        float[] averages = new float[numberOfQuotations];
+        BigDecimal sum = new BigDecimal(0);
+        BigDecimal divisor = BigDecimal.valueOf(period);
+
+        for (int i = numberOfQuotations - 1; i >= 0; i--) {
+            sum = sum.add(quotations.get(i).getClose());
+
+            // Remove the price that dropped out of the window.
+            if (i + period < numberOfQuotations) {
+                sum = sum.subtract(quotations.get(i + period).getClose());
+            }
+
+            if ((numberOfQuotations - i) >= period) {
+                averages[i] = sum.divide(divisor, NUMBER_DECIMALS_PRICE, RoundingMode.HALF_UP).floatValue();
+            }
+        }
+
+        return averages;
+    }
+
+    /**
+     * Returns the Simple Moving Averages of all quotations of the given QuotationSeries. The sum of the scaled prices
+     * is maintained as a rolling window. Therefore no precision is lost and the averages are equal to those calculated
+     * based on a QuotationArray.
+     *
+     * @param period          The number of quotations on which the Simple Moving Average is based.
+     * @param quotationSeries The trading history.
+     * @return The Simple Moving Averages. The index of each value equals the index of the Quotation within the
+     *         QuotationSeries. The value is 0, if not enough quotations exist for calculation.
+     */
+    public float[] getSimpleMovingAverages(final int period, final QuotationSeries quotationSeries) {
+        int numberOfQuotations = quotationSeries.size();
+        float[] averages = new float[numberOfQuotations];
+        long sum = 0;
+
+        for (int i = numberOfQuotations - 1; i >= 0; i--) {
+            sum += quotationSeries.getScaledClose(i);
+
+            // Remove the price that dropped out of the window.
+            if (i + period < numberOfQuotations) {
+                sum -= quotationSeries.getScaledClose(i + period);
+            }
+
+            if ((numberOfQuotations - i) >= period) {
+                averages[i] = QuotationSeries.getPriceAsFloat(this.divideRoundHalfUp(sum, period));
+            }
+        }
+
+        return averages;
+    }
+
     /**
      * Returns the Exponential Moving Average.
      *
@@ -61,17 +137,26 @@ public class MovingAverageCalculator {
      */
     public float getExponentialMovingAverage(final int period, final Quotation quotation,
             final QuotationArray sortedQuotations) {
-        int indexOfQuotation = 0;
+        return this.getExponentialMovingAverage(period, sortedQuotations.getQuotations().indexOf(quotation),
+                sortedQuotations);
+    }
+
+    /**
+     * Returns the Exponential Moving Average.
+     *
+     * @param period           The number of quotations on which the Exponential Moving Average is based.
+     * @param indexOfQuotation The index of the Quotation for which the Exponential Moving Average is calculated.
+     * @param sortedQuotations A list of quotations sorted by date that build the trading history.
+     * @return The Exponential Moving Average.
+     */
+    public float getExponentialMovingAverage(final int period, final int indexOfQuotation,
+            final QuotationArray sortedQuotations) {
         int indexForSmaCalculation;
         final float smoothingMultiplier = 2.0f / (period + 1);
         float sma;
         float previousEma;
         float currentEma = 0;
         Quotation currentQuotation;
-        BigDecimal roundedEma;
-
-        // Get the index of the Quotation for which the EMA has to be calculated.
-        indexOfQuotation = sortedQuotations.getQuotations().indexOf(quotation);
 
         // Check if enough quotations exist for moving average calculation.
         if ((sortedQuotations.getQuotations().size() - period - indexOfQuotation) < 0) {
@@ -80,8 +165,7 @@ public class MovingAverageCalculator {
 
         // Always start with the earliest available SMA. Use that value as seed for EMA calculation.
         indexForSmaCalculation = sortedQuotations.getQuotations().size() - period;
-        sma = this.getSimpleMovingAverage(period, sortedQuotations.getQuotations().get(indexForSmaCalculation),
-                sortedQuotations);
+        sma = this.getSimpleMovingAverage(period, indexForSmaCalculation, sortedQuotations);
 
         // The initial EMA is initialized with the SMA.
         previousEma = sma;
@@ -96,10 +180,89 @@ public class MovingAverageCalculator {
         }
 
         // Round result to three decimal places.
-        roundedEma = new BigDecimal(currentEma);
-        roundedEma = roundedEma.setScale(NUMBER_DECIMALS_PRICE, RoundingMode.HALF_UP);
+        return this.roundEma(currentEma);
+    }
 
-        return roundedEma.floatValue();
+    /**
+     * Returns the Exponential Moving Averages of all quotations of the trading history. The EMA is seeded with the SMA
+     * of the oldest period and then approximated in a single pass up until the newest Quotation.
+     *
+     * @param period           The number of quotations on which the Exponential Moving Average is based.
+     * @param sortedQuotations A list of quotations sorted by date that build the trading history.
+     * @return The Exponential Moving Averages. The index of each value equals the index of the Quotation within the
+     *         sorted quotations. The value is 0, if not enough quotations exist for calculation.
+     */
+    public float[] getExponentialMovingAverages(final int period, final QuotationArray sortedQuotations) {
+        int indexForSmaCalculation = sortedQuotations.getQuotations().size() - period;
+        float sma;
+
+        if (indexForSmaCalculation < 0) {
+            return new float[sortedQuotations.getQuotations().size()];
+        }
+
+        // Always start with the earliest available SMA. Use that value as seed for EMA calculation.
+        sma = this.getSimpleMovingAverage(period, indexForSmaCalculation, sortedQuotations);
+
+        return this.getExponentialMovingAverages(period, sortedQuotations, indexForSmaCalculation, sma);
+    }
+
+    /**
+     * Returns the Exponential Moving Averages of all quotations of the given QuotationSeries. The EMA is seeded with
+     * the SMA of the oldest period and then approximated in a single pass up until the newest Quotation.
+     *
+     * @param period          The number of quotations on which the Exponential Moving Average is based.
+     * @param quotationSeries The trading history.
+     * @return The Exponential Moving Averages. The index of each value equals the index of the Quotation within the
+     *         QuotationSeries. The value is 0, if not enough quotations exist for calculation.
+     */
+    public float[] getExponentialMovingAverages(final int period, final QuotationSeries quotationSeries) {
+        int indexForSmaCalculation = quotationSeries.size() - period;
+        float[] averages = new float[quotationSeries.size()];
+        final float smoothingMultiplier = 2.0f / (period + 1);
+        float currentEma;
+
+        if (indexForSmaCalculation < 0) {
+            return averages;
+        }
+
+        // Always start with the earliest available SMA. Use that value as seed for EMA calculation.
+        currentEma = this.getSimpleMovingAverages(period, quotationSeries)[indexForSmaCalculation];
+        averages[indexForSmaCalculation] = this.roundEma(currentEma);
+
+        for (int i = indexForSmaCalculation - 1; i >= 0; i--) {
+            currentEma = smoothingMultiplier * (quotationSeries.getCloseAsFloat(i) - currentEma) + currentEma;
+            averages[i] = this.roundEma(currentEma);
+        }
+
+        return averages;
+    }
+
+    /**
+     * Returns the Exponential Moving Averages of the trading history beginning at the given seed. The EMA is
+     * approximated in a single pass from the seed up until the newest Quotation.
+     *
+     * @param period           The number of quotations on which the Exponential Moving Average is based.
+     * @param sortedQuotations A list of quotations sorted by date that build the trading history.
+     * @param indexOfSeed      The index of the Quotation to which the seed belongs.
+     * @param seed             The Exponential Moving Average of the Quotation at the seed index.
+     * @return The Exponential Moving Averages. The index of each value equals the index of the Quotation within the
+     *         sorted quotations. The values of quotations older than the seed are 0.
+     */
+    private float[] getExponentialMovingAverages(final int period, final QuotationArray sortedQuotations,
+            final int indexOfSeed, final float seed) {
+        List<Quotation> quotations = sortedQuotations.getQuotations();
+        float[] averages = new float[quotations.size()];
+        final float smoothingMultiplier = 2.0f / (period + 1);
+        float currentEma = seed;
+
+        averages[indexOfSeed] = this.roundEma(currentEma);
+
+        for (int i = indexOfSeed - 1; i >= 0; i--) {
+            currentEma = smoothingMultiplier * (quotations.get(i).getClose().floatValue() - currentEma) + currentEma;
+            averages[i] = this.roundEma(currentEma);
+        }
+
+        return averages;
     }
 
     /**
@@ -113,13 +276,24 @@ public class MovingAverageCalculator {
      */
     public long getSimpleMovingAverageVolume(final int days, final Quotation quotation,
             final QuotationArray sortedQuotations) {
-        int indexOfQuotation = 0;
+        return this.getSimpleMovingAverageVolume(days, sortedQuotations.getQuotations().indexOf(quotation),
+                sortedQuotations);
+    }
+
+    /**
+     * Returns the Simple Moving Average of the Volume.
+     *
+     * @param days             The number of days on which the Simple Moving Average Volume is based.
+     * @param indexOfQuotation The index of the Quotation for which the Simple Moving Average Volume is calculated.
+     * @param sortedQuotations A list of quotations sorted by date that build the trading history used for Simple Moving
+     *                         Average Volume calculation.
+     * @return The Simple Moving Average Volume.
+     */
+    public long getSimpleMovingAverageVolume(final int days, final int indexOfQuotation,
+            final QuotationArray sortedQuotations) {
         long sum = 0;
         BigDecimal average;
 
-        // Get the starting point of average calculation.
-        indexOfQuotation = sortedQuotations.getQuotations().indexOf(quotation);
-
         // Check if enough quotations exist for average calculation.
         if ((sortedQuotations.getQuotations().size() - days - indexOfQuotation) < 0) {
             return 0;
@@ -135,4 +309,96 @@ public class MovingAverageCalculator {
 
         return average.longValue();
     }
+
+    /**
+     * Returns the Simple Moving Average of the Volume for all quotations of the trading history. The sum of volumes is
+     * maintained as a rolling window. Therefore the whole history is processed in a single pass.
+     *
+     * @param days             The number of days on which the Simple Moving Average Volume is based.
+     * @param sortedQuotations A list of quotations sorted by date that build the trading history.
+     * @return The Simple Moving Average Volumes. The index of each value equals the index of the Quotation within the
+     *         sorted quotations. The value is 0, if not enough quotations exist for calculation.
+     */
+    public long[] getSimpleMovingAverageVolumes(final int days, final QuotationArray sortedQuotations) {
+        List<Quotation> quotations = sortedQuotations.getQuotations();
+        int numberOfQuotations = quotations.size();
+        long[] averages = new long[numberOfQuotations];
+        long sum = 0;
+        BigDecimal divisor = BigDecimal.valueOf(days);
+
+        for (int i = numberOfQuotations - 1; i >= 0; i--) {
+            sum += quotations.get(i).getVolume();
+
+            // Remove the volume that dropped out of the window.
+            if (i + days < numberOfQuotations) {
+                sum -= quotations.get(i + days).getVolume();
+            }
+
+            if ((numberOfQuotations - i) >= days) {
+                averages[i] = (new BigDecimal(sum)).divide(divisor, 0, RoundingMode.HALF_UP).longValue();
+            }
+        }
+
+        return averages;
+    }
+
+    /**
+     * Returns the Simple Moving Average of the Volume for all quotations of the given QuotationSeries. The sum of
+     * volumes is maintained as a rolling window.
+     *
+     * @param days            The number of days on which the Simple Moving Average Volume is based.
+     * @param quotationSeries The trading history.
+     * @return The Simple Moving Average Volumes. The index of each value equals the index of the Quotation within the
+     *         QuotationSeries. The value is 0, if not enough quotations exist for calculation.
+     */
+    public long[] getSimpleMovingAverageVolumes(final int days, final QuotationSeries quotationSeries) {
+        int numberOfQuotations = quotationSeries.size();
+        long[] averages = new long[numberOfQuotations];
+        long sum = 0;
+
+        for (int i = numberOfQuotations - 1; i >= 0; i--) {
+            sum += quotationSeries.getVolume(i);
+
+            // Remove the volume that dropped out of the window.
+            if (i + days < numberOfQuotations) {
+                sum -= quotationSeries.getVolume(i + days);
+            }
+
+            if ((numberOfQuotations - i) >= days) {
+                averages[i] = this.divideRoundHalfUp(sum, days);
+            }
+        }
+
+        return averages;
+    }
+
+    /**
+     * Divides the given non-negative dividend by the divisor. The quotient is rounded half up.
+     *
+     * @param dividend The dividend.
+     * @param divisor  The divisor.
+     * @return The rounded quotient.
+     */
+    private long divideRoundHalfUp(final long dividend, final long divisor) {
+        long quotient = dividend / divisor;
+
+        if ((dividend % divisor) * 2 >= divisor) {
+            quotient++;
+        }
+
+        return quotient;
+    }
+
+    /**
+     * Rounds the given EMA value to three decimal places.
+     *
+     * @param ema The EMA value.
+     * @return The rounded EMA value.
+     */
+    private float roundEma(final float ema) {
+        BigDecimal roundedEma = new BigDecimal(ema);
+        roundedEma = roundedEma.setScale(NUMBER_DECIMALS_PRICE, RoundingMode.HALF_UP);
+
+        return roundedEma.floatValue();
+    }
 }
@@ -0,0 +1,109 @@
+package backend.calculator;
+
+import java.util.Arrays;
+
+/**
+ * Ranks values by their percentile.
+ *
+ * The values are held in arrays of primitives. Each value is packed together with its index into a single long, so that
+ * the ranking only requires sorting a long array. Equal values are ranked by their index. Large arrays are sorted in
+ * parallel.
+ *
+ * @author Michael
+ */
+public class PercentileRankCalculator {
+    /**
+     * The number of values above which the values are sorted in parallel.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 10000;
+
+    /**
+     * Factor used to format results as percent.
+     */
+    private static final int HUNDRED_PERCENT = 100;
+
+    /**
+     * The number of bits the sort key is shifted to make room for the index.
+     */
+    private static final int INDEX_BITS = 32;
+
+    /**
+     * Mask that extracts the index from a packed sort key.
+     */
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Calculates the percentile rank of each value. The highest value has the rank 100. The rank of the value at
+     * position p (starting at 0) of the descending order of n values is 100 * (n - p) / n, rounded half up.
+     *
+     * Values that are not defined are ranked below all defined values in the order of their index.
+     *
+     * @param values   The values.
+     * @param hasValue Indicates for each index if a value is defined.
+     * @return The percentile rank of each value, at the index of the value.
+     */
+    public int[] getPercentileRanks(final float[] values, final boolean[] hasValue) {
+        int numberOfValues = values.length;
+        int[] ranks = new int[numberOfValues];
+        long[] sortKeys = new long[numberOfValues];
+        int numberOfDefinedValues = 0;
+        int position;
+
+        for (int i = 0; i < numberOfValues; i++) {
+            if (hasValue[i]) {
+                sortKeys[numberOfDefinedValues++] = this.getSortKey(values[i], i);
+            }
+        }
+
+        if (numberOfDefinedValues > PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sortKeys, 0, numberOfDefinedValues);
+        } else {
+            Arrays.sort(sortKeys, 0, numberOfDefinedValues);
+        }
+
+        for (position = 0; position < numberOfDefinedValues; position++) {
+            ranks[(int) (sortKeys[position] & INDEX_MASK)] = this.getPercentileRank(position, numberOfValues);
+        }
+
+        for (int i = 0; i < numberOfValues; i++) {
+            if (!hasValue[i]) {
+                ranks[i] = this.getPercentileRank(position++, numberOfValues);
+            }
+        }
+
+        return ranks;
+    }
+
+    /**
+     * Provides the percentile rank of the given position of the descending order.
+     *
+     * @param position       The position starting at 0.
+     * @param numberOfValues The total number of values.
+     * @return The percentile rank.
+     */
+    public int getPercentileRank(final int position, final int numberOfValues) {
+        long remainingValues = numberOfValues - position;
+
+        // Rounding half up: floor(100 * remaining / n + 0.5)
+        return (int) ((2L * HUNDRED_PERCENT * remainingValues + numberOfValues) / (2L * numberOfValues));
+    }
+
+    /**
+     * Packs the given value and its index into a sort key. Sorting the keys ascending orders the values descending and
+     * equal values by their index.
+     *
+     * @param value The value.
+     * @param index The index of the value.
+     * @return The sort key.
+     */
+    private long getSortKey(final float value, final int index) {
+        // Adding 0 converts -0.0 to 0.0, so that both are treated as equal.
+        int bits = Float.floatToIntBits(value + 0.0f);
+
+        // Flip the bits of negative values, so that the int order equals the float order.
+        int orderedBits = bits ^ ((bits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE);
+
+        // Invert for descending order.
+        return ((long) ~orderedBits << INDEX_BITS) | index;
+    }
+}
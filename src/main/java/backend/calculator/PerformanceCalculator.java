@@ -124,6 +124,31 @@ public class PerformanceCalculator {
         return rsPercentSum.floatValue();
     }
 
+    /**
+     * Calculates the percentage sum needed for calculation of the RS number based on an array of closing prices. The
+     * calculation is equal to getRSPercentSum(Quotation, QuotationArray) but does not require Quotation entities.
+     *
+     * @param closingPrices The closing prices sorted by date in ascending order.
+     * @param fromIndex     The index of the oldest closing price of the trading history.
+     * @param index         The index of the closing price of the date on which the percentage sum is calculated.
+     * @return The percentage sum.
+     */
+    public float getRSPercentSum(final double[] closingPrices, final int fromIndex, final int index) {
+        BigDecimal rsPercentSum = BigDecimal.valueOf(0);
+        final int months3 = 3;
+        final int months6 = 6;
+        final int months9 = 9;
+        final int months12 = 12;
+
+        rsPercentSum = rsPercentSum.add(this.getPerformanceOfIntervalForRS(closingPrices, fromIndex, index, months3));
+        rsPercentSum = rsPercentSum.add(this.getPerformanceOfIntervalForRS(closingPrices, fromIndex, index, months3));
+        rsPercentSum = rsPercentSum.add(this.getPerformanceOfIntervalForRS(closingPrices, fromIndex, index, months6));
+        rsPercentSum = rsPercentSum.add(this.getPerformanceOfIntervalForRS(closingPrices, fromIndex, index, months9));
+        rsPercentSum = rsPercentSum.add(this.getPerformanceOfIntervalForRS(closingPrices, fromIndex, index, months12));
+
+        return rsPercentSum.floatValue();
+    }
+
     /**
      * Calculates the average performance of up-days.
      *
@@ -252,4 +277,35 @@ public class PerformanceCalculator {
 
         return divisionResult;
     }
+
+    /**
+     * Calculates the performance of the given interval for the calculation of the RS number based on an array of
+     * closing prices.
+     *
+     * @param closingPrices The closing prices sorted by date in ascending order.
+     * @param fromIndex     The index of the oldest closing price of the trading history.
+     * @param index         The starting point from which the performance is calculated.
+     * @param months        The number of months for performance calculation.
+     * @return The performance of the given interval in percent.
+     */
+    private BigDecimal getPerformanceOfIntervalForRS(final double[] closingPrices, final int fromIndex,
+            final int index, final int months) {
+
+        // The same offset -1 is used as for the calculation based on quotations.
+        int indexForInterval = index - (TRADING_DAYS_PER_MONTH * months) + 1;
+        BigDecimal divisionResult;
+        final int scale = 4;
+
+        if (indexForInterval < fromIndex) {
+            return BigDecimal.valueOf(0);
+        }
+
+        // The decimal closing prices are restored exactly from their double representation.
+        divisionResult = BigDecimal.valueOf(closingPrices[index]).divide(
+                BigDecimal.valueOf(closingPrices[indexForInterval]), scale, RoundingMode.HALF_UP);
+        divisionResult = divisionResult.subtract(BigDecimal.valueOf(1));
+        divisionResult = divisionResult.multiply(BigDecimal.valueOf(HUNDRED_PERCENT));
+
+        return divisionResult;
+    }
 }
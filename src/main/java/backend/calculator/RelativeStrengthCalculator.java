@@ -1,49 +1,88 @@
 package backend.calculator;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import backend.model.instrument.Indicator;
 import backend.model.instrument.Quotation;
-import backend.model.instrument.QuotationAccDisRatioComparator;
-import backend.model.instrument.QuotationDistanceTo52WeekHighComparator;
-import backend.model.instrument.QuotationRsPercentSumComparator;
 import backend.model.instrument.RelativeStrengthData;
 
 /**
  * Performs calculations of multiple relative strength values based on the instruments quotations.
  *
+ * The values that are ranked are extracted into arrays of primitives once. The ranking is performed by the
+ * PercentileRankCalculator. Only the resulting RS numbers are written back to the quotations. The order of the given
+ * quotations is not changed.
+ *
  * @author Michael
  */
 public class RelativeStrengthCalculator {
     /**
-     * Factor used to format results as percent.
+     * Ranks values by their percentile.
      */
-    private static final int HUNDRED_PERCENT = 100;
+    private PercentileRankCalculator percentileRankCalculator;
 
     /**
-     * Calculates the rsNumber.
+     * Default constructor.
+     */
+    public RelativeStrengthCalculator() {
+        this.percentileRankCalculator = new PercentileRankCalculator();
+    }
+
+    /**
+     * Calculates the rsNumber, the rsNumberDistance52WeekHigh and the rsNumberAccDisRatio in one pass.
      *
-     * @param quotations The quotations on which the calculation of the rsNumber is based.
+     * @param quotations The quotations on which the calculation of the RS numbers is based.
      */
-    public void calculateRsNumber(final List<Quotation> quotations) {
+    public void calculateRsNumbers(final List<Quotation> quotations) {
+        int numberOfQuotations = quotations.size();
+        float[] rsPercentSums = new float[numberOfQuotations];
+        float[] distancesTo52WeekHigh = new float[numberOfQuotations];
+        float[] accDisRatios = new float[numberOfQuotations];
+        boolean[] hasRsData = new boolean[numberOfQuotations];
+        boolean[] hasIndicator = new boolean[numberOfQuotations];
+        int[] rsNumbers;
+        int[] rsNumbersDistance52WeekHigh;
+        int[] rsNumbersAccDisRatio;
         RelativeStrengthData rsData;
-        BigDecimal rsNumber;
-        BigDecimal dividend;
-        BigDecimal numberOfElements;
 
-        Collections.sort(quotations, new QuotationRsPercentSumComparator());
-        numberOfElements = BigDecimal.valueOf(quotations.size());
+        this.fillRsPercentSums(quotations, rsPercentSums, hasRsData);
+        this.fillIndicatorValues(quotations, distancesTo52WeekHigh, accDisRatios, hasIndicator);
 
-        for (int i = 0; i < quotations.size(); i++) {
-            dividend = numberOfElements.subtract(BigDecimal.valueOf(i));
-            rsNumber = dividend.divide(numberOfElements, 2, RoundingMode.HALF_UP);
-            rsNumber = rsNumber.multiply(BigDecimal.valueOf(HUNDRED_PERCENT));
+        rsNumbers = this.percentileRankCalculator.getPercentileRanks(rsPercentSums, hasRsData);
+        rsNumbersDistance52WeekHigh = this.percentileRankCalculator.getPercentileRanks(distancesTo52WeekHigh,
+                hasIndicator);
+        rsNumbersAccDisRatio = this.percentileRankCalculator.getPercentileRanks(accDisRatios, hasIndicator);
 
+        for (int i = 0; i < numberOfQuotations; i++) {
             rsData = quotations.get(i).getRelativeStrengthData();
+
             if (rsData != null) {
-                rsData.setRsNumber(rsNumber.intValue());
+                rsData.setRsNumber(rsNumbers[i]);
+                rsData.setRsNumberDistance52WeekHigh(rsNumbersDistance52WeekHigh[i]);
+                rsData.setRsNumberAccDisRatio(rsNumbersAccDisRatio[i]);
+            }
+        }
+    }
+
+    /**
+     * Calculates the rsNumber.
+     *
+     * @param quotations The quotations on which the calculation of the rsNumber is based.
+     */
+    public void calculateRsNumber(final List<Quotation> quotations) {
+        float[] rsPercentSums = new float[quotations.size()];
+        boolean[] hasRsData = new boolean[quotations.size()];
+        int[] rsNumbers;
+
+        this.fillRsPercentSums(quotations, rsPercentSums, hasRsData);
+        rsNumbers = this.percentileRankCalculator.getPercentileRanks(rsPercentSums, hasRsData);
+
+        for (int i = 0; i < quotations.size(); i++) {
+            if (hasRsData[i]) {
+                quotations.get(i).getRelativeStrengthData().setRsNumber(rsNumbers[i]);
             }
         }
     }
@@ -54,22 +93,20 @@ public class RelativeStrengthCalculator {
      * @param quotations The quotations on which the calculation of the rsNumberDistance52WeekHigh is based.
      */
     public void calculateRsNumberDistanceTo52wHigh(final List<Quotation> quotations) {
+        float[] distancesTo52WeekHigh = new float[quotations.size()];
+        float[] accDisRatios = new float[quotations.size()];
+        boolean[] hasIndicator = new boolean[quotations.size()];
+        int[] rsNumbers;
         RelativeStrengthData rsData;
-        BigDecimal rsNumber;
-        BigDecimal dividend;
-        BigDecimal numberOfElements;
 
-        Collections.sort(quotations, new QuotationDistanceTo52WeekHighComparator());
-        numberOfElements = BigDecimal.valueOf(quotations.size());
+        this.fillIndicatorValues(quotations, distancesTo52WeekHigh, accDisRatios, hasIndicator);
+        rsNumbers = this.percentileRankCalculator.getPercentileRanks(distancesTo52WeekHigh, hasIndicator);
 
         for (int i = 0; i < quotations.size(); i++) {
-            dividend = numberOfElements.subtract(BigDecimal.valueOf(i));
-            rsNumber = dividend.divide(numberOfElements, 2, RoundingMode.HALF_UP);
-            rsNumber = rsNumber.multiply(BigDecimal.valueOf(HUNDRED_PERCENT));
-
             rsData = quotations.get(i).getRelativeStrengthData();
+
             if (rsData != null) {
-                rsData.setRsNumberDistance52WeekHigh(rsNumber.intValue());
+                rsData.setRsNumberDistance52WeekHigh(rsNumbers[i]);
             }
         }
     }
@@ -80,22 +117,118 @@ public class RelativeStrengthCalculator {
      * @param quotations The quotations on which the calculation of the rsNumberAccDisRatio is based.
      */
     public void calculateRsNumberAccDisRatio(final List<Quotation> quotations) {
+        float[] distancesTo52WeekHigh = new float[quotations.size()];
+        float[] accDisRatios = new float[quotations.size()];
+        boolean[] hasIndicator = new boolean[quotations.size()];
+        int[] rsNumbers;
         RelativeStrengthData rsData;
-        BigDecimal rsNumber;
-        BigDecimal dividend;
-        BigDecimal numberOfElements;
 
-        Collections.sort(quotations, new QuotationAccDisRatioComparator());
-        numberOfElements = BigDecimal.valueOf(quotations.size());
+        this.fillIndicatorValues(quotations, distancesTo52WeekHigh, accDisRatios, hasIndicator);
+        rsNumbers = this.percentileRankCalculator.getPercentileRanks(accDisRatios, hasIndicator);
 
         for (int i = 0; i < quotations.size(); i++) {
-            dividend = numberOfElements.subtract(BigDecimal.valueOf(i));
-            rsNumber = dividend.divide(numberOfElements, 2, RoundingMode.HALF_UP);
-            rsNumber = rsNumber.multiply(BigDecimal.valueOf(HUNDRED_PERCENT));
-
             rsData = quotations.get(i).getRelativeStrengthData();
+
             if (rsData != null) {
-                rsData.setRsNumberAccDisRatio(rsNumber.intValue());
+                rsData.setRsNumberAccDisRatio(rsNumbers[i]);
+            }
+        }
+    }
+
+    /**
+     * Ranks the quotations of the instruments with the given IDs by their RS percent sum. The ranking only takes the
+     * given instruments into account. The quotations are not modified.
+     *
+     * @param quotations    The most recent quotations of an InstrumentType.
+     * @param instrumentIds The IDs of the instruments that are ranked.
+     * @return The RS number within the given instruments, indexed by the ID of the Instrument.
+     */
+    public Map<Integer, Integer> getRsNumbersOfInstruments(final List<Quotation> quotations,
+            final Set<Integer> instrumentIds) {
+
+        Map<Integer, Integer> rsNumbersOfInstruments = new HashMap<>();
+        int[] quotationIndexes = new int[quotations.size()];
+        float[] rsPercentSums;
+        boolean[] hasRsData;
+        int[] rsNumbers;
+        int numberOfMembers = 0;
+
+        for (int i = 0; i < quotations.size(); i++) {
+            if (instrumentIds.contains(quotations.get(i).getInstrument().getId())) {
+                quotationIndexes[numberOfMembers++] = i;
+            }
+        }
+
+        rsPercentSums = new float[numberOfMembers];
+        hasRsData = new boolean[numberOfMembers];
+
+        for (int i = 0; i < numberOfMembers; i++) {
+            this.fillRsPercentSum(quotations.get(quotationIndexes[i]), i, rsPercentSums, hasRsData);
+        }
+
+        rsNumbers = this.percentileRankCalculator.getPercentileRanks(rsPercentSums, hasRsData);
+
+        for (int i = 0; i < numberOfMembers; i++) {
+            rsNumbersOfInstruments.put(quotations.get(quotationIndexes[i]).getInstrument().getId(), rsNumbers[i]);
+        }
+
+        return rsNumbersOfInstruments;
+    }
+
+    /**
+     * Extracts the RS percent sums of the given quotations.
+     *
+     * @param quotations    The quotations.
+     * @param rsPercentSums The RS percent sum of each Quotation.
+     * @param hasRsData     Indicates for each Quotation if RelativeStrengthData are defined.
+     */
+    private void fillRsPercentSums(final List<Quotation> quotations, final float[] rsPercentSums,
+            final boolean[] hasRsData) {
+
+        for (int i = 0; i < quotations.size(); i++) {
+            this.fillRsPercentSum(quotations.get(i), i, rsPercentSums, hasRsData);
+        }
+    }
+
+    /**
+     * Extracts the RS percent sum of the given Quotation.
+     *
+     * @param quotation     The Quotation.
+     * @param index         The index at which the RS percent sum is stored.
+     * @param rsPercentSums The RS percent sums.
+     * @param hasRsData     Indicates for each Quotation if RelativeStrengthData are defined.
+     */
+    private void fillRsPercentSum(final Quotation quotation, final int index, final float[] rsPercentSums,
+            final boolean[] hasRsData) {
+
+        RelativeStrengthData rsData = quotation.getRelativeStrengthData();
+
+        if (rsData != null) {
+            rsPercentSums[index] = rsData.getRsPercentSum();
+            hasRsData[index] = true;
+        }
+    }
+
+    /**
+     * Extracts the distance to the 52-week high and the Accumulation/Distribution Ratio of the given quotations.
+     *
+     * @param quotations            The quotations.
+     * @param distancesTo52WeekHigh The distance to the 52-week high of each Quotation.
+     * @param accDisRatios          The Accumulation/Distribution Ratio (63 days) of each Quotation.
+     * @param hasIndicator          Indicates for each Quotation if an Indicator is defined.
+     */
+    private void fillIndicatorValues(final List<Quotation> quotations, final float[] distancesTo52WeekHigh,
+            final float[] accDisRatios, final boolean[] hasIndicator) {
+
+        Indicator indicator;
+
+        for (int i = 0; i < quotations.size(); i++) {
+            indicator = quotations.get(i).getIndicator();
+
+            if (indicator != null) {
+                distancesTo52WeekHigh[i] = indicator.getDistanceTo52WeekHigh();
+                accDisRatios[i] = indicator.getAccDisRatio63Days();
+                hasIndicator[i] = true;
             }
         }
     }
@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Properties;
 
 import org.apache.logging.log4j.LogManager;
@@ -13,7 +14,7 @@ import org.apache.logging.log4j.Logger;
 
 import backend.controller.alert.PriceAlertController;
 import backend.dao.DAOManager;
-import okhttp3.OkHttpClient;
+import backend.dao.quotation.provider.QuotationProviderDAOFactory;
 
 /**
  * The main controller of the web application.
@@ -36,15 +37,6 @@ public final class MainController {
      */
     private PriceAlertController priceAlertController;
 
-    /**
-     * Client that is used for HTTP queries of third-party WebServices.
-     *
-     * The OkHttpClient instance should be shared across the whole application according to the documentation.
-     *
-     * @see https://square.github.io/okhttp/4.x/okhttp/okhttp3/-ok-http-client/
-     */
-    private OkHttpClient okHttpClient;
-
     /**
      * Application logging.
      */
@@ -75,6 +67,8 @@ public final class MainController {
      */
     public void applicationStartup() {
         DAOManager.getInstance();
+        this.checkDatabaseIndexes();
+        this.rebuildLatestQuotations();
 
         try {
             this.checkConfigFileExisting();
@@ -85,7 +79,6 @@ public final class MainController {
         }
 
         try {
-            this.okHttpClient = new OkHttpClient();
             this.priceAlertController = new PriceAlertController();
             this.priceAlertController.start();
 
@@ -107,6 +100,8 @@ public final class MainController {
                 this.priceAlertController.stop();
             }
 
+            QuotationProviderDAOFactory.getInstance().close();
+
             LOGGER.info("Application stopped.");
         } catch (IOException e) {
             e.printStackTrace();
@@ -169,12 +164,34 @@ public final class MainController {
     }
 
     /**
-     * Gets the OkHttpClient.
-     *
-     * @return the OkHttpClient.
+     * Checks if all indexes defined by the persistence model exist in the database. Missing indexes are reported.
+     */
+    private void checkDatabaseIndexes() {
+        List<String> missingIndexes;
+
+        try {
+            missingIndexes = DAOManager.getInstance().getDatabaseIndexCheck().getMissingIndexes();
+
+            for (String missingIndex : missingIndexes) {
+                LOGGER.warn("The database index " + missingIndex + " is missing. Queries on that table are slow.");
+            }
+        } catch (Exception e) {
+            LOGGER.error("The database indexes could not be checked.", e);
+        }
+    }
+
+    /**
+     * Rebuilds the reference to the newest Quotation of each Instrument. This assures the reference is complete for
+     * quotations that have been stored before the reference has been introduced. Afterwards the in-memory snapshot
+     * used for the evaluation of scan templates is loaded.
      */
-    public OkHttpClient getOkHttpClient() {
-        return this.okHttpClient;
+    private void rebuildLatestQuotations() {
+        try {
+            DAOManager.getInstance().getQuotationDAO().rebuildLatestQuotations();
+            DAOManager.getInstance().getQuotationDAO().refreshLatestQuotationSnapshot();
+        } catch (Exception e) {
+            LOGGER.error("The newest quotations of the instruments could not be determined.", e);
+        }
     }
 
     /**
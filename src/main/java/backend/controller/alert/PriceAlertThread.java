@@ -8,6 +8,9 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 
@@ -86,38 +89,135 @@ public class PriceAlertThread extends DataRetrievalThread {
 
     /**
      * The main method of the thread that is executed.
+     *
+     * All active price alerts are grouped by Instrument. The current quotations of all instruments sharing the same
+     * data provider are queried together. All price alerts of an Instrument are then checked against its Quotation. The
+     * checked price alerts are persisted together at the end of the cycle.
+     *
+     * Mails of triggered price alerts are only sent after the price alerts have been persisted as triggered. If the
+     * persistence fails, no mail is sent and the price alerts are checked again in the next cycle. Price alerts that
+     * have been triggered in the meantime are not persisted again and therefore not mailed again. Thus a mail is never
+     * sent twice for the same price alert.
      */
     @Override
     public void run() {
-        PriceAlert priceAlert = null;
-        Quotation quotation;
+        Map<Integer, List<PriceAlert>> priceAlertsOfInstruments;
+        Map<QuotationProviderDAO, List<Instrument>> instrumentsOfProviders;
+        List<PriceAlert> checkedPriceAlerts = new ArrayList<>();
+        List<PriceAlert> updatedPriceAlerts;
+        Map<Integer, Quotation> quotationsOfInstruments = new HashMap<>();
+        List<Quotation> quotations;
 
         if (this.isWeekend() || !this.isTimeIntervalActive()) {
             return;
         }
 
         try {
-            priceAlert = this.getOldestPriceAlert();
+            priceAlertsOfInstruments = this.getActivePriceAlertsOfInstruments();
         } catch (Exception e) {
             LOGGER.error("Failed to determine price alerts for next checkup.", e);
+            return;
         }
 
-        if (priceAlert == null) {
-            return;
+        instrumentsOfProviders = this.getInstrumentsOfQuotationProviders(priceAlertsOfInstruments);
+
+        for (Map.Entry<QuotationProviderDAO, List<Instrument>> instrumentsOfProvider : instrumentsOfProviders
+                .entrySet()) {
+            // Get the quotations of all instruments of the data provider.
+            try {
+                quotations = instrumentsOfProvider.getKey().getCurrentQuotations(instrumentsOfProvider.getValue());
+            } catch (Exception e) {
+                LOGGER.error("Failed to determine quotations for symbols: "
+                        + this.getSymbols(instrumentsOfProvider.getValue()), e);
+                continue;
+            }
+
+            this.checkPriceAlerts(instrumentsOfProvider.getValue(), quotations, priceAlertsOfInstruments,
+                    quotationsOfInstruments, checkedPriceAlerts);
         }
 
-        // Get the Quotation of the Instrument defined in the price alert.
         try {
-            quotation = this.getCurrentQuotationOfInstrument(priceAlert.getInstrument());
+            updatedPriceAlerts = this.priceAlertDAO.updateStockQuoteData(checkedPriceAlerts);
         } catch (Exception e) {
-            LOGGER.error("Failed to determine quotation for symbol: " + priceAlert.getInstrument().getSymbol(), e);
+            LOGGER.error("Failed to update the checked price alerts.", e);
             return;
         }
 
+        this.sendMails(updatedPriceAlerts, quotationsOfInstruments);
+    }
+
+    /**
+     * Checks the price alerts of the given instruments against their current quotations.
+     *
+     * @param instruments              The instruments.
+     * @param quotations               The current Quotation of each Instrument; null, if it could not be determined.
+     * @param priceAlertsOfInstruments The price alerts to be checked, keyed by Instrument ID.
+     * @param quotationsOfInstruments  The quotations that have been determined, keyed by Instrument ID.
+     * @param checkedPriceAlerts       The price alerts that have been checked.
+     */
+    private void checkPriceAlerts(final List<Instrument> instruments, final List<Quotation> quotations,
+            final Map<Integer, List<PriceAlert>> priceAlertsOfInstruments,
+            final Map<Integer, Quotation> quotationsOfInstruments, final List<PriceAlert> checkedPriceAlerts) {
+
+        Instrument instrument;
+        Quotation quotation;
+
+        for (int i = 0; i < instruments.size(); i++) {
+            instrument = instruments.get(i);
+            quotation = quotations.get(i);
+
+            if (quotation == null) {
+                LOGGER.error("Failed to determine quotation for symbol: " + instrument.getSymbol());
+                continue;
+            }
+
+            quotationsOfInstruments.put(instrument.getId(), quotation);
+
+            for (PriceAlert priceAlert : priceAlertsOfInstruments.get(instrument.getId())) {
+                try {
+                    this.checkPriceAlert(priceAlert, quotation);
+                    checkedPriceAlerts.add(priceAlert);
+                } catch (Exception e) {
+                    LOGGER.error("Failed to check price alert with ID: " + priceAlert.getId(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the mails of the price alerts that have been triggered and request a mail. Their mail transmission time is
+     * persisted afterwards.
+     *
+     * @param updatedPriceAlerts      The checked price alerts that have been persisted.
+     * @param quotationsOfInstruments The quotations that triggered the price alerts, keyed by Instrument ID.
+     */
+    private void sendMails(final List<PriceAlert> updatedPriceAlerts,
+            final Map<Integer, Quotation> quotationsOfInstruments) {
+
+        List<PriceAlert> mailedPriceAlerts = new ArrayList<>();
+        Quotation quotation;
+
+        for (PriceAlert priceAlert : updatedPriceAlerts) {
+            if (priceAlert.getTriggerTime() == null || !priceAlert.isSendMail()) {
+                continue;
+            }
+
+            quotation = quotationsOfInstruments.get(priceAlert.getInstrument().getId());
+
+            try {
+                this.mailController.sendMail(priceAlert.getAlertMailAddress(), this.getMailSubject(priceAlert),
+                        this.getMailBody(priceAlert, quotation));
+                priceAlert.setMailTransmissionTime(new Date());
+                mailedPriceAlerts.add(priceAlert);
+            } catch (Exception e) {
+                LOGGER.error("Failed to send mail of price alert with ID: " + priceAlert.getId(), e);
+            }
+        }
+
         try {
-            this.checkAndUpdatePriceAlert(priceAlert, quotation);
+            this.priceAlertDAO.updateMailTransmissionTime(mailedPriceAlerts);
         } catch (Exception e) {
-            LOGGER.error("Failed to update price alert with ID: " + priceAlert.getId(), e);
+            LOGGER.error("Failed to update the mail transmission time of the triggered price alerts.", e);
         }
     }
 
@@ -155,53 +255,43 @@ public class PriceAlertThread extends DataRetrievalThread {
     }
 
     /**
-     * Gets the price alert with the oldest lastStockQuoteTime that has not been triggered yet.
+     * Gets all price alerts that have not been triggered yet, grouped by the ID of their Instrument. The instruments
+     * are ordered by the oldest lastStockQuoteTime of their price alerts.
      *
-     * @return The price alert.
+     * @return The price alerts of each Instrument.
      * @throws Exception In case price alert determination failed.
      */
-    private PriceAlert getOldestPriceAlert() throws Exception {
-        ArrayList<PriceAlert> priceAlerts = new ArrayList<PriceAlert>();
+    private Map<Integer, List<PriceAlert>> getActivePriceAlertsOfInstruments() throws Exception {
+        Map<Integer, List<PriceAlert>> priceAlertsOfInstruments = new LinkedHashMap<>();
+        List<PriceAlert> priceAlerts;
 
-        priceAlerts.addAll(this.priceAlertDAO.getPriceAlerts(PriceAlertOrderAttribute.LAST_STOCK_QUOTE_TIME,
-                TriggerStatus.NOT_TRIGGERED, ConfirmationStatus.NOT_CONFIRMED));
+        priceAlerts = this.priceAlertDAO.getPriceAlerts(PriceAlertOrderAttribute.LAST_STOCK_QUOTE_TIME,
+                TriggerStatus.NOT_TRIGGERED, ConfirmationStatus.NOT_CONFIRMED);
 
-        if (priceAlerts.size() > 0) {
-            return priceAlerts.get(0);
-        } else {
-            return null;
+        for (PriceAlert priceAlert : priceAlerts) {
+            priceAlertsOfInstruments.computeIfAbsent(priceAlert.getInstrument().getId(), id -> new ArrayList<>())
+                    .add(priceAlert);
         }
+
+        return priceAlertsOfInstruments;
     }
 
     /**
-     * Checks the price defined in the alert against the stock quote. Updates the price alert afterwards. An E-Mail is
-     * sent if requested.
+     * Checks the price defined in the alert against the stock quote. The price alert is neither persisted nor is a mail
+     * sent.
      *
      * @param priceAlert The price alert.
      * @param quotation  The Quotation.
-     * @throws Exception In case the update failed.
+     * @throws Exception In case the check failed.
      */
-    private void checkAndUpdatePriceAlert(final PriceAlert priceAlert, final Quotation quotation) throws Exception {
-        String subject;
-        String body;
-
+    private void checkPriceAlert(final PriceAlert priceAlert, final Quotation quotation) throws Exception {
         priceAlert.setLastStockQuoteTime(new Date());
         priceAlert.setTriggerDistancePercent(this.getTriggerDistancePercent(priceAlert, quotation));
 
-        // If the trigger price has been reached, set the trigger time of the price
-        // alert. Send Mail if requested.
+        // If the trigger price has been reached, set the trigger time of the price alert.
         if (this.isAlertTriggered(priceAlert, quotation)) {
             priceAlert.setTriggerTime(new Date());
-
-            if (priceAlert.isSendMail()) {
-                subject = this.getMailSubject(priceAlert);
-                body = this.getMailBody(priceAlert, quotation);
-                this.mailController.sendMail(priceAlert.getAlertMailAddress(), subject, body);
-                priceAlert.setMailTransmissionTime(new Date());
-            }
         }
-
-        this.priceAlertDAO.updatePriceAlert(priceAlert);
     }
 
     /**
@@ -224,19 +314,49 @@ public class PriceAlertThread extends DataRetrievalThread {
     }
 
     /**
-     * Determines the current Quotation for the given Instrument.
+     * Groups the instruments of the given price alerts by the QuotationProviderDAO that provides their quotations.
+     * Instruments whose QuotationProviderDAO can not be determined are skipped.
      *
-     * @param instrument The Instrument.
-     * @return The current Quotation.
-     * @throws Exception Determination of current Quotation failed.
+     * @param priceAlertsOfInstruments The price alerts of each Instrument, keyed by Instrument ID.
+     * @return The instruments of each QuotationProviderDAO.
      */
-    private Quotation getCurrentQuotationOfInstrument(final Instrument instrument) throws Exception {
-        Quotation quotation;
-        final QuotationProviderDAO quotationProviderDAO = this.getQuotationProviderDAO(instrument.getStockExchange());
+    private Map<QuotationProviderDAO, List<Instrument>> getInstrumentsOfQuotationProviders(
+            final Map<Integer, List<PriceAlert>> priceAlertsOfInstruments) {
+
+        Map<QuotationProviderDAO, List<Instrument>> instrumentsOfProviders = new LinkedHashMap<>();
+        QuotationProviderDAO quotationProviderDAO;
+        Instrument instrument;
+
+        for (List<PriceAlert> priceAlertsOfInstrument : priceAlertsOfInstruments.values()) {
+            instrument = priceAlertsOfInstrument.get(0).getInstrument();
+
+            try {
+                quotationProviderDAO = this.getQuotationProviderDAO(instrument.getStockExchange());
+            } catch (Exception e) {
+                LOGGER.error("Failed to determine quotation for symbol: " + instrument.getSymbol(), e);
+                continue;
+            }
+
+            instrumentsOfProviders.computeIfAbsent(quotationProviderDAO, dao -> new ArrayList<>()).add(instrument);
+        }
 
-        quotation = quotationProviderDAO.getCurrentQuotation(instrument);
+        return instrumentsOfProviders;
+    }
+
+    /**
+     * Gets the symbols of the given instruments.
+     *
+     * @param instruments The instruments.
+     * @return The symbols.
+     */
+    private List<String> getSymbols(final List<Instrument> instruments) {
+        List<String> symbols = new ArrayList<>(instruments.size());
+
+        for (Instrument instrument : instruments) {
+            symbols.add(instrument.getSymbol());
+        }
 
-        return quotation;
+        return symbols;
     }
 
     /**
@@ -1,11 +1,12 @@
 package backend.controller.chart.data;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import backend.calculator.BollingerCalculator;
+import backend.calculator.MovingAverageCalculator;
 import backend.calculator.RatioCalculator;
 import backend.calculator.StochasticCalculator;
-import backend.controller.scan.IndicatorCalculationController;
 import backend.dao.DAOManager;
 import backend.dao.quotation.persistence.QuotationDAO;
 import backend.model.instrument.Indicator;
@@ -59,21 +60,24 @@ public class PriceVolumeDataController {
      */
     private void calculateBBWData(final QuotationArray quotations) {
         BollingerCalculator bollingerCalculator = new BollingerCalculator();
-        float bollingerBandWidth;
+        float[] bollingerBandWidths;
+        Quotation quotation;
         final int bbwPeriodDays = 10;
 
-        for (Quotation quotation : quotations.getQuotations()) {
-            bollingerBandWidth = bollingerCalculator.getBollingerBandWidth(bbwPeriodDays, 2, quotation, quotations);
+        bollingerBandWidths = bollingerCalculator.getBollingerBandWidths(bbwPeriodDays, 2, quotations);
 
-            if (bollingerBandWidth == 0) {
+        for (int i = 0; i < quotations.getQuotations().size(); i++) {
+            if (bollingerBandWidths[i] == 0) {
                 continue;
             }
 
+            quotation = quotations.getQuotations().get(i);
+
             if (quotation.getIndicator() == null) {
                 quotation.setIndicator(new Indicator());
             }
 
-            quotation.getIndicator().setBollingerBandWidth10Days(bollingerBandWidth);
+            quotation.getIndicator().setBollingerBandWidth10Days(bollingerBandWidths[i]);
         }
     }
 
@@ -157,47 +161,34 @@ public class PriceVolumeDataController {
      * @param period     Them EMA period.
      */
     private void calculateRsLineEma(final QuotationArray quotations, final int period) {
-        IndicatorCalculationController indicatorCalculator = new IndicatorCalculationController();
-        Instrument rsLineInstrument = new Instrument();
+        MovingAverageCalculator movingAverageCalculator = new MovingAverageCalculator();
         QuotationArray rsLineQuotations = new QuotationArray();
-        Quotation quotation;
+        List<Quotation> targetQuotations = new ArrayList<>();
         Quotation srcQuotation;
-        Quotation targetQuotation;
+        Quotation rsLineQuotation;
+        float[] rsLineEma;
 
         // Move RS-line price to closing price attribute for following EMA(21) calculation.
+        // The quotations are already sorted by date. Therefore the RS-line quotations are sorted as well.
         for (int i = 0; i < quotations.getQuotations().size(); i++) {
             srcQuotation = quotations.getQuotations().get(i);
 
-            if (srcQuotation.getRelativeStrengthData() != null) {
-                targetQuotation = new Quotation();
-                targetQuotation.setDate(srcQuotation.getDate());
-                targetQuotation.setClose(srcQuotation.getRelativeStrengthData().getRsLinePrice());
-                rsLineQuotations.getQuotations().add(targetQuotation);
+            if (srcQuotation.getRelativeStrengthData() != null
+                    && srcQuotation.getRelativeStrengthData().getRsLinePrice() != null) {
+                rsLineQuotation = new Quotation();
+                rsLineQuotation.setDate(srcQuotation.getDate());
+                rsLineQuotation.setClose(srcQuotation.getRelativeStrengthData().getRsLinePrice());
+                rsLineQuotations.getQuotations().add(rsLineQuotation);
+                targetQuotations.add(srcQuotation);
             }
         }
 
-        // Initialize new Instrument with RS-line values as closing prices.
-        rsLineQuotations.sortQuotationsByDate();
-        rsLineInstrument.setQuotations(rsLineQuotations.getQuotations());
-
-        // Calculate the EMA(21) for the Instrument. This later becomes the EMA(21) of the RS-line.
-        for (int i = 0; i < rsLineQuotations.getQuotations().size(); i++) {
-            quotation = rsLineQuotations.getQuotations().get(i);
-
-            // Calculate moving averages.
-            indicatorCalculator.calculateIndicators(rsLineInstrument, quotation, false);
-        }
+        // Calculate the EMA(21) of the RS-line in a single pass.
+        rsLineEma = movingAverageCalculator.getExponentialMovingAverages(period, rsLineQuotations);
 
         // Write calculated EMA(21) of RS-line to target attribute.
-        for (int i = 0; i < quotations.getQuotations().size(); i++) {
-            targetQuotation = quotations.getQuotations().get(i);
-            srcQuotation = rsLineQuotations.getNewestQuotationOfDate(targetQuotation.getDate());
-
-            if (srcQuotation != null && srcQuotation.getMovingAverageData() != null
-                    && targetQuotation.getRelativeStrengthData() != null) {
-                targetQuotation.getRelativeStrengthData()
-                        .setRsLineEma21(srcQuotation.getMovingAverageData().getEma21());
-            }
+        for (int i = 0; i < targetQuotations.size(); i++) {
+            targetQuotations.get(i).getRelativeStrengthData().setRsLineEma21(rsLineEma[i]);
         }
     }
 }
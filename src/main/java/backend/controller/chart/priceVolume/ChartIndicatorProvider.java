@@ -18,11 +18,12 @@ import org.jfree.data.time.TimeSeriesCollection;
 import org.jfree.data.xy.XYDataset;
 
 import backend.calculator.BollingerCalculator;
+import backend.calculator.MovingAverageCalculator;
 import backend.calculator.RatioCalculator;
 import backend.calculator.StochasticCalculator;
-import backend.controller.scan.IndicatorCalculationController;
 import backend.dao.quotation.persistence.QuotationDAO;
 import backend.model.instrument.Instrument;
+import backend.model.instrument.MovingAverageData;
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
 
@@ -174,17 +175,17 @@ public class ChartIndicatorProvider {
         TimeZone timeZone = TimeZone.getDefault();
         TimeSeriesCollection timeSeriesCollection = new TimeSeriesCollection(timeZone);
         QuotationArray quotationArray = instrument.getQuotationArray();
-        float bollingerBandWidth;
+        float[] bollingerBandWidths;
         int addedValues = 0;
 
         quotationArray.sortQuotationsByDate();
+        bollingerBandWidths = this.bollingerCalculator.getBollingerBandWidths(BOLLINGER_BAND_WIDTH_PERIOD, 2,
+                quotationArray);
 
-        for (Quotation quotation : quotationArray.getQuotations()) {
-            bollingerBandWidth = this.bollingerCalculator.getBollingerBandWidth(BOLLINGER_BAND_WIDTH_PERIOD, 2,
-                    quotation, quotationArray);
-
-            if (bollingerBandWidth > 0) {
-                timeSeries.add(new Millisecond(quotation.getDate()), bollingerBandWidth);
+        for (int i = 0; i < quotationArray.getQuotations().size(); i++) {
+            if (bollingerBandWidths[i] > 0) {
+                timeSeries.add(new Millisecond(quotationArray.getQuotations().get(i).getDate()),
+                        bollingerBandWidths[i]);
                 addedValues++;
             }
 
@@ -309,21 +310,24 @@ public class ChartIndicatorProvider {
     private void addEma21(final XYPlot rsLinePlot, final Integer rsInstrumentId, final Instrument instrument)
             throws Exception {
         ChartOverlayProvider overlayProvider = new ChartOverlayProvider();
-        IndicatorCalculationController indicatorCalculator = new IndicatorCalculationController();
+        MovingAverageCalculator movingAverageCalculator = new MovingAverageCalculator();
         Instrument rsLineInstrument = new Instrument();
         QuotationArray rsLineQuotations = new QuotationArray(this.getRatioQuotations(rsInstrumentId, instrument));
-        Quotation quotation;
+        MovingAverageData maData;
+        float[] ema21;
+        final int ema21Period = 21;
 
         // Initialize new Instrument with RS-line values as closing prices.
         rsLineQuotations.sortQuotationsByDate();
         rsLineInstrument.setQuotations(rsLineQuotations.getQuotations());
 
-        // Calculate the EMA(21) for the Instrument. This later becomes the EMA(21) of the RS-line.
-        for (int i = 0; i < rsLineQuotations.getQuotations().size(); i++) {
-            quotation = rsLineQuotations.getQuotations().get(i);
+        // Calculate the EMA(21) for the Instrument in a single pass. This later becomes the EMA(21) of the RS-line.
+        ema21 = movingAverageCalculator.getExponentialMovingAverages(ema21Period, rsLineQuotations);
 
-            // Calculate moving averages.
-            indicatorCalculator.calculateIndicators(rsLineInstrument, quotation, false);
+        for (int i = 0; i < rsLineQuotations.getQuotations().size(); i++) {
+            maData = new MovingAverageData();
+            maData.setEma21(ema21[i]);
+            rsLineQuotations.getQuotations().get(i).setMovingAverageData(maData);
         }
 
         // Add EMA(21) overlay to RS-line plot
@@ -1,5 +1,6 @@
 package backend.controller.scan;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import backend.calculator.AverageTrueRangeCalculator;
@@ -13,6 +14,7 @@ import backend.model.instrument.Instrument;
 import backend.model.instrument.MovingAverageData;
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
+import backend.model.instrument.QuotationSeries;
 import backend.model.instrument.RelativeStrengthData;
 
 /**
@@ -111,6 +113,11 @@ public class IndicatorCalculationController {
      */
     private static final int DAYS_ATRP_20 = 20;
 
+    /**
+     * The minimum number of quotations needed to initialize MovingAverageData.
+     */
+    private static final int MIN_QUOTATIONS_MA_DATA = 10;
+
     /**
      * Calculator for Bollinger indicators.
      */
@@ -154,36 +161,68 @@ public class IndicatorCalculationController {
     }
 
     /**
-     * Calculates indicators for the given Quotation.
+     * Calculates indicators for all quotations of the given Instrument. The quotations are sorted only once. The moving
+     * averages of the whole trading history are calculated in a single pass. All indicators are calculated for the
+     * most recent Quotation, whereas only indicators relevant for history are calculated for older quotations.
      *
-     * @param instrument The Instrument to which the Quotation belongs to.
-     * @param quotation  The Quotation for which indicators are calculated.
-     * @param mostRecent Calculates all indicators if true (the most recent Quotation). Calculates only indicators
-     *                   relevant for history if false.
-     * @return The Quotation with the calculated indicators.
+     * @param instrument The Instrument whose quotations are calculated.
+     * @return The quotations of the Instrument sorted by date with the calculated indicators.
      */
-    public Quotation calculateIndicators(final Instrument instrument, final Quotation quotation,
-            final boolean mostRecent) {
+    public List<Quotation> calculateIndicators(final Instrument instrument) {
+        QuotationArray sortedQuotations = new QuotationArray(instrument.getQuotationsSortedByDate());
+
+        if (sortedQuotations.getQuotations().size() == 0) {
+            return sortedQuotations.getQuotations();
+        }
+
+        this.calculateMostRecentIndicators(sortedQuotations.getQuotations().get(0), sortedQuotations);
+        this.calculateHistoricalIndicators(sortedQuotations);
+
+        return sortedQuotations.getQuotations();
+    }
 
+    /**
+     * Calculates indicators only for those quotations of the given Instrument that have been added since the last
+     * calculation. The Simple Moving Averages of new quotations are calculated based on the loaded trading history. The
+     * Exponential Moving Averages are approximated in a single pass over the whole trading history. They are not
+     * seeded with the persisted, rounded EMA of the previous Quotation, because then the result would deviate from a
+     * full calculation. All indicators are calculated for the most recent Quotation. If the trading history has not
+     * been calculated completely before, the indicators of the whole trading history are calculated.
+     *
+     * @param instrument The Instrument whose quotations are calculated.
+     * @return The quotations whose indicators have been calculated.
+     */
+    public List<Quotation> calculateIndicatorsIncremental(final Instrument instrument) {
         QuotationArray sortedQuotations = new QuotationArray(instrument.getQuotationsSortedByDate());
-        Indicator indicator;
+        List<Quotation> modifiedQuotations = new ArrayList<>();
+        int indexOfNewestCalculatedQuotation = this.getIndexOfNewestCalculatedQuotation(sortedQuotations);
+        float[] ema10;
+        float[] ema21;
 
-        if (mostRecent) {
-            if (quotation.getIndicator() == null) {
-                indicator = new Indicator();
-                quotation.setIndicator(indicator);
-            } else {
-                indicator = quotation.getIndicator();
-            }
+        if (sortedQuotations.getQuotations().size() == 0) {
+            return modifiedQuotations;
+        }
 
-            quotation.setRelativeStrengthData(new RelativeStrengthData());
-            this.calculateMostRecentIndicators(indicator, quotation, sortedQuotations);
+        if (!this.isHistoryCalculated(indexOfNewestCalculatedQuotation, sortedQuotations)) {
+            return this.calculateIndicators(instrument);
         }
 
-        this.initMovingAverageData(quotation, sortedQuotations);
-        this.calculateHistoricalIndicators(quotation, sortedQuotations);
+        ema10 = this.movingAverageCalculator.getExponentialMovingAverages(DAYS_EMA10, sortedQuotations);
+        ema21 = this.movingAverageCalculator.getExponentialMovingAverages(DAYS_EMA21, sortedQuotations);
+
+        for (int i = indexOfNewestCalculatedQuotation - 1; i >= 0; i--) {
+            this.initMovingAverageData(i, sortedQuotations);
+            this.calculateHistoricalIndicators(i, ema10[i], ema21[i], sortedQuotations);
+            modifiedQuotations.add(sortedQuotations.getQuotations().get(i));
+        }
 
-        return quotation;
+        this.calculateMostRecentIndicators(sortedQuotations.getQuotations().get(0), sortedQuotations);
+
+        if (indexOfNewestCalculatedQuotation == 0) {
+            modifiedQuotations.add(sortedQuotations.getQuotations().get(0));
+        }
+
+        return modifiedQuotations;
     }
 
     /**
@@ -192,9 +231,27 @@ public class IndicatorCalculationController {
      * @param quotations The quotations on which the calculation of the RS numbers is based.
      */
     public void calculateRsNumbers(final List<Quotation> quotations) {
-        this.relativeStrengthCalculator.calculateRsNumber(quotations);
-        this.relativeStrengthCalculator.calculateRsNumberDistanceTo52wHigh(quotations);
-        this.relativeStrengthCalculator.calculateRsNumberAccDisRatio(quotations);
+        this.relativeStrengthCalculator.calculateRsNumbers(quotations);
+    }
+
+    /**
+     * Initializes the Indicator and RelativeStrengthData of the most recent Quotation and calculates their values.
+     *
+     * @param quotation        The most recent Quotation for which indicators are calculated.
+     * @param sortedQuotations The quotations that build the trading history.
+     */
+    private void calculateMostRecentIndicators(final Quotation quotation, final QuotationArray sortedQuotations) {
+        Indicator indicator;
+
+        if (quotation.getIndicator() == null) {
+            indicator = new Indicator();
+            quotation.setIndicator(indicator);
+        } else {
+            indicator = quotation.getIndicator();
+        }
+
+        quotation.setRelativeStrengthData(new RelativeStrengthData());
+        this.calculateMostRecentIndicators(indicator, quotation, sortedQuotations);
     }
 
     /**
@@ -239,28 +296,111 @@ public class IndicatorCalculationController {
     }
 
     /**
-     * Calculates the indicators that are relevant for historical quotations.
+     * Calculates the indicators that are relevant for historical quotations for the whole trading history at once. The
+     * calculation is based on a QuotationSeries of the trading history.
      *
-     * @param quotation        The Quotation for which indicators are calculated.
      * @param sortedQuotations The quotations that build the trading history.
      */
-    private void calculateHistoricalIndicators(final Quotation quotation, final QuotationArray sortedQuotations) {
-        MovingAverageData maData = quotation.getMovingAverageData();
+    private void calculateHistoricalIndicators(final QuotationArray sortedQuotations) {
+        QuotationSeries series = new QuotationSeries(sortedQuotations);
+        float[] sma10 = this.movingAverageCalculator.getSimpleMovingAverages(DAYS_SMA10, series);
+        float[] sma50 = this.movingAverageCalculator.getSimpleMovingAverages(DAYS_SMA50, series);
+        float[] sma150 = this.movingAverageCalculator.getSimpleMovingAverages(DAYS_SMA150, series);
+        float[] sma200 = this.movingAverageCalculator.getSimpleMovingAverages(DAYS_SMA200, series);
+        float[] ema10 = this.movingAverageCalculator.getExponentialMovingAverages(DAYS_EMA10, series);
+        float[] ema21 = this.movingAverageCalculator.getExponentialMovingAverages(DAYS_EMA21, series);
+        long[] sma30Volume = this.movingAverageCalculator.getSimpleMovingAverageVolumes(DAYS_SMA_VOLUME_30, series);
+        MovingAverageData maData;
+
+        for (int i = 0; i < sortedQuotations.getQuotations().size(); i++) {
+            this.initMovingAverageData(i, sortedQuotations);
+            maData = sortedQuotations.getQuotations().get(i).getMovingAverageData();
+
+            if (maData == null) {
+                continue;
+            }
+
+            maData.setSma10(sma10[i]);
+            maData.setSma50(sma50[i]);
+            maData.setSma150(sma150[i]);
+            maData.setSma200(sma200[i]);
+            maData.setEma10(ema10[i]);
+            maData.setEma21(ema21[i]);
+            maData.setSma30Volume(sma30Volume[i]);
+        }
+    }
+
+    /**
+     * Calculates the indicators that are relevant for historical quotations. The Exponential Moving Averages are
+     * provided by the caller.
+     *
+     * @param indexOfQuotation The index of the Quotation for which indicators are calculated.
+     * @param ema10            The EMA(10) of the Quotation.
+     * @param ema21            The EMA(21) of the Quotation.
+     * @param sortedQuotations The quotations that build the trading history.
+     */
+    private void calculateHistoricalIndicators(final int indexOfQuotation, final float ema10, final float ema21,
+            final QuotationArray sortedQuotations) {
+        MovingAverageData maData = sortedQuotations.getQuotations().get(indexOfQuotation).getMovingAverageData();
 
         if (maData == null) {
             return;
         }
 
-        maData.setSma10(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA10, quotation, sortedQuotations));
-        maData.setSma50(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA50, quotation, sortedQuotations));
-        maData.setSma150(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA150, quotation, sortedQuotations));
-        maData.setSma200(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA200, quotation, sortedQuotations));
-        maData.setEma10(
-                this.movingAverageCalculator.getExponentialMovingAverage(DAYS_EMA10, quotation, sortedQuotations));
-        maData.setEma21(
-                this.movingAverageCalculator.getExponentialMovingAverage(DAYS_EMA21, quotation, sortedQuotations));
-        maData.setSma30Volume(this.movingAverageCalculator.getSimpleMovingAverageVolume(DAYS_SMA_VOLUME_30, quotation,
+        maData.setSma10(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA10, indexOfQuotation,
+                sortedQuotations));
+        maData.setSma50(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA50, indexOfQuotation,
                 sortedQuotations));
+        maData.setSma150(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA150, indexOfQuotation,
+                sortedQuotations));
+        maData.setSma200(this.movingAverageCalculator.getSimpleMovingAverage(DAYS_SMA200, indexOfQuotation,
+                sortedQuotations));
+        maData.setEma10(ema10);
+        maData.setEma21(ema21);
+        maData.setSma30Volume(this.movingAverageCalculator.getSimpleMovingAverageVolume(DAYS_SMA_VOLUME_30,
+                indexOfQuotation, sortedQuotations));
+    }
+
+    /**
+     * Determines the index of the newest Quotation whose MovingAverageData have already been calculated.
+     *
+     * @param sortedQuotations The quotations that build the trading history.
+     * @return The index of the newest Quotation with MovingAverageData. -1, if no such Quotation exists.
+     */
+    private int getIndexOfNewestCalculatedQuotation(final QuotationArray sortedQuotations) {
+        for (int i = 0; i < sortedQuotations.getQuotations().size(); i++) {
+            if (sortedQuotations.getQuotations().get(i).getMovingAverageData() != null) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if the MovingAverageData of the trading history have been calculated up until the newest calculated
+     * Quotation. This is not the case if no Quotation has been calculated yet or if quotations have been added in
+     * between already calculated quotations.
+     *
+     * @param indexOfNewestCalculatedQuotation The index of the newest Quotation with MovingAverageData.
+     * @param sortedQuotations                 The quotations that build the trading history.
+     * @return true, if the trading history has been calculated; false, if not.
+     */
+    private boolean isHistoryCalculated(final int indexOfNewestCalculatedQuotation,
+            final QuotationArray sortedQuotations) {
+        int numberOfQuotations = sortedQuotations.getQuotations().size();
+
+        if (indexOfNewestCalculatedQuotation == -1) {
+            return false;
+        }
+
+        for (int i = indexOfNewestCalculatedQuotation; i <= numberOfQuotations - MIN_QUOTATIONS_MA_DATA; i++) {
+            if (sortedQuotations.getQuotations().get(i).getMovingAverageData() == null) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -269,15 +409,14 @@ public class IndicatorCalculationController {
      * shortest Simple Moving Average. In the actual case this is the SMA(10). Therefore at least 9 quotations have to
      * exist that are older than the given quotation.
      *
-     * @param currentQuotation The current Quotation for which indicators are to be calculated.
-     * @param sortedQuotations A list of quotations sorted by date that build the trading history
+     * @param indexOfCurrentQuotation The index of the current Quotation for which indicators are to be calculated.
+     * @param sortedQuotations        A list of quotations sorted by date that build the trading history
      */
-    private void initMovingAverageData(final Quotation currentQuotation, final QuotationArray sortedQuotations) {
-        int indexOfCurrentQuotation = sortedQuotations.getQuotations().indexOf(currentQuotation);
+    private void initMovingAverageData(final int indexOfCurrentQuotation, final QuotationArray sortedQuotations) {
+        Quotation currentQuotation = sortedQuotations.getQuotations().get(indexOfCurrentQuotation);
         int numberOfQuotations = sortedQuotations.getQuotations().size();
-        final int minNumberOfQuotations = 10;
 
-        if ((numberOfQuotations - indexOfCurrentQuotation) >= minNumberOfQuotations) {
+        if ((numberOfQuotations - indexOfCurrentQuotation) >= MIN_QUOTATIONS_MA_DATA) {
             if (currentQuotation.getMovingAverageData() == null) {
                 currentQuotation.setMovingAverageData(new MovingAverageData());
             }
@@ -0,0 +1,79 @@
+package backend.controller.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import backend.model.instrument.Instrument;
+import backend.model.instrument.Quotation;
+
+/**
+ * Holds the quotations of instruments that have been updated during a scan. Instruments whose quotations are calculated
+ * based on other instruments use the cached quotations instead of loading them from the database again. Only the
+ * quotations of instruments that are a dependency of another Instrument are cached. The quotations are removed as soon
+ * as all dependent instruments have been updated.
+ *
+ * @author Michael
+ */
+public class QuotationCache {
+    /**
+     * The IDs of the instruments whose quotations are cached.
+     */
+    private Set<Integer> instrumentIds;
+
+    /**
+     * The cached quotations, mapped by the ID of their Instrument.
+     */
+    private Map<Integer, List<Quotation>> quotations;
+
+    /**
+     * Initializes the QuotationCache.
+     *
+     * @param instrumentIds The IDs of the instruments whose quotations are cached.
+     */
+    public QuotationCache(final Set<Integer> instrumentIds) {
+        this.instrumentIds = instrumentIds;
+        this.quotations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Caches the quotations of the given Instrument, if the Instrument is a dependency of another Instrument.
+     *
+     * @param instrument The Instrument with its complete trading history.
+     */
+    public void put(final Instrument instrument) {
+        if (this.instrumentIds.contains(instrument.getId())) {
+            this.quotations.put(instrument.getId(), instrument.getQuotations());
+        }
+    }
+
+    /**
+     * Provides the cached quotations of the Instrument with the given ID. A new List is provided, because the order of
+     * the quotations may be changed by the caller.
+     *
+     * @param instrumentId The ID of the Instrument.
+     * @return The quotations of the Instrument. Null, if the quotations have not been cached.
+     */
+    public List<Quotation> get(final Integer instrumentId) {
+        List<Quotation> cachedQuotations = this.quotations.get(instrumentId);
+
+        if (cachedQuotations == null) {
+            return null;
+        }
+
+        return new ArrayList<>(cachedQuotations);
+    }
+
+    /**
+     * Removes the cached quotations of the instruments with the given IDs.
+     *
+     * @param removeInstrumentIds The IDs of the instruments whose quotations are no longer needed.
+     */
+    public void remove(final Set<Integer> removeInstrumentIds) {
+        for (Integer instrumentId : removeInstrumentIds) {
+            this.quotations.remove(instrumentId);
+        }
+    }
+}
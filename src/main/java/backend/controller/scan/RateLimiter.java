@@ -0,0 +1,95 @@
+package backend.controller.scan;
+
+/**
+ * A token bucket that limits the rate of queries sent to a third-party data provider. One token is added to the bucket
+ * per interval up until the capacity of the bucket is reached. Each query consumes one token.
+ *
+ * @author Michael
+ */
+public class RateLimiter {
+    /**
+     * The number of nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    /**
+     * The interval in nanoseconds after which a new token is added to the bucket.
+     */
+    private final long intervalNanos;
+
+    /**
+     * The maximum number of tokens the bucket can hold.
+     */
+    private final int capacity;
+
+    /**
+     * The number of tokens that are currently available.
+     */
+    private int availableTokens;
+
+    /**
+     * The point in time in nanoseconds at which the last token has been added to the bucket.
+     */
+    private long lastRefillNanos;
+
+    /**
+     * Initializes the RateLimiter. The bucket is initially filled.
+     *
+     * @param intervalMillis The interval in milliseconds after which a new token is added to the bucket. The rate is
+     *                       not limited, if the interval is 0.
+     * @param capacity       The maximum number of tokens the bucket can hold.
+     */
+    public RateLimiter(final long intervalMillis, final int capacity) {
+        this.intervalNanos = intervalMillis * NANOS_PER_MILLI;
+        this.capacity = capacity;
+        this.availableTokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes a token from the bucket. Blocks until a token is available.
+     *
+     * @throws InterruptedException The thread has been interrupted while waiting for a token.
+     */
+    public synchronized void acquire() throws InterruptedException {
+        long waitNanos;
+
+        if (this.intervalNanos <= 0) {
+            return;
+        }
+
+        this.refill();
+
+        while (this.availableTokens == 0) {
+            waitNanos = this.lastRefillNanos + this.intervalNanos - System.nanoTime();
+
+            if (waitNanos > 0) {
+                Thread.sleep(waitNanos / NANOS_PER_MILLI, (int) (waitNanos % NANOS_PER_MILLI));
+            }
+
+            this.refill();
+        }
+
+        this.availableTokens--;
+    }
+
+    /**
+     * Adds the tokens to the bucket that have accrued since the last refill.
+     */
+    private void refill() {
+        long now = System.nanoTime();
+        long accruedTokens = (now - this.lastRefillNanos) / this.intervalNanos;
+
+        if (accruedTokens == 0) {
+            return;
+        }
+
+        if (this.availableTokens + accruedTokens >= this.capacity) {
+            this.availableTokens = this.capacity;
+            this.lastRefillNanos = now;
+        } else {
+            this.availableTokens += (int) accruedTokens;
+            this.lastRefillNanos += accruedTokens * this.intervalNanos;
+        }
+    }
+}
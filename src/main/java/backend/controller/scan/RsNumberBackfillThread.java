@@ -0,0 +1,286 @@
+package backend.controller.scan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import backend.calculator.PercentileRankCalculator;
+import backend.calculator.PerformanceCalculator;
+import backend.dao.DAOManager;
+import backend.dao.quotation.persistence.ClosingPriceHistory;
+import backend.dao.quotation.persistence.QuotationDAO;
+import backend.model.instrument.InstrumentType;
+
+/**
+ * Calculates the RS percent sum and the RS number of all historical quotations.
+ *
+ * The closing prices of an InstrumentType are loaded once as column-oriented ClosingPriceHistory. The trading days are
+ * processed in chronological batches. The days of a batch are calculated in parallel: For each day the RS percent sum
+ * of every Instrument trading on that day is calculated and the instruments are ranked against each other. The results
+ * of a batch are then written in JDBC batches.
+ *
+ * The newest Quotation of each Instrument is not modified, because its RS numbers are maintained by the scan.
+ *
+ * @author Michael
+ */
+public class RsNumberBackfillThread extends Thread {
+    /**
+     * The number of trading days that are calculated and written together.
+     */
+    private static final int DAYS_PER_BATCH = 20;
+
+    /**
+     * Indicates if a backfill is currently running.
+     */
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+
+    /**
+     * The instrument types whose RS numbers are calculated.
+     */
+    private List<InstrumentType> instrumentTypes;
+
+    /**
+     * DAO to access Quotation data.
+     */
+    private QuotationDAO quotationDAO;
+
+    /**
+     * Calculator for performance values.
+     */
+    private PerformanceCalculator performanceCalculator;
+
+    /**
+     * Ranks the RS percent sums.
+     */
+    private PercentileRankCalculator percentileRankCalculator;
+
+    /**
+     * Application logging.
+     */
+    public static final Logger LOGGER = LogManager.getLogger(RsNumberBackfillThread.class);
+
+    /**
+     * Initializes the RsNumberBackfillThread.
+     *
+     * @param instrumentTypes The instrument types whose RS numbers are calculated.
+     */
+    public RsNumberBackfillThread(final List<InstrumentType> instrumentTypes) {
+        this.instrumentTypes = instrumentTypes;
+        this.performanceCalculator = new PerformanceCalculator();
+        this.percentileRankCalculator = new PercentileRankCalculator();
+    }
+
+    /**
+     * Starts the backfill of the given instrument types, if no backfill is running yet.
+     *
+     * @param instrumentTypes The instrument types whose RS numbers are calculated.
+     * @return true, if the backfill has been started; false, if a backfill is already running.
+     */
+    public static boolean startBackfill(final List<InstrumentType> instrumentTypes) {
+        if (!RUNNING.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            new RsNumberBackfillThread(instrumentTypes).start();
+        } catch (RuntimeException exception) {
+            RUNNING.set(false);
+            throw exception;
+        }
+
+        return true;
+    }
+
+    /**
+     * The main method of the thread that is executed.
+     */
+    @Override
+    public void run() {
+        int numberOfQuotations;
+
+        try {
+            this.quotationDAO = DAOManager.getInstance().getQuotationDAO();
+
+            // The snapshot of the newest quotations is invalidated once after all RS numbers have been persisted.
+            this.quotationDAO.beginBulkUpdate();
+
+            try {
+                for (InstrumentType instrumentType : this.instrumentTypes) {
+                    LOGGER.info("Starting RS number backfill of instrument type " + instrumentType);
+                    numberOfQuotations = this.backfill(instrumentType);
+                    LOGGER.info("Finished RS number backfill of instrument type " + instrumentType + ". "
+                            + numberOfQuotations + " quotations have been updated.");
+                }
+            } finally {
+                this.quotationDAO.endBulkUpdate();
+            }
+        } catch (InterruptedException e) {
+            LOGGER.info("RS number backfill has been interrupted.", e);
+        } catch (Exception e) {
+            LOGGER.error("Failed to backfill RS numbers.", e);
+        } finally {
+            RUNNING.set(false);
+        }
+    }
+
+    /**
+     * Calculates and persists the RS numbers of all historical quotations of the given InstrumentType.
+     *
+     * @param instrumentType The InstrumentType.
+     * @return The number of updated quotations.
+     * @throws Exception Backfill failed.
+     */
+    public int backfill(final InstrumentType instrumentType) throws Exception {
+        ClosingPriceHistory closingPriceHistory = this.quotationDAO.getClosingPriceHistory(instrumentType);
+        int[] tradingDays = closingPriceHistory.getTradingDays();
+        ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<Callable<RsNumbersOfDay>> tasks = new ArrayList<>();
+        int numberOfQuotations = 0;
+
+        try {
+            for (int batchStart = 0; batchStart < tradingDays.length; batchStart += DAYS_PER_BATCH) {
+                tasks.clear();
+
+                for (int day = batchStart; day < Math.min(batchStart + DAYS_PER_BATCH, tradingDays.length); day++) {
+                    final int dayNumber = tradingDays[day];
+                    tasks.add(() -> this.calculateRsNumbersOfDay(closingPriceHistory, dayNumber));
+                }
+
+                numberOfQuotations += this.persist(executorService.invokeAll(tasks));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return numberOfQuotations;
+    }
+
+    /**
+     * Calculates the RS percent sum and the RS number of the quotations of all instruments on the given day.
+     *
+     * @param closingPriceHistory The trading history of all instruments.
+     * @param dayNumber           The day number of the trading day.
+     * @return The RS numbers of the quotations of the given day, except the newest Quotation of each Instrument.
+     */
+    public RsNumbersOfDay calculateRsNumbersOfDay(final ClosingPriceHistory closingPriceHistory,
+            final int dayNumber) {
+
+        int numberOfInstruments = closingPriceHistory.getNumberOfInstruments();
+        int[] quotationIndexes = new int[numberOfInstruments];
+        float[] rsPercentSums = new float[numberOfInstruments];
+        boolean[] hasValue;
+        int[] rsNumbers;
+        int numberOfQuotations = 0;
+        int numberOfResults = 0;
+        int quotationIndex;
+
+        for (int i = 0; i < numberOfInstruments; i++) {
+            quotationIndex = closingPriceHistory.getIndexOfDay(i, dayNumber);
+
+            if (quotationIndex == -1) {
+                continue;
+            }
+
+            quotationIndexes[numberOfQuotations] = quotationIndex;
+            rsPercentSums[numberOfQuotations] = this.performanceCalculator.getRSPercentSum(
+                    closingPriceHistory.getClosingPrices(), closingPriceHistory.getStartIndex(i), quotationIndex);
+
+            if (quotationIndex == closingPriceHistory.getEndIndex(i) - 1) {
+                // Flag the newest Quotation by its negative index. It takes part in the ranking but is not written.
+                quotationIndexes[numberOfQuotations] = -1 - quotationIndex;
+            } else {
+                numberOfResults++;
+            }
+
+            numberOfQuotations++;
+        }
+
+        rsPercentSums = Arrays.copyOf(rsPercentSums, numberOfQuotations);
+        hasValue = new boolean[numberOfQuotations];
+        Arrays.fill(hasValue, true);
+        rsNumbers = this.percentileRankCalculator.getPercentileRanks(rsPercentSums, hasValue);
+
+        return this.getRsNumbersOfDay(closingPriceHistory, quotationIndexes, rsPercentSums, rsNumbers,
+                numberOfResults);
+    }
+
+    /**
+     * Collects the RS numbers of the ranked quotations of a day, except the newest Quotation of each Instrument.
+     *
+     * @param closingPriceHistory The trading history of all instruments.
+     * @param quotationIndexes    The indexes of the ranked quotations. The newest Quotation of an Instrument is flagged
+     *                            by a negative index.
+     * @param rsPercentSums       The RS percent sums of the ranked quotations.
+     * @param rsNumbers           The RS numbers of the ranked quotations.
+     * @param numberOfResults     The number of ranked quotations that are not the newest Quotation of their Instrument.
+     * @return The RS numbers of the quotations of the day, except the newest Quotation of each Instrument.
+     */
+    private RsNumbersOfDay getRsNumbersOfDay(final ClosingPriceHistory closingPriceHistory,
+            final int[] quotationIndexes, final float[] rsPercentSums, final int[] rsNumbers,
+            final int numberOfResults) {
+
+        int[] resultQuotationIds = new int[numberOfResults];
+        float[] resultRsPercentSums = new float[numberOfResults];
+        int[] resultRsNumbers = new int[numberOfResults];
+        int resultIndex = 0;
+
+        for (int i = 0; i < rsNumbers.length; i++) {
+            if (quotationIndexes[i] < 0) {
+                continue;
+            }
+
+            resultQuotationIds[resultIndex] = closingPriceHistory.getQuotationId(quotationIndexes[i]);
+            resultRsPercentSums[resultIndex] = rsPercentSums[i];
+            resultRsNumbers[resultIndex] = rsNumbers[i];
+            resultIndex++;
+        }
+
+        return new RsNumbersOfDay(resultQuotationIds, resultRsPercentSums, resultRsNumbers);
+    }
+
+    /**
+     * Persists the RS numbers of the given days in a single update.
+     *
+     * @param results The RS numbers of multiple days.
+     * @return The number of updated quotations.
+     * @throws Exception Update failed.
+     */
+    private int persist(final List<Future<RsNumbersOfDay>> results) throws Exception {
+        List<RsNumbersOfDay> rsNumbersOfDays = new ArrayList<>();
+        int[] quotationIds;
+        float[] rsPercentSums;
+        int[] rsNumbers;
+        int length = 0;
+
+        for (Future<RsNumbersOfDay> result : results) {
+            rsNumbersOfDays.add(result.get());
+            length += result.get().size();
+        }
+
+        quotationIds = new int[length];
+        rsPercentSums = new float[length];
+        rsNumbers = new int[length];
+        length = 0;
+
+        for (RsNumbersOfDay rsNumbersOfDay : rsNumbersOfDays) {
+            System.arraycopy(rsNumbersOfDay.getQuotationIds(), 0, quotationIds, length, rsNumbersOfDay.size());
+            System.arraycopy(rsNumbersOfDay.getRsPercentSums(), 0, rsPercentSums, length, rsNumbersOfDay.size());
+            System.arraycopy(rsNumbersOfDay.getRsNumbers(), 0, rsNumbers, length, rsNumbersOfDay.size());
+            length += rsNumbersOfDay.size();
+        }
+
+        if (length > 0) {
+            this.quotationDAO.updateRsNumbers(quotationIds, rsPercentSums, rsNumbers, length);
+        }
+
+        return length;
+    }
+}
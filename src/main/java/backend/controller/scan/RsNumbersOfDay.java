@@ -0,0 +1,64 @@
+package backend.controller.scan;
+
+/**
+ * The RS percent sums and RS numbers of the quotations of a single trading day.
+ *
+ * @author Michael
+ */
+public class RsNumbersOfDay {
+    /**
+     * The IDs of the quotations.
+     */
+    private int[] quotationIds;
+
+    /**
+     * The RS percent sum of each Quotation.
+     */
+    private float[] rsPercentSums;
+
+    /**
+     * The RS number of each Quotation.
+     */
+    private int[] rsNumbers;
+
+    /**
+     * Initializes the RsNumbersOfDay.
+     *
+     * @param quotationIds  The IDs of the quotations.
+     * @param rsPercentSums The RS percent sum of each Quotation.
+     * @param rsNumbers     The RS number of each Quotation.
+     */
+    public RsNumbersOfDay(final int[] quotationIds, final float[] rsPercentSums, final int[] rsNumbers) {
+        this.quotationIds = quotationIds;
+        this.rsPercentSums = rsPercentSums;
+        this.rsNumbers = rsNumbers;
+    }
+
+    /**
+     * @return The number of quotations.
+     */
+    public int size() {
+        return this.quotationIds.length;
+    }
+
+    /**
+     * @return the quotationIds
+     */
+    public int[] getQuotationIds() {
+        return quotationIds;
+    }
+
+    /**
+     * @return the rsPercentSums
+     */
+    public float[] getRsPercentSums() {
+        return rsPercentSums;
+    }
+
+    /**
+     * @return the rsNumbers
+     */
+    public int[] getRsNumbers() {
+        return rsNumbers;
+    }
+}
@@ -21,6 +21,11 @@ public class ScanController {
      */
     protected static final String PROPERTY_QUERY_INTERVAL = "queryInterval.scan";
 
+    /**
+     * Property Key: Full indicator update.
+     */
+    protected static final String PROPERTY_FULL_INDICATOR_UPDATE = "fullIndicatorUpdate.scan";
+
     /**
      * Property Key: Data Provider for stock exchange NYSE.
      */
@@ -66,6 +71,11 @@ public class ScanController {
      */
     private int queryInterval;
 
+    /**
+     * Indication to recalculate the indicators of the whole trading history during each scan.
+     */
+    private boolean fullIndicatorUpdate;
+
     /**
      * A Map of stock exchanges and their corresponding data providers.
      */
@@ -78,6 +88,7 @@ public class ScanController {
      */
     public ScanController() throws Exception {
         this.initializeQueryInterval();
+        this.initializeFullIndicatorUpdate();
         this.initializeDataProviders();
     }
 
@@ -88,6 +99,13 @@ public class ScanController {
         return this.queryInterval;
     }
 
+    /**
+     * @return the fullIndicatorUpdate
+     */
+    public boolean isFullIndicatorUpdate() {
+        return this.fullIndicatorUpdate;
+    }
+
     /**
      * @return the dataProviders
      */
@@ -121,7 +139,8 @@ public class ScanController {
      * @param scanOnlyIncompleteIntruments Indication to only scan incomplete instruments of the scan.
      */
     private void execute(final Scan scan, final boolean scanOnlyIncompleteIntruments) {
-        Thread scanThread = new ScanThread(this.queryInterval, this.dataProviders, scan, scanOnlyIncompleteIntruments);
+        Thread scanThread = new ScanThread(this.queryInterval, this.dataProviders, scan, scanOnlyIncompleteIntruments,
+                this.fullIndicatorUpdate);
         scanThread.start();
     }
 
@@ -135,6 +154,17 @@ public class ScanController {
         this.queryInterval = Integer.valueOf(queryIntervalString);
     }
 
+    /**
+     * Initializes the indication to recalculate the indicators of the whole trading history.
+     *
+     * @throws Exception In case the property could not be read.
+     */
+    private void initializeFullIndicatorUpdate() throws Exception {
+        String fullIndicatorUpdateString = MainController.getInstance()
+                .getConfigurationProperty(PROPERTY_FULL_INDICATOR_UPDATE);
+        this.fullIndicatorUpdate = Boolean.parseBoolean(fullIndicatorUpdateString);
+    }
+
     /**
      * Initializes the relations between stock exchanges and their corresponding data providers.
      *
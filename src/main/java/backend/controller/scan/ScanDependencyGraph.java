@@ -0,0 +1,196 @@
+package backend.controller.scan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import backend.model.instrument.Instrument;
+
+/**
+ * Determines the order in which instruments have to be updated, whose quotations are calculated based on the
+ * quotations of other instruments. An Instrument depends on the dividend and divisor of a ratio and on the instruments
+ * of its data source list.
+ *
+ * @author Michael
+ */
+public class ScanDependencyGraph {
+    /**
+     * The instruments whose quotations are calculated, mapped by their ID.
+     */
+    private Map<Integer, Instrument> instruments;
+
+    /**
+     * The IDs of the instruments each Instrument depends on, mapped by the ID of the dependent Instrument.
+     */
+    private Map<Integer, Set<Integer>> dependencies;
+
+    /**
+     * Application logging.
+     */
+    public static final Logger LOGGER = LogManager.getLogger(ScanDependencyGraph.class);
+
+    /**
+     * Initializes the ScanDependencyGraph.
+     *
+     * @param instruments The instruments whose quotations are calculated based on other instruments.
+     */
+    public ScanDependencyGraph(final List<Instrument> instruments) {
+        this.instruments = new HashMap<>();
+        this.dependencies = new HashMap<>();
+
+        for (Instrument instrument : instruments) {
+            this.instruments.put(instrument.getId(), instrument);
+            this.dependencies.put(instrument.getId(), this.getDependencies(instrument));
+        }
+    }
+
+    /**
+     * Provides the IDs of all instruments at least one Instrument of the graph depends on.
+     *
+     * @return The IDs of all instruments that are a dependency.
+     */
+    public Set<Integer> getDependencyIds() {
+        Set<Integer> dependencyIds = new HashSet<>();
+
+        for (Set<Integer> instrumentDependencies : this.dependencies.values()) {
+            dependencyIds.addAll(instrumentDependencies);
+        }
+
+        return dependencyIds;
+    }
+
+    /**
+     * Provides the instruments grouped into levels of execution. The instruments of a level only depend on instruments
+     * of previous levels. Therefore the instruments of a level can be updated concurrently, once all previous levels
+     * have been updated.
+     *
+     * Instruments that are part of a circular dependency are added to the last level.
+     *
+     * @return The levels of execution.
+     */
+    public List<List<Instrument>> getExecutionLevels() {
+        List<List<Instrument>> levels = new ArrayList<>();
+        List<Instrument> level;
+        Map<Integer, Set<Integer>> pendingDependencies = new HashMap<>();
+        Iterator<Map.Entry<Integer, Set<Integer>>> iterator;
+        Map.Entry<Integer, Set<Integer>> entry;
+        Set<Integer> scheduledIds;
+
+        // Only dependencies between instruments of the graph have to be considered for ordering.
+        for (Map.Entry<Integer, Set<Integer>> dependency : this.dependencies.entrySet()) {
+            pendingDependencies.put(dependency.getKey(), new HashSet<>(dependency.getValue()));
+            pendingDependencies.get(dependency.getKey()).retainAll(this.instruments.keySet());
+        }
+
+        while (!pendingDependencies.isEmpty()) {
+            level = new ArrayList<>();
+            scheduledIds = new HashSet<>();
+            iterator = pendingDependencies.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                entry = iterator.next();
+
+                if (entry.getValue().isEmpty()) {
+                    level.add(this.instruments.get(entry.getKey()));
+                    scheduledIds.add(entry.getKey());
+                    iterator.remove();
+                }
+            }
+
+            if (level.isEmpty()) {
+                LOGGER.warn("Circular dependency between the instruments with IDs " + pendingDependencies.keySet());
+                level = this.getInstruments(pendingDependencies.keySet());
+                pendingDependencies.clear();
+            }
+
+            for (Set<Integer> instrumentDependencies : pendingDependencies.values()) {
+                instrumentDependencies.removeAll(scheduledIds);
+            }
+
+            levels.add(level);
+        }
+
+        return levels;
+    }
+
+    /**
+     * Provides the IDs of the instruments that are no longer needed after each of the given levels of execution. The
+     * quotations of an Instrument are needed until the last level containing an Instrument that depends on it has been
+     * updated.
+     *
+     * @param executionLevels The levels of execution as determined by getExecutionLevels().
+     * @return The IDs of the instruments that are no longer needed, one Set per level of execution.
+     */
+    public List<Set<Integer>> getReleasedDependencyIds(final List<List<Instrument>> executionLevels) {
+        List<Set<Integer>> releasedDependencyIds = new ArrayList<>();
+        Map<Integer, Integer> lastLevelOfDependencies = new HashMap<>();
+
+        for (int levelIndex = 0; levelIndex < executionLevels.size(); levelIndex++) {
+            releasedDependencyIds.add(new HashSet<>());
+
+            for (Instrument instrument : executionLevels.get(levelIndex)) {
+                for (Integer dependencyId : this.dependencies.get(instrument.getId())) {
+                    lastLevelOfDependencies.put(dependencyId, levelIndex);
+                }
+            }
+        }
+
+        for (Map.Entry<Integer, Integer> lastLevelOfDependency : lastLevelOfDependencies.entrySet()) {
+            releasedDependencyIds.get(lastLevelOfDependency.getValue()).add(lastLevelOfDependency.getKey());
+        }
+
+        return releasedDependencyIds;
+    }
+
+    /**
+     * Determines the IDs of all instruments the given Instrument depends on.
+     *
+     * @param instrument The Instrument.
+     * @return The IDs of the instruments whose quotations are needed to calculate the quotations of the Instrument.
+     */
+    private Set<Integer> getDependencies(final Instrument instrument) {
+        Set<Integer> instrumentDependencies = new HashSet<>();
+
+        if (instrument.getDividend() != null) {
+            instrumentDependencies.add(instrument.getDividend().getId());
+        }
+
+        if (instrument.getDivisor() != null) {
+            instrumentDependencies.add(instrument.getDivisor().getId());
+        }
+
+        if (instrument.getDataSourceList() != null) {
+            for (Instrument listInstrument : instrument.getDataSourceList().getInstruments()) {
+                instrumentDependencies.add(listInstrument.getId());
+            }
+        }
+
+        // An Instrument can not depend on itself.
+        instrumentDependencies.remove(instrument.getId());
+
+        return instrumentDependencies;
+    }
+
+    /**
+     * Provides the instruments with the given IDs.
+     *
+     * @param instrumentIds The IDs of the instruments.
+     * @return The instruments.
+     */
+    private List<Instrument> getInstruments(final Set<Integer> instrumentIds) {
+        List<Instrument> instrumentsWithIds = new ArrayList<>();
+
+        for (Integer instrumentId : instrumentIds) {
+            instrumentsWithIds.add(this.instruments.get(instrumentId));
+        }
+
+        return instrumentsWithIds;
+    }
+}
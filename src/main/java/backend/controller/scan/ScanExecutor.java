@@ -0,0 +1,237 @@
+package backend.controller.scan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import backend.controller.DataProvider;
+import backend.model.StockExchange;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
+
+/**
+ * Organizes the concurrent update of the instruments of a scan.
+ *
+ * The quotations of each data provider are queried concurrently. Each data provider is throttled by its own
+ * RateLimiter. Indicators and the quotations of ratios and lists are calculated on a separate pool of threads without
+ * any throttling, because no third-party data provider is queried. Ratios and lists are updated in the order of their
+ * dependencies as determined by the ScanDependencyGraph.
+ *
+ * @author Michael
+ */
+public class ScanExecutor {
+    /**
+     * The number of milliseconds per second.
+     */
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    /**
+     * The interval in seconds between queries of historical quotations of a single data provider.
+     */
+    private int queryInterval;
+
+    /**
+     * Stock exchanges and their corresponding data providers.
+     */
+    private Map<StockExchange, DataProvider> dataProviders;
+
+    /**
+     * The scan thread that performs the update of single instruments.
+     */
+    private ScanThread scanThread;
+
+    /**
+     * Executes local calculations that do not query a third-party data provider.
+     */
+    private ExecutorService computationExecutor;
+
+    /**
+     * Application logging.
+     */
+    public static final Logger LOGGER = LogManager.getLogger(ScanExecutor.class);
+
+    /**
+     * Initializes the ScanExecutor.
+     *
+     * @param queryInterval The interval in seconds between each historical quotation query of a single data provider.
+     * @param dataProviders Stock exchanges and their corresponding data providers.
+     * @param scanThread    The scan thread that performs the update of single instruments.
+     */
+    public ScanExecutor(final int queryInterval, final Map<StockExchange, DataProvider> dataProviders,
+            final ScanThread scanThread) {
+
+        this.queryInterval = queryInterval;
+        this.dataProviders = dataProviders;
+        this.scanThread = scanThread;
+    }
+
+    /**
+     * Updates the quotations and indicators of the given instruments. Returns after all instruments have been updated.
+     *
+     * @param instruments The instruments to be updated.
+     * @throws InterruptedException The thread has been interrupted while waiting for the update to complete.
+     */
+    public void execute(final Set<Instrument> instruments) throws InterruptedException {
+        Map<DataProvider, List<Instrument>> remoteInstruments = new HashMap<>();
+        List<Instrument> localInstruments = new ArrayList<>();
+        ScanDependencyGraph dependencyGraph;
+        QuotationCache quotationCache;
+
+        this.partitionInstruments(instruments, remoteInstruments, localInstruments);
+        dependencyGraph = new ScanDependencyGraph(localInstruments);
+        quotationCache = new QuotationCache(dependencyGraph.getDependencyIds());
+        this.scanThread.setQuotationCache(quotationCache);
+        this.computationExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        try {
+            // Ratios and lists are calculated based on quotations of other instruments. Those are queried first.
+            this.updateRemoteInstruments(remoteInstruments);
+            this.updateLocalInstruments(dependencyGraph, quotationCache);
+        } finally {
+            this.computationExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Partitions the given instruments into instruments whose quotations are queried from a third-party data provider
+     * and instruments whose quotations are calculated locally.
+     *
+     * @param instruments       The instruments of the scan.
+     * @param remoteInstruments The instruments that are queried, grouped by their data provider.
+     * @param localInstruments  The instruments whose quotations are calculated based on other instruments.
+     */
+    private void partitionInstruments(final Set<Instrument> instruments,
+            final Map<DataProvider, List<Instrument>> remoteInstruments, final List<Instrument> localInstruments) {
+        DataProvider dataProvider;
+
+        for (Instrument instrument : instruments) {
+            if (instrument.getType() == InstrumentType.RATIO || instrument.getDataSourceList() != null) {
+                localInstruments.add(instrument);
+                continue;
+            }
+
+            dataProvider = this.dataProviders.get(instrument.getStockExchange());
+            remoteInstruments.computeIfAbsent(dataProvider, key -> new ArrayList<>()).add(instrument);
+        }
+    }
+
+    /**
+     * Queries the quotations of the given instruments. The data providers are queried concurrently. The indicators of
+     * each Instrument are calculated as soon as its quotations have been updated.
+     *
+     * @param remoteInstruments The instruments to be updated, grouped by their data provider.
+     * @throws InterruptedException The thread has been interrupted while waiting for the update to complete.
+     */
+    private void updateRemoteInstruments(final Map<DataProvider, List<Instrument>> remoteInstruments)
+            throws InterruptedException {
+        ExecutorService providerExecutor;
+        List<Callable<Object>> providerTasks = new ArrayList<>();
+        List<Future<?>> computations = Collections.synchronizedList(new ArrayList<>());
+
+        if (remoteInstruments.isEmpty()) {
+            return;
+        }
+
+        for (Entry<DataProvider, List<Instrument>> entry : remoteInstruments.entrySet()) {
+            RateLimiter rateLimiter = new RateLimiter((long) this.queryInterval * MILLIS_PER_SECOND, 1);
+
+            providerTasks.add(
+                    Executors.callable(() -> this.queryDataProvider(entry.getValue(), rateLimiter, computations)));
+        }
+
+        providerExecutor = Executors.newFixedThreadPool(providerTasks.size());
+
+        try {
+            providerExecutor.invokeAll(providerTasks);
+        } finally {
+            providerExecutor.shutdownNow();
+        }
+
+        this.awaitComputations(computations);
+    }
+
+    /**
+     * Queries the quotations of the given instruments that share a common data provider. Submits the calculation of
+     * indicators of each updated Instrument.
+     *
+     * @param instruments  The instruments to be updated.
+     * @param rateLimiter  The RateLimiter of the data provider.
+     * @param computations The calculations that have been submitted.
+     */
+    private void queryDataProvider(final List<Instrument> instruments, final RateLimiter rateLimiter,
+            final List<Future<?>> computations) {
+
+        for (Instrument instrument : instruments) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                LOGGER.info("Waiting for the data provider has been interrupted.", e);
+                return;
+            }
+
+            this.scanThread.updateQuotationsNonRatio(instrument);
+            computations.add(this.computationExecutor.submit(() -> {
+                this.scanThread.updateIndicatorsOfInstrument(instrument);
+                this.scanThread.updateScanProgress();
+            }));
+        }
+    }
+
+    /**
+     * Updates the quotations and indicators of instruments whose quotations are calculated based on other instruments.
+     * The instruments of each level are updated concurrently. A level is started after the previous level has been
+     * completed. Cached quotations that are not needed by the following levels are removed after each level.
+     *
+     * @param dependencyGraph The dependencies between the instruments to be updated.
+     * @param quotationCache  The cache holding the quotations of the dependencies.
+     * @throws InterruptedException The thread has been interrupted while waiting for the update to complete.
+     */
+    private void updateLocalInstruments(final ScanDependencyGraph dependencyGraph,
+            final QuotationCache quotationCache) throws InterruptedException {
+        List<List<Instrument>> executionLevels = dependencyGraph.getExecutionLevels();
+        List<Set<Integer>> releasedDependencyIds = dependencyGraph.getReleasedDependencyIds(executionLevels);
+        List<Future<?>> computations;
+
+        for (int levelIndex = 0; levelIndex < executionLevels.size(); levelIndex++) {
+            computations = new ArrayList<>();
+
+            for (Instrument instrument : executionLevels.get(levelIndex)) {
+                computations.add(this.computationExecutor.submit(() -> {
+                    this.scanThread.updateInstrument(instrument);
+                    this.scanThread.updateScanProgress();
+                }));
+            }
+
+            this.awaitComputations(computations);
+            quotationCache.remove(releasedDependencyIds.get(levelIndex));
+        }
+    }
+
+    /**
+     * Waits until all given calculations are completed.
+     *
+     * @param computations The calculations that have been submitted.
+     * @throws InterruptedException The thread has been interrupted while waiting.
+     */
+    private void awaitComputations(final List<Future<?>> computations) throws InterruptedException {
+        for (Future<?> computation : computations) {
+            try {
+                computation.get();
+            } catch (ExecutionException e) {
+                LOGGER.error("Failed to update instrument during scan process.", e);
+            }
+        }
+    }
+}
@@ -5,12 +5,15 @@ import java.math.RoundingMode;
 import java.net.SocketException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,6 +35,8 @@ import backend.model.instrument.QuotationArray;
 import backend.model.scan.Scan;
 import backend.model.scan.ScanCompletionStatus;
 import backend.model.scan.ScanExecutionStatus;
+import backend.tools.DateTools;
+import backend.webservice.common.DashboardService;
 
 /**
  * Queries historical stock quotes of instruments that are part of a scan. Furthermore calculates indicators.
@@ -54,6 +59,11 @@ public class ScanThread extends DataRetrievalThread {
      */
     private boolean scanOnlyIncompleteInstruments;
 
+    /**
+     * Indication to recalculate the indicators of the whole trading history of each instrument.
+     */
+    private boolean fullIndicatorUpdate;
+
     /**
      * DAO to access quotations of the database.
      */
@@ -69,6 +79,27 @@ public class ScanThread extends DataRetrievalThread {
      */
     private IndicatorCalculationController indicatorCalculator;
 
+    /**
+     * The quotations of updated instruments that are needed to calculate the quotations of other instruments.
+     */
+    private QuotationCache quotationCache;
+
+    /**
+     * The dates whose stock quotations have been created, deleted or modified during the scan. The statistics of these
+     * dates need to be updated.
+     */
+    private Set<Date> modifiedStatisticDates;
+
+    /**
+     * The number of instruments that already have been scanned.
+     */
+    private AtomicInteger instrumentsProcessed;
+
+    /**
+     * The total number of instruments of the current scan run.
+     */
+    private int totalNumberOfInstruments;
+
     /**
      * Application logging.
      */
@@ -77,23 +108,29 @@ public class ScanThread extends DataRetrievalThread {
     /**
      * Initializes the scan thread.
      *
-     * @param queryInterval                 The interval in seconds between each historical quotation query.
+     * @param queryInterval                 The interval in seconds between each historical quotation query of a
+     *                                      single data provider.
      * @param dataProviders                 Stock exchanges and their corresponding data providers.
      * @param scan                          The scan that is executed by the thread.
      * @param scanOnlyIncompleteInstruments Indication to only scan incomplete instruments of the scan.
+     * @param fullIndicatorUpdate           Indication to recalculate the indicators of the whole trading history.
+     *                                      Only indicators of new quotations are calculated, if false.
      */
     public ScanThread(final int queryInterval, final Map<StockExchange, DataProvider> dataProviders, final Scan scan,
-            final boolean scanOnlyIncompleteInstruments) {
+            final boolean scanOnlyIncompleteInstruments, final boolean fullIndicatorUpdate) {
 
         this.setDataProviders(dataProviders);
         this.queryInterval = queryInterval;
         this.scan = scan;
         this.scanOnlyIncompleteInstruments = scanOnlyIncompleteInstruments;
+        this.fullIndicatorUpdate = fullIndicatorUpdate;
 
         this.quotationDAO = DAOManager.getInstance().getQuotationDAO();
         this.scanDAO = DAOManager.getInstance().getScanDAO();
 
         this.indicatorCalculator = new IndicatorCalculationController();
+        this.quotationCache = new QuotationCache(new HashSet<>());
+        this.modifiedStatisticDates = ConcurrentHashMap.newKeySet();
     }
 
     /**
@@ -102,32 +139,32 @@ public class ScanThread extends DataRetrievalThread {
     @Override
     public void run() {
         Set<Instrument> instruments;
-        Iterator<Instrument> instrumentIterator;
-        Instrument instrument;
-        int instrumentsProcessed = 0;
-        final int millisPerSecond = 1000;
+        ScanExecutor scanExecutor = new ScanExecutor(this.queryInterval, this.getDataProviders(), this);
 
         LOGGER.info("Starting execution of scan with ID: " + this.scan.getId());
 
         instruments = this.getInstrumentsOfScan();
-        instrumentIterator = instruments.iterator();
+        this.totalNumberOfInstruments = instruments.size();
+        this.instrumentsProcessed = new AtomicInteger();
 
-        while (instrumentIterator.hasNext()) {
-            instrument = instrumentIterator.next();
-            this.updateInstrument(instrument);
-
-            instrumentsProcessed++;
-            this.updateScanProgress(instrumentsProcessed, instruments.size());
+        // The snapshot of the newest quotations is invalidated once after all quotations of the scan are updated.
+        this.quotationDAO.beginBulkUpdate();
 
+        try {
             try {
-                sleep(this.queryInterval * millisPerSecond);
+                scanExecutor.execute(instruments);
             } catch (InterruptedException e) {
-                LOGGER.info("Sleeping scan thread has been interrupted.", e);
+                LOGGER.info("Scan thread has been interrupted.", e);
             }
+
+            this.updateRSNumbers();
+        } finally {
+            this.quotationDAO.endBulkUpdate();
         }
 
-        this.updateRSNumbers();
+        this.refreshLatestQuotationSnapshot();
         this.updateStatistics();
+        this.refreshMarketHealthStatusCache();
         this.setScanToFinished();
         LOGGER.info("Finished execution of scan with ID: " + this.scan.getId());
     }
@@ -153,7 +190,7 @@ public class ScanThread extends DataRetrievalThread {
      *
      * @param instrument The instrument to be updated.
      */
-    private void updateInstrument(final Instrument instrument) {
+    void updateInstrument(final Instrument instrument) {
         this.updateQuotationsOfInstrument(instrument);
         this.updateIndicatorsOfInstrument(instrument);
     }
@@ -180,7 +217,7 @@ public class ScanThread extends DataRetrievalThread {
      *
      * @param instrument The Instrument to be updated.
      */
-    private void updateQuotationsNonRatio(final Instrument instrument) {
+    void updateQuotationsNonRatio(final Instrument instrument) {
         Quotation databaseQuotation;
         List<Quotation> databaseQuotations = new ArrayList<>();
         List<Quotation> newQuotations = new ArrayList<>();
@@ -209,17 +246,19 @@ public class ScanThread extends DataRetrievalThread {
 
             if (newQuotations.size() > 0) {
                 this.quotationDAO.insertQuotations(newQuotations);
+                this.addModifiedStatisticDates(instrument, newQuotations, true);
             }
 
             if (obsoleteQuotations.size() > 0) {
                 this.quotationDAO.deleteQuotations(new ArrayList<>(obsoleteQuotations));
+                this.addModifiedStatisticDates(instrument, obsoleteQuotations, true);
             }
 
             this.checkAgeOfNewestQuotation(instrument.getSymbol(), wsQuotations, thresholdDaysLogQuotationAge);
 
-            this.scan.getIncompleteInstruments().remove(instrument);
+            this.setInstrumentComplete(instrument);
         } catch (Exception e) {
-            this.scan.addIncompleteInstrument(instrument);
+            this.setInstrumentIncomplete(instrument);
             if (e.getCause() instanceof SocketException) {
                 LOGGER.error("Failed to update quotations of instrument with ID " + instrument.getId()
                         + " (Socket Closed).");
@@ -242,13 +281,10 @@ public class ScanThread extends DataRetrievalThread {
 
         // 1. Calculate ratio quotations based on dividend and divisor quotations.
         try {
-            instrument.getDividend()
-                    .setQuotations(this.quotationDAO.getQuotationsOfInstrument(instrument.getDividend().getId()));
-            instrument.getDivisor()
-                    .setQuotations(this.quotationDAO.getQuotationsOfInstrument(instrument.getDivisor().getId()));
-            ratioQuotations = ratioCalculator.getRatios(instrument.getDividend(), instrument.getDivisor());
+            ratioQuotations = ratioCalculator.getRatios(this.getInstrumentWithQuotations(instrument.getDividend()),
+                    this.getInstrumentWithQuotations(instrument.getDivisor()));
         } catch (Exception exception) {
-            this.scan.addIncompleteInstrument(instrument);
+            this.setInstrumentIncomplete(instrument);
             LOGGER.warn("Could not calculate ratio for instrument with ID " + instrument.getId() + ". "
                     + exception.getMessage());
             return;
@@ -271,9 +307,9 @@ public class ScanThread extends DataRetrievalThread {
                 this.quotationDAO.insertQuotations(newQuotations);
             }
 
-            this.scan.getIncompleteInstruments().remove(instrument);
+            this.setInstrumentComplete(instrument);
         } catch (Exception exception) {
-            this.scan.addIncompleteInstrument(instrument);
+            this.setInstrumentIncomplete(instrument);
             LOGGER.error("Failed to update quotations of instrument with ID " + instrument.getId(), exception);
         }
     }
@@ -286,22 +322,16 @@ public class ScanThread extends DataRetrievalThread {
      */
     private void updateQuotationsFromList(final Instrument instrument) {
         QuotationCalculator calculator = new QuotationCalculator();
-        List<Instrument> instruments = new ArrayList<>(instrument.getDataSourceList().getInstruments());
+        List<Instrument> instruments;
         List<Quotation> calculatedQuotations = new ArrayList<>();
         List<Quotation> newQuotations = new ArrayList<>();
         Quotation existingQuotation;
 
         // 1. Initialize the instruments with quotations loaded from the database.
         try {
-            for (Instrument tempInstrument : instruments) {
-                tempInstrument.setQuotations(this.quotationDAO.getQuotationsOfInstrument(tempInstrument.getId()));
-
-                if (tempInstrument.getQuotations().size() == 0) {
-                    LOGGER.warn("No quotations exist for Instrument with ID " + instrument.getId());
-                }
-            }
+            instruments = this.getSourceInstruments(instrument);
         } catch (Exception exception) {
-            this.scan.addIncompleteInstrument(instrument);
+            this.setInstrumentIncomplete(instrument);
             LOGGER.error("Could not load quotations of instrument with ID " + instrument.getId(),
                     exception.getMessage());
             return;
@@ -327,54 +357,113 @@ public class ScanThread extends DataRetrievalThread {
                 this.quotationDAO.insertQuotations(newQuotations);
             }
 
-            this.scan.getIncompleteInstruments().remove(instrument);
+            this.setInstrumentComplete(instrument);
         } catch (Exception exception) {
-            this.scan.addIncompleteInstrument(instrument);
+            this.setInstrumentIncomplete(instrument);
             LOGGER.error("Failed to update quotations of instrument with ID " + instrument.getId(), exception);
         }
     }
 
     /**
-     * Updates the indicators of the most recent quotation of the given Instrument.
+     * Provides the instruments referenced in the 'dataSourceList' attribute of the given Instrument together with their
+     * quotations.
+     *
+     * @param instrument The Instrument whose quotations are calculated.
+     * @return The instruments of the 'dataSourceList' with their quotations.
+     * @throws Exception Failed to load the quotations.
+     */
+    private List<Instrument> getSourceInstruments(final Instrument instrument) throws Exception {
+        List<Instrument> instruments = new ArrayList<>();
+        Instrument sourceInstrument;
+
+        for (Instrument tempInstrument : instrument.getDataSourceList().getInstruments()) {
+            sourceInstrument = this.getInstrumentWithQuotations(tempInstrument);
+            instruments.add(sourceInstrument);
+
+            if (sourceInstrument.getQuotations().size() == 0) {
+                LOGGER.warn("No quotations exist for Instrument with ID " + instrument.getId());
+            }
+        }
+
+        return instruments;
+    }
+
+    /**
+     * Updates the indicators of the given Instrument. Only the quotations whose indicators have been calculated are
+     * persisted.
      *
      * @param instrument The Instrument to be updated.
      */
-    private void updateIndicatorsOfInstrument(final Instrument instrument) {
-        List<Quotation> sortedQuotations;
-        List<Quotation> modifiedQuotations = new ArrayList<>();
+    void updateIndicatorsOfInstrument(final Instrument instrument) {
+        List<Quotation> modifiedQuotations;
         List<Quotation> databaseQuotations = new ArrayList<>();
-        Quotation quotation;
 
         try {
             // Read quotations of Instrument from database to get quotations with IDs needed for setting the Indicator
             // ID.
             databaseQuotations.addAll(this.quotationDAO.getQuotationsOfInstrument(instrument.getId()));
             instrument.setQuotations(databaseQuotations);
-            sortedQuotations = instrument.getQuotationsSortedByDate();
-
-            if (sortedQuotations.size() == 0) {
-                return;
+            if (this.fullIndicatorUpdate) {
+                modifiedQuotations = this.indicatorCalculator.calculateIndicators(instrument);
+            } else {
+                modifiedQuotations = this.indicatorCalculator.calculateIndicatorsIncremental(instrument);
             }
 
-            for (int i = 0; i < sortedQuotations.size(); i++) {
-                quotation = sortedQuotations.get(i);
+            this.quotationCache.put(instrument);
 
-                if (i == 0) {
-                    quotation = this.indicatorCalculator.calculateIndicators(instrument, quotation, true);
-                } else {
-                    quotation = this.indicatorCalculator.calculateIndicators(instrument, quotation, false);
-                }
-
-                modifiedQuotations.add(quotation);
+            if (modifiedQuotations.size() == 0) {
+                return;
             }
 
             this.quotationDAO.updateQuotations(modifiedQuotations);
+            this.addModifiedStatisticDates(instrument, modifiedQuotations, false);
         } catch (Exception exception) {
             LOGGER.error("Failed to retrieve or update indicators of instrument with ID " + instrument.getId(),
                     exception);
         }
     }
 
+    /**
+     * Remembers the dates of the given quotations, if the Instrument is a stock. The statistics of these dates have to
+     * be updated at the end of the scan.
+     *
+     * @param instrument          The Instrument with its quotations stored in the database before the modification.
+     * @param quotations          The quotations that have been modified.
+     * @param includeFollowingDay Indicates if the statistic of the following Quotation of the Instrument is affected as
+     *                            well. This is the case if quotations are created or deleted, because the statistic of
+     *                            a day is based on the previous Quotation.
+     */
+    private void addModifiedStatisticDates(final Instrument instrument, final Collection<Quotation> quotations,
+            final boolean includeFollowingDay) {
+
+        Date followingDate;
+
+        if (instrument.getType() != InstrumentType.STOCK) {
+            return;
+        }
+
+        for (Quotation quotation : quotations) {
+            this.modifiedStatisticDates.add(DateTools.getDateWithoutIntradayAttributes(quotation.getDate()));
+
+            if (!includeFollowingDay) {
+                continue;
+            }
+
+            followingDate = null;
+
+            for (Quotation databaseQuotation : instrument.getQuotations()) {
+                if (databaseQuotation.getDate().after(quotation.getDate())
+                        && (followingDate == null || databaseQuotation.getDate().before(followingDate))) {
+                    followingDate = databaseQuotation.getDate();
+                }
+            }
+
+            if (followingDate != null) {
+                this.modifiedStatisticDates.add(DateTools.getDateWithoutIntradayAttributes(followingDate));
+            }
+        }
+    }
+
     /**
      * Updates the RS number of all instruments that have quotations and an Indicator for the most recent date defined.
      * Separate RS numbers are calculated based on the InstrumentType.
@@ -407,36 +496,49 @@ public class ScanThread extends DataRetrievalThread {
     }
 
     /**
-     * Updates the status field 'progress' of the running scan.
+     * Refreshes the in-memory snapshot of the newest quotations used for the evaluation of scan templates.
+     */
+    private void refreshLatestQuotationSnapshot() {
+        try {
+            this.quotationDAO.refreshLatestQuotationSnapshot();
+        } catch (Exception e) {
+            LOGGER.error("Failed to refresh the snapshot of the newest quotations.", e);
+        }
+    }
+
+    /**
+     * Counts the current Instrument as scanned and updates the status field 'progress' of the running scan.
      *
-     * @param numberOfInstrumentsCompleted The number of instruments that already have been scanned.
-     * @param totalNumberOfInstruments     The total number of instruments of the scan.
+     * The scan is locked during the update, because its incomplete instruments are persisted as well and may be
+     * modified concurrently by the update of other instruments.
      */
-    private void updateScanProgress(final int numberOfInstrumentsCompleted, final int totalNumberOfInstruments) {
+    void updateScanProgress() {
         BigDecimal progress;
         BigDecimal instrumentsCompleted;
         BigDecimal numberOfInstruments;
         int roundedProgress = 0;
         final int hundredPercent = 100;
 
-        instrumentsCompleted = BigDecimal.valueOf(numberOfInstrumentsCompleted);
-        numberOfInstruments = BigDecimal.valueOf(totalNumberOfInstruments);
+        synchronized (this.scan) {
+            instrumentsCompleted = BigDecimal.valueOf(this.instrumentsProcessed.incrementAndGet());
+            numberOfInstruments = BigDecimal.valueOf(this.totalNumberOfInstruments);
 
-        progress = instrumentsCompleted.divide(numberOfInstruments, 2, RoundingMode.HALF_UP);
-        progress = progress.multiply(BigDecimal.valueOf(hundredPercent));
-        roundedProgress = progress.intValue();
+            progress = instrumentsCompleted.divide(numberOfInstruments, 2, RoundingMode.HALF_UP);
+            progress = progress.multiply(BigDecimal.valueOf(hundredPercent));
+            roundedProgress = progress.intValue();
 
-        if (this.scan.getProgress().equals(roundedProgress)) {
-            return;
-        }
+            if (this.scan.getProgress().equals(roundedProgress)) {
+                return;
+            }
 
-        try {
-            this.scan.setProgress(roundedProgress);
-            this.scanDAO.updateScan(this.scan);
-        } catch (ObjectUnchangedException e) {
-            LOGGER.error("Tried to update 'progress' in scan process but value did not change.", e);
-        } catch (Exception e) {
-            LOGGER.error("Failed to update 'progress' of scan during scan process.", e);
+            try {
+                this.scan.setProgress(roundedProgress);
+                this.scanDAO.updateScan(this.scan);
+            } catch (ObjectUnchangedException e) {
+                LOGGER.error("Tried to update 'progress' in scan process but value did not change.", e);
+            } catch (Exception e) {
+                LOGGER.error("Failed to update 'progress' of scan during scan process.", e);
+            }
         }
     }
 
@@ -463,18 +565,87 @@ public class ScanThread extends DataRetrievalThread {
     }
 
     /**
-     * Updates the statistics.
+     * Updates the statistics. If the indicators of the whole trading history have been recalculated, all statistics
+     * are rebuilt. Otherwise only the statistics of the dates whose stock quotations have been modified are updated.
      */
     private void updateStatistics() {
         StatisticCalculationController statisticCalculationController = new StatisticCalculationController();
 
         try {
-            statisticCalculationController.updateStatistic();
+            if (this.fullIndicatorUpdate) {
+                statisticCalculationController.updateStatistic();
+            } else {
+                statisticCalculationController.updateStatistic(this.modifiedStatisticDates);
+            }
         } catch (Exception e) {
             LOGGER.error("Failed to update the statistics.", e);
         }
     }
 
+    /**
+     * Recalculates the health status of all sectors and industry groups that is provided by the dashboard.
+     */
+    private void refreshMarketHealthStatusCache() {
+        try {
+            new DashboardService().refreshMarketHealthStatusCache();
+        } catch (Exception e) {
+            LOGGER.error("Failed to refresh the market health status of sectors and industry groups.", e);
+        }
+    }
+
+    /**
+     * Provides a new Instrument with the ID and the quotations of the given Instrument. The quotations are taken from
+     * the QuotationCache, if the Instrument has already been updated during this scan. Otherwise they are loaded from
+     * the database. Instruments can be referenced by multiple ratios and lists that are updated concurrently. Therefore
+     * the given Instrument itself is not modified.
+     *
+     * @param instrument The Instrument whose quotations are loaded.
+     * @return A new Instrument with the quotations of the given Instrument.
+     * @throws Exception Failed to load the quotations.
+     */
+    private Instrument getInstrumentWithQuotations(final Instrument instrument) throws Exception {
+        Instrument instrumentWithQuotations = new Instrument();
+        List<Quotation> quotations = this.quotationCache.get(instrument.getId());
+
+        if (quotations == null) {
+            quotations = this.quotationDAO.getQuotationsOfInstrument(instrument.getId());
+        }
+
+        instrumentWithQuotations.setId(instrument.getId());
+        instrumentWithQuotations.setQuotations(quotations);
+
+        return instrumentWithQuotations;
+    }
+
+    /**
+     * @param quotationCache the quotationCache to set
+     */
+    void setQuotationCache(final QuotationCache quotationCache) {
+        this.quotationCache = quotationCache;
+    }
+
+    /**
+     * Removes the given Instrument from the incomplete instruments of the scan.
+     *
+     * @param instrument The Instrument that has been updated successfully.
+     */
+    private void setInstrumentComplete(final Instrument instrument) {
+        synchronized (this.scan) {
+            this.scan.getIncompleteInstruments().remove(instrument);
+        }
+    }
+
+    /**
+     * Adds the given Instrument to the incomplete instruments of the scan.
+     *
+     * @param instrument The Instrument whose update failed.
+     */
+    private void setInstrumentIncomplete(final Instrument instrument) {
+        synchronized (this.scan) {
+            this.scan.addIncompleteInstrument(instrument);
+        }
+    }
+
     /**
      * Checks the age of the newest Quotation. Logs a message if the newest Quotation is older than dayThreshold days.
      *
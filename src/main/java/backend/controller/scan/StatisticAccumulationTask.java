@@ -0,0 +1,105 @@
+package backend.controller.scan;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import backend.model.instrument.Instrument;
+import backend.model.statistic.StatisticArray;
+
+/**
+ * Accumulates the statistics of a range of instruments on a ForkJoinPool. Ranges larger than a threshold are split in
+ * half and processed in parallel. Each task accumulates into its own StatisticArray; the results of both halves are
+ * merged afterwards. Therefore no synchronization is needed during accumulation.
+ *
+ * @author Michael
+ */
+public class StatisticAccumulationTask extends RecursiveTask<StatisticArray> {
+    /**
+     * Default serialization ID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of instruments that are processed by a single task without splitting.
+     */
+    private static final int THRESHOLD = 16;
+
+    /**
+     * The controller that calculates the statistics of a single Instrument.
+     */
+    private final transient StatisticCalculationController controller;
+
+    /**
+     * The instruments with their quotations.
+     */
+    private final transient List<Instrument> instruments;
+
+    /**
+     * The index of the first Instrument of the range.
+     */
+    private final int fromIndex;
+
+    /**
+     * The index after the last Instrument of the range.
+     */
+    private final int toIndex;
+
+    /**
+     * Indicates if sector and industry group specific statistics are calculated as well.
+     */
+    private final boolean enhanced;
+
+    /**
+     * Initializes the StatisticAccumulationTask.
+     *
+     * @param controller  The controller that calculates the statistics of a single Instrument.
+     * @param instruments The instruments with their quotations.
+     * @param fromIndex   The index of the first Instrument of the range.
+     * @param toIndex     The index after the last Instrument of the range.
+     * @param enhanced    Indicates if sector and industry group specific statistics are calculated as well.
+     */
+    public StatisticAccumulationTask(final StatisticCalculationController controller,
+            final List<Instrument> instruments, final int fromIndex, final int toIndex, final boolean enhanced) {
+
+        this.controller = controller;
+        this.instruments = instruments;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.enhanced = enhanced;
+    }
+
+    /**
+     * Accumulates the statistics of the range of instruments.
+     *
+     * @return The statistics of the range.
+     */
+    @Override
+    protected StatisticArray compute() {
+        StatisticArray statistics;
+        StatisticAccumulationTask firstHalf;
+        StatisticAccumulationTask secondHalf;
+        int middleIndex;
+
+        if (this.toIndex - this.fromIndex <= THRESHOLD) {
+            statistics = new StatisticArray();
+
+            for (int i = this.fromIndex; i < this.toIndex; i++) {
+                this.controller.accumulateStatistics(statistics, this.instruments.get(i), this.enhanced);
+            }
+
+            return statistics;
+        }
+
+        middleIndex = (this.fromIndex + this.toIndex) >>> 1;
+        firstHalf = new StatisticAccumulationTask(this.controller, this.instruments, this.fromIndex, middleIndex,
+                this.enhanced);
+        secondHalf = new StatisticAccumulationTask(this.controller, this.instruments, middleIndex, this.toIndex,
+                this.enhanced);
+
+        firstHalf.fork();
+        statistics = secondHalf.compute();
+        this.controller.mergeStatistics(statistics, firstHalf.join());
+
+        return statistics;
+    }
+}
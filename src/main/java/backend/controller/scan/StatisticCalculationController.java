@@ -1,11 +1,17 @@
 package backend.controller.scan;
 
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import backend.calculator.StatisticCalculator;
 import backend.dao.DAOManager;
-import backend.dao.ObjectUnchangedException;
 import backend.dao.instrument.InstrumentDAO;
 import backend.dao.quotation.persistence.QuotationDAO;
 import backend.dao.statistic.StatisticDAO;
@@ -19,9 +25,18 @@ import backend.tools.DateTools;
 /**
  * Controls the creation and update of statistical data.
  *
+ * After a scan the statistics are updated incrementally: Only the statistics of the dates whose quotations have been
+ * modified are recalculated. A full rebuild of all statistics is available as well.
+ *
  * @author Michael
  */
 public class StatisticCalculationController {
+    /**
+     * The number of days before the oldest date of an incremental update from which quotations are loaded. The
+     * previous Quotation of a stock has to be within this period in order to take the stock into account.
+     */
+    private static final int LOOKBACK_DAYS = 30;
+
     /**
      * DAO to access Instrument data.
      */
@@ -54,7 +69,8 @@ public class StatisticCalculationController {
     }
 
     /**
-     * Updates the statistic that is persisted in the database.
+     * Rebuilds the statistic that is persisted in the database. The statistics of all days are recalculated based on
+     * the whole trading history of all stocks.
      *
      * @throws Exception Statistic calculation or database access failed.
      */
@@ -64,44 +80,94 @@ public class StatisticCalculationController {
 
         stocks = instrumentDAO.getInstruments(InstrumentType.STOCK);
         statisticNew = this.calculateEnhancedStatistics(stocks);
-        this.persistStatistics(statisticNew);
+        this.persistStatistics(statisticNew, statisticDAO.getStatisticsOfInstrumentType(InstrumentType.STOCK));
     }
 
     /**
-     * Calculates the statistics based on the given instruments. For each day only one Statistic is being created. The
-     * referenced sector or industry group of an Instrument is not taken into account.
+     * Updates the statistic that is persisted in the database incrementally. Only the statistics of the given dates are
+     * recalculated and persisted. The statistics of all other dates remain unchanged.
      *
-     * @param instruments         The instruments for which the statistics are to be calculated.
-     * @param requestedStatistics The number of statistics requested. If set to null, all are calculated.
-     * @return The statistics.
+     * @param modifiedDates The dates whose quotations have been created, deleted or modified.
+     * @throws Exception Statistic calculation or database access failed.
+     */
+    public void updateStatistic(final Set<Date> modifiedDates) throws Exception {
+        Set<Date> dates = new HashSet<>();
+        List<Statistic> statisticNew;
+
+        if (modifiedDates.isEmpty()) {
+            return;
+        }
+
+        for (Date modifiedDate : modifiedDates) {
+            dates.add(DateTools.getDateWithoutIntradayAttributes(modifiedDate));
+        }
+
+        statisticNew = this.calculateEnhancedStatistics(dates);
+        this.persistStatistics(statisticNew, statisticDAO.getStatisticsOfDates(InstrumentType.STOCK, dates));
+    }
+
+    /**
+     * Calculates the statistics of the given dates based on all stocks. Only the quotations of a limited period are
+     * loaded: The period starts LOOKBACK_DAYS before the oldest date in order to determine the previous Quotation of
+     * each stock.
+     *
+     * @param dates The dates without intraday attributes whose statistics are calculated.
+     * @return The statistics including the sector and industry group specific statistics.
      * @throws Exception Statistic calculation failed.
      */
-    public List<Statistic> calculateStatistics(final List<Instrument> instruments, final Integer requestedStatistics)
-            throws Exception {
+    public List<Statistic> calculateEnhancedStatistics(final Set<Date> dates) throws Exception {
         StatisticArray statistics = new StatisticArray();
-        List<Quotation> quotationsSortedByDate;
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
+        Calendar startDate = Calendar.getInstance();
+        Quotation currentQuotation;
         Quotation previousQuotation;
-        int currentQuotationIndex;
-        List<Statistic> sortedStatistics;
 
-        for (Instrument instrument : instruments) {
-            instrument.setQuotations(quotationDAO.getQuotationsOfInstrument(instrument.getId()));
-            quotationsSortedByDate = instrument.getQuotationsSortedByDate();
+        if (dates.isEmpty()) {
+            return statistics.getStatistics();
+        }
+
+        startDate.setTime(Collections.min(dates));
+        startDate.add(Calendar.DAY_OF_YEAR, -LOOKBACK_DAYS);
+        quotationsOfInstruments = this.quotationDAO.getQuotationsOfInstrumentType(InstrumentType.STOCK,
+                startDate.getTime());
 
-            for (Quotation currentQuotation : quotationsSortedByDate) {
-                currentQuotationIndex = quotationsSortedByDate.indexOf(currentQuotation);
+        for (List<Quotation> quotationsSortedByDate : quotationsOfInstruments.values()) {
+            // The oldest Quotation only serves as previous Quotation.
+            for (int i = 0; i < quotationsSortedByDate.size() - 1; i++) {
+                currentQuotation = quotationsSortedByDate.get(i);
 
-                // Stop Statistic calculation for the current Instrument if no previous Quotation exists.
-                if (currentQuotationIndex == (quotationsSortedByDate.size() - 1)) {
-                    break;
+                if (!dates.contains(DateTools.getDateWithoutIntradayAttributes(currentQuotation.getDate()))) {
+                    continue;
                 }
 
-                previousQuotation = quotationsSortedByDate.get(currentQuotationIndex + 1);
-                this.calculateGeneralStatistic(statistics, currentQuotation, previousQuotation, instrument);
+                previousQuotation = quotationsSortedByDate.get(i + 1);
+
+                this.calculateGeneralStatistic(statistics, currentQuotation, previousQuotation,
+                        currentQuotation.getInstrument());
+                this.calculateSectorStatistic(statistics, currentQuotation, previousQuotation,
+                        currentQuotation.getInstrument());
+                this.calculateIndustryGroupStatistic(statistics, currentQuotation, previousQuotation,
+                        currentQuotation.getInstrument());
             }
         }
 
-        sortedStatistics = statistics.getStatisticsSortedByDate();
+        return statistics.getStatisticsSortedByDate();
+    }
+
+    /**
+     * Calculates the statistics based on the given instruments. For each day only one Statistic is being created. The
+     * referenced sector or industry group of an Instrument is not taken into account.
+     *
+     * @param instruments         The instruments for which the statistics are to be calculated.
+     * @param requestedStatistics The number of statistics requested. If set to null, all are calculated.
+     * @return The statistics.
+     * @throws Exception Statistic calculation failed.
+     */
+    public List<Statistic> calculateStatistics(final List<Instrument> instruments, final Integer requestedStatistics)
+            throws Exception {
+        List<Statistic> sortedStatistics;
+
+        sortedStatistics = this.accumulateStatistics(instruments, false).getStatisticsSortedByDate();
         if (requestedStatistics != null && sortedStatistics.size() > requestedStatistics) {
             sortedStatistics = sortedStatistics.subList(0, requestedStatistics);
         }
@@ -168,32 +234,107 @@ public class StatisticCalculationController {
      * @throws Exception Statistic calculation failed.
      */
     private List<Statistic> calculateEnhancedStatistics(final List<Instrument> instruments) throws Exception {
-        StatisticArray statistics = new StatisticArray();
-        List<Quotation> quotationsSortedByDate;
-        Quotation previousQuotation;
-        int currentQuotationIndex;
+        return this.accumulateStatistics(instruments, true).getStatisticsSortedByDate();
+    }
+
+    /**
+     * Loads the quotations of the given instruments in bulk and accumulates their statistics in parallel on the common
+     * ForkJoinPool. The quotations are provided by the DAO sorted by date, newest first.
+     *
+     * @param instruments The instruments for which the statistics are to be calculated.
+     * @param enhanced    Indicates if sector and industry group specific statistics are calculated as well.
+     * @return The statistics.
+     * @throws Exception Statistic calculation failed.
+     */
+    private StatisticArray accumulateStatistics(final List<Instrument> instruments, final boolean enhanced)
+            throws Exception {
+        Set<Integer> instrumentIds = new HashSet<>();
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
 
         for (Instrument instrument : instruments) {
-            instrument.setQuotations(quotationDAO.getQuotationsOfInstrument(instrument.getId()));
-            quotationsSortedByDate = instrument.getQuotationsSortedByDate();
+            instrumentIds.add(instrument.getId());
+        }
 
-            for (Quotation currentQuotation : quotationsSortedByDate) {
-                currentQuotationIndex = quotationsSortedByDate.indexOf(currentQuotation);
+        quotationsOfInstruments = this.quotationDAO.getQuotationsOfInstruments(instrumentIds, null);
 
-                // Stop Statistic calculation for the current Instrument if no previous Quotation exists.
-                if (currentQuotationIndex == (quotationsSortedByDate.size() - 1)) {
-                    break;
-                }
+        for (Instrument instrument : instruments) {
+            instrument.setQuotations(quotationsOfInstruments.get(instrument.getId()));
+        }
 
-                previousQuotation = quotationsSortedByDate.get(currentQuotationIndex + 1);
+        return ForkJoinPool.commonPool()
+                .invoke(new StatisticAccumulationTask(this, instruments, 0, instruments.size(), enhanced));
+    }
 
-                this.calculateGeneralStatistic(statistics, currentQuotation, previousQuotation, instrument);
+    /**
+     * Accumulates the statistics of all quotations of the given Instrument.
+     *
+     * @param statistics The StatisticArray containing all statistics that have been calculated so far.
+     * @param instrument The Instrument with its quotations sorted by date, newest first.
+     * @param enhanced   Indicates if sector and industry group specific statistics are calculated as well.
+     */
+    void accumulateStatistics(final StatisticArray statistics, final Instrument instrument, final boolean enhanced) {
+        List<Quotation> quotationsSortedByDate = instrument.getQuotations();
+        Quotation currentQuotation;
+        Quotation previousQuotation;
+
+        // The oldest Quotation has no previous Quotation and therefore only serves as previous Quotation.
+        for (int i = 0; i < quotationsSortedByDate.size() - 1; i++) {
+            currentQuotation = quotationsSortedByDate.get(i);
+            previousQuotation = quotationsSortedByDate.get(i + 1);
+
+            this.calculateGeneralStatistic(statistics, currentQuotation, previousQuotation, instrument);
+
+            if (enhanced) {
                 this.calculateSectorStatistic(statistics, currentQuotation, previousQuotation, instrument);
                 this.calculateIndustryGroupStatistic(statistics, currentQuotation, previousQuotation, instrument);
             }
         }
+    }
 
-        return statistics.getStatisticsSortedByDate();
+    /**
+     * Merges the given statistics into the target statistics. The values of statistics with the same day, sector and
+     * industry group are added up.
+     *
+     * @param target The statistics into which is merged.
+     * @param source The statistics that are merged.
+     */
+    void mergeStatistics(final StatisticArray target, final StatisticArray source) {
+        Statistic targetStatistic;
+
+        for (Statistic sourceStatistic : source.getStatistics()) {
+            targetStatistic = target.getStatistic(sourceStatistic.getDate(), sourceStatistic.getSectorId(),
+                    sourceStatistic.getIndustryGroupId());
+
+            if (targetStatistic == null) {
+                target.addStatistic(sourceStatistic);
+                continue;
+            }
+
+            targetStatistic.setNumberOfInstruments(
+                    targetStatistic.getNumberOfInstruments() + sourceStatistic.getNumberOfInstruments());
+            targetStatistic.setNumberAdvance(targetStatistic.getNumberAdvance() + sourceStatistic.getNumberAdvance());
+            targetStatistic.setNumberDecline(targetStatistic.getNumberDecline() + sourceStatistic.getNumberDecline());
+            targetStatistic.setNumberAboveSma50(
+                    targetStatistic.getNumberAboveSma50() + sourceStatistic.getNumberAboveSma50());
+            targetStatistic.setNumberAtOrBelowSma50(
+                    targetStatistic.getNumberAtOrBelowSma50() + sourceStatistic.getNumberAtOrBelowSma50());
+            targetStatistic.setNumberAboveSma200(
+                    targetStatistic.getNumberAboveSma200() + sourceStatistic.getNumberAboveSma200());
+            targetStatistic.setNumberAtOrBelowSma200(
+                    targetStatistic.getNumberAtOrBelowSma200() + sourceStatistic.getNumberAtOrBelowSma200());
+            targetStatistic.setNumberRitterMarketTrend(
+                    targetStatistic.getNumberRitterMarketTrend() + sourceStatistic.getNumberRitterMarketTrend());
+            targetStatistic.setNumberUpOnVolume(
+                    targetStatistic.getNumberUpOnVolume() + sourceStatistic.getNumberUpOnVolume());
+            targetStatistic.setNumberDownOnVolume(
+                    targetStatistic.getNumberDownOnVolume() + sourceStatistic.getNumberDownOnVolume());
+            targetStatistic.setNumberBearishReversal(
+                    targetStatistic.getNumberBearishReversal() + sourceStatistic.getNumberBearishReversal());
+            targetStatistic.setNumberBullishReversal(
+                    targetStatistic.getNumberBullishReversal() + sourceStatistic.getNumberBullishReversal());
+            targetStatistic.setNumberChurning(
+                    targetStatistic.getNumberChurning() + sourceStatistic.getNumberChurning());
+        }
     }
 
     /**
@@ -320,37 +461,25 @@ public class StatisticCalculationController {
     /**
      * Persists statistics to the database.
      *
-     * @param newStatistics The new statistics that have been calculated during runtime based on the current database
-     *                      state of quotation data.
+     * @param newStatistics      The new statistics that have been calculated during runtime based on the current
+     *                           database state of quotation data.
+     * @param statisticsDatabase The database state of the statistics that are replaced by the new statistics.
+     *                           Statistics that have no new counterpart are deleted.
      * @throws Exception In case persisting failed.
      */
-    private void persistStatistics(final List<Statistic> newStatistics) throws Exception {
-        List<Statistic> statisticsDatabase;
+    private void persistStatistics(final List<Statistic> newStatistics, final List<Statistic> statisticsDatabase)
+            throws Exception {
         List<Statistic> statisticsForInsertion;
         List<Statistic> statisticsForUpdate;
         List<Statistic> statisticsForDeletion;
 
-        statisticsDatabase = statisticDAO.getStatisticsOfInstrumentType(InstrumentType.STOCK);
-
         statisticsForInsertion = this.getStatisticsForInsertion(newStatistics, statisticsDatabase);
         statisticsForDeletion = this.getStatisticsForDeletion(newStatistics, statisticsDatabase);
         statisticsForUpdate = this.getStatisticsForUpdate(newStatistics, statisticsDatabase);
 
-        for (Statistic insertStatistic : statisticsForInsertion) {
-            statisticDAO.insertStatistic(insertStatistic);
-        }
-
-        for (Statistic deleteStatistic : statisticsForDeletion) {
-            statisticDAO.deleteStatistic(deleteStatistic);
-        }
-
-        for (Statistic updateStatistic : statisticsForUpdate) {
-            try {
-                statisticDAO.updateStatistic(updateStatistic);
-            } catch (ObjectUnchangedException objectUnchangedException) {
-                // No changes to be persisted. Just continue with the next Statistic.
-            }
-        }
+        statisticsForInsertion.addAll(statisticsForUpdate);
+        statisticDAO.upsertStatistics(statisticsForInsertion);
+        statisticDAO.deleteStatistics(statisticsForDeletion);
     }
 
     /**
@@ -429,21 +558,16 @@ public class StatisticCalculationController {
             databaseStatistic = databaseStatisticArray.getStatistic(newStatistic.getDate(), newStatistic.getSectorId(),
                     newStatistic.getIndustryGroupId());
 
-            if (databaseStatistic != null) {
-                databaseStatistic.setNumberOfInstruments(newStatistic.getNumberOfInstruments());
-                databaseStatistic.setNumberAdvance(newStatistic.getNumberAdvance());
-                databaseStatistic.setNumberDecline(newStatistic.getNumberDecline());
-                databaseStatistic.setNumberAboveSma50(newStatistic.getNumberAboveSma50());
-                databaseStatistic.setNumberAtOrBelowSma50(newStatistic.getNumberAtOrBelowSma50());
-                databaseStatistic.setNumberAboveSma200(newStatistic.getNumberAboveSma200());
-                databaseStatistic.setNumberAtOrBelowSma200(newStatistic.getNumberAtOrBelowSma200());
-                databaseStatistic.setNumberRitterMarketTrend(newStatistic.getNumberRitterMarketTrend());
-                databaseStatistic.setNumberUpOnVolume(newStatistic.getNumberUpOnVolume());
-                databaseStatistic.setNumberDownOnVolume(newStatistic.getNumberDownOnVolume());
-                databaseStatistic.setNumberBearishReversal(newStatistic.getNumberBearishReversal());
-                databaseStatistic.setNumberBullishReversal(newStatistic.getNumberBullishReversal());
-                databaseStatistic.setNumberChurning(newStatistic.getNumberChurning());
-                statisticUpdate.add(databaseStatistic);
+            if (databaseStatistic == null) {
+                continue;
+            }
+
+            // The new Statistic takes the place of the database Statistic. Unchanged statistics are not updated.
+            newStatistic.setId(databaseStatistic.getId());
+            newStatistic.setDate(databaseStatistic.getDate());
+
+            if (!newStatistic.equals(databaseStatistic)) {
+                statisticUpdate.add(newStatistic);
             }
         }
 
@@ -3,6 +3,7 @@ package backend.dao;
 import java.io.Closeable;
 import java.io.IOException;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
@@ -20,6 +21,7 @@ import backend.dao.scan.ScanDAO;
 import backend.dao.scan.ScanHibernateDAO;
 import backend.dao.statistic.StatisticDAO;
 import backend.dao.statistic.StatisticHibernateDAO;
+import backend.model.statistic.Statistic;
 
 /**
  * Manages a central database connection and provides DAOs for database access.
@@ -72,11 +74,17 @@ public final class DAOManager implements Closeable {
      */
     private ChartObjectDAO chartObjectDAO;
 
+    /**
+     * Checks the indexes of the database.
+     */
+    private DatabaseIndexCheck databaseIndexCheck;
+
     /**
      * Initializes the DAOManager.
      */
     private DAOManager() {
         this.sessionFactory = this.getSessionFactory();
+        this.applyDatabaseSettings();
     }
 
     /**
@@ -102,6 +110,52 @@ public final class DAOManager implements Closeable {
         return Persistence.createEntityManagerFactory("my-persistence-unit");
     }
 
+    /**
+     * Applies settings to the database that are needed by the persistence model.
+     *
+     * Unique constraints have to treat null values as equal. Otherwise the unique constraint of the STATISTIC table is
+     * never violated, because each Statistic has no sector or no industry group. The URL property "sql.unique_nulls"
+     * only applies to newly created databases. Therefore the setting is applied to existing databases explicitly.
+     *
+     * The schema generation only creates the unique constraint of the STATISTIC table on a new table. Databases that
+     * have been created before the constraint was introduced get the constraint added here. Duplicate statistics that
+     * would violate the constraint are deleted beforehand, keeping the oldest Statistic of each key.
+     */
+    private void applyDatabaseSettings() {
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        Number numberOfConstraints;
+
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.createNativeQuery("SET DATABASE SQL UNIQUE NULLS FALSE").executeUpdate();
+
+            numberOfConstraints = (Number) entityManager
+                    .createNativeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                            + "WHERE TABLE_NAME = 'STATISTIC' AND CONSTRAINT_NAME = :constraintName")
+                    .setParameter("constraintName", Statistic.UNIQUE_KEY).getSingleResult();
+
+            if (numberOfConstraints.intValue() == 0) {
+                entityManager.createNativeQuery("DELETE FROM STATISTIC s WHERE EXISTS (SELECT 1 FROM STATISTIC o "
+                        + "WHERE o.INSTRUMENT_TYPE = s.INSTRUMENT_TYPE AND o.DATE = s.DATE "
+                        + "AND o.SECTOR_ID IS NOT DISTINCT FROM s.SECTOR_ID "
+                        + "AND o.INDUSTRY_GROUP_ID IS NOT DISTINCT FROM s.INDUSTRY_GROUP_ID "
+                        + "AND o.STATISTIC_ID < s.STATISTIC_ID)").executeUpdate();
+                entityManager.createNativeQuery("ALTER TABLE STATISTIC ADD CONSTRAINT " + Statistic.UNIQUE_KEY
+                        + " UNIQUE (INSTRUMENT_TYPE, DATE, SECTOR_ID, INDUSTRY_GROUP_ID)").executeUpdate();
+            }
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+    }
+
     /**
      * Returns a DAO to manage PriceAlert data.
      *
@@ -193,6 +247,19 @@ public final class DAOManager implements Closeable {
         return this.chartObjectDAO;
     }
 
+    /**
+     * Returns a check for the indexes defined by the persistence model.
+     *
+     * @return The DatabaseIndexCheck.
+     */
+    public DatabaseIndexCheck getDatabaseIndexCheck() {
+        if (this.databaseIndexCheck == null) {
+            this.databaseIndexCheck = new DatabaseIndexCheck(this.sessionFactory);
+        }
+
+        return this.databaseIndexCheck;
+    }
+
     @Override
     public void close() throws IOException {
         try {
@@ -0,0 +1,140 @@
+package backend.dao;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+
+/**
+ * Checks if the indexes defined by the persistence model exist in the database.
+ *
+ * @author Michael
+ */
+public class DatabaseIndexCheck {
+    /**
+     * Factory for database session.
+     */
+    private EntityManagerFactory sessionFactory;
+
+    /**
+     * Initializes the DatabaseIndexCheck.
+     *
+     * @param sessionFactory The database session factory.
+     */
+    public DatabaseIndexCheck(final EntityManagerFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * Determines all indexes that are defined by the persistence model but do not exist in the database.
+     *
+     * @return The missing indexes in the format TABLE.INDEX. The List is empty, if all indexes exist.
+     * @throws Exception Index determination failed.
+     */
+    public List<String> getMissingIndexes() throws Exception {
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        List<String> missingIndexes = new ArrayList<>();
+
+        try {
+            for (EntityType<?> entityType : this.sessionFactory.getMetamodel().getEntities()) {
+                Table table = entityType.getJavaType().getAnnotation(Table.class);
+
+                if (table == null || table.indexes().length == 0) {
+                    continue;
+                }
+
+                Set<String> existingIndexes = this.getExistingIndexes(entityManager, table.name());
+
+                for (Index index : table.indexes()) {
+                    if (!existingIndexes.contains(index.name().toUpperCase(Locale.ROOT))) {
+                        missingIndexes.add(table.name() + "." + index.name());
+                    }
+                }
+            }
+        } finally {
+            entityManager.close();
+        }
+
+        return missingIndexes;
+    }
+
+    /**
+     * Provides the execution plan the database determines for the given native SQL query.
+     *
+     * @param nativeQuery The native SQL query.
+     * @return The execution plan.
+     * @throws Exception Plan determination failed.
+     */
+    public String getQueryPlan(final String nativeQuery) throws Exception {
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+
+        try {
+            return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                StringBuilder plan = new StringBuilder();
+
+                try (Statement statement = connection.createStatement();
+                        ResultSet resultSet = statement.executeQuery("EXPLAIN PLAN FOR " + nativeQuery)) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append(System.lineSeparator());
+                    }
+                }
+
+                return plan.toString();
+            });
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Determines the names of all indexes that exist in the database for the given table.
+     *
+     * @param entityManager The EntityManager providing the database connection.
+     * @param tableName     The name of the table.
+     * @return The names of the indexes in upper case.
+     */
+    private Set<String> getExistingIndexes(final EntityManager entityManager, final String tableName) {
+        return entityManager.unwrap(Session.class).doReturningWork((Connection connection) -> {
+            Set<String> indexNames = new HashSet<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            try (ResultSet resultSet = metaData.getIndexInfo(null, null, tableName.toUpperCase(Locale.ROOT), false,
+                    true)) {
+                while (resultSet.next()) {
+                    this.addIndexName(indexNames, resultSet);
+                }
+            }
+
+            return indexNames;
+        });
+    }
+
+    /**
+     * Adds the index name of the current row of the given index information to the set of names.
+     *
+     * @param indexNames The set of index names.
+     * @param indexInfo  The index information as provided by DatabaseMetaData.getIndexInfo.
+     * @throws SQLException Failed to read the index information.
+     */
+    private void addIndexName(final Set<String> indexNames, final ResultSet indexInfo) throws SQLException {
+        String indexName = indexInfo.getString("INDEX_NAME");
+
+        if (indexName != null) {
+            indexNames.add(indexName.toUpperCase(Locale.ROOT));
+        }
+    }
+}
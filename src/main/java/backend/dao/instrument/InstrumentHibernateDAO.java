@@ -11,7 +11,6 @@ import backend.model.StockExchange;
 import backend.model.chart.HorizontalLine;
 import backend.model.instrument.Instrument;
 import backend.model.instrument.InstrumentType;
-import backend.model.instrument.Quotation;
 import backend.model.priceAlert.PriceAlert;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
@@ -264,13 +263,15 @@ public class InstrumentHibernateDAO implements InstrumentDAO {
     @SuppressWarnings("unchecked")
     private void checkQuotationsExist(final Instrument instrument, final EntityManager entityManager)
             throws LocalizedException {
-        Query query = entityManager.createQuery("SELECT q FROM Quotation q WHERE q.instrument.id = :instrumentId");
-        List<Quotation> quotations;
+        Query query = entityManager.createQuery("SELECT q.id FROM Quotation q WHERE q.instrument.id = :instrumentId");
+        List<Integer> quotationIds;
 
+        // A single Quotation ID suffices. It is read from the index on INSTRUMENT_ID and DATE.
         query.setParameter("instrumentId", instrument.getId());
-        quotations = query.getResultList();
+        query.setMaxResults(1);
+        quotationIds = query.getResultList();
 
-        if (quotations.size() > 0) {
+        if (quotationIds.size() > 0) {
             throw new LocalizedException("instrument.deleteUsedInQuotation", instrument.getId());
         }
     }
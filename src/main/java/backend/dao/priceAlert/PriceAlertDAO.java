@@ -77,4 +77,24 @@ public interface PriceAlertDAO {
      * @throws Exception                Price alert update failed.
      */
     void updatePriceAlert(PriceAlert priceAlert) throws ObjectUnchangedException, LocalizedException, Exception;
+
+    /**
+     * Updates the results of checking the given price alerts against current stock quotes in a single transaction.
+     * Only the last stock quote time, the trigger distance, the trigger time and the mail transmission time are
+     * updated. Price alerts that have been deleted or triggered in the meantime are skipped.
+     *
+     * @param priceAlerts The checked price alerts.
+     * @return The checked price alerts that have been persisted.
+     * @throws Exception Price alert update failed.
+     */
+    List<PriceAlert> updateStockQuoteData(List<PriceAlert> priceAlerts) throws Exception;
+
+    /**
+     * Updates the mail transmission time of the given price alerts in a single transaction. Price alerts that have
+     * been deleted in the meantime are skipped.
+     *
+     * @param priceAlerts The price alerts whose mail has been sent.
+     * @throws Exception Price alert update failed.
+     */
+    void updateMailTransmissionTime(List<PriceAlert> priceAlerts) throws Exception;
 }
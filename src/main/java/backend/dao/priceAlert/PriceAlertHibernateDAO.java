@@ -23,12 +23,19 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
+import org.hibernate.Session;
+
 /**
  * Provides access to price alert database persistence using Hibernate.
  *
  * @author Michael
  */
 public class PriceAlertHibernateDAO implements PriceAlertDAO {
+    /**
+     * The number of statements that are sent to the database in a single JDBC batch.
+     */
+    private static final int JDBC_BATCH_SIZE = 500;
+
     /**
      * Factory for database session.
      */
@@ -212,6 +219,118 @@ public class PriceAlertHibernateDAO implements PriceAlertDAO {
         entityManager.close();
     }
 
+    /**
+     * Updates the results of checking the given price alerts against current stock quotes.
+     */
+    @Override
+    public List<PriceAlert> updateStockQuoteData(final List<PriceAlert> priceAlerts) throws Exception {
+        EntityManager entityManager;
+        Map<Integer, PriceAlert> checkedPriceAlerts = new HashMap<>();
+        List<PriceAlert> databasePriceAlerts;
+        List<PriceAlert> updatedPriceAlerts = new ArrayList<>();
+        PriceAlert checkedPriceAlert;
+
+        if (priceAlerts.isEmpty()) {
+            return updatedPriceAlerts;
+        }
+
+        for (PriceAlert priceAlert : priceAlerts) {
+            checkedPriceAlerts.put(priceAlert.getId(), priceAlert);
+        }
+
+        entityManager = this.sessionFactory.createEntityManager();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        try {
+            entityManager.getTransaction().begin();
+
+            databasePriceAlerts = entityManager
+                    .createQuery("SELECT p FROM PriceAlert p WHERE p.id IN :ids", PriceAlert.class)
+                    .setParameter("ids", checkedPriceAlerts.keySet()).getResultList();
+
+            // The managed price alerts are changed. The updates are sent in batches on commit.
+            for (PriceAlert databasePriceAlert : databasePriceAlerts) {
+                checkedPriceAlert = checkedPriceAlerts.get(databasePriceAlert.getId());
+
+                if (databasePriceAlert.getTriggerTime() != null) {
+                    continue;
+                }
+
+                this.copyStockQuoteData(checkedPriceAlert, databasePriceAlert);
+                updatedPriceAlerts.add(checkedPriceAlert);
+            }
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+
+        return updatedPriceAlerts;
+    }
+
+    /**
+     * Copies the results of a stock quote check from the source PriceAlert to the target PriceAlert.
+     *
+     * @param source The checked PriceAlert.
+     * @param target The PriceAlert that is updated.
+     */
+    private void copyStockQuoteData(final PriceAlert source, final PriceAlert target) {
+        target.setLastStockQuoteTime(source.getLastStockQuoteTime());
+        target.setTriggerDistancePercent(source.getTriggerDistancePercent());
+        target.setTriggerTime(source.getTriggerTime());
+        target.setMailTransmissionTime(source.getMailTransmissionTime());
+    }
+
+    /**
+     * Updates the mail transmission time of the given price alerts.
+     */
+    @Override
+    public void updateMailTransmissionTime(final List<PriceAlert> priceAlerts) throws Exception {
+        EntityManager entityManager;
+        Map<Integer, PriceAlert> mailedPriceAlerts = new HashMap<>();
+        List<PriceAlert> databasePriceAlerts;
+
+        if (priceAlerts.isEmpty()) {
+            return;
+        }
+
+        for (PriceAlert priceAlert : priceAlerts) {
+            mailedPriceAlerts.put(priceAlert.getId(), priceAlert);
+        }
+
+        entityManager = this.sessionFactory.createEntityManager();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        try {
+            entityManager.getTransaction().begin();
+
+            databasePriceAlerts = entityManager
+                    .createQuery("SELECT p FROM PriceAlert p WHERE p.id IN :ids", PriceAlert.class)
+                    .setParameter("ids", mailedPriceAlerts.keySet()).getResultList();
+
+            for (PriceAlert databasePriceAlert : databasePriceAlerts) {
+                databasePriceAlert.setMailTransmissionTime(
+                        mailedPriceAlerts.get(databasePriceAlert.getId()).getMailTransmissionTime());
+            }
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+    }
+
     /**
      * Checks if the data of the given price alert differ from the price alert that is persisted at database level.
      *
@@ -0,0 +1,209 @@
+package backend.dao.quotation.persistence;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * A read-only, column-oriented trading history of multiple instruments. For each Quotation the ID, the date and the
+ * closing price are held in arrays of primitives. The quotations of an Instrument are stored consecutively and sorted
+ * by date in ascending order.
+ *
+ * The dates are represented as day numbers, which are the number of days since 1970-01-01.
+ *
+ * @author Michael
+ */
+public class ClosingPriceHistory {
+    /**
+     * The initial capacity of the arrays.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * The IDs of the quotations.
+     */
+    private int[] quotationIds;
+
+    /**
+     * The dates of the quotations as day numbers.
+     */
+    private int[] dayNumbers;
+
+    /**
+     * The closing prices.
+     */
+    private double[] closingPrices;
+
+    /**
+     * The IDs of the instruments.
+     */
+    private int[] instrumentIds;
+
+    /**
+     * The index of the first Quotation of each Instrument. The last entry marks the end of the last Instrument.
+     */
+    private int[] instrumentStartIndexes;
+
+    /**
+     * The number of quotations.
+     */
+    private int numberOfQuotations;
+
+    /**
+     * The number of instruments.
+     */
+    private int numberOfInstruments;
+
+    /**
+     * Initializes an empty ClosingPriceHistory.
+     */
+    public ClosingPriceHistory() {
+        this.quotationIds = new int[INITIAL_CAPACITY];
+        this.dayNumbers = new int[INITIAL_CAPACITY];
+        this.closingPrices = new double[INITIAL_CAPACITY];
+        this.instrumentIds = new int[INITIAL_CAPACITY];
+        this.instrumentStartIndexes = new int[INITIAL_CAPACITY + 1];
+    }
+
+    /**
+     * Adds a Quotation. The quotations have to be added ordered by Instrument and date.
+     *
+     * @param instrumentId The ID of the Instrument.
+     * @param quotationId  The ID of the Quotation.
+     * @param date         The date of the Quotation.
+     * @param closingPrice The closing price of the Quotation.
+     */
+    public void addQuotation(final int instrumentId, final int quotationId, final Date date,
+            final BigDecimal closingPrice) {
+
+        if (this.numberOfInstruments == 0 || this.instrumentIds[this.numberOfInstruments - 1] != instrumentId) {
+            this.addInstrument(instrumentId);
+        }
+
+        if (this.numberOfQuotations == this.quotationIds.length) {
+            this.quotationIds = Arrays.copyOf(this.quotationIds, this.numberOfQuotations * 2);
+            this.dayNumbers = Arrays.copyOf(this.dayNumbers, this.numberOfQuotations * 2);
+            this.closingPrices = Arrays.copyOf(this.closingPrices, this.numberOfQuotations * 2);
+        }
+
+        this.quotationIds[this.numberOfQuotations] = quotationId;
+        this.dayNumbers[this.numberOfQuotations] = getDayNumber(date);
+        this.closingPrices[this.numberOfQuotations] = closingPrice.doubleValue();
+        this.numberOfQuotations++;
+        this.instrumentStartIndexes[this.numberOfInstruments] = this.numberOfQuotations;
+    }
+
+    /**
+     * Starts the trading history of a new Instrument.
+     *
+     * @param instrumentId The ID of the Instrument.
+     */
+    private void addInstrument(final int instrumentId) {
+        if (this.numberOfInstruments == this.instrumentIds.length) {
+            this.instrumentIds = Arrays.copyOf(this.instrumentIds, this.numberOfInstruments * 2);
+            this.instrumentStartIndexes = Arrays.copyOf(this.instrumentStartIndexes,
+                    this.numberOfInstruments * 2 + 1);
+        }
+
+        this.instrumentIds[this.numberOfInstruments] = instrumentId;
+        this.instrumentStartIndexes[this.numberOfInstruments] = this.numberOfQuotations;
+        this.numberOfInstruments++;
+    }
+
+    /**
+     * Converts the given date to a day number.
+     *
+     * @param date The date.
+     * @return The number of days since 1970-01-01.
+     */
+    public static int getDayNumber(final Date date) {
+        return (int) date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * @return The number of instruments.
+     */
+    public int getNumberOfInstruments() {
+        return this.numberOfInstruments;
+    }
+
+    /**
+     * @return The number of quotations.
+     */
+    public int getNumberOfQuotations() {
+        return this.numberOfQuotations;
+    }
+
+    /**
+     * @param instrumentIndex The index of the Instrument.
+     * @return The ID of the Instrument.
+     */
+    public int getInstrumentId(final int instrumentIndex) {
+        return this.instrumentIds[instrumentIndex];
+    }
+
+    /**
+     * @param instrumentIndex The index of the Instrument.
+     * @return The index of the oldest Quotation of the Instrument.
+     */
+    public int getStartIndex(final int instrumentIndex) {
+        return this.instrumentStartIndexes[instrumentIndex];
+    }
+
+    /**
+     * @param instrumentIndex The index of the Instrument.
+     * @return The index after the newest Quotation of the Instrument.
+     */
+    public int getEndIndex(final int instrumentIndex) {
+        return this.instrumentStartIndexes[instrumentIndex + 1];
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The ID of the Quotation.
+     */
+    public int getQuotationId(final int index) {
+        return this.quotationIds[index];
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The date of the Quotation as day number.
+     */
+    public int getDayNumber(final int index) {
+        return this.dayNumbers[index];
+    }
+
+    /**
+     * Provides the closing prices of all quotations. The array may be larger than the number of quotations.
+     *
+     * @return The closing prices.
+     */
+    public double[] getClosingPrices() {
+        return this.closingPrices;
+    }
+
+    /**
+     * Determines the index of the Quotation of the given Instrument on the given day.
+     *
+     * @param instrumentIndex The index of the Instrument.
+     * @param dayNumber       The day number.
+     * @return The index of the Quotation; -1, if the Instrument has no Quotation on the given day.
+     */
+    public int getIndexOfDay(final int instrumentIndex, final int dayNumber) {
+        int index = Arrays.binarySearch(this.dayNumbers, this.getStartIndex(instrumentIndex),
+                this.getEndIndex(instrumentIndex), dayNumber);
+
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Determines all days on which at least one Instrument has a Quotation.
+     *
+     * @return The day numbers sorted in ascending order.
+     */
+    public int[] getTradingDays() {
+        return Arrays.stream(this.dayNumbers, 0, this.numberOfQuotations).distinct().sorted().toArray();
+    }
+}
@@ -0,0 +1,86 @@
+package backend.dao.quotation.persistence;
+
+import java.util.List;
+import java.util.Set;
+
+import backend.model.scan.ScanFilterField;
+
+/**
+ * The result of the compilation of a ScanFilter.
+ *
+ * The normalized expression contains the conditions in a canonical order with a placeholder (?) for each constant
+ * value. ScanFilters that only differ in their constant values or in the order of their conditions therefore share the
+ * same normalized expression and the same query.
+ *
+ * @author Michael
+ */
+public class CompiledScanFilter {
+    /**
+     * The normalized expression.
+     */
+    private String normalizedExpression;
+
+    /**
+     * The constant values in the order of their placeholders in the normalized expression.
+     */
+    private List<Object> parameters;
+
+    /**
+     * The fields referenced by the expression.
+     */
+    private Set<ScanFilterField> fields;
+
+    /**
+     * The JPQL query that selects the most recent quotations matching the expression.
+     */
+    private String query;
+
+    /**
+     * Initializes the CompiledScanFilter.
+     *
+     * @param normalizedExpression The normalized expression.
+     * @param parameters           The constant values in the order of their placeholders.
+     * @param fields               The fields referenced by the expression.
+     */
+    public CompiledScanFilter(final String normalizedExpression, final List<Object> parameters,
+            final Set<ScanFilterField> fields) {
+        this.normalizedExpression = normalizedExpression;
+        this.parameters = parameters;
+        this.fields = fields;
+    }
+
+    /**
+     * @return the normalizedExpression
+     */
+    public String getNormalizedExpression() {
+        return normalizedExpression;
+    }
+
+    /**
+     * @return the parameters
+     */
+    public List<Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the fields
+     */
+    public Set<ScanFilterField> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @param query the query to set
+     */
+    public void setQuery(final String query) {
+        this.query = query;
+    }
+}
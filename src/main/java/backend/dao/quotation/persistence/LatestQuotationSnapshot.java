@@ -0,0 +1,373 @@
+package backend.dao.quotation.persistence;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import backend.model.instrument.InstrumentType;
+
+/**
+ * A read-only, column-oriented snapshot of the newest Quotation of each Instrument. The snapshot contains the closing
+ * price and those Indicator, MovingAverageData and RelativeStrengthData attributes that are used by the scan templates.
+ * The attributes are held in arrays of primitives. Each Instrument is represented by one row index.
+ *
+ * @author Michael
+ */
+public class LatestQuotationSnapshot {
+    /**
+     * The IDs of the quotations.
+     */
+    private int[] quotationIds;
+
+    /**
+     * The types of the instruments.
+     */
+    private InstrumentType[] instrumentTypes;
+
+    /**
+     * The closing prices. NaN, if no closing price is defined.
+     */
+    private double[] close;
+
+    /**
+     * Indicates if Indicator data are referenced.
+     */
+    private boolean[] hasIndicator;
+
+    /**
+     * Indicates if MovingAverageData are referenced.
+     */
+    private boolean[] hasMovingAverageData;
+
+    /**
+     * Indicates if RelativeStrengthData are referenced.
+     */
+    private boolean[] hasRelativeStrengthData;
+
+    /**
+     * The distance to the 52-week high in percent.
+     */
+    private float[] distanceTo52WeekHigh;
+
+    /**
+     * The distance to the 52-week low in percent.
+     */
+    private float[] distanceTo52WeekLow;
+
+    /**
+     * The Bollinger BandWidth of the last 10 trading days.
+     */
+    private float[] bollingerBandWidth10Days;
+
+    /**
+     * The Bollinger BandWidth of the last 10 weeks.
+     */
+    private float[] bollingerBandWidth10Weeks;
+
+    /**
+     * The threshold of the Bollinger BandWidth (10 days) below which 25 percent of all values are.
+     */
+    private float[] bbw10Threshold25Percent;
+
+    /**
+     * The volume differential of the last 5 days in percent.
+     */
+    private float[] volumeDifferential5Days;
+
+    /**
+     * The performance of the last 5 days in percent.
+     */
+    private float[] performance5Days;
+
+    /**
+     * The length of the base in weeks.
+     */
+    private int[] baseLengthWeeks;
+
+    /**
+     * The EMA(10).
+     */
+    private float[] ema10;
+
+    /**
+     * The EMA(21).
+     */
+    private float[] ema21;
+
+    /**
+     * The SMA(50).
+     */
+    private float[] sma50;
+
+    /**
+     * The SMA(150).
+     */
+    private float[] sma150;
+
+    /**
+     * The SMA(200).
+     */
+    private float[] sma200;
+
+    /**
+     * The RS number.
+     */
+    private int[] rsNumber;
+
+    /**
+     * Initializes the snapshot with the given rows. Each row holds the columns in the order selected by
+     * QuotationQueryProvider.getQueryForLatestQuotationSnapshot().
+     *
+     * @param rows The rows of the snapshot.
+     */
+    public LatestQuotationSnapshot(final List<Object[]> rows) {
+        int numberOfRows = rows.size();
+
+        this.quotationIds = new int[numberOfRows];
+        this.instrumentTypes = new InstrumentType[numberOfRows];
+        this.close = new double[numberOfRows];
+        this.hasIndicator = new boolean[numberOfRows];
+        this.hasMovingAverageData = new boolean[numberOfRows];
+        this.hasRelativeStrengthData = new boolean[numberOfRows];
+        this.distanceTo52WeekHigh = new float[numberOfRows];
+        this.distanceTo52WeekLow = new float[numberOfRows];
+        this.bollingerBandWidth10Days = new float[numberOfRows];
+        this.bollingerBandWidth10Weeks = new float[numberOfRows];
+        this.bbw10Threshold25Percent = new float[numberOfRows];
+        this.volumeDifferential5Days = new float[numberOfRows];
+        this.performance5Days = new float[numberOfRows];
+        this.baseLengthWeeks = new int[numberOfRows];
+        this.ema10 = new float[numberOfRows];
+        this.ema21 = new float[numberOfRows];
+        this.sma50 = new float[numberOfRows];
+        this.sma150 = new float[numberOfRows];
+        this.sma200 = new float[numberOfRows];
+        this.rsNumber = new int[numberOfRows];
+
+        for (int i = 0; i < numberOfRows; i++) {
+            this.setRow(i, rows.get(i));
+        }
+    }
+
+    /**
+     * Sets the columns of the row with the given index.
+     *
+     * @param index The index of the row.
+     * @param row   The columns of the row.
+     */
+    private void setRow(final int index, final Object[] row) {
+        int column = 0;
+        BigDecimal closingPrice;
+
+        this.quotationIds[index] = (Integer) row[column++];
+        this.instrumentTypes[index] = (InstrumentType) row[column++];
+        closingPrice = (BigDecimal) row[column++];
+        this.close[index] = closingPrice != null ? closingPrice.doubleValue() : Double.NaN;
+
+        this.hasIndicator[index] = row[column++] != null;
+        this.distanceTo52WeekHigh[index] = this.toFloat(row[column++]);
+        this.distanceTo52WeekLow[index] = this.toFloat(row[column++]);
+        this.bollingerBandWidth10Days[index] = this.toFloat(row[column++]);
+        this.bollingerBandWidth10Weeks[index] = this.toFloat(row[column++]);
+        this.bbw10Threshold25Percent[index] = this.toFloat(row[column++]);
+        this.volumeDifferential5Days[index] = this.toFloat(row[column++]);
+        this.performance5Days[index] = this.toFloat(row[column++]);
+        this.baseLengthWeeks[index] = this.toInt(row[column++]);
+
+        this.hasMovingAverageData[index] = row[column++] != null;
+        this.ema10[index] = this.toFloat(row[column++]);
+        this.ema21[index] = this.toFloat(row[column++]);
+        this.sma50[index] = this.toFloat(row[column++]);
+        this.sma150[index] = this.toFloat(row[column++]);
+        this.sma200[index] = this.toFloat(row[column++]);
+
+        this.hasRelativeStrengthData[index] = row[column++] != null;
+        this.rsNumber[index] = this.toInt(row[column]);
+    }
+
+    /**
+     * Converts the given column value to a float. Null values of outer joins are converted to 0.
+     *
+     * @param value The column value.
+     * @return The float value.
+     */
+    private float toFloat(final Object value) {
+        return value != null ? ((Number) value).floatValue() : 0;
+    }
+
+    /**
+     * Converts the given column value to an int. Null values of outer joins are converted to 0.
+     *
+     * @param value The column value.
+     * @return The int value.
+     */
+    private int toInt(final Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public int size() {
+        return this.quotationIds.length;
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The ID of the Quotation.
+     */
+    public int getQuotationId(final int index) {
+        return this.quotationIds[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The type of the Instrument.
+     */
+    public InstrumentType getInstrumentType(final int index) {
+        return this.instrumentTypes[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The closing price. NaN, if no closing price is defined.
+     */
+    public double getClose(final int index) {
+        return this.close[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return true, if Indicator data are referenced.
+     */
+    public boolean hasIndicator(final int index) {
+        return this.hasIndicator[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return true, if MovingAverageData are referenced.
+     */
+    public boolean hasMovingAverageData(final int index) {
+        return this.hasMovingAverageData[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return true, if RelativeStrengthData are referenced.
+     */
+    public boolean hasRelativeStrengthData(final int index) {
+        return this.hasRelativeStrengthData[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The distance to the 52-week high in percent.
+     */
+    public float getDistanceTo52WeekHigh(final int index) {
+        return this.distanceTo52WeekHigh[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The distance to the 52-week low in percent.
+     */
+    public float getDistanceTo52WeekLow(final int index) {
+        return this.distanceTo52WeekLow[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The Bollinger BandWidth of the last 10 trading days.
+     */
+    public float getBollingerBandWidth10Days(final int index) {
+        return this.bollingerBandWidth10Days[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The Bollinger BandWidth of the last 10 weeks.
+     */
+    public float getBollingerBandWidth10Weeks(final int index) {
+        return this.bollingerBandWidth10Weeks[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The threshold of the Bollinger BandWidth (10 days) below which 25 percent of all values are.
+     */
+    public float getBbw10Threshold25Percent(final int index) {
+        return this.bbw10Threshold25Percent[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The volume differential of the last 5 days in percent.
+     */
+    public float getVolumeDifferential5Days(final int index) {
+        return this.volumeDifferential5Days[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The performance of the last 5 days in percent.
+     */
+    public float getPerformance5Days(final int index) {
+        return this.performance5Days[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The length of the base in weeks.
+     */
+    public int getBaseLengthWeeks(final int index) {
+        return this.baseLengthWeeks[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The EMA(10).
+     */
+    public float getEma10(final int index) {
+        return this.ema10[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The EMA(21).
+     */
+    public float getEma21(final int index) {
+        return this.ema21[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The SMA(50).
+     */
+    public float getSma50(final int index) {
+        return this.sma50[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The SMA(150).
+     */
+    public float getSma150(final int index) {
+        return this.sma150[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The SMA(200).
+     */
+    public float getSma200(final int index) {
+        return this.sma200[index];
+    }
+
+    /**
+     * @param index The index of the row.
+     * @return The RS number.
+     */
+    public int getRsNumber(final int index) {
+        return this.rsNumber[index];
+    }
+}
@@ -1,10 +1,14 @@
 package backend.dao.quotation.persistence;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import backend.model.LocalizedException;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
+import backend.model.scan.ScanFilter;
 import backend.webservice.ScanTemplate;
 
 /**
@@ -37,6 +41,60 @@ public interface QuotationDAO {
      */
     void updateQuotations(List<Quotation> quotations) throws Exception;
 
+    /**
+     * Rebuilds the reference to the newest Quotation of each Instrument based on all quotations in the database. The
+     * reference is maintained whenever quotations are inserted or deleted. A rebuild is only needed, if quotations have
+     * been changed bypassing this DAO.
+     *
+     * @throws Exception Rebuild failed.
+     */
+    void rebuildLatestQuotations() throws Exception;
+
+    /**
+     * Gets the closing prices of all quotations of the given InstrumentType as column-oriented trading history. No
+     * Quotation entities are loaded.
+     *
+     * @param instrumentType The InstrumentType.
+     * @return The ClosingPriceHistory.
+     * @throws Exception History determination failed.
+     */
+    ClosingPriceHistory getClosingPriceHistory(InstrumentType instrumentType) throws Exception;
+
+    /**
+     * Sets the RS percent sum and the RS number of the quotations with the given IDs. RelativeStrengthData are created
+     * for quotations that do not reference any yet. The data are written in JDBC batches.
+     *
+     * @param quotationIds  The IDs of the quotations.
+     * @param rsPercentSums The RS percent sum of each Quotation.
+     * @param rsNumbers     The RS number of each Quotation.
+     * @param length        The number of entries of the arrays that are written.
+     * @throws Exception Update failed.
+     */
+    void updateRsNumbers(int[] quotationIds, float[] rsPercentSums, int[] rsNumbers, int length) throws Exception;
+
+    /**
+     * Refreshes the in-memory snapshot of the newest Quotation of each Instrument with its indicators. The snapshot is
+     * used to evaluate scan templates without querying the database. Until the snapshot has been loaded, scan templates
+     * are evaluated by database queries.
+     *
+     * @throws Exception Refresh failed.
+     */
+    void refreshLatestQuotationSnapshot() throws Exception;
+
+    /**
+     * Starts a bulk update of quotations, like a scan or an RS number backfill. While a bulk update is running,
+     * modifications of quotations do not invalidate the in-memory snapshot of the newest quotations. Scan templates are
+     * evaluated on the snapshot as it was before the bulk update started. Each call has to be followed by a call of
+     * endBulkUpdate.
+     */
+    void beginBulkUpdate();
+
+    /**
+     * Ends a bulk update of quotations. Once the last running bulk update has ended, the in-memory snapshot of the
+     * newest quotations is invalidated, if quotations have been modified during the bulk update.
+     */
+    void endBulkUpdate();
+
     /**
      * Gets the Quotation with the given ID.
      *
@@ -55,6 +113,44 @@ public interface QuotationDAO {
      */
     List<Quotation> getQuotationsOfInstrument(Integer instrumentId) throws Exception;
 
+    /**
+     * Gets the quotations of the instruments with the given IDs.
+     *
+     * @param instrumentIds              The IDs of the instruments.
+     * @param maxQuotationsPerInstrument The maximum number of quotations per Instrument. Only the newest quotations
+     *                                   are provided. Parameter can be omitted (null) to get all quotations.
+     * @return The quotations of each Instrument sorted by date, newest first. The map contains an entry for each of the
+     *         given IDs.
+     * @throws Exception Quotation determination failed.
+     */
+    Map<Integer, List<Quotation>> getQuotationsOfInstruments(Collection<Integer> instrumentIds,
+            Integer maxQuotationsPerInstrument) throws Exception;
+
+    /**
+     * Gets the quotations of the instruments with the given IDs that have been created on or after the given date.
+     *
+     * @param instrumentIds The IDs of the instruments.
+     * @param startDate     The date of the oldest quotations.
+     * @return The quotations of each Instrument sorted by date, newest first. The map contains an entry for each of the
+     *         given IDs.
+     * @throws Exception Quotation determination failed.
+     */
+    Map<Integer, List<Quotation>> getQuotationsOfInstrumentsSince(Collection<Integer> instrumentIds, Date startDate)
+            throws Exception;
+
+    /**
+     * Gets the quotations of all instruments of the given InstrumentType that have been created on or after the given
+     * date.
+     *
+     * @param instrumentType The InstrumentType.
+     * @param startDate      The date of the oldest quotations.
+     * @return The quotations of each Instrument sorted by date, newest first. The map only contains instruments that
+     *         have quotations on or after the given date.
+     * @throws Exception Quotation determination failed.
+     */
+    Map<Integer, List<Quotation>> getQuotationsOfInstrumentType(InstrumentType instrumentType, Date startDate)
+            throws Exception;
+
     /**
      * Gets the most recent Quotation of each Instrument with the given InstrumentType. Only those quotations are
      * provided that have an Indicator associated with them.
@@ -90,4 +186,20 @@ public interface QuotationDAO {
      */
     List<Quotation> getQuotationsByTemplate(ScanTemplate scanTemplate, InstrumentType instrumentType, String startDate,
             Float minLiquidity, Float minAtrp) throws LocalizedException, Exception;
+
+    /**
+     * Gets the most recent Quotation of each Instrument that matches the given ScanFilter and InstrumentType. The
+     * ScanFilter is compiled into a single query. Compiled queries are cached by the normalized expression of the
+     * ScanFilter.
+     *
+     * @param scanFilter     The ScanFilter for Quotation query.
+     * @param instrumentType The InstrumentType. Parameter can be omitted (null).
+     * @param minLiquidity   The minimum trading liquidity that is required. Parameter can be omitted (null).
+     * @param minAtrp        The minimum Average True Range Percent that is required. Parameter can be omitted (null).
+     * @return The most recent Quotation of each Instrument that matches the given ScanFilter.
+     * @throws LocalizedException Exception with error message to be displayed to the user.
+     * @throws Exception          Quotation determination failed.
+     */
+    List<Quotation> getQuotationsByFilter(ScanFilter scanFilter, InstrumentType instrumentType, Float minLiquidity,
+            Float minAtrp) throws LocalizedException, Exception;
 }
@@ -1,10 +1,24 @@
 package backend.dao.quotation.persistence;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
 
 import backend.model.LocalizedException;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
+import backend.model.instrument.QuotationArray;
+import backend.model.scan.ScanFilter;
 import backend.webservice.ScanTemplate;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
@@ -31,11 +45,52 @@ public class QuotationHibernateDAO implements QuotationDAO {
      */
     private static final int BATCH_SIZE = 20;
 
+    /**
+     * The maximum number of IDs passed to a single IN clause.
+     */
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    /**
+     * The number of statements of a JDBC batch.
+     */
+    private static final int JDBC_BATCH_SIZE = 500;
+
     /**
      * Processor that performs more complex tasks during the template-based query process.
      */
     private ScanTemplateProcessor scanTemplateProcessor;
 
+    /**
+     * Evaluates scan templates on the in-memory snapshot of the newest quotations. Null, as long as the snapshot has
+     * not been loaded or after quotations have been modified.
+     */
+    private volatile ScanTemplateEvaluator scanTemplateEvaluator;
+
+    /**
+     * The version of the quotation data. Incremented each time quotations are modified. Guarded by snapshotLock.
+     */
+    private long snapshotVersion;
+
+    /**
+     * Lock that guards the replacement and invalidation of the snapshot.
+     */
+    private final Object snapshotLock = new Object();
+
+    /**
+     * The number of bulk updates that are currently running. Guarded by snapshotLock.
+     */
+    private int runningBulkUpdates;
+
+    /**
+     * Quotations have been modified during the running bulk updates. Guarded by snapshotLock.
+     */
+    private boolean modifiedDuringBulkUpdate;
+
+    /**
+     * Compiles scan filters into queries and caches the compiled queries.
+     */
+    private ScanFilterCompiler scanFilterCompiler;
+
     /**
      * Default constructor.
      *
@@ -44,6 +99,7 @@ public class QuotationHibernateDAO implements QuotationDAO {
     public QuotationHibernateDAO(final EntityManagerFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
         this.scanTemplateProcessor = new ScanTemplateProcessor(this);
+        this.scanFilterCompiler = new ScanFilterCompiler();
     }
 
     /**
@@ -52,6 +108,7 @@ public class QuotationHibernateDAO implements QuotationDAO {
     @Override
     public void insertQuotations(final List<Quotation> quotations) throws Exception {
         EntityManager entityManager = this.sessionFactory.createEntityManager();
+        Set<Integer> instrumentIds = new HashSet<>();
         Quotation quotation;
 
         try {
@@ -66,9 +123,11 @@ public class QuotationHibernateDAO implements QuotationDAO {
 
                 quotation = quotations.get(i);
                 entityManager.persist(quotation);
+                this.addInstrumentId(instrumentIds, quotation);
             }
 
             entityManager.flush(); // Assures, that the generated ID is available.
+            this.refreshLatestQuotations(instrumentIds, entityManager);
             entityManager.getTransaction().commit();
         } catch (Exception exception) {
             // If something breaks a rollback is necessary!?
@@ -78,6 +137,7 @@ public class QuotationHibernateDAO implements QuotationDAO {
             throw exception;
         } finally {
             entityManager.close();
+            this.invalidateLatestQuotationSnapshot();
         }
     }
 
@@ -87,6 +147,7 @@ public class QuotationHibernateDAO implements QuotationDAO {
     @Override
     public void deleteQuotations(final List<Quotation> quotations) throws Exception {
         EntityManager entityManager = this.sessionFactory.createEntityManager();
+        Set<Integer> instrumentIds = new HashSet<>();
         Quotation tempQuotation;
         Quotation databaseQuotation;
 
@@ -104,11 +165,13 @@ public class QuotationHibernateDAO implements QuotationDAO {
                 // In order to successfully delete an entity, it first has to be fetched from the database.
                 databaseQuotation = entityManager.find(Quotation.class, tempQuotation.getId());
                 if (databaseQuotation != null) {
+                    this.addInstrumentId(instrumentIds, databaseQuotation);
                     entityManager.remove(databaseQuotation);
                 }
             }
 
             entityManager.flush();
+            this.refreshLatestQuotations(instrumentIds, entityManager);
             entityManager.getTransaction().commit();
         } catch (Exception exception) {
             // If something breaks a rollback is necessary!?
@@ -118,6 +181,7 @@ public class QuotationHibernateDAO implements QuotationDAO {
             throw exception;
         } finally {
             entityManager.close();
+            this.invalidateLatestQuotationSnapshot();
         }
     }
 
@@ -173,6 +237,134 @@ public class QuotationHibernateDAO implements QuotationDAO {
         return quotations;
     }
 
+    /**
+     * Gets the quotations of the instruments with the given IDs.
+     *
+     * If the number of quotations per Instrument is limited, first the IDs of the newest quotations are determined.
+     * This only reads the index on INSTRUMENT_ID and DATE. Afterwards the quotations are fetched by their IDs.
+     */
+    @Override
+    public Map<Integer, List<Quotation>> getQuotationsOfInstruments(final Collection<Integer> instrumentIds,
+            final Integer maxQuotationsPerInstrument) throws Exception {
+
+        return this.getQuotationsOfInstruments(instrumentIds, maxQuotationsPerInstrument, null);
+    }
+
+    /**
+     * Gets the quotations of the instruments with the given IDs that have been created on or after the given date.
+     */
+    @Override
+    public Map<Integer, List<Quotation>> getQuotationsOfInstrumentsSince(final Collection<Integer> instrumentIds,
+            final Date startDate) throws Exception {
+
+        return this.getQuotationsOfInstruments(instrumentIds, null, startDate);
+    }
+
+    /**
+     * Gets the quotations of the instruments with the given IDs.
+     *
+     * @param instrumentIds              The IDs of the instruments.
+     * @param maxQuotationsPerInstrument The maximum number of quotations per Instrument (can be null).
+     * @param startDate                  The date of the oldest quotations (can be null). Only used, if the number of
+     *                                   quotations per Instrument is not limited.
+     * @return The quotations of each Instrument sorted by date, newest first.
+     * @throws Exception Quotation determination failed.
+     */
+    private Map<Integer, List<Quotation>> getQuotationsOfInstruments(final Collection<Integer> instrumentIds,
+            final Integer maxQuotationsPerInstrument, final Date startDate) throws Exception {
+
+        Map<Integer, List<Quotation>> quotationsOfInstruments = new HashMap<>();
+        EntityManager entityManager;
+        EntityGraph<Quotation> graph;
+
+        for (Integer instrumentId : instrumentIds) {
+            quotationsOfInstruments.put(instrumentId, new ArrayList<>());
+        }
+
+        if (instrumentIds.isEmpty()) {
+            return quotationsOfInstruments;
+        }
+
+        entityManager = this.sessionFactory.createEntityManager();
+        graph = entityManager.createEntityGraph(Quotation.class);
+        this.addRequestedNodesToGraph(graph);
+
+        try {
+            entityManager.getTransaction().begin();
+
+            if (maxQuotationsPerInstrument == null) {
+                this.loadQuotationsOfInstruments(entityManager, graph, instrumentIds, startDate,
+                        quotationsOfInstruments);
+            } else {
+                this.loadNewestQuotationsOfInstruments(entityManager, graph, instrumentIds, maxQuotationsPerInstrument,
+                        quotationsOfInstruments);
+            }
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+
+        for (List<Quotation> quotationsOfInstrument : quotationsOfInstruments.values()) {
+            new QuotationArray(quotationsOfInstrument).sortQuotationsByDate();
+        }
+
+        return quotationsOfInstruments;
+    }
+
+    /**
+     * Gets the quotations of all instruments of the given InstrumentType that have been created on or after the given
+     * date.
+     */
+    @Override
+    public Map<Integer, List<Quotation>> getQuotationsOfInstrumentType(final InstrumentType instrumentType,
+            final Date startDate) throws Exception {
+
+        Map<Integer, List<Quotation>> quotationsOfInstruments = new HashMap<>();
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        EntityGraph<Quotation> graph = entityManager.createEntityGraph(Quotation.class);
+        TypedQuery<Quotation> typedQuery;
+
+        this.addRequestedNodesToGraph(graph);
+
+        try {
+            entityManager.getTransaction().begin();
+
+            typedQuery = entityManager.createQuery("SELECT q FROM Quotation q "
+                    + "WHERE q.instrument.type = :instrumentType AND q.date >= :startDate", Quotation.class);
+            typedQuery.setParameter("instrumentType", instrumentType);
+            typedQuery.setParameter("startDate", startDate);
+            typedQuery.setHint("jakarta.persistence.loadgraph", graph);
+
+            for (Quotation quotation : typedQuery.getResultList()) {
+                quotationsOfInstruments.computeIfAbsent(quotation.getInstrument().getId(), id -> new ArrayList<>())
+                        .add(quotation);
+            }
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+
+        for (List<Quotation> quotationsOfInstrument : quotationsOfInstruments.values()) {
+            new QuotationArray(quotationsOfInstrument).sortQuotationsByDate();
+        }
+
+        return quotationsOfInstruments;
+    }
+
     /**
      * Updates a list of quotations.
      */
@@ -205,6 +397,32 @@ public class QuotationHibernateDAO implements QuotationDAO {
             throw exception;
         } finally {
             entityManager.close();
+            this.invalidateLatestQuotationSnapshot();
+        }
+    }
+
+    /**
+     * Rebuilds the reference to the newest Quotation of each Instrument.
+     */
+    @Override
+    public void rebuildLatestQuotations() throws Exception {
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        QuotationQueryProvider quotationQueryProvider = new QuotationQueryProvider(entityManager);
+
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.createQuery("DELETE FROM LatestQuotation").executeUpdate();
+            quotationQueryProvider.getQueryForInsertAllLatestQuotations().executeUpdate();
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+            this.invalidateLatestQuotationSnapshot();
         }
     }
 
@@ -293,42 +511,39 @@ public class QuotationHibernateDAO implements QuotationDAO {
     /**
      * Gets the most recent Quotation of each Instrument of the given InstrumentType. Only those quotations are taken
      * into account that match the given ScanTemplate.
+     *
+     * The ScanTemplate is evaluated on the in-memory snapshot. The snapshot is loaded first, if it has not been loaded
+     * yet or if quotations have been modified since. Only the matching quotations are then fetched from the database by
+     * their IDs. If the ScanTemplate is not supported by the snapshot, it is evaluated by a database query.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public List<Quotation> getQuotationsByTemplate(final ScanTemplate scanTemplate, final InstrumentType instrumentType,
             final String startDate, final Float minLiquidity, final Float minAtrp)
             throws LocalizedException, Exception {
 
-        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        EntityManager entityManager;
+        ScanTemplateEvaluator evaluator;
         List<Quotation> quotations;
-        Query query;
-        List<Object> quotationIdsWithMaxDate;
-        QuotationQueryProvider quotationQueryProvider = new QuotationQueryProvider(entityManager);
+        QuotationQueryProvider quotationQueryProvider;
 
-        try {
-            entityManager.getTransaction().begin();
+        if (this.scanTemplateEvaluator == null) {
+            this.refreshLatestQuotationSnapshot();
+        }
 
-            /*
-             * The selection is split into two selects because JOINs with sub-queries are only possible in native SQL.
-             * But the needed JOIN FETCH is not possible in native SQL.
-             */
-            // The first query gets the IDs of the newest Quotation of each Instrument.
-            query = quotationQueryProvider.getQueryForQuotationIdsWithMaxDate(instrumentType);
-            quotationIdsWithMaxDate = query.getResultList();
+        evaluator = this.scanTemplateEvaluator;
+        entityManager = this.sessionFactory.createEntityManager();
+        quotationQueryProvider = new QuotationQueryProvider(entityManager);
 
-            // The second query applies the given ScanTemplate to further narrow down the result.
-            query = this.getQueryForScanTemplate(scanTemplate, quotationQueryProvider);
+        try {
+            entityManager.getTransaction().begin();
 
-            if (query == null) {
-                entityManager.getTransaction().commit();
-                entityManager.close();
-                return null;
+            if (evaluator != null && evaluator.isSupported(scanTemplate)) {
+                quotations = this.getQuotationsWithInstrumentByIds(quotationQueryProvider,
+                        evaluator.getQuotationIds(scanTemplate, instrumentType));
+            } else {
+                quotations = this.getQuotationsByTemplateQuery(scanTemplate, instrumentType, quotationQueryProvider);
             }
 
-            query.setParameter("quotationIds", quotationIdsWithMaxDate);
-            quotations = query.getResultList();
-
             entityManager.getTransaction().commit();
         } catch (Exception exception) {
             // If something breaks a rollback is necessary!?
@@ -340,6 +555,10 @@ public class QuotationHibernateDAO implements QuotationDAO {
             entityManager.close();
         }
 
+        if (quotations == null) {
+            return null;
+        }
+
         this.scanTemplateProcessor.setDataSourceListNull(quotations);
         this.scanTemplateProcessor.applyFilters(minLiquidity, minAtrp, quotations);
         this.scanTemplateProcessor.templateBasedPostProcessing(scanTemplate, startDate, quotations);
@@ -348,6 +567,398 @@ public class QuotationHibernateDAO implements QuotationDAO {
         return quotations;
     }
 
+    /**
+     * Gets the quotations with the given IDs including their referenced Instrument and indicators.
+     *
+     * @param quotationQueryProvider Provides the Query.
+     * @param quotationIds           The IDs of the quotations.
+     * @return The quotations.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Quotation> getQuotationsWithInstrumentByIds(final QuotationQueryProvider quotationQueryProvider,
+            final List<Integer> quotationIds) {
+
+        List<Quotation> quotations = new ArrayList<>();
+        Query query;
+
+        for (int i = 0; i < quotationIds.size(); i += IN_CLAUSE_SIZE) {
+            query = quotationQueryProvider.getQueryForQuotationsWithInstrumentByIds();
+            query.setParameter("quotationIds",
+                    quotationIds.subList(i, Math.min(i + IN_CLAUSE_SIZE, quotationIds.size())));
+            quotations.addAll(query.getResultList());
+        }
+
+        return quotations;
+    }
+
+    /**
+     * Gets the most recent Quotation of each Instrument of the given InstrumentType that matches the given ScanTemplate
+     * using a database query.
+     *
+     * @param scanTemplate           The ScanTemplate.
+     * @param instrumentType         The InstrumentType.
+     * @param quotationQueryProvider Provides the queries.
+     * @return The quotations; null, if no Query is defined for the ScanTemplate.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Quotation> getQuotationsByTemplateQuery(final ScanTemplate scanTemplate,
+            final InstrumentType instrumentType, final QuotationQueryProvider quotationQueryProvider) {
+
+        Query query;
+        List<Object> quotationIdsWithMaxDate;
+
+        /*
+         * The selection is split into two selects. The first query gets the IDs of the newest Quotation of each
+         * Instrument. The second query applies the given ScanTemplate to further narrow down the result.
+         */
+        query = quotationQueryProvider.getQueryForQuotationIdsWithMaxDate(instrumentType);
+        quotationIdsWithMaxDate = query.getResultList();
+        query = this.getQueryForScanTemplate(scanTemplate, quotationQueryProvider);
+
+        if (query == null) {
+            return null;
+        }
+
+        query.setParameter("quotationIds", quotationIdsWithMaxDate);
+
+        return query.getResultList();
+    }
+
+    /**
+     * Gets the most recent Quotation of each Instrument that matches the given ScanFilter and InstrumentType.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Quotation> getQuotationsByFilter(final ScanFilter scanFilter, final InstrumentType instrumentType,
+            final Float minLiquidity, final Float minAtrp) throws LocalizedException, Exception {
+
+        CompiledScanFilter compiledScanFilter = this.scanFilterCompiler.compile(scanFilter, instrumentType);
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        QuotationQueryProvider quotationQueryProvider = new QuotationQueryProvider(entityManager);
+        List<Quotation> quotations;
+
+        try {
+            entityManager.getTransaction().begin();
+            quotations = quotationQueryProvider.getQueryForScanFilter(compiledScanFilter, instrumentType)
+                    .getResultList();
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+
+        this.scanTemplateProcessor.setDataSourceListNull(quotations);
+        this.scanTemplateProcessor.applyFilters(minLiquidity, minAtrp, quotations);
+        this.scanTemplateProcessor.fillTransientAttributes(instrumentType, quotations);
+
+        return quotations;
+    }
+
+    /**
+     * Gets the closing prices of all quotations of the given InstrumentType as column-oriented trading history. The
+     * rows are streamed into the history without loading Quotation entities.
+     */
+    @Override
+    public ClosingPriceHistory getClosingPriceHistory(final InstrumentType instrumentType) throws Exception {
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        QuotationQueryProvider quotationQueryProvider = new QuotationQueryProvider(entityManager);
+        ClosingPriceHistory closingPriceHistory = new ClosingPriceHistory();
+        final int columnClose = 3;
+
+        try {
+            entityManager.getTransaction().begin();
+
+            try (Stream<?> rows = quotationQueryProvider.getQueryForClosingPriceHistory(instrumentType)
+                    .getResultStream()) {
+                rows.forEach(row -> {
+                    Object[] columns = (Object[]) row;
+                    closingPriceHistory.addQuotation((Integer) columns[0], (Integer) columns[1], (Date) columns[2],
+                            (BigDecimal) columns[columnClose]);
+                });
+            }
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+
+        return closingPriceHistory;
+    }
+
+    /**
+     * Sets the RS percent sum and the RS number of the quotations with the given IDs.
+     */
+    @Override
+    public void updateRsNumbers(final int[] quotationIds, final float[] rsPercentSums, final int[] rsNumbers,
+            final int length) throws Exception {
+
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        final int parameterRsNumber = 3;
+
+        try {
+            entityManager.getTransaction().begin();
+
+            entityManager.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement mergeStatement = connection
+                        .prepareStatement(QuotationQueryProvider.SQL_MERGE_RS_NUMBER);
+                        PreparedStatement referenceStatement = connection
+                                .prepareStatement(QuotationQueryProvider.SQL_REFERENCE_RS_DATA)) {
+
+                    for (int i = 0; i < length; i++) {
+                        mergeStatement.setInt(1, quotationIds[i]);
+                        mergeStatement.setDouble(2, rsPercentSums[i]);
+                        mergeStatement.setInt(parameterRsNumber, rsNumbers[i]);
+                        mergeStatement.addBatch();
+                        referenceStatement.setInt(1, quotationIds[i]);
+                        referenceStatement.addBatch();
+
+                        if ((i + 1) % JDBC_BATCH_SIZE == 0 || i == length - 1) {
+                            mergeStatement.executeBatch();
+                            referenceStatement.executeBatch();
+                        }
+                    }
+                }
+            });
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+            this.invalidateLatestQuotationSnapshot();
+        }
+    }
+
+    /**
+     * Refreshes the in-memory snapshot of the newest Quotation of each Instrument with its indicators.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void refreshLatestQuotationSnapshot() throws Exception {
+        EntityManager entityManager = this.sessionFactory.createEntityManager();
+        QuotationQueryProvider quotationQueryProvider = new QuotationQueryProvider(entityManager);
+        List<Object[]> rows;
+        ScanTemplateEvaluator evaluator;
+        long versionOfRows;
+
+        synchronized (this.snapshotLock) {
+            versionOfRows = this.snapshotVersion;
+        }
+
+        try {
+            entityManager.getTransaction().begin();
+            rows = quotationQueryProvider.getQueryForLatestQuotationSnapshot().getResultList();
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+
+        evaluator = new ScanTemplateEvaluator(new LatestQuotationSnapshot(rows));
+
+        // The snapshot is discarded, if quotations have been modified while it was loaded.
+        synchronized (this.snapshotLock) {
+            if (versionOfRows == this.snapshotVersion) {
+                this.scanTemplateEvaluator = evaluator;
+            }
+        }
+    }
+
+    /**
+     * Starts a bulk update of quotations.
+     */
+    @Override
+    public void beginBulkUpdate() {
+        synchronized (this.snapshotLock) {
+            this.runningBulkUpdates++;
+        }
+    }
+
+    /**
+     * Ends a bulk update of quotations.
+     */
+    @Override
+    public void endBulkUpdate() {
+        synchronized (this.snapshotLock) {
+            this.runningBulkUpdates--;
+
+            if (this.runningBulkUpdates == 0 && this.modifiedDuringBulkUpdate) {
+                this.modifiedDuringBulkUpdate = false;
+                this.snapshotVersion++;
+                this.scanTemplateEvaluator = null;
+            }
+        }
+    }
+
+    /**
+     * Invalidates the in-memory snapshot of the newest quotations after quotations have been modified. The snapshot is
+     * loaded again the next time a ScanTemplate is evaluated. While a bulk update is running, the invalidation is
+     * deferred until the bulk update has ended.
+     */
+    private void invalidateLatestQuotationSnapshot() {
+        synchronized (this.snapshotLock) {
+            if (this.runningBulkUpdates > 0) {
+                this.modifiedDuringBulkUpdate = true;
+                return;
+            }
+
+            this.snapshotVersion++;
+            this.scanTemplateEvaluator = null;
+        }
+    }
+
+    /**
+     * Determines the IDs of the newest quotations of the given instruments.
+     *
+     * @param entityManager              The EntityManager used for the query.
+     * @param instrumentIds              The IDs of the instruments.
+     * @param maxQuotationsPerInstrument The maximum number of quotation IDs per Instrument.
+     * @return The IDs of the newest quotations.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Integer> getIdsOfNewestQuotations(final EntityManager entityManager,
+            final Collection<Integer> instrumentIds, final int maxQuotationsPerInstrument) {
+
+        QuotationQueryProvider quotationQueryProvider = new QuotationQueryProvider(entityManager);
+        List<Integer> instrumentIdList = new ArrayList<>(instrumentIds);
+        List<Integer> quotationIds = new ArrayList<>();
+        Query query;
+
+        for (int i = 0; i < instrumentIdList.size(); i += IN_CLAUSE_SIZE) {
+            query = quotationQueryProvider.getQueryForIdsOfNewestQuotations(
+                    instrumentIdList.subList(i, Math.min(i + IN_CLAUSE_SIZE, instrumentIdList.size())),
+                    maxQuotationsPerInstrument);
+            quotationIds.addAll(query.getResultList());
+        }
+
+        return quotationIds;
+    }
+
+    /**
+     * Loads the quotations of the instruments with the given IDs and adds them to the quotations of their Instrument.
+     *
+     * @param entityManager           The EntityManager of the running transaction.
+     * @param graph                   The EntityGraph of the data fetched with each Quotation.
+     * @param instrumentIds           The IDs of the instruments.
+     * @param startDate               The date of the oldest quotations (can be null).
+     * @param quotationsOfInstruments The quotations of each Instrument.
+     */
+    private void loadQuotationsOfInstruments(final EntityManager entityManager, final EntityGraph<Quotation> graph,
+            final Collection<Integer> instrumentIds, final Date startDate,
+            final Map<Integer, List<Quotation>> quotationsOfInstruments) {
+
+        List<Integer> instrumentIdList = new ArrayList<>(instrumentIds);
+        TypedQuery<Quotation> typedQuery;
+
+        for (int i = 0; i < instrumentIdList.size(); i += IN_CLAUSE_SIZE) {
+            typedQuery = entityManager.createQuery("SELECT q FROM Quotation q WHERE q.instrument.id IN :instrumentIds"
+                    + (startDate != null ? " AND q.date >= :startDate" : ""), Quotation.class);
+            typedQuery.setParameter("instrumentIds",
+                    instrumentIdList.subList(i, Math.min(i + IN_CLAUSE_SIZE, instrumentIdList.size())));
+
+            if (startDate != null) {
+                typedQuery.setParameter("startDate", startDate);
+            }
+
+            typedQuery.setHint("jakarta.persistence.loadgraph", graph);
+            this.addQuotationsOfInstruments(quotationsOfInstruments, typedQuery.getResultList());
+        }
+    }
+
+    /**
+     * Loads the newest quotations of the instruments with the given IDs and adds them to the quotations of their
+     * Instrument.
+     *
+     * @param entityManager              The EntityManager of the running transaction.
+     * @param graph                      The EntityGraph of the data fetched with each Quotation.
+     * @param instrumentIds              The IDs of the instruments.
+     * @param maxQuotationsPerInstrument The maximum number of quotations per Instrument.
+     * @param quotationsOfInstruments    The quotations of each Instrument.
+     */
+    private void loadNewestQuotationsOfInstruments(final EntityManager entityManager,
+            final EntityGraph<Quotation> graph, final Collection<Integer> instrumentIds,
+            final int maxQuotationsPerInstrument, final Map<Integer, List<Quotation>> quotationsOfInstruments) {
+
+        List<Integer> quotationIds = this.getIdsOfNewestQuotations(entityManager, instrumentIds,
+                maxQuotationsPerInstrument);
+        TypedQuery<Quotation> typedQuery;
+
+        for (int i = 0; i < quotationIds.size(); i += IN_CLAUSE_SIZE) {
+            typedQuery = entityManager.createQuery("SELECT q FROM Quotation q WHERE q.id IN :quotationIds",
+                    Quotation.class);
+            typedQuery.setParameter("quotationIds",
+                    quotationIds.subList(i, Math.min(i + IN_CLAUSE_SIZE, quotationIds.size())));
+            typedQuery.setHint("jakarta.persistence.loadgraph", graph);
+            this.addQuotationsOfInstruments(quotationsOfInstruments, typedQuery.getResultList());
+        }
+    }
+
+    /**
+     * Adds the given quotations to the quotations of their Instrument.
+     *
+     * @param quotationsOfInstruments The quotations of each Instrument.
+     * @param quotations              The quotations to be added.
+     */
+    private void addQuotationsOfInstruments(final Map<Integer, List<Quotation>> quotationsOfInstruments,
+            final List<Quotation> quotations) {
+
+        for (Quotation quotation : quotations) {
+            quotationsOfInstruments.get(quotation.getInstrument().getId()).add(quotation);
+        }
+    }
+
+    /**
+     * Adds the ID of the Instrument of the given Quotation to the set of instrument IDs.
+     *
+     * @param instrumentIds The set of instrument IDs.
+     * @param quotation     The Quotation.
+     */
+    private void addInstrumentId(final Set<Integer> instrumentIds, final Quotation quotation) {
+        if (quotation.getInstrument() != null) {
+            instrumentIds.add(quotation.getInstrument().getId());
+        }
+    }
+
+    /**
+     * Determines the newest Quotation of the instruments with the given IDs and stores the reference to it in the
+     * LATEST_QUOTATION table. Has to be called within the transaction that inserts or deletes quotations, after the
+     * changes have been flushed.
+     *
+     * @param instrumentIds The IDs of the instruments whose quotations have been changed.
+     * @param entityManager The EntityManager of the current transaction.
+     */
+    private void refreshLatestQuotations(final Set<Integer> instrumentIds, final EntityManager entityManager) {
+        QuotationQueryProvider quotationQueryProvider;
+
+        if (instrumentIds.isEmpty()) {
+            return;
+        }
+
+        quotationQueryProvider = new QuotationQueryProvider(entityManager);
+        quotationQueryProvider.getQueryForDeleteLatestQuotations(instrumentIds).executeUpdate();
+        quotationQueryProvider.getQueryForInsertLatestQuotations(instrumentIds).executeUpdate();
+    }
+
     /**
      * Adds nodes and subgraphs with nodes to the given EntityGraph. These represent object associations that are
      * eagerly loaded.
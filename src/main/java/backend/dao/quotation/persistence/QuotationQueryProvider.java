@@ -1,6 +1,7 @@
 package backend.dao.quotation.persistence;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
@@ -15,6 +16,58 @@ import jakarta.persistence.Query;
  * @author Michael
  */
 public class QuotationQueryProvider {
+    /**
+     * Provides a native Query that determines the IDs of the newest quotations of each of the given instruments. The
+     * number of quotations per Instrument is limited within the database. The quotations of each Instrument are read in
+     * descending order using the index Quotation.INDEX_INSTRUMENT_DATE until the limit is reached.
+     *
+     * @param instrumentIds              The IDs of the instruments.
+     * @param maxQuotationsPerInstrument The maximum number of quotation IDs per Instrument.
+     * @return The Query.
+     */
+    public Query getQueryForIdsOfNewestQuotations(final Collection<Integer> instrumentIds,
+            final int maxQuotationsPerInstrument) {
+        Query query = this.entityManager.createNativeQuery("SELECT newest.quotation_id FROM Instrument i, LATERAL "
+                + "(SELECT q.quotation_id FROM Quotation q WHERE q.instrument_id = i.instrument_id "
+                + "ORDER BY q.instrument_id DESC, q.date DESC LIMIT :maxQuotationsPerInstrument USING INDEX) newest "
+                + "WHERE i.instrument_id IN :instrumentIds");
+        query.setParameter("instrumentIds", instrumentIds);
+        query.setParameter("maxQuotationsPerInstrument", maxQuotationsPerInstrument);
+
+        return query;
+    }
+
+    /**
+     * Native SQL that determines instrument ID, Quotation ID and date of the newest Quotation of each Instrument of the
+     * parameter "instrumentIds". If an Instrument has multiple quotations on its newest date, the one with the highest
+     * ID is selected.
+     *
+     * The Quotation ID is determined by a correlated lookup on instrument ID and date. This lookup is served by the
+     * index Quotation.INDEX_INSTRUMENT_DATE, whereas a join with the newest dates scans the whole QUOTATION table.
+     */
+    public static final String QUERY_QUOTATION_IDS_WITH_MAX_DATE = "SELECT jointable.instrument_id, "
+            + "(SELECT max(q.quotation_id) FROM Quotation q WHERE q.instrument_id = jointable.instrument_id "
+            + "AND q.date = jointable.maxdate), jointable.maxdate "
+            + "FROM (SELECT max(date) AS maxdate, instrument_id FROM Quotation "
+            + "WHERE instrument_id IN :instrumentIds GROUP BY instrument_id) jointable";
+
+    /**
+     * Native SQL that inserts or updates the RS percent sum and the RS number of the RelativeStrengthData with the ID
+     * of a Quotation. The other RS numbers of new RelativeStrengthData are initialized with 0.
+     */
+    static final String SQL_MERGE_RS_NUMBER = "MERGE INTO RELATIVE_STRENGTH_DATA r USING (VALUES("
+            + "CAST(? AS INTEGER), CAST(? AS DOUBLE), CAST(? AS INTEGER))) AS v(id, rs_percent_sum, rs_number) "
+            + "ON r.RS_DATA_ID = v.id WHEN MATCHED THEN UPDATE SET r.RS_PERCENT_SUM = v.rs_percent_sum, "
+            + "r.RS_NUMBER = v.rs_number WHEN NOT MATCHED THEN INSERT (RS_DATA_ID, RS_PERCENT_SUM, RS_NUMBER, "
+            + "RS_NUMBER_DISTANCE_52W_HIGH, RS_NUMBER_ACC_DIS_RATIO) "
+            + "VALUES (v.id, v.rs_percent_sum, v.rs_number, 0, 0)";
+
+    /**
+     * Native SQL that references the RelativeStrengthData of a Quotation, if no RelativeStrengthData is referenced yet.
+     */
+    static final String SQL_REFERENCE_RS_DATA = "UPDATE QUOTATION SET RS_DATA_ID = QUOTATION_ID "
+            + "WHERE QUOTATION_ID = ? AND RS_DATA_ID IS NULL";
+
     /**
      * Interface used to interact with the persistence context.
      */
@@ -230,40 +283,98 @@ public class QuotationQueryProvider {
     }
 
     /**
-     * Provides a native Query that determines the IDs of the quotations with the newest date for each Instrument. Only
-     * those instruments are taken into account that match the given InstrumentType.
+     * Provides a Query that determines all quotations with their referenced Instrument and indicators based on the
+     * given Quotation IDs. Used to fetch the results of a ScanTemplate that has been evaluated in memory.
+     *
+     * @return The Query.
+     */
+    public Query getQueryForQuotationsWithInstrumentByIds() {
+        return this.entityManager.createQuery("SELECT q FROM Quotation q JOIN FETCH q.instrument i "
+                + "LEFT JOIN FETCH i.sector LEFT JOIN FETCH i.industryGroup "
+                + "LEFT JOIN FETCH i.dividend LEFT JOIN FETCH i.divisor LEFT JOIN FETCH q.indicator "
+                + "LEFT JOIN FETCH q.movingAverageData LEFT JOIN FETCH q.relativeStrengthData "
+                + "WHERE q.id IN :quotationIds");
+    }
+
+    /**
+     * Provides the Query of the given CompiledScanFilter with all parameters being set.
+     *
+     * @param compiledScanFilter The CompiledScanFilter.
+     * @param instrumentType     The InstrumentType. Parameter can be omitted (null).
+     * @return The Query.
+     */
+    public Query getQueryForScanFilter(final CompiledScanFilter compiledScanFilter,
+            final InstrumentType instrumentType) {
+
+        Query query = this.entityManager.createQuery(compiledScanFilter.getQuery());
+        List<Object> parameters = compiledScanFilter.getParameters();
+
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(ScanFilterCompiler.PARAMETER_PREFIX + i, parameters.get(i));
+        }
+
+        if (instrumentType != null) {
+            query.setParameter("instrumentType", instrumentType);
+        }
+
+        return query;
+    }
+
+    /**
+     * Provides a Query that determines instrument ID, Quotation ID, date and closing price of all quotations of the
+     * given InstrumentType. The rows are ordered by Instrument and date as expected by the ClosingPriceHistory.
+     *
+     * @param instrumentType The InstrumentType.
+     * @return The Query.
+     */
+    public Query getQueryForClosingPriceHistory(final InstrumentType instrumentType) {
+        Query query = this.entityManager.createQuery("SELECT i.id, q.id, q.date, q.close FROM Quotation q "
+                + "JOIN q.instrument i WHERE i.type = :instrumentType ORDER BY i.id, q.date, q.id");
+        query.setParameter("instrumentType", instrumentType);
+
+        return query;
+    }
+
+    /**
+     * Provides a Query that determines the data of the LatestQuotationSnapshot. The columns are selected in the order
+     * expected by the LatestQuotationSnapshot.
+     *
+     * @return The Query.
+     */
+    public Query getQueryForLatestQuotationSnapshot() {
+        return this.entityManager.createQuery("SELECT q.id, i.type, q.close, "
+                + "r.id, r.distanceTo52WeekHigh, r.distanceTo52WeekLow, r.bollingerBandWidth10Days, "
+                + "r.bollingerBandWidth10Weeks, r.bbw10Threshold25Percent, r.volumeDifferential5Days, "
+                + "r.performance5Days, r.baseLengthWeeks, "
+                + "m.id, m.ema10, m.ema21, m.sma50, m.sma150, m.sma200, s.id, s.rsNumber "
+                + "FROM Quotation q JOIN q.instrument i LEFT JOIN q.indicator r LEFT JOIN q.movingAverageData m "
+                + "LEFT JOIN q.relativeStrengthData s WHERE q.id IN (SELECT l.quotationId FROM LatestQuotation l)");
+    }
+
+    /**
+     * Provides a Query that determines the IDs of the quotations with the newest date for each Instrument. Only those
+     * instruments are taken into account that match the given InstrumentType.
      *
      * @param instrumentType The InstrumentType. Parameter can be omitted (null).
      * @return The Query.
      */
-    @SuppressWarnings("unchecked")
     public Query getQueryForQuotationIdsWithMaxDate(final InstrumentType instrumentType) {
-        List<Object> instrumentIdsOfGivenInstrumentType;
         Query query;
 
-        // Get the IDs of all instruments of the given type.
         if (instrumentType != null) {
-            query = this.entityManager.createQuery("SELECT id FROM Instrument i WHERE i.type = :instrumentType");
+            query = this.entityManager.createQuery("SELECT l.quotationId FROM LatestQuotation l, Instrument i "
+                    + "WHERE l.instrumentId = i.id AND i.type = :instrumentType");
             query.setParameter("instrumentType", instrumentType);
         } else {
-            query = this.entityManager.createQuery("SELECT id FROM Instrument i");
+            query = this.entityManager.createQuery("SELECT l.quotationId FROM LatestQuotation l");
         }
 
-        instrumentIdsOfGivenInstrumentType = query.getResultList();
-
-        // Get the IDs of all Quotations with the newest date for each Instrument.
-        query = this.entityManager.createNativeQuery("SELECT quotation_id FROM Quotation q INNER JOIN "
-                + "(SELECT max(date) AS maxdate, instrument_id FROM Quotation GROUP BY instrument_id) jointable "
-                + "ON q.instrument_id = jointable.instrument_id AND q.date = jointable.maxdate "
-                + "WHERE q.instrument_id IN :instrumentIds");
-        query.setParameter("instrumentIds", instrumentIdsOfGivenInstrumentType);
-
         return query;
     }
 
     /**
-     * Provides a native Query that determines the IDs of the quotations with the newest date for each Instrument of the
-     * given List.
+     * Provides a Query that determines the IDs of the quotations with the newest date for each Instrument of the given
+     * List.
      *
      * @param list The List defining all instruments for which the quotations have to be determined.
      * @return The Query.
@@ -282,14 +393,57 @@ public class QuotationQueryProvider {
             instrumentIds.add(instrument.getId());
         }
 
-        // Prepare Query for most recent Quotation of each Instrument.
-        query = this.entityManager.createNativeQuery("SELECT quotation_id FROM Quotation q INNER JOIN "
-                + "(SELECT max(date) AS maxdate, instrument_id FROM Quotation GROUP BY instrument_id) jointable "
-                + "ON q.instrument_id = jointable.instrument_id AND q.date = jointable.maxdate "
-                + "AND jointable.instrument_id IN :instrumentIds");
+        query = this.entityManager
+                .createQuery("SELECT l.quotationId FROM LatestQuotation l WHERE l.instrumentId IN :instrumentIds");
+        query.setParameter("instrumentIds", instrumentIds);
+
+        return query;
+    }
 
+    /**
+     * Provides a Query that deletes the LatestQuotation of the instruments with the given IDs.
+     *
+     * @param instrumentIds The IDs of the instruments.
+     * @return The Query.
+     */
+    public Query getQueryForDeleteLatestQuotations(final Collection<Integer> instrumentIds) {
+        Query query = this.entityManager
+                .createQuery("DELETE FROM LatestQuotation l WHERE l.instrumentId IN :instrumentIds");
+        query.setParameter("instrumentIds", instrumentIds);
+
+        return query;
+    }
+
+    /**
+     * Provides a native Query that determines the newest Quotation of each of the given instruments and inserts it into
+     * the LATEST_QUOTATION table.
+     *
+     * The instruments are restricted before grouping. The Quotation ID of the newest date is then looked up using the
+     * index Quotation.INDEX_INSTRUMENT_DATE, which also contains the Quotation ID. Therefore only the quotations of the
+     * given instruments are read instead of the whole QUOTATION table.
+     *
+     * @param instrumentIds The IDs of the instruments.
+     * @return The Query.
+     */
+    public Query getQueryForInsertLatestQuotations(final Collection<Integer> instrumentIds) {
+        Query query = this.entityManager
+                .createNativeQuery("INSERT INTO LATEST_QUOTATION (INSTRUMENT_ID, QUOTATION_ID, DATE) "
+                        + QUERY_QUOTATION_IDS_WITH_MAX_DATE);
         query.setParameter("instrumentIds", instrumentIds);
 
         return query;
     }
+
+    /**
+     * Provides a native Query that inserts the newest Quotation of each Instrument into the LATEST_QUOTATION table.
+     * Used to initially fill the table.
+     *
+     * @return The Query.
+     */
+    public Query getQueryForInsertAllLatestQuotations() {
+        return this.entityManager.createNativeQuery("INSERT INTO LATEST_QUOTATION (INSTRUMENT_ID, QUOTATION_ID, DATE) "
+                + "SELECT jointable.instrument_id, (SELECT max(q.quotation_id) FROM Quotation q "
+                + "WHERE q.instrument_id = jointable.instrument_id AND q.date = jointable.maxdate), jointable.maxdate "
+                + "FROM (SELECT max(date) AS maxdate, instrument_id FROM Quotation GROUP BY instrument_id) jointable");
+    }
 }
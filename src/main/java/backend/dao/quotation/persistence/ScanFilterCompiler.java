@@ -0,0 +1,359 @@
+package backend.dao.quotation.persistence;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import backend.model.LocalizedException;
+import backend.model.instrument.InstrumentType;
+import backend.model.scan.ScanFilter;
+import backend.model.scan.ScanFilterConjunction;
+import backend.model.scan.ScanFilterField;
+
+/**
+ * Compiles a ScanFilter into a single JPQL query that selects the most recent Quotation of each Instrument matching the
+ * filter.
+ *
+ * The ScanFilter is normalized first: Nested groups with the same conjunction are flattened, groups with a single
+ * filter are replaced by that filter and the filters of each group are sorted. Constant values are bound as query
+ * parameters. The queries are cached by their normalized expression, so that variations of a filter that only differ in
+ * their thresholds reuse the same query.
+ *
+ * @author Michael
+ */
+public class ScanFilterCompiler {
+    /**
+     * The maximum number of conditions of a ScanFilter.
+     */
+    private static final int MAX_CONDITIONS = 100;
+
+    /**
+     * The maximum number of cached queries.
+     */
+    private static final int MAX_CACHED_QUERIES = 1000;
+
+    /**
+     * The placeholder of a constant value in the normalized expression.
+     */
+    private static final String PLACEHOLDER = "?";
+
+    /**
+     * The prefix of the names of the query parameters holding the constant values.
+     */
+    public static final String PARAMETER_PREFIX = "p";
+
+    /**
+     * The compiled queries, keyed by the normalized expression.
+     */
+    private final Map<String, String> queryCache;
+
+    /**
+     * Initializes the ScanFilterCompiler.
+     */
+    public ScanFilterCompiler() {
+        this.queryCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Compiles the given ScanFilter.
+     *
+     * @param scanFilter     The ScanFilter.
+     * @param instrumentType The InstrumentType. Parameter can be omitted (null).
+     * @return The CompiledScanFilter.
+     * @throws LocalizedException In case the ScanFilter is not valid.
+     */
+    public CompiledScanFilter compile(final ScanFilter scanFilter, final InstrumentType instrumentType)
+            throws LocalizedException {
+
+        CompiledScanFilter compiledScanFilter;
+        String cacheKey;
+        String query;
+        int numberOfConditions;
+
+        if (scanFilter == null) {
+            throw new LocalizedException("quotation.noFilterError");
+        }
+
+        numberOfConditions = this.countConditions(scanFilter);
+        if (numberOfConditions > MAX_CONDITIONS) {
+            throw new LocalizedException("quotation.filterTooComplex", MAX_CONDITIONS);
+        }
+
+        compiledScanFilter = this.normalize(scanFilter);
+        cacheKey = compiledScanFilter.getNormalizedExpression();
+
+        if (instrumentType != null) {
+            cacheKey += " [instrumentType]";
+        }
+
+        query = this.queryCache.get(cacheKey);
+
+        if (query == null) {
+            query = this.buildQuery(compiledScanFilter, instrumentType != null);
+
+            if (this.queryCache.size() < MAX_CACHED_QUERIES) {
+                this.queryCache.put(cacheKey, query);
+            }
+        }
+
+        compiledScanFilter.setQuery(query);
+
+        return compiledScanFilter;
+    }
+
+    /**
+     * @return The number of cached queries.
+     */
+    public int getCacheSize() {
+        return this.queryCache.size();
+    }
+
+    /**
+     * Counts the conditions of the given ScanFilter. Groups without filters are rejected.
+     *
+     * @param scanFilter The ScanFilter.
+     * @return The number of conditions.
+     * @throws LocalizedException In case a group has no filters.
+     */
+    private int countConditions(final ScanFilter scanFilter) throws LocalizedException {
+        int numberOfConditions = 0;
+
+        if (!scanFilter.isGroup()) {
+            return 1;
+        }
+
+        if (scanFilter.getFilters() == null || scanFilter.getFilters().isEmpty()) {
+            throw new LocalizedException("quotation.filterEmptyGroup");
+        }
+
+        for (ScanFilter filter : scanFilter.getFilters()) {
+            if (filter == null) {
+                throw new LocalizedException("quotation.filterIncompleteCondition");
+            }
+
+            numberOfConditions += this.countConditions(filter);
+        }
+
+        return numberOfConditions;
+    }
+
+    /**
+     * Normalizes the given ScanFilter.
+     *
+     * @param scanFilter The ScanFilter.
+     * @return The normalized ScanFilter.
+     * @throws LocalizedException In case a condition is incomplete.
+     */
+    private CompiledScanFilter normalize(final ScanFilter scanFilter) throws LocalizedException {
+        if (scanFilter.isGroup()) {
+            return this.normalizeGroup(scanFilter);
+        } else {
+            return this.normalizeCondition(scanFilter);
+        }
+    }
+
+    /**
+     * Normalizes the given condition.
+     *
+     * @param condition The condition.
+     * @return The normalized condition.
+     * @throws LocalizedException In case the condition is incomplete or its value does not match the field.
+     */
+    private CompiledScanFilter normalizeCondition(final ScanFilter condition) throws LocalizedException {
+        Set<ScanFilterField> fields = EnumSet.noneOf(ScanFilterField.class);
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder expression = new StringBuilder();
+
+        if (condition.getField() == null || condition.getOperator() == null
+                || (condition.getValue() == null) == (condition.getReferenceField() == null)) {
+            throw new LocalizedException("quotation.filterIncompleteCondition");
+        }
+
+        fields.add(condition.getField());
+        expression.append(condition.getField().getPath());
+        expression.append(" ");
+        expression.append(condition.getOperator().getSymbol());
+        expression.append(" ");
+
+        if (condition.getReferenceField() != null) {
+            fields.add(condition.getReferenceField());
+            expression.append(condition.getReferenceField().getPath());
+        } else {
+            parameters.add(this.convertValue(condition.getValue(), condition.getField()));
+            expression.append(PLACEHOLDER);
+        }
+
+        return new CompiledScanFilter(expression.toString(), parameters, fields);
+    }
+
+    /**
+     * Normalizes the given group. Duplicate filters are removed.
+     *
+     * @param group The group.
+     * @return The normalized group.
+     * @throws LocalizedException In case a condition of the group is incomplete.
+     */
+    private CompiledScanFilter normalizeGroup(final ScanFilter group) throws LocalizedException {
+        ScanFilterConjunction conjunction = this.getConjunction(group);
+        List<ScanFilter> operands = new ArrayList<>();
+        List<CompiledScanFilter> normalizedOperands = new ArrayList<>();
+        Set<ScanFilterField> fields = EnumSet.noneOf(ScanFilterField.class);
+        List<Object> parameters = new ArrayList<>();
+        List<String> expressions = new ArrayList<>();
+        CompiledScanFilter previousOperand = null;
+
+        this.collectOperands(group, conjunction, operands);
+
+        for (ScanFilter operand : operands) {
+            normalizedOperands.add(this.normalize(operand));
+        }
+
+        normalizedOperands.sort(Comparator.comparing(CompiledScanFilter::getNormalizedExpression)
+                .thenComparing(operand -> operand.getParameters().toString()));
+
+        for (CompiledScanFilter operand : normalizedOperands) {
+            if (previousOperand != null
+                    && previousOperand.getNormalizedExpression().equals(operand.getNormalizedExpression())
+                    && previousOperand.getParameters().equals(operand.getParameters())) {
+                continue;
+            }
+
+            expressions.add(operand.getNormalizedExpression());
+            parameters.addAll(operand.getParameters());
+            fields.addAll(operand.getFields());
+            previousOperand = operand;
+        }
+
+        if (expressions.size() == 1) {
+            return previousOperand;
+        }
+
+        return new CompiledScanFilter("(" + String.join(" " + conjunction.name() + " ", expressions) + ")",
+                parameters, fields);
+    }
+
+    /**
+     * Collects the operands of the given group. The filters of nested groups with the same conjunction are added
+     * directly to the operands.
+     *
+     * @param group       The group.
+     * @param conjunction The conjunction of the group.
+     * @param operands    The operands to which the filters are added.
+     */
+    private void collectOperands(final ScanFilter group, final ScanFilterConjunction conjunction,
+            final List<ScanFilter> operands) {
+
+        for (ScanFilter filter : group.getFilters()) {
+            if (filter.isGroup() && this.getConjunction(filter) == conjunction) {
+                this.collectOperands(filter, conjunction, operands);
+            } else {
+                operands.add(filter);
+            }
+        }
+    }
+
+    /**
+     * Provides the conjunction of the given group. AND is used if no conjunction is defined.
+     *
+     * @param group The group.
+     * @return The conjunction.
+     */
+    private ScanFilterConjunction getConjunction(final ScanFilter group) {
+        if (group.getConjunction() == null) {
+            return ScanFilterConjunction.AND;
+        }
+
+        return group.getConjunction();
+    }
+
+    /**
+     * Converts the given value to the type of the given field. Values of integral fields have to be whole numbers,
+     * because truncating the fraction would change the meaning of the condition.
+     *
+     * @param value The value.
+     * @param field The field.
+     * @return The converted value.
+     * @throws LocalizedException In case the field is integral but the value has a fraction.
+     */
+    private Object convertValue(final BigDecimal value, final ScanFilterField field) throws LocalizedException {
+        if ((field.getValueType() == Integer.class || field.getValueType() == Long.class)
+                && value.stripTrailingZeros().scale() > 0) {
+            throw new LocalizedException("quotation.filterNonIntegralValue");
+        }
+
+        if (field.getValueType() == Integer.class) {
+            return value.intValue();
+        } else if (field.getValueType() == Long.class) {
+            return value.longValue();
+        } else if (field.getValueType() == Float.class) {
+            return value.floatValue();
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * Builds the JPQL query of the given normalized ScanFilter. Only those entities are joined that are referenced by
+     * the expression. The placeholders are replaced by named parameters.
+     *
+     * @param compiledScanFilter The normalized ScanFilter.
+     * @param hasInstrumentType  Indicates if the quotations are restricted to an InstrumentType.
+     * @return The JPQL query.
+     */
+    private String buildQuery(final CompiledScanFilter compiledScanFilter, final boolean hasInstrumentType) {
+        StringBuilder query = new StringBuilder("SELECT q FROM Quotation q JOIN FETCH q.instrument i "
+                + "LEFT JOIN FETCH i.sector LEFT JOIN FETCH i.industryGroup "
+                + "LEFT JOIN FETCH i.dividend LEFT JOIN FETCH i.divisor");
+        String expression = compiledScanFilter.getNormalizedExpression();
+        int parameterIndex = 0;
+        int placeholderIndex;
+
+        this.appendJoin(query, compiledScanFilter.getFields(), "r", "q.indicator");
+        this.appendJoin(query, compiledScanFilter.getFields(), "m", "q.movingAverageData");
+        this.appendJoin(query, compiledScanFilter.getFields(), "s", "q.relativeStrengthData");
+
+        query.append(" WHERE q.id IN (SELECT l.quotationId FROM LatestQuotation l)");
+
+        if (hasInstrumentType) {
+            query.append(" AND i.type = :instrumentType");
+        }
+
+        query.append(" AND ");
+
+        placeholderIndex = expression.indexOf(PLACEHOLDER);
+        while (placeholderIndex >= 0) {
+            query.append(expression, 0, placeholderIndex);
+            query.append(":" + PARAMETER_PREFIX + parameterIndex++);
+            expression = expression.substring(placeholderIndex + 1);
+            placeholderIndex = expression.indexOf(PLACEHOLDER);
+        }
+
+        query.append(expression);
+
+        return query.toString();
+    }
+
+    /**
+     * Appends a join of the entity with the given alias, if any of the given fields belongs to that entity.
+     *
+     * @param query       The query to which the join is appended.
+     * @param fields      The fields referenced by the expression.
+     * @param entityAlias The alias of the entity.
+     * @param path        The path of the entity relative to the Quotation.
+     */
+    private void appendJoin(final StringBuilder query, final Set<ScanFilterField> fields, final String entityAlias,
+            final String path) {
+
+        for (ScanFilterField field : fields) {
+            if (field.getEntityAlias().equals(entityAlias)) {
+                query.append(" LEFT JOIN " + path + " " + entityAlias);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package backend.dao.quotation.persistence;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import backend.model.instrument.InstrumentType;
+import backend.webservice.ScanTemplate;
+
+/**
+ * Evaluates scan templates in memory based on a LatestQuotationSnapshot. The criteria of each ScanTemplate are the
+ * same as those of the queries defined in the QuotationQueryProvider. They are compiled into predicates on the row
+ * indexes of the snapshot.
+ *
+ * @author Michael
+ */
+public class ScanTemplateEvaluator {
+    /**
+     * Minimum distance to the 52-week low of the Minervini Trend Template.
+     */
+    private static final float MINERVINI_MIN_DISTANCE_52W_LOW = 30;
+
+    /**
+     * Minimum distance to the 52-week high of the Minervini Trend Template and the High Tight Flag.
+     */
+    private static final float MIN_DISTANCE_52W_HIGH_25 = -25;
+
+    /**
+     * Minimum RS number of the Minervini Trend Template.
+     */
+    private static final int MINERVINI_MIN_RS_NUMBER = 70;
+
+    /**
+     * Minimum distance to the 52-week high of the Breakout Candidates.
+     */
+    private static final float BREAKOUT_MIN_DISTANCE_52W_HIGH = -10;
+
+    /**
+     * Minimum base length in weeks of the Breakout Candidates.
+     */
+    private static final int BREAKOUT_MIN_BASE_LENGTH = 4;
+
+    /**
+     * Maximum Bollinger BandWidth (10 weeks) of the 10 weeks consolidation.
+     */
+    private static final float CONSOLIDATION_MAX_BBW_10_WEEKS = 20;
+
+    /**
+     * Minimum volume differential of the up and down on volume templates.
+     */
+    private static final float ON_VOLUME_MIN_VOLUME_DIFFERENTIAL = 25;
+
+    /**
+     * Minimum absolute performance of the up and down on volume templates.
+     */
+    private static final float ON_VOLUME_MIN_PERFORMANCE = 10;
+
+    /**
+     * Maximum distance to the 52-week high or low of the near 52-week high and low templates.
+     */
+    private static final float NEAR_52W_MAX_DISTANCE = 5;
+
+    /**
+     * The snapshot on which the templates are evaluated.
+     */
+    private LatestQuotationSnapshot snapshot;
+
+    /**
+     * The compiled predicates of the supported templates.
+     */
+    private Map<ScanTemplate, IntPredicate> predicates;
+
+    /**
+     * Initializes the ScanTemplateEvaluator.
+     *
+     * @param snapshot The snapshot on which the templates are evaluated.
+     */
+    public ScanTemplateEvaluator(final LatestQuotationSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.predicates = new EnumMap<>(ScanTemplate.class);
+        this.addTrendPredicates();
+        this.addConsolidationPredicates();
+        this.addVolumePredicates();
+        this.addPredicatesWithPostProcessing();
+    }
+
+    /**
+     * Checks if the given ScanTemplate can be evaluated in memory.
+     *
+     * @param scanTemplate The ScanTemplate.
+     * @return true, if the ScanTemplate is supported; false, if not.
+     */
+    public boolean isSupported(final ScanTemplate scanTemplate) {
+        return this.predicates.containsKey(scanTemplate);
+    }
+
+    /**
+     * Determines the IDs of the newest quotations that match the given ScanTemplate and InstrumentType.
+     *
+     * @param scanTemplate   The ScanTemplate. Has to be supported.
+     * @param instrumentType The InstrumentType. Parameter can be omitted (null).
+     * @return The IDs of the matching quotations.
+     */
+    public List<Integer> getQuotationIds(final ScanTemplate scanTemplate, final InstrumentType instrumentType) {
+        IntPredicate predicate = this.predicates.get(scanTemplate);
+        List<Integer> quotationIds = new ArrayList<>();
+
+        for (int i = 0; i < this.snapshot.size(); i++) {
+            if (instrumentType != null && this.snapshot.getInstrumentType(i) != instrumentType) {
+                continue;
+            }
+
+            if (predicate.test(i)) {
+                quotationIds.add(this.snapshot.getQuotationId(i));
+            }
+        }
+
+        return quotationIds;
+    }
+
+    /**
+     * Adds the predicates of the templates that check the trend based on moving averages.
+     */
+    private void addTrendPredicates() {
+        LatestQuotationSnapshot s = this.snapshot;
+
+        this.predicates.put(ScanTemplate.MINERVINI_TREND_TEMPLATE, i -> s.hasIndicator(i)
+                && s.hasMovingAverageData(i) && s.hasRelativeStrengthData(i) && s.getClose(i) > s.getSma50(i)
+                && s.getSma50(i) > s.getSma150(i) && s.getSma150(i) > s.getSma200(i)
+                && s.getDistanceTo52WeekLow(i) >= MINERVINI_MIN_DISTANCE_52W_LOW
+                && s.getDistanceTo52WeekHigh(i) >= MIN_DISTANCE_52W_HIGH_25
+                && s.getRsNumber(i) >= MINERVINI_MIN_RS_NUMBER);
+
+        this.predicates.put(ScanTemplate.SWING_TRADING_ENVIRONMENT, i -> s.hasMovingAverageData(i)
+                && s.getClose(i) > s.getEma21(i) && s.getClose(i) > s.getSma50(i) && s.getEma10(i) > s.getEma21(i));
+
+        this.predicates.put(ScanTemplate.DOWN_TREND, i -> s.hasIndicator(i) && s.hasMovingAverageData(i)
+                && s.getClose(i) < s.getSma50(i) && s.getClose(i) < s.getSma200(i));
+
+        this.predicates.put(ScanTemplate.NEAR_52_WEEK_HIGH,
+                i -> s.hasIndicator(i) && s.getDistanceTo52WeekHigh(i) >= -NEAR_52W_MAX_DISTANCE);
+
+        this.predicates.put(ScanTemplate.NEAR_52_WEEK_LOW,
+                i -> s.hasIndicator(i) && s.getDistanceTo52WeekLow(i) <= NEAR_52W_MAX_DISTANCE);
+    }
+
+    /**
+     * Adds the predicates of the templates that check for a consolidation.
+     */
+    private void addConsolidationPredicates() {
+        LatestQuotationSnapshot s = this.snapshot;
+
+        this.predicates.put(ScanTemplate.BREAKOUT_CANDIDATES,
+                i -> s.hasIndicator(i) && s.getVolumeDifferential5Days(i) < 0
+                        && s.getDistanceTo52WeekHigh(i) >= BREAKOUT_MIN_DISTANCE_52W_HIGH && this.isBbwTight(i)
+                        && s.getBaseLengthWeeks(i) >= BREAKOUT_MIN_BASE_LENGTH);
+
+        this.predicates.put(ScanTemplate.CONSOLIDATION_10_WEEKS,
+                i -> s.hasIndicator(i) && s.getBollingerBandWidth10Weeks(i) < CONSOLIDATION_MAX_BBW_10_WEEKS
+                        && this.isBbwTight(i) && s.getVolumeDifferential5Days(i) < 0);
+
+        this.predicates.put(ScanTemplate.CONSOLIDATION_10_DAYS,
+                i -> s.hasIndicator(i) && s.getVolumeDifferential5Days(i) < 0 && this.isBbwTight(i));
+
+        this.predicates.put(ScanTemplate.BUYABLE_BASE,
+                i -> s.hasIndicator(i) && s.hasMovingAverageData(i) && s.getClose(i) > s.getEma21(i)
+                        && s.getClose(i) > s.getSma50(i) && s.getEma21(i) > s.getSma50(i) && this.isBbwTight(i)
+                        && s.getVolumeDifferential5Days(i) < 0);
+
+        this.predicates.put(ScanTemplate.MA_PRICE_CONVERGENCE, i -> s.hasIndicator(i) && this.isBbwTight(i));
+    }
+
+    /**
+     * Adds the predicates of the templates that check for price moves on volume.
+     */
+    private void addVolumePredicates() {
+        LatestQuotationSnapshot s = this.snapshot;
+
+        this.predicates.put(ScanTemplate.UP_ON_VOLUME,
+                i -> s.hasIndicator(i) && s.getVolumeDifferential5Days(i) >= ON_VOLUME_MIN_VOLUME_DIFFERENTIAL
+                        && s.getPerformance5Days(i) >= ON_VOLUME_MIN_PERFORMANCE);
+
+        this.predicates.put(ScanTemplate.DOWN_ON_VOLUME,
+                i -> s.hasIndicator(i) && s.getVolumeDifferential5Days(i) >= ON_VOLUME_MIN_VOLUME_DIFFERENTIAL
+                        && s.getPerformance5Days(i) <= -ON_VOLUME_MIN_PERFORMANCE);
+    }
+
+    /**
+     * Adds the predicates of the templates whose final result is determined during post processing.
+     */
+    private void addPredicatesWithPostProcessing() {
+        LatestQuotationSnapshot s = this.snapshot;
+
+        this.predicates.put(ScanTemplate.HIGH_TIGHT_FLAG,
+                i -> s.hasIndicator(i) && s.getDistanceTo52WeekHigh(i) >= MIN_DISTANCE_52W_HIGH_25);
+
+        this.predicates.put(ScanTemplate.ALL, i -> s.hasIndicator(i));
+        this.predicates.put(ScanTemplate.RS_SINCE_DATE, i -> s.hasIndicator(i));
+        this.predicates.put(ScanTemplate.THREE_WEEKS_TIGHT, i -> s.hasIndicator(i));
+        this.predicates.put(ScanTemplate.RS_NEAR_HIGH_IG, i -> s.hasIndicator(i));
+    }
+
+    /**
+     * Checks if the Bollinger BandWidth (10 days) is at or below the threshold of its lowest 25 percent.
+     *
+     * @param index The index of the row.
+     * @return true, if the Bollinger BandWidth is tight.
+     */
+    private boolean isBbwTight(final int index) {
+        return this.snapshot.getBollingerBandWidth10Days(index) <= this.snapshot.getBbw10Threshold25Percent(index);
+    }
+}
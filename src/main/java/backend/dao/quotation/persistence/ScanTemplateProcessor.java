@@ -1,13 +1,14 @@
 package backend.dao.quotation.persistence;
 
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import backend.model.LocalizedException;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
-import backend.model.instrument.QuotationArray;
 import backend.model.instrument.RelativeStrengthData;
 import backend.webservice.ScanTemplate;
 
@@ -76,6 +77,9 @@ public class ScanTemplateProcessor {
     /**
      * Fills transient attributes of the given quotations.
      *
+     * The most recent quotations of all sectors and industry groups are loaded once and indexed by Instrument ID. The
+     * indexes are shared by all attributes that are filled.
+     *
      * @param instrumentType The InstrumentType of the given quotations.
      * @param quotations     The quotations with their referenced data whose transient attributes are to be filled.
      * @throws Exception In case an error occurred during data determination.
@@ -83,35 +87,39 @@ public class ScanTemplateProcessor {
     protected void fillTransientAttributes(final InstrumentType instrumentType, final List<Quotation> quotations)
             throws Exception {
 
-        this.fillSectorRsNumber(instrumentType, quotations);
-        this.fillIndustryGroupRsNumber(instrumentType, quotations);
-        this.fillCompositeRsNumberIg(instrumentType, quotations);
+        Map<Integer, Quotation> sectorQuotations;
+        Map<Integer, Quotation> industryGroupQuotations;
+
+        if (quotations.size() == 0 || instrumentType != InstrumentType.STOCK) {
+            return;
+        }
+
+        sectorQuotations = this.getIndexByInstrumentId(
+                this.quotationHibernateDAO.getRecentQuotations(InstrumentType.SECTOR));
+        industryGroupQuotations = this.getIndexByInstrumentId(
+                this.quotationHibernateDAO.getRecentQuotations(InstrumentType.IND_GROUP));
+
+        this.fillSectorRsNumber(quotations, sectorQuotations);
+        this.fillIndustryGroupRsNumber(quotations, industryGroupQuotations);
+        this.fillCompositeRsNumberIg(quotations, industryGroupQuotations);
     }
 
     /**
      * Fills the transient attribute: Sector RS number.
      *
-     * @param instrumentType The InstrumentType of the given quotations.
-     * @param quotations     The quotations with their referenced data whose transient attributes are to be filled.
-     * @throws Exception In case an error occurred during data determination.
+     * @param quotations       The quotations with their referenced data whose transient attributes are to be filled.
+     * @param sectorQuotations The most recent quotations of the sectors, indexed by Instrument ID.
      */
-    private void fillSectorRsNumber(final InstrumentType instrumentType, final List<Quotation> quotations)
-            throws Exception {
-        QuotationArray sectorQuotations = new QuotationArray();
+    private void fillSectorRsNumber(final List<Quotation> quotations, final Map<Integer, Quotation> sectorQuotations) {
         Quotation sectorQuotation;
 
-        if (quotations.size() == 0 || instrumentType != InstrumentType.STOCK) {
-            return;
-        }
-
-        sectorQuotations.setQuotations(this.quotationHibernateDAO.getRecentQuotations(InstrumentType.SECTOR));
-
         // Determine and set the sector RS number for each quotation.
         for (Quotation quotation : quotations) {
             if (quotation.getInstrument().getSector() != null) {
-                sectorQuotation = this.getQuotation(quotation.getInstrument().getSector().getId(), sectorQuotations);
+                sectorQuotation = sectorQuotations.get(quotation.getInstrument().getSector().getId());
 
-                if (sectorQuotation != null && this.areQuotationsOfSameDay(quotation, sectorQuotation)) {
+                if (sectorQuotation != null && this.areQuotationsOfSameDay(quotation, sectorQuotation)
+                        && quotation.getRelativeStrengthData() != null) {
                     quotation.getRelativeStrengthData()
                             .setRsNumberSector(sectorQuotation.getRelativeStrengthData().getRsNumber());
                 }
@@ -122,26 +130,20 @@ public class ScanTemplateProcessor {
     /**
      * Fills the transient attribute: Industry Group RS number.
      *
-     * @param instrumentType The InstrumentType of the given quotations.
-     * @param quotations     The quotations with their referenced data whose transient attributes are to be filled.
-     * @throws Exception In case an error occurred during data determination.
+     * @param quotations              The quotations with their referenced data whose transient attributes are to be
+     *                                filled.
+     * @param industryGroupQuotations The most recent quotations of the industry groups, indexed by Instrument ID.
      */
-    private void fillIndustryGroupRsNumber(final InstrumentType instrumentType, final List<Quotation> quotations)
-            throws Exception {
-        QuotationArray industryGroupQuotations = new QuotationArray();
-        Quotation industryGroupQuotation;
-
-        if (quotations.size() == 0 || instrumentType != InstrumentType.STOCK) {
-            return;
-        }
+    private void fillIndustryGroupRsNumber(final List<Quotation> quotations,
+            final Map<Integer, Quotation> industryGroupQuotations) {
 
-        industryGroupQuotations.setQuotations(this.quotationHibernateDAO.getRecentQuotations(InstrumentType.IND_GROUP));
+        Quotation industryGroupQuotation;
 
         // Determine and set the industry group RS number for each quotation.
         for (Quotation quotation : quotations) {
             if (quotation.getInstrument().getIndustryGroup() != null) {
-                industryGroupQuotation = this.getQuotation(quotation.getInstrument().getIndustryGroup().getId(),
-                        industryGroupQuotations);
+                industryGroupQuotation = industryGroupQuotations
+                        .get(quotation.getInstrument().getIndustryGroup().getId());
 
                 if (industryGroupQuotation != null && this.areQuotationsOfSameDay(quotation, industryGroupQuotation)
                         && quotation.getRelativeStrengthData() != null) {
@@ -155,26 +157,19 @@ public class ScanTemplateProcessor {
     /**
      * Fills the transient attribute: Composite RS number of Instrument and its industry group.
      *
-     * @param instrumentType The InstrumentType of the given quotations.
-     * @param quotations     The quotations with their referenced data whose transient attributes are to be filled.
-     * @throws Exception In case an error occurred during data determination.
+     * @param quotations              The quotations with their referenced data whose transient attributes are to be
+     *                                filled.
+     * @param industryGroupQuotations The most recent quotations of the industry groups, indexed by Instrument ID.
      */
-    private void fillCompositeRsNumberIg(final InstrumentType instrumentType, final List<Quotation> quotations)
-            throws Exception {
+    private void fillCompositeRsNumberIg(final List<Quotation> quotations,
+            final Map<Integer, Quotation> industryGroupQuotations) {
 
-        QuotationArray industryGroupQuotations = new QuotationArray();
         Quotation industryGroupQuotation;
         RelativeStrengthData quotationRsData;
         int rsNumberSum;
         int compositeRsNumber;
         final int fiveComponents = 5;
 
-        if (quotations.size() == 0 || instrumentType != InstrumentType.STOCK) {
-            return;
-        }
-
-        industryGroupQuotations.setQuotations(this.quotationHibernateDAO.getRecentQuotations(InstrumentType.IND_GROUP));
-
         // Determine and set the composite RS number for each quotation.
         for (Quotation quotation : quotations) {
             quotationRsData = quotation.getRelativeStrengthData();
@@ -184,8 +179,8 @@ public class ScanTemplateProcessor {
             }
 
             if (quotation.getInstrument().getIndustryGroup() != null) {
-                industryGroupQuotation = this.getQuotation(quotation.getInstrument().getIndustryGroup().getId(),
-                        industryGroupQuotations);
+                industryGroupQuotation = industryGroupQuotations
+                        .get(quotation.getInstrument().getIndustryGroup().getId());
 
                 if (industryGroupQuotation != null && this.areQuotationsOfSameDay(quotation, industryGroupQuotation)) {
                     rsNumberSum = quotationRsData.getRsNumber() * 2;
@@ -200,25 +195,27 @@ public class ScanTemplateProcessor {
     }
 
     /**
-     * Tries to determine a single Quotation from the given QuotationArray that has the given Instrument ID.
+     * Indexes the given quotations by the ID of their Instrument. If an Instrument has multiple quotations, no distinct
+     * Quotation can be determined. The Instrument is then mapped to null.
      *
-     * @param instrumentId The ID of the Instrument whose Quotation is requested.
-     * @param quotations   The QuotationArray.
-     * @return The Quotation with the given ID, if a distinct entry is found; null otherwise.
+     * @param quotations The quotations.
+     * @return The quotations indexed by Instrument ID.
      */
-    private Quotation getQuotation(final int instrumentId, final QuotationArray quotations) {
-        List<Quotation> quotationsOfInstrument;
-        Quotation quotation;
+    private Map<Integer, Quotation> getIndexByInstrumentId(final List<Quotation> quotations) {
+        Map<Integer, Quotation> quotationsByInstrumentId = new HashMap<>(quotations.size() * 2);
+        Integer instrumentId;
 
-        quotationsOfInstrument = quotations.getQuotationsByInstrumentId(instrumentId);
+        for (Quotation quotation : quotations) {
+            instrumentId = quotation.getInstrument().getId();
 
-        if (quotationsOfInstrument.size() == 1) {
-            quotation = quotationsOfInstrument.get(0);
-        } else {
-            quotation = null;
+            if (quotationsByInstrumentId.containsKey(instrumentId)) {
+                quotationsByInstrumentId.put(instrumentId, null);
+            } else {
+                quotationsByInstrumentId.put(instrumentId, quotation);
+            }
         }
 
-        return quotation;
+        return quotationsByInstrumentId;
     }
 
     /**
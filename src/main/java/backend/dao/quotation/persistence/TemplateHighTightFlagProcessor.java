@@ -2,6 +2,7 @@ package backend.dao.quotation.persistence;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import backend.calculator.PerformanceCalculator;
 import backend.model.instrument.Quotation;
@@ -24,6 +25,11 @@ public class TemplateHighTightFlagProcessor {
      */
     private static final float HIGH_TIGHT_FLAG_THRESHOLD = 75;
 
+    /**
+     * The maximum number of trading days of a "High Tight Flag" (14 weeks with 5 trading days each).
+     */
+    private static final int MAX_DAYS_FOR_PATTERN = 70;
+
     /**
      * Initializes the TemplateHighTightFlagProcessor.
      *
@@ -43,13 +49,17 @@ public class TemplateHighTightFlagProcessor {
      */
     public void postProcessingHighTightFlag(final List<Quotation> quotations) throws Exception {
         Iterator<Quotation> quotationIterator = quotations.iterator();
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
         QuotationArray quotationArray;
         Quotation currentQuotation;
 
+        // One more Quotation than the pattern length is needed to determine the performance of the pattern.
+        quotationsOfInstruments = this.quotationHibernateDAO.getQuotationsOfInstruments(
+                new QuotationArray(quotations).getInstrumentIds(), MAX_DAYS_FOR_PATTERN + 1);
+
         while (quotationIterator.hasNext()) {
             currentQuotation = quotationIterator.next();
-            quotationArray = new QuotationArray(
-                    this.quotationHibernateDAO.getQuotationsOfInstrument(currentQuotation.getInstrument().getId()));
+            quotationArray = new QuotationArray(quotationsOfInstruments.get(currentQuotation.getInstrument().getId()));
 
             if (!this.isHighTightFlag(quotationArray)) {
                 quotationIterator.remove();
@@ -65,21 +75,18 @@ public class TemplateHighTightFlagProcessor {
      */
     private boolean isHighTightFlag(final QuotationArray quotationArray) {
         PerformanceCalculator performanceCalculator = new PerformanceCalculator();
-        final int tradingDaysPerWeek = 5;
-        final int maxWeeksForPattern = 14;
-        final int maxDaysForPattern = tradingDaysPerWeek * maxWeeksForPattern;
         Quotation currentQuotation;
         Quotation maxQuotationForPattern;
         float performanceMaxQuotation;
 
         // Not enough trading days to evaluate pattern.
-        if (quotationArray.getQuotations().size() <= maxDaysForPattern) {
+        if (quotationArray.getQuotations().size() <= MAX_DAYS_FOR_PATTERN) {
             return false;
         }
 
         quotationArray.sortQuotationsByDate();
         currentQuotation = quotationArray.getQuotations().get(0);
-        maxQuotationForPattern = quotationArray.getQuotations().get(maxDaysForPattern);
+        maxQuotationForPattern = quotationArray.getQuotations().get(MAX_DAYS_FOR_PATTERN);
 
         performanceMaxQuotation = performanceCalculator.getPerformance(currentQuotation, maxQuotationForPattern);
 
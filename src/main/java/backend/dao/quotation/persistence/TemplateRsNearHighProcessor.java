@@ -1,7 +1,12 @@
 package backend.dao.quotation.persistence;
 
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import backend.calculator.IndicatorCalculator;
 import backend.calculator.RatioCalculator;
@@ -18,6 +23,13 @@ import backend.webservice.ScanTemplate;
  * @author Michael
  */
 public class TemplateRsNearHighProcessor {
+    /**
+     * The number of weeks that the loaded trading history exceeds a year. The RS-Line only consists of the days on
+     * which both dividend and divisor have been traded. The margin assures that the RS-Line still covers the 252
+     * trading days of its 52-week high, if the holidays of dividend and divisor differ.
+     */
+    private static final int HOLIDAY_MARGIN_WEEKS = 4;
+
     /**
      * DAO to access Quotation data.
      */
@@ -46,19 +58,62 @@ public class TemplateRsNearHighProcessor {
             throws LocalizedException, Exception {
 
         Iterator<Quotation> quotationIterator = quotations.iterator();
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
+        Set<Integer> instrumentIds = new HashSet<>();
         Quotation currentQuotation;
         Instrument divisor;
 
+        // Load the trading histories of the last year of all dividends and divisors at once.
+        for (Quotation quotation : quotations) {
+            divisor = this.getRsLineDivisor(scanTemplate, quotation.getInstrument());
+            instrumentIds.add(quotation.getInstrument().getId());
+
+            if (divisor != null) {
+                instrumentIds.add(divisor.getId());
+            }
+        }
+
+        quotationsOfInstruments = this.quotationHibernateDAO.getQuotationsOfInstrumentsSince(instrumentIds,
+                this.getHistoryStartDate(quotations));
+
         while (quotationIterator.hasNext()) {
             currentQuotation = quotationIterator.next();
             divisor = this.getRsLineDivisor(scanTemplate, currentQuotation.getInstrument());
 
-            if (!this.isRsLineNearHigh(currentQuotation.getInstrument(), divisor)) {
+            if (!this.isRsLineNearHigh(currentQuotation.getInstrument(), divisor, quotationsOfInstruments)) {
                 quotationIterator.remove();
             }
         }
     }
 
+    /**
+     * Determines the start date of the trading histories that are needed to calculate the 52-week high of the RS-Line
+     * of each of the given quotations. The histories are loaded by date instead of by number of quotations. Otherwise
+     * the RS-Line would cover less than a year, if dividend and divisor are traded on different days.
+     *
+     * @param quotations The quotations whose RS-Line is calculated.
+     * @return The start date of the trading histories.
+     */
+    private Date getHistoryStartDate(final List<Quotation> quotations) {
+        Calendar calendar = Calendar.getInstance();
+        Date oldestDate = null;
+
+        for (Quotation quotation : quotations) {
+            if (oldestDate == null || quotation.getDate().before(oldestDate)) {
+                oldestDate = quotation.getDate();
+            }
+        }
+
+        if (oldestDate != null) {
+            calendar.setTime(oldestDate);
+        }
+
+        calendar.add(Calendar.YEAR, -1);
+        calendar.add(Calendar.WEEK_OF_YEAR, -HOLIDAY_MARGIN_WEEKS);
+
+        return calendar.getTime();
+    }
+
     /**
      * Determines the Instrument used for RS-Line calculation based on the given ScanTemplate.
      *
@@ -83,17 +138,18 @@ public class TemplateRsNearHighProcessor {
     /**
      * Checks if the RS-Line trades near its 52-week high.
      *
-     * @param dividend The Instrument used as dividend for RS-Line calculation.
-     * @param divisor  The Instrument used as divisor for RS-Line calculation.
+     * @param dividend                The Instrument used as dividend for RS-Line calculation.
+     * @param divisor                 The Instrument used as divisor for RS-Line calculation.
+     * @param quotationsOfInstruments The quotations of dividend and divisor.
      * @return true, if RS-Line trades near its 52-week high; false, if not.
      * @throws LocalizedException Informs the user about missing divisor quotations.
      * @throws Exception          Failed to calculate RS-Line.
      */
-    private boolean isRsLineNearHigh(final Instrument dividend, final Instrument divisor)
-            throws LocalizedException, Exception {
+    private boolean isRsLineNearHigh(final Instrument dividend, final Instrument divisor,
+            final Map<Integer, List<Quotation>> quotationsOfInstruments) throws LocalizedException, Exception {
         IndicatorCalculator indicatorCalculator = new IndicatorCalculator();
         final float percentNearHighThreshold = -5;
-        QuotationArray rsLineQuotations = this.getRsLineQuotations(dividend, divisor);
+        QuotationArray rsLineQuotations = this.getRsLineQuotations(dividend, divisor, quotationsOfInstruments);
         float distanceTo52WeekHigh = indicatorCalculator
                 .getDistanceTo52WeekHigh(rsLineQuotations.getQuotations().get(0), rsLineQuotations);
 
@@ -107,14 +163,15 @@ public class TemplateRsNearHighProcessor {
     /**
      * Calculates the quotations that build the RS-Line.
      *
-     * @param dividend The Instrument used as dividend for RS-Line calculation.
-     * @param divisor  The Instrument used as divisor for RS-Line calculation.
+     * @param dividend                The Instrument used as dividend for RS-Line calculation.
+     * @param divisor                 The Instrument used as divisor for RS-Line calculation.
+     * @param quotationsOfInstruments The quotations of dividend and divisor.
      * @return The quotations that build the RS-Line.
      * @throws LocalizedException Informs the user about missing divisor quotations.
      * @throws Exception          Failed to calculate RS-Line.
      */
-    private QuotationArray getRsLineQuotations(final Instrument dividend, final Instrument divisor)
-            throws LocalizedException, Exception {
+    private QuotationArray getRsLineQuotations(final Instrument dividend, final Instrument divisor,
+            final Map<Integer, List<Quotation>> quotationsOfInstruments) throws LocalizedException, Exception {
         RatioCalculator ratioCalculator = new RatioCalculator();
         QuotationArray rsLineQuotations = new QuotationArray();
         List<Quotation> divisorQuotations;
@@ -124,9 +181,9 @@ public class TemplateRsNearHighProcessor {
                     "No divisor Instrument defined to calculate RS-Line of intrument with ID " + dividend.getId());
         }
 
-        dividend.setQuotations(this.quotationHibernateDAO.getQuotationsOfInstrument(dividend.getId()));
+        dividend.setQuotations(quotationsOfInstruments.get(dividend.getId()));
 
-        divisorQuotations = this.quotationHibernateDAO.getQuotationsOfInstrument(divisor.getId());
+        divisorQuotations = quotationsOfInstruments.get(divisor.getId());
         if (divisorQuotations.size() == 0) {
             throw new LocalizedException("quotation.missingDivisorQuotations", divisor.getId());
         } else {
@@ -1,12 +1,15 @@
 package backend.dao.quotation.persistence;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import backend.calculator.PerformanceCalculator;
 import backend.calculator.RelativeStrengthCalculator;
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
+import backend.model.instrument.QuotationRsNumberComparator;
 import backend.tools.DateTools;
 
 /**
@@ -31,7 +34,8 @@ public class TemplateRsSinceDateProcessor {
 
     /**
      * Performs post processing tasks for the given quotations based on the ScanTemplate "RS_SINCE_DATE". The method
-     * calculates and sets the RS number beginning from the given date.
+     * calculates and sets the RS number beginning from the given date. The quotations are sorted by their RS number in
+     * descending order.
      *
      * @param startDateAsString The start date for calculation of the RS number.
      * @param quotations        The quotations on which the post processing is performed.
@@ -44,14 +48,17 @@ public class TemplateRsSinceDateProcessor {
         PerformanceCalculator performanceCalculator = new PerformanceCalculator();
         Date startDate = DateTools.convertStringToDate(startDateAsString);
         QuotationArray quotationsOfInstrument = new QuotationArray();
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
         Quotation quotationOfDate;
         int quotationOfDateIndex;
         float rsPercent;
 
+        quotationsOfInstruments = this.quotationHibernateDAO
+                .getQuotationsOfInstruments(new QuotationArray(quotations).getInstrumentIds(), null);
+
         // Calculate the price performance from the start date to the current date.
         for (Quotation currentQuotation : quotations) {
-            quotationsOfInstrument.setQuotations(
-                    this.quotationHibernateDAO.getQuotationsOfInstrument(currentQuotation.getInstrument().getId()));
+            quotationsOfInstrument.setQuotations(quotationsOfInstruments.get(currentQuotation.getInstrument().getId()));
             quotationOfDateIndex = quotationsOfInstrument.getIndexOfQuotationWithDate(startDate);
             quotationOfDate = quotationsOfInstrument.getQuotations().get(quotationOfDateIndex);
 
@@ -61,5 +68,6 @@ public class TemplateRsSinceDateProcessor {
 
         // Calculate the RS numbers based on the newly calculated performance.
         relativeStrengthCalculator.calculateRsNumber(quotations);
+        Collections.sort(quotations, new QuotationRsNumberComparator());
     }
 }
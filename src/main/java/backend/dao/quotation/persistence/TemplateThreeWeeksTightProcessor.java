@@ -2,6 +2,7 @@ package backend.dao.quotation.persistence;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
@@ -17,6 +18,12 @@ public class TemplateThreeWeeksTightProcessor {
      */
     private static final float THREE_WEEKS_TIGHT_THRESHOLD = 1.015f;
 
+    /**
+     * The number of daily quotations needed to determine the three most recent weekly quotations. Covers six weeks to
+     * take holidays into account.
+     */
+    private static final int MAX_DAILY_QUOTATIONS = 30;
+
     /**
      * DAO to access Quotation data.
      */
@@ -41,14 +48,17 @@ public class TemplateThreeWeeksTightProcessor {
      */
     public void postProcessingThreeWeeksTight(final List<Quotation> quotations) throws Exception {
         Iterator<Quotation> quotationIterator = quotations.iterator();
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
         QuotationArray quotationArray;
         List<Quotation> weeklyQuotations;
         Quotation currentQuotation;
 
+        quotationsOfInstruments = this.quotationHibernateDAO.getQuotationsOfInstruments(
+                new QuotationArray(quotations).getInstrumentIds(), MAX_DAILY_QUOTATIONS);
+
         while (quotationIterator.hasNext()) {
             currentQuotation = quotationIterator.next();
-            quotationArray = new QuotationArray(
-                    this.quotationHibernateDAO.getQuotationsOfInstrument(currentQuotation.getInstrument().getId()));
+            quotationArray = new QuotationArray(quotationsOfInstruments.get(currentQuotation.getInstrument().getId()));
             weeklyQuotations = quotationArray.getWeeklyQuotations(null);
 
             if (!this.isThreeWeeksTight(weeklyQuotations)) {
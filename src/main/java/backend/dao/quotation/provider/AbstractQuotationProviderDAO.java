@@ -1,12 +1,19 @@
 package backend.dao.quotation.provider;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.logging.Level;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import backend.model.Currency;
 import backend.model.StockExchange;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.Quotation;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -17,7 +24,32 @@ import okhttp3.Response;
  *
  * @author Michael
  */
-public abstract class AbstractQuotationProviderDAO {
+public abstract class AbstractQuotationProviderDAO implements QuotationProviderDAO {
+    /**
+     * Application logging.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(AbstractQuotationProviderDAO.class);
+
+    /**
+     * Gets the current quotations of the given instruments. Each Instrument is queried separately. Providers whose API
+     * supports the query of multiple symbols at once override this method.
+     */
+    @Override
+    public List<Quotation> getCurrentQuotations(final List<Instrument> instruments) throws Exception {
+        List<Quotation> quotations = new ArrayList<>(instruments.size());
+
+        for (Instrument instrument : instruments) {
+            try {
+                quotations.add(this.getCurrentQuotation(instrument));
+            } catch (Exception e) {
+                LOGGER.error("Failed to determine quotation for symbol: " + instrument.getSymbol(), e);
+                quotations.add(null);
+            }
+        }
+
+        return quotations;
+    }
+
     /**
      * Gets the Currency for the given StockExchange.
      *
@@ -53,7 +85,7 @@ public abstract class AbstractQuotationProviderDAO {
      * @throws Exception Quotation data determination failed.
      */
     protected String getCurrentQuotationJSON(final String queryUrl, final OkHttpClient okHttpClient) throws Exception {
-        Request request = new Request.Builder().url(queryUrl).header("Connection", "close").build();
+        Request request = new Request.Builder().url(queryUrl).build();
         Response response;
         String jsonResult;
 
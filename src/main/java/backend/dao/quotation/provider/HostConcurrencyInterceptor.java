@@ -0,0 +1,73 @@
+package backend.dao.quotation.provider;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Limits the number of concurrent requests per host. The Dispatcher of OkHttp only limits asynchronous calls, whereas
+ * the quotation providers perform synchronous calls. If gzip compression is disabled, responses are requested without
+ * compression.
+ *
+ * @author Michael
+ */
+public class HostConcurrencyInterceptor implements Interceptor {
+    /**
+     * The permits of each host.
+     */
+    private final Map<String, Semaphore> permitsOfHosts = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of concurrent requests per host.
+     */
+    private final int maxRequestsPerHost;
+
+    /**
+     * Use of gzip compression for responses.
+     */
+    private final boolean gzip;
+
+    /**
+     * Initializes the HostConcurrencyInterceptor.
+     *
+     * @param maxRequestsPerHost Maximum number of concurrent requests per host.
+     * @param gzip               Use of gzip compression for responses.
+     */
+    public HostConcurrencyInterceptor(final int maxRequestsPerHost, final boolean gzip) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Performs the request as soon as a permit for the host of the request is available.
+     */
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+        Request request = chain.request();
+        Semaphore permits = this.permitsOfHosts.computeIfAbsent(request.url().host(),
+                host -> new Semaphore(this.maxRequestsPerHost, true));
+
+        if (!this.gzip && request.header("Accept-Encoding") == null) {
+            request = request.newBuilder().header("Accept-Encoding", "identity").build();
+        }
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + request.url().host());
+        }
+
+        try {
+            return chain.proceed(request);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package backend.dao.quotation.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import backend.controller.MainController;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Configuration of the HTTP client that is shared by all quotation providers. The configuration is read from the
+ * application properties. A default value is used for each property that is not defined.
+ *
+ * @author Michael
+ */
+public class HttpClientConfiguration {
+    /**
+     * Property Key: Maximum number of idle connections kept in the connection pool.
+     */
+    protected static final String PROPERTY_MAX_IDLE_CONNECTIONS = "httpClient.connectionPool.maxIdleConnections";
+
+    /**
+     * Property Key: Number of seconds an idle connection is kept alive.
+     */
+    protected static final String PROPERTY_KEEP_ALIVE = "httpClient.connectionPool.keepAliveSeconds";
+
+    /**
+     * Property Key: Use of HTTP/2 if supported by the server.
+     */
+    protected static final String PROPERTY_HTTP2 = "httpClient.http2";
+
+    /**
+     * Property Key: Use of gzip compression for responses.
+     */
+    protected static final String PROPERTY_GZIP = "httpClient.gzip";
+
+    /**
+     * Property Key: Maximum number of concurrent requests per host.
+     */
+    protected static final String PROPERTY_MAX_REQUESTS_PER_HOST = "httpClient.maxRequestsPerHost";
+
+    /**
+     * Property Key: Connect timeout in seconds.
+     */
+    protected static final String PROPERTY_CONNECT_TIMEOUT = "httpClient.timeout.connectSeconds";
+
+    /**
+     * Property Key: Read timeout in seconds.
+     */
+    protected static final String PROPERTY_READ_TIMEOUT = "httpClient.timeout.readSeconds";
+
+    /**
+     * Property Key: Timeout of a complete call in seconds.
+     */
+    protected static final String PROPERTY_CALL_TIMEOUT = "httpClient.timeout.callSeconds";
+
+    /**
+     * Default maximum number of idle connections kept in the connection pool.
+     */
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 10;
+
+    /**
+     * Default number of seconds an idle connection is kept alive.
+     */
+    private static final int DEFAULT_KEEP_ALIVE = 300;
+
+    /**
+     * Default maximum number of concurrent requests per host.
+     */
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 4;
+
+    /**
+     * Default connect timeout in seconds.
+     */
+    private static final int DEFAULT_CONNECT_TIMEOUT = 10;
+
+    /**
+     * Default read timeout in seconds.
+     */
+    private static final int DEFAULT_READ_TIMEOUT = 30;
+
+    /**
+     * Default timeout of a complete call in seconds.
+     */
+    private static final int DEFAULT_CALL_TIMEOUT = 60;
+
+    /**
+     * Maximum number of idle connections kept in the connection pool.
+     */
+    private int maxIdleConnections;
+
+    /**
+     * Number of seconds an idle connection is kept alive.
+     */
+    private int keepAliveSeconds;
+
+    /**
+     * Use of HTTP/2 if supported by the server.
+     */
+    private boolean http2;
+
+    /**
+     * Use of gzip compression for responses.
+     */
+    private boolean gzip;
+
+    /**
+     * Maximum number of concurrent requests per host.
+     */
+    private int maxRequestsPerHost;
+
+    /**
+     * Connect timeout in seconds.
+     */
+    private int connectTimeoutSeconds;
+
+    /**
+     * Read timeout in seconds.
+     */
+    private int readTimeoutSeconds;
+
+    /**
+     * Timeout of a complete call in seconds.
+     */
+    private int callTimeoutSeconds;
+
+    /**
+     * Initializes the HttpClientConfiguration based on the application properties.
+     *
+     * @throws Exception In case a property could not be read or initialized.
+     */
+    public HttpClientConfiguration() throws Exception {
+        this.maxIdleConnections = this.getIntegerProperty(PROPERTY_MAX_IDLE_CONNECTIONS, DEFAULT_MAX_IDLE_CONNECTIONS);
+        this.keepAliveSeconds = this.getIntegerProperty(PROPERTY_KEEP_ALIVE, DEFAULT_KEEP_ALIVE);
+        this.http2 = this.getBooleanProperty(PROPERTY_HTTP2, true);
+        this.gzip = this.getBooleanProperty(PROPERTY_GZIP, true);
+        this.maxRequestsPerHost = this.getIntegerProperty(PROPERTY_MAX_REQUESTS_PER_HOST,
+                DEFAULT_MAX_REQUESTS_PER_HOST);
+        this.connectTimeoutSeconds = this.getIntegerProperty(PROPERTY_CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT);
+        this.readTimeoutSeconds = this.getIntegerProperty(PROPERTY_READ_TIMEOUT, DEFAULT_READ_TIMEOUT);
+        this.callTimeoutSeconds = this.getIntegerProperty(PROPERTY_CALL_TIMEOUT, DEFAULT_CALL_TIMEOUT);
+    }
+
+    /**
+     * Builds an OkHttpClient based on the configuration.
+     *
+     * Idle connections are kept in the pool and reused by subsequent requests to the same host. This avoids a new TCP
+     * and TLS handshake for each request. OkHttp requests gzip compressed responses and decompresses them
+     * transparently, as long as the request does not define the header "Accept-Encoding" itself.
+     *
+     * @param metrics The metrics that are updated by each call of the client.
+     * @return The OkHttpClient.
+     */
+    public OkHttpClient buildOkHttpClient(final HttpClientMetrics metrics) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        Dispatcher dispatcher = new Dispatcher();
+        List<Protocol> protocols = new ArrayList<>();
+
+        // Limits asynchronous calls. Synchronous calls are limited by the HostConcurrencyInterceptor.
+        dispatcher.setMaxRequestsPerHost(this.maxRequestsPerHost);
+
+        if (this.http2) {
+            protocols.add(Protocol.HTTP_2);
+        }
+
+        protocols.add(Protocol.HTTP_1_1);
+
+        builder.connectionPool(new ConnectionPool(this.maxIdleConnections, this.keepAliveSeconds, TimeUnit.SECONDS));
+        builder.dispatcher(dispatcher);
+        builder.protocols(protocols);
+        builder.connectTimeout(this.connectTimeoutSeconds, TimeUnit.SECONDS);
+        builder.readTimeout(this.readTimeoutSeconds, TimeUnit.SECONDS);
+        builder.callTimeout(this.callTimeoutSeconds, TimeUnit.SECONDS);
+        builder.addInterceptor(new HostConcurrencyInterceptor(this.maxRequestsPerHost, this.gzip));
+        builder.eventListenerFactory(call -> new HttpClientMetricsEventListener(metrics));
+
+        return builder.build();
+    }
+
+    /**
+     * Gets the value of an Integer property.
+     *
+     * @param propertyKey  The key of the property.
+     * @param defaultValue The value used if the property is not defined.
+     * @return The value of the property.
+     * @throws Exception In case the property could not be read or is not a number.
+     */
+    private int getIntegerProperty(final String propertyKey, final int defaultValue) throws Exception {
+        String value = MainController.getInstance().getConfigurationProperty(propertyKey);
+
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        return Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Gets the value of a Boolean property.
+     *
+     * @param propertyKey  The key of the property.
+     * @param defaultValue The value used if the property is not defined.
+     * @return The value of the property.
+     * @throws Exception In case the property could not be read.
+     */
+    private boolean getBooleanProperty(final String propertyKey, final boolean defaultValue) throws Exception {
+        String value = MainController.getInstance().getConfigurationProperty(propertyKey);
+
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * @return the maxIdleConnections
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * @return the keepAliveSeconds
+     */
+    public int getKeepAliveSeconds() {
+        return keepAliveSeconds;
+    }
+
+    /**
+     * @return the http2
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * @return the gzip
+     */
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    /**
+     * @return the maxRequestsPerHost
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * @return the connectTimeoutSeconds
+     */
+    public int getConnectTimeoutSeconds() {
+        return connectTimeoutSeconds;
+    }
+
+    /**
+     * @return the readTimeoutSeconds
+     */
+    public int getReadTimeoutSeconds() {
+        return readTimeoutSeconds;
+    }
+
+    /**
+     * @return the callTimeoutSeconds
+     */
+    public int getCallTimeoutSeconds() {
+        return callTimeoutSeconds;
+    }
+}
@@ -0,0 +1,154 @@
+package backend.dao.quotation.provider;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the HTTP client that is shared by all quotation providers. The handshake time covers the establishment of
+ * new connections including TCP and TLS handshake. Calls that reuse a pooled connection have no handshake. The
+ * response time covers a call from its start until the response headers have been received.
+ *
+ * @author Michael
+ */
+public class HttpClientMetrics {
+    /**
+     * The number of calls.
+     */
+    private final AtomicLong numberOfCalls = new AtomicLong();
+
+    /**
+     * The number of failed calls.
+     */
+    private final AtomicLong numberOfFailedCalls = new AtomicLong();
+
+    /**
+     * The number of newly established connections.
+     */
+    private final AtomicLong numberOfHandshakes = new AtomicLong();
+
+    /**
+     * The total time of all handshakes in milliseconds.
+     */
+    private final AtomicLong totalHandshakeMillis = new AtomicLong();
+
+    /**
+     * The number of received responses.
+     */
+    private final AtomicLong numberOfResponses = new AtomicLong();
+
+    /**
+     * The total response time of all calls in milliseconds.
+     */
+    private final AtomicLong totalResponseMillis = new AtomicLong();
+
+    /**
+     * Records the start of a call.
+     */
+    public void recordCall() {
+        this.numberOfCalls.incrementAndGet();
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public void recordFailedCall() {
+        this.numberOfFailedCalls.incrementAndGet();
+    }
+
+    /**
+     * Records the establishment of a new connection.
+     *
+     * @param handshakeMillis The time in milliseconds that the handshake took.
+     */
+    public void recordHandshake(final long handshakeMillis) {
+        this.numberOfHandshakes.incrementAndGet();
+        this.totalHandshakeMillis.addAndGet(handshakeMillis);
+    }
+
+    /**
+     * Records a received response.
+     *
+     * @param responseMillis The time in milliseconds from the start of the call until the response has been received.
+     */
+    public void recordResponse(final long responseMillis) {
+        this.numberOfResponses.incrementAndGet();
+        this.totalResponseMillis.addAndGet(responseMillis);
+    }
+
+    /**
+     * @return the numberOfCalls
+     */
+    public long getNumberOfCalls() {
+        return numberOfCalls.get();
+    }
+
+    /**
+     * @return the numberOfFailedCalls
+     */
+    public long getNumberOfFailedCalls() {
+        return numberOfFailedCalls.get();
+    }
+
+    /**
+     * @return the numberOfHandshakes
+     */
+    public long getNumberOfHandshakes() {
+        return numberOfHandshakes.get();
+    }
+
+    /**
+     * Gets the average time of a handshake.
+     *
+     * @return The average handshake time in milliseconds; 0, if no handshake has been recorded.
+     */
+    public long getAverageHandshakeMillis() {
+        long handshakes = this.numberOfHandshakes.get();
+
+        if (handshakes == 0) {
+            return 0;
+        }
+
+        return this.totalHandshakeMillis.get() / handshakes;
+    }
+
+    /**
+     * Gets the average response time of a call.
+     *
+     * @return The average response time in milliseconds; 0, if no response has been recorded.
+     */
+    public long getAverageResponseMillis() {
+        long responses = this.numberOfResponses.get();
+
+        if (responses == 0) {
+            return 0;
+        }
+
+        return this.totalResponseMillis.get() / responses;
+    }
+
+    /**
+     * Gets the share of calls that reused a pooled connection.
+     *
+     * @return The share of calls in percent; 0, if no call has been recorded.
+     */
+    public long getConnectionReusePercent() {
+        final long hundredPercent = 100;
+        long calls = this.numberOfCalls.get();
+
+        if (calls == 0) {
+            return 0;
+        }
+
+        return Math.max(0, calls - this.numberOfHandshakes.get()) * hundredPercent / calls;
+    }
+
+    /**
+     * Provides a summary of the metrics.
+     */
+    @Override
+    public String toString() {
+        return "calls=" + this.getNumberOfCalls() + ", failedCalls=" + this.getNumberOfFailedCalls() + ", handshakes="
+                + this.getNumberOfHandshakes() + ", averageHandshakeMillis=" + this.getAverageHandshakeMillis()
+                + ", averageResponseMillis=" + this.getAverageResponseMillis() + ", connectionReusePercent="
+                + this.getConnectionReusePercent();
+    }
+}
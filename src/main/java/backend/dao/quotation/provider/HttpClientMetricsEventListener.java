@@ -0,0 +1,97 @@
+package backend.dao.quotation.provider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import okhttp3.Response;
+
+/**
+ * Measures handshake and response time of a single call and records them in the shared HttpClientMetrics. A new
+ * listener is created for each call.
+ *
+ * @author Michael
+ */
+public class HttpClientMetricsEventListener extends EventListener {
+    /**
+     * The metrics that are updated by the call.
+     */
+    private final HttpClientMetrics metrics;
+
+    /**
+     * The start time of the call in nanoseconds.
+     */
+    private long callStartNanos;
+
+    /**
+     * The start time of the connection establishment in nanoseconds.
+     */
+    private long connectStartNanos;
+
+    /**
+     * Initializes the HttpClientMetricsEventListener.
+     *
+     * @param metrics The metrics that are updated by the call.
+     */
+    public HttpClientMetricsEventListener(final HttpClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Records the start of the call.
+     */
+    @Override
+    public void callStart(final Call call) {
+        this.callStartNanos = System.nanoTime();
+        this.metrics.recordCall();
+    }
+
+    /**
+     * Records the start of a new connection.
+     */
+    @Override
+    public void connectStart(final Call call, final InetSocketAddress inetSocketAddress, final Proxy proxy) {
+        this.connectStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the duration of the TCP and TLS handshake of a new connection.
+     */
+    @Override
+    public void connectEnd(final Call call, final InetSocketAddress inetSocketAddress, final Proxy proxy,
+            final Protocol protocol) {
+
+        this.metrics.recordHandshake(this.getMillisSince(this.connectStartNanos));
+    }
+
+    /**
+     * Records the response time of the call.
+     */
+    @Override
+    public void responseHeadersEnd(final Call call, final Response response) {
+        this.metrics.recordResponse(this.getMillisSince(this.callStartNanos));
+    }
+
+    /**
+     * Records the failure of the call.
+     */
+    @Override
+    public void callFailed(final Call call, final IOException ioe) {
+        this.metrics.recordFailedCall();
+    }
+
+    /**
+     * Gets the milliseconds that have passed since the given time.
+     *
+     * @param startNanos The start time in nanoseconds.
+     * @return The passed time in milliseconds.
+     */
+    private long getMillisSince(final long startNanos) {
+        final long nanosPerMilli = 1_000_000;
+
+        return (System.nanoTime() - startNanos) / nanosPerMilli;
+    }
+}
@@ -2,9 +2,16 @@ package backend.dao.quotation.provider;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -22,6 +29,11 @@ import okhttp3.OkHttpClient;
  * @author Michael
  */
 public class QuotationProviderCNBCDAO extends AbstractQuotationProviderDAO implements QuotationProviderDAO {
+    /**
+     * Application logging.
+     */
+    public static final Logger LOGGER = LogManager.getLogger(QuotationProviderCNBCDAO.class);
+
     /**
      * Placeholder for the symbol used in a query URL.
      */
@@ -39,6 +51,16 @@ public class QuotationProviderCNBCDAO extends AbstractQuotationProviderDAO imple
             + "restQuote/symbolType/symbol?symbols=" + PLACEHOLDER_SYMBOL + PLACEHOLDER_COUNTRY_CODE
             + "&requestMethod=itv&noform=1&partnerId=2&fund=1&exthrs=1&output=json&events=1";
 
+    /**
+     * The URL encoded separator of multiple symbols within a query URL.
+     */
+    private static final String SYMBOL_SEPARATOR = "%7C";
+
+    /**
+     * The maximum number of symbols that are queried with a single request.
+     */
+    private static final int MAX_SYMBOLS_PER_QUERY = 50;
+
     /**
      * The HTTP client used for data queries.
      */
@@ -71,6 +93,57 @@ public class QuotationProviderCNBCDAO extends AbstractQuotationProviderDAO imple
         return quotation;
     }
 
+    /**
+     * Gets the current quotations of the given instruments. Multiple symbols are queried with a single request.
+     */
+    @Override
+    public List<Quotation> getCurrentQuotations(final List<Instrument> instruments) throws Exception {
+        List<Quotation> quotations = new ArrayList<>(instruments.size());
+        List<String> instrumentQuerySymbols = new ArrayList<>(instruments.size());
+        Set<String> querySymbols = new LinkedHashSet<>();
+        Map<String, Quotation> quotationsOfSymbols = new HashMap<>();
+        List<String> distinctQuerySymbols;
+        List<String> querySymbolsOfRequest;
+        String querySymbol;
+        String jsonQuotations;
+
+        for (Instrument instrument : instruments) {
+            try {
+                querySymbol = instrument.getSymbol() + this.getCountryCodeParameter(instrument.getStockExchange());
+                querySymbols.add(querySymbol);
+            } catch (Exception e) {
+                LOGGER.error("Failed to determine quotation for symbol: " + instrument.getSymbol(), e);
+                querySymbol = null;
+            }
+
+            instrumentQuerySymbols.add(querySymbol);
+        }
+
+        distinctQuerySymbols = new ArrayList<>(querySymbols);
+
+        for (int i = 0; i < distinctQuerySymbols.size(); i += MAX_SYMBOLS_PER_QUERY) {
+            querySymbolsOfRequest = distinctQuerySymbols.subList(i,
+                    Math.min(i + MAX_SYMBOLS_PER_QUERY, distinctQuerySymbols.size()));
+
+            try {
+                jsonQuotations = this.getCurrentQuotationsJSON(querySymbolsOfRequest);
+                quotationsOfSymbols.putAll(this.convertJSONToQuotations(jsonQuotations));
+            } catch (Exception e) {
+                LOGGER.error("Failed to determine quotations for symbols: " + querySymbolsOfRequest, e);
+            }
+        }
+
+        for (String instrumentQuerySymbol : instrumentQuerySymbols) {
+            if (instrumentQuerySymbol == null) {
+                quotations.add(null);
+            } else {
+                quotations.add(quotationsOfSymbols.get(instrumentQuerySymbol.toUpperCase(Locale.ROOT)));
+            }
+        }
+
+        return quotations;
+    }
+
     /**
      * Gets the Quotation history.
      */
@@ -94,6 +167,20 @@ public class QuotationProviderCNBCDAO extends AbstractQuotationProviderDAO imple
         return jsonResult;
     }
 
+    /**
+     * Gets the current quotation data of multiple symbols from CNBC as JSON String.
+     *
+     * @param querySymbols The symbols including their country code as used in a query URL.
+     * @return The quotation data as JSON string.
+     * @throws Exception Quotation data determination failed.
+     */
+    protected String getCurrentQuotationsJSON(final List<String> querySymbols) throws Exception {
+        String queryUrl = this.getQueryUrlCurrentQuotations(querySymbols);
+        String jsonResult = this.getCurrentQuotationJSON(queryUrl, this.httpClient);
+
+        return jsonResult;
+    }
+
     /**
      * Converts the quotation data from CNBC provided as JSON String to a Quotation object.
      *
@@ -102,7 +189,7 @@ public class QuotationProviderCNBCDAO extends AbstractQuotationProviderDAO imple
      * @throws Exception Quotation conversion failed.
      */
     protected Quotation convertJSONToQuotation(final String quotationDataAsJSON) throws Exception {
-        Quotation quotation = new Quotation();
+        Quotation quotation;
         ObjectMapper mapper = new ObjectMapper();
         Map<?, ?> map;
         LinkedHashMap<?, ?> quoteResponse;
@@ -115,14 +202,69 @@ public class QuotationProviderCNBCDAO extends AbstractQuotationProviderDAO imple
             result = (ArrayList<?>) quoteResponse.get("FormattedQuote");
             resultAttributes = (LinkedHashMap<?, ?>) result.get(0);
 
-            quotation.setCurrency(this.getCurrency((String) resultAttributes.get("currencyCode")));
-            quotation.setClose(this.getPrice((String) resultAttributes.get("last"), quotation.getCurrency()));
+            quotation = this.convertAttributesToQuotation(resultAttributes);
+        } catch (JsonMappingException e) {
+            throw new Exception(e);
+        } catch (JsonProcessingException e) {
+            throw new Exception(e);
+        }
+
+        return quotation;
+    }
+
+    /**
+     * Converts the quotation data of multiple symbols from CNBC provided as JSON String to Quotation objects.
+     *
+     * @param quotationDataAsJSON The quotation data as JSON String.
+     * @return The quotations, keyed by the upper case symbol including its country code as used in a query URL.
+     * @throws Exception Quotation conversion failed.
+     */
+    protected Map<String, Quotation> convertJSONToQuotations(final String quotationDataAsJSON) throws Exception {
+        Map<String, Quotation> quotations = new HashMap<>();
+        ObjectMapper mapper = new ObjectMapper();
+        Map<?, ?> map;
+        LinkedHashMap<?, ?> quoteResponse;
+        ArrayList<?> result;
+        LinkedHashMap<?, ?> resultAttributes;
+
+        try {
+            map = mapper.readValue(quotationDataAsJSON, Map.class);
+            quoteResponse = (LinkedHashMap<?, ?>) map.get("FormattedQuoteResult");
+            result = (ArrayList<?>) quoteResponse.get("FormattedQuote");
+
+            for (Object resultEntry : result) {
+                resultAttributes = (LinkedHashMap<?, ?>) resultEntry;
+
+                // Unknown symbols are part of the result but have no price.
+                if (resultAttributes.get("last") == null) {
+                    continue;
+                }
+
+                // The symbol of the response is compared case-insensitive to the symbol of the query.
+                quotations.put(((String) resultAttributes.get("symbol")).toUpperCase(Locale.ROOT),
+                        this.convertAttributesToQuotation(resultAttributes));
+            }
         } catch (JsonMappingException e) {
             throw new Exception(e);
         } catch (JsonProcessingException e) {
             throw new Exception(e);
         }
 
+        return quotations;
+    }
+
+    /**
+     * Converts the attributes of a single quote provided by CNBC to a Quotation object.
+     *
+     * @param resultAttributes The attributes of a single quote.
+     * @return The Quotation.
+     */
+    private Quotation convertAttributesToQuotation(final LinkedHashMap<?, ?> resultAttributes) {
+        Quotation quotation = new Quotation();
+
+        quotation.setCurrency(this.getCurrency((String) resultAttributes.get("currencyCode")));
+        quotation.setClose(this.getPrice((String) resultAttributes.get("last"), quotation.getCurrency()));
+
         return quotation;
     }
 
@@ -144,6 +286,21 @@ public class QuotationProviderCNBCDAO extends AbstractQuotationProviderDAO imple
         return queryUrl;
     }
 
+    /**
+     * Gets the query URL for the current quotations of multiple symbols.
+     *
+     * @param querySymbols The symbols including their country code as used in a query URL.
+     * @return The query URL.
+     */
+    protected String getQueryUrlCurrentQuotations(final List<String> querySymbols) {
+        String queryUrl = new String(BASE_URL_CURRENT_QUOTATION);
+
+        queryUrl = queryUrl.replace(PLACEHOLDER_SYMBOL, String.join(SYMBOL_SEPARATOR, querySymbols));
+        queryUrl = queryUrl.replace(PLACEHOLDER_COUNTRY_CODE, "");
+
+        return queryUrl;
+    }
+
     /**
      * Provides the country code URL parameter for the given StockExchange.
      *
@@ -20,6 +20,18 @@ public interface QuotationProviderDAO {
      */
     Quotation getCurrentQuotation(Instrument instrument) throws Exception;
 
+    /**
+     * Provides a Quotation with the most recent data of each of the given instruments. Providers whose API supports
+     * the query of multiple symbols at once determine the quotations with a few requests. All other providers query
+     * each Instrument separately.
+     *
+     * @param instruments The instruments for which the current quotations are requested.
+     * @return The most recent Quotation of each Instrument in the order of the given instruments. An element is null,
+     *         if the Quotation of the Instrument could not be determined.
+     * @throws Exception In case the Quotation retrieval failed.
+     */
+    List<Quotation> getCurrentQuotations(List<Instrument> instruments) throws Exception;
+
     /**
      * Gets historical quotations of an instrument.
      *
@@ -1,7 +1,9 @@
 package backend.dao.quotation.provider;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import backend.controller.DataProvider;
-import backend.controller.MainController;
 import okhttp3.OkHttpClient;
 
 /**
@@ -15,11 +17,26 @@ public final class QuotationProviderDAOFactory {
      */
     private static QuotationProviderDAOFactory instance;
 
+    /**
+     * Application logging.
+     */
+    public static final Logger LOGGER = LogManager.getLogger(QuotationProviderDAOFactory.class);
+
     /**
      * Client that is used for HTTP queries of third-party WebServices.
+     *
+     * The OkHttpClient instance is shared by all quotation providers. This way connections of the pool are reused
+     * across providers and requests.
+     *
+     * @see https://square.github.io/okhttp/4.x/okhttp/okhttp3/-ok-http-client/
      */
     private OkHttpClient okHttpClient;
 
+    /**
+     * Metrics of the shared OkHttpClient.
+     */
+    private HttpClientMetrics httpClientMetrics;
+
     /**
      * Provider of quotation data from Yahoo.
      */
@@ -49,7 +66,14 @@ public final class QuotationProviderDAOFactory {
      * Initializes the QuotationProviderDAOFactory.
      */
     private QuotationProviderDAOFactory() {
-        this.okHttpClient = MainController.getInstance().getOkHttpClient();
+        this.httpClientMetrics = new HttpClientMetrics();
+
+        try {
+            this.okHttpClient = new HttpClientConfiguration().buildOkHttpClient(this.httpClientMetrics);
+        } catch (Exception e) {
+            LOGGER.error("The HTTP client configuration could not be read. The default configuration is used.", e);
+            this.okHttpClient = new OkHttpClient();
+        }
     }
 
     /**
@@ -57,7 +81,7 @@ public final class QuotationProviderDAOFactory {
      *
      * @return The instance of the QuotationProviderDAOFactory.
      */
-    public static QuotationProviderDAOFactory getInstance() {
+    public static synchronized QuotationProviderDAOFactory getInstance() {
         if (instance == null) {
             instance = new QuotationProviderDAOFactory();
         }
@@ -65,13 +89,36 @@ public final class QuotationProviderDAOFactory {
         return instance;
     }
 
+    /**
+     * Gets the metrics of the HTTP client that is shared by all quotation providers.
+     *
+     * @return The HttpClientMetrics.
+     */
+    public HttpClientMetrics getHttpClientMetrics() {
+        return this.httpClientMetrics;
+    }
+
+    /**
+     * Closes all pooled connections and clients of the quotation providers and logs the metrics of the HTTP client.
+     */
+    public synchronized void close() {
+        LOGGER.info("HTTP client metrics: " + this.httpClientMetrics.toString());
+
+        if (this.globeAndMailDAO != null) {
+            this.globeAndMailDAO.close();
+        }
+
+        this.okHttpClient.dispatcher().executorService().shutdown();
+        this.okHttpClient.connectionPool().evictAll();
+    }
+
     /**
      * Returns a QuotationProviderDAO implementation based on the given DataProvider.
      *
      * @param dataProvider The DataProvider for which the QuotationProviderDAO is requested.
      * @return The QuotationProviderDAO for the given DataProvider.
      */
-    public QuotationProviderDAO getQuotationProviderDAO(final DataProvider dataProvider) {
+    public synchronized QuotationProviderDAO getQuotationProviderDAO(final DataProvider dataProvider) {
         switch (dataProvider) {
         case YAHOO:
             return this.getQuotationProviderYahooDAO();
@@ -134,7 +181,7 @@ public final class QuotationProviderDAOFactory {
      */
     private QuotationProviderInvestingDAO getQuotationProviderInvestingDAO() {
         if (this.investingDAO == null) {
-            this.investingDAO = new QuotationProviderInvestingDAO();
+            this.investingDAO = new QuotationProviderInvestingDAO(this.okHttpClient);
         }
 
         return this.investingDAO;
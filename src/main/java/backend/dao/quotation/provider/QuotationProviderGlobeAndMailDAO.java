@@ -13,6 +13,8 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.gargoylesoftware.htmlunit.WebClient;
 import com.gargoylesoftware.htmlunit.html.DomElement;
@@ -61,11 +63,33 @@ public class QuotationProviderGlobeAndMailDAO extends AbstractQuotationProviderD
             + "queryeod.ashx?symbol=" + PLACEHOLDER_SYMBOL + PLACEHOLDER_EXCHANGE + "&data=daily&maxrecords="
             + PLACEHOLDER_DAYS + "&volume=contract&order=asc&dividends=false&backadjust=false";
 
+    /**
+     * The maximum number of WebClients used for rendering of pages.
+     */
+    private static final int WEB_CLIENT_POOL_SIZE = 2;
+
+    /**
+     * Pattern of the overview fields embedded in the static HTML of the current quotation page. The attributes of the
+     * field are captured.
+     */
+    private static final Pattern OVERVIEW_FIELD_PATTERN = Pattern
+            .compile("<span\\s+class=\"barchart-overview-field-value\"\\s*>\\s*<barchart-field\\b([^>]*)>");
+
+    /**
+     * Pattern of the attributes "name" and "value" of an overview field.
+     */
+    private static final Pattern FIELD_ATTRIBUTE_PATTERN = Pattern.compile("\\b(name|value)=\"([^\"]*)\"");
+
     /**
      * The HTTP client used for data queries.
      */
     private OkHttpClient httpClient;
 
+    /**
+     * The WebClients used for rendering of pages.
+     */
+    private final WebClientPool webClientPool = new WebClientPool(WEB_CLIENT_POOL_SIZE);
+
     /**
      * Initializes the QuotationProviderGlobeAndMailDAO.
      */
@@ -85,27 +109,31 @@ public class QuotationProviderGlobeAndMailDAO extends AbstractQuotationProviderD
 
     /**
      * Gets the current Quotation of the given Instrument.
+     *
+     * The price is embedded in the static HTML of the page. The HTML is therefore parsed without rendering. The page is
+     * only rendered if the price can not be found in the static HTML.
      */
     @Override
     public Quotation getCurrentQuotation(final Instrument instrument) throws Exception {
         String url = this.getQueryUrlCurrentQuotation(instrument);
-        WebClient webClient = new WebClient();
-        HtmlPage htmlPage;
         Quotation quotation;
 
-        webClient.getOptions().setUseInsecureSSL(true);
-        webClient.getOptions().setCssEnabled(false);
-        webClient.getOptions().setJavaScriptEnabled(false);
+        if (this.httpClient != null) {
+            quotation = this.getQuotationFromHtml(this.getCurrentQuotationHtml(url), instrument);
 
-        try {
-            htmlPage = webClient.getPage(url);
-
-            quotation = this.getQuotationFromHtmlPage(htmlPage, instrument);
-        } finally {
-            webClient.close();
+            if (quotation != null) {
+                return quotation;
+            }
         }
 
-        return quotation;
+        return this.getQuotationFromRenderedPage(url, instrument);
+    }
+
+    /**
+     * Closes the WebClients used for rendering of pages.
+     */
+    public void close() {
+        this.webClientPool.close();
     }
 
     /**
@@ -127,6 +155,74 @@ public class QuotationProviderGlobeAndMailDAO extends AbstractQuotationProviderD
         return quotationHistory;
     }
 
+    /**
+     * Gets the current Quotation by rendering the page with the given URL.
+     *
+     * @param url        The URL of the page.
+     * @param instrument The Instrument for which Quotation data are extracted.
+     * @return The current Quotation.
+     * @throws Exception Failed to extract Quotation data from the page.
+     */
+    public Quotation getQuotationFromRenderedPage(final String url, final Instrument instrument) throws Exception {
+        WebClient webClient = this.webClientPool.borrow();
+        HtmlPage htmlPage;
+        Quotation quotation;
+
+        try {
+            htmlPage = webClient.getPage(url);
+
+            quotation = this.getQuotationFromHtmlPage(htmlPage, instrument);
+        } finally {
+            this.webClientPool.release(webClient);
+        }
+
+        return quotation;
+    }
+
+    /**
+     * Gets the current Quotation from the static HTML of the page without rendering.
+     *
+     * @param html       The HTML of the page containing the Quotation information.
+     * @param instrument The Instrument for which Quotation data are extracted.
+     * @return The current Quotation; null, if the price could not be found in the HTML.
+     */
+    public Quotation getQuotationFromHtml(final String html, final Instrument instrument) {
+        Quotation quotation;
+        Matcher fieldMatcher = OVERVIEW_FIELD_PATTERN.matcher(html);
+        Matcher attributeMatcher;
+        String currentPrice = "";
+        String nameAttribute;
+        String valueAttribute;
+
+        while (fieldMatcher.find() && "".equals(currentPrice)) {
+            attributeMatcher = FIELD_ATTRIBUTE_PATTERN.matcher(fieldMatcher.group(1));
+            nameAttribute = "";
+            valueAttribute = "";
+
+            while (attributeMatcher.find()) {
+                if ("name".equals(attributeMatcher.group(1))) {
+                    nameAttribute = attributeMatcher.group(2);
+                } else {
+                    valueAttribute = attributeMatcher.group(2);
+                }
+            }
+
+            if ("lastPrice".equals(nameAttribute)) {
+                currentPrice = valueAttribute;
+            }
+        }
+
+        if ("".equals(currentPrice)) {
+            return null;
+        }
+
+        quotation = new Quotation();
+        quotation.setClose(new BigDecimal(currentPrice));
+        quotation.setCurrency(this.getCurrencyForStockExchange(instrument.getStockExchange()));
+
+        return quotation;
+    }
+
     /**
      * Gets the current Quotation from the HTML page.
      *
@@ -315,7 +411,7 @@ public class QuotationProviderGlobeAndMailDAO extends AbstractQuotationProviderD
             final Integer years) throws Exception {
 
         Request request = new Request.Builder().url(this.getQueryUrlQuotationHistory(symbol, stockExchange, years))
-                .header("Connection", "close").build();
+                .build();
         Response response;
         String csvResult;
 
@@ -330,6 +426,28 @@ public class QuotationProviderGlobeAndMailDAO extends AbstractQuotationProviderD
         return csvResult;
     }
 
+    /**
+     * Gets the HTML of the current quotation page.
+     *
+     * @param url The URL of the page.
+     * @return The HTML of the page.
+     * @throws Exception HTML determination failed.
+     */
+    private String getCurrentQuotationHtml(final String url) throws Exception {
+        Request request = new Request.Builder().url(url).build();
+
+        try (Response response = this.httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new Exception(
+                        "The query of theglobeandmail.com failed with HTTP status " + response.code() + ".");
+            }
+
+            return response.body().string();
+        } catch (IOException e) {
+            throw new Exception(e);
+        }
+    }
+
     /**
      * Returns a Quotation based on the content of the given CSV line string.
      *
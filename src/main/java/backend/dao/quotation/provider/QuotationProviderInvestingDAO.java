@@ -1,8 +1,6 @@
 package backend.dao.quotation.provider;
 
-import java.io.InputStream;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -10,14 +8,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.io.IOUtils;
-
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import backend.model.instrument.Instrument;
 import backend.model.instrument.Quotation;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 
 /**
  * Provides access to quotation data using the investing.com website.
@@ -37,11 +36,6 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
      */
     private static final String PLACEHOLDER_INTERVAL = "{interval}";
 
-    /**
-     * Placeholder for the URL used in a cURL command.
-     */
-    private static final String PLACEHOLDER_URL = "{URL}";
-
     /**
      * Placeholder for the start date used in a query URL. The date format is yyyy-mm-dd.
      */
@@ -66,22 +60,17 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
             + "&time-frame=Daily&add-missing-rows=false";
 
     /**
-     * The cURL command used to query current and historical quotations.
+     * The HTTP client used for data queries.
      */
-    private static final String CURL_COMMAND = "curl \"" + PLACEHOLDER_URL + "\" --compressed "
-            + "-H \"User-Agent: Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:132.0) Gecko/20100101 Firefox/132.0\" "
-            + "-H \"Accept: */*\" -H \"Accept-Language: de,en-US;q=0.7,en;q=0.3\" "
-            + "-H \"Accept-Encoding: gzip, deflate\" -H \"Referer: https://www.investing.com/\" "
-            + "-H \"content-type: application/json\" -H \"domain-id: www\" "
-            + "-H \"Origin: https://www.investing.com\" -H \"DNT: 1\" -H \"Sec-GPC: 1\" "
-            + "-H \"Connection: keep-alive\" -H \"Sec-Fetch-Dest: empty\" -H \"Sec-Fetch-Mode: cors\" "
-            + "-H \"Sec-Fetch-Site: same-site\" -H \"Priority: u=4\" -H \"TE: trailers\"";
+    private OkHttpClient httpClient;
 
     /**
      * Initializes the QuotationProviderInvestingDAO.
+     *
+     * @param httpClient The HTTP client used for data queries.
      */
-    public QuotationProviderInvestingDAO() {
-
+    public QuotationProviderInvestingDAO(final OkHttpClient httpClient) {
+        this.httpClient = httpClient;
     }
 
     /**
@@ -90,25 +79,9 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
     @Override
     @Deprecated
     public Quotation getCurrentQuotation(final Instrument instrument) throws Exception {
-        String command = this.getCurlCommandCurrentQuotation(instrument);
-        Quotation quotation;
-        Process process = null;
-        final InputStream resultStream;
-        String jsonResult;
-
-        try {
-            process = Runtime.getRuntime().exec(command);
-            resultStream = process.getInputStream();
-
-            jsonResult = IOUtils.toString(resultStream, StandardCharsets.UTF_8);
-            quotation = this.convertJSONToCurrentQuotation(jsonResult, instrument);
-        } finally {
-            if (process != null) {
-                process.destroy();
-            }
-        }
+        Map<?, ?> jsonResult = this.getJSON(this.getQueryUrlCurrentQuotation(instrument));
 
-        return quotation;
+        return this.convertMapToCurrentQuotation(jsonResult, instrument);
     }
 
     /**
@@ -117,25 +90,47 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
     @Override
     @Deprecated
     public List<Quotation> getQuotationHistory(final Instrument instrument, final Integer years) throws Exception {
-        String command = this.getCurlCommandQuotationHistory(instrument, years);
-        List<Quotation> quotations;
-        Process process = null;
-        final InputStream resultStream;
-        String jsonResult;
-
-        try {
-            process = Runtime.getRuntime().exec(command);
-            resultStream = process.getInputStream();
-
-            jsonResult = IOUtils.toString(resultStream, StandardCharsets.UTF_8);
-            quotations = this.convertJSONToQuotationHistory(jsonResult, instrument);
-        } finally {
-            if (process != null) {
-                process.destroy();
+        Map<?, ?> jsonResult = this.getJSON(this.getQueryUrlQuotationHistory(instrument, years));
+
+        return this.convertMapToQuotationHistory(jsonResult, instrument);
+    }
+
+    /**
+     * Queries the given URL and reads the JSON response. The response is parsed while it is received, without
+     * buffering it as String.
+     *
+     * @param queryUrl The query URL.
+     * @return The JSON response as Map.
+     * @throws Exception In case the query failed or the response could not be parsed.
+     */
+    private Map<?, ?> getJSON(final String queryUrl) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        try (Response response = this.httpClient.newCall(this.getRequest(queryUrl)).execute()) {
+            if (!response.isSuccessful()) {
+                throw new Exception("The query of investing.com failed with HTTP status " + response.code() + ".");
             }
+
+            return mapper.readValue(response.body().byteStream(), Map.class);
         }
+    }
 
-        return quotations;
+    /**
+     * Gets the request for the given URL with the headers expected by the investing.com API. The header
+     * "Accept-Encoding" is not set, because OkHttp requests and decompresses gzip responses transparently.
+     *
+     * @param queryUrl The query URL.
+     * @return The request.
+     */
+    private Request getRequest(final String queryUrl) {
+        return new Request.Builder().url(queryUrl)
+                .header("User-Agent",
+                        "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:132.0) Gecko/20100101 Firefox/132.0")
+                .header("Accept", "*/*").header("Accept-Language", "de,en-US;q=0.7,en;q=0.3")
+                .header("Referer", "https://www.investing.com/").header("content-type", "application/json")
+                .header("domain-id", "www").header("Origin", "https://www.investing.com").header("DNT", "1")
+                .header("Sec-GPC", "1").header("Sec-Fetch-Dest", "empty").header("Sec-Fetch-Mode", "cors")
+                .header("Sec-Fetch-Site", "same-site").header("Priority", "u=4").build();
     }
 
     /**
@@ -147,14 +142,25 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
      * @throws JsonMappingException    JSON Mapping failed.
      * @throws JsonProcessingException JSON processing failed.
      */
-    @SuppressWarnings("unchecked")
     protected Quotation convertJSONToCurrentQuotation(final String jsonString, final Instrument instrument)
             throws JsonMappingException, JsonProcessingException {
 
+        ObjectMapper mapper = new ObjectMapper();
+
+        return this.convertMapToCurrentQuotation(mapper.readValue(jsonString, Map.class), instrument);
+    }
+
+    /**
+     * Converts parsed JSON Quotation data into a Quotation with the most recent data.
+     *
+     * @param map        The parsed JSON data containing multiple quotations.
+     * @param instrument The Instrument the quotation data are related to.
+     * @return The most recent Quotation.
+     */
+    @SuppressWarnings("unchecked")
+    private Quotation convertMapToCurrentQuotation(final Map<?, ?> map, final Instrument instrument) {
         String price;
         String volume;
-        ObjectMapper mapper = new ObjectMapper();
-        Map<?, ?> map;
         ArrayList<ArrayList<Object>> quotations;
         ArrayList<Object> mostRecentQuotation;
         Quotation quotation = new Quotation();
@@ -167,7 +173,6 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
         quotation.setCurrency(this.getCurrencyForStockExchange(instrument.getStockExchange()));
 
         // Get the data of the most recent Quotation.
-        map = mapper.readValue(jsonString, Map.class);
         quotations = (ArrayList<ArrayList<Object>>) map.get("data");
         mostRecentQuotation = quotations.get(quotations.size() - 1);
 
@@ -198,12 +203,23 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
      * @throws JsonMappingException    JSON Mapping failed.
      * @throws JsonProcessingException JSON processing failed.
      */
-    @SuppressWarnings("unchecked")
     protected List<Quotation> convertJSONToQuotationHistory(final String jsonString, final Instrument instrument)
             throws JsonMappingException, JsonProcessingException {
 
         ObjectMapper mapper = new ObjectMapper();
-        Map<?, ?> map;
+
+        return this.convertMapToQuotationHistory(mapper.readValue(jsonString, Map.class), instrument);
+    }
+
+    /**
+     * Converts parsed JSON Quotation data into a List of quotations.
+     *
+     * @param map        The parsed JSON data containing the Quotation history.
+     * @param instrument The Instrument whose quotations are retrieved.
+     * @return A List of quotations.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Quotation> convertMapToQuotationHistory(final Map<?, ?> map, final Instrument instrument) {
         ArrayList<LinkedHashMap<?, ?>> quotationsRaw;
         Quotation quotation;
         List<Quotation> quotations = new ArrayList<>();
@@ -213,7 +229,6 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
         Integer rawVolume;
         final int millisecondsPerSecond = 1000;
 
-        map = mapper.readValue(jsonString, Map.class);
         quotationsRaw = (ArrayList<LinkedHashMap<?, ?>>) map.get("data");
 
         for (LinkedHashMap<?, ?> currentQuotation : quotationsRaw) {
@@ -328,39 +343,6 @@ public class QuotationProviderInvestingDAO extends AbstractQuotationProviderDAO
         return stringBuilder.toString();
     }
 
-    /**
-     * Gets the cURL command for retrieval of the current Quotation.
-     *
-     * @param instrument The Instrument for which the command is determined.
-     * @return The cUrl command.
-     * @throws Exception Command could not be created.
-     */
-    private String getCurlCommandCurrentQuotation(final Instrument instrument) throws Exception {
-        final String queryUrl = this.getQueryUrlCurrentQuotation(instrument);
-        String command = new String(CURL_COMMAND);
-
-        command = command.replace(PLACEHOLDER_URL, queryUrl);
-
-        return command;
-    }
-
-    /**
-     * Gets the cURL command for retrieval of the Quotation history.
-     *
-     * @param instrument The Instrument for which the command is determined.
-     * @param years      The number of years to be queried.
-     * @return The cUrl command.
-     * @throws Exception Command could not be created.
-     */
-    private String getCurlCommandQuotationHistory(final Instrument instrument, final Integer years) throws Exception {
-        final String queryUrl = this.getQueryUrlQuotationHistory(instrument, years);
-        String command = new String(CURL_COMMAND);
-
-        command = command.replace(PLACEHOLDER_URL, queryUrl);
-
-        return command;
-    }
-
     /**
      * Determines the query interval based on the stock exchange of the given Instrument.
      *
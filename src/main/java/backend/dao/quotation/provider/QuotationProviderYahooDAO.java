@@ -120,7 +120,7 @@ public class QuotationProviderYahooDAO extends AbstractQuotationProviderDAO impl
     protected String getQuotationHistoryJSONFromYahoo(final String symbol, final StockExchange stockExchange,
             final Integer years) throws Exception {
         Request request = new Request.Builder().url(this.getQueryUrlQuotationHistory(symbol, stockExchange, years))
-                .header("Connection", "close").build();
+                .build();
         Response response;
         String jsonResult;
 
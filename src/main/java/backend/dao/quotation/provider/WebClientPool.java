@@ -0,0 +1,127 @@
+package backend.dao.quotation.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.gargoylesoftware.htmlunit.Cache;
+import com.gargoylesoftware.htmlunit.WebClient;
+
+/**
+ * A bounded pool of pre-configured HtmlUnit WebClients. The clients are created on demand up to the maximum pool size
+ * and reused afterwards. All clients share the same cache. The pool limits the number of pages rendered at the same
+ * time. Most of the cost of rendering is the parsing of the page, not the creation of the WebClient.
+ *
+ * JavaScript, CSS and the download of images are disabled, because only the static HTML of a page is evaluated.
+ *
+ * @author Michael
+ */
+public class WebClientPool {
+    /**
+     * The number of seconds to wait for a WebClient to become available.
+     */
+    private static final int BORROW_TIMEOUT_SECONDS = 60;
+
+    /**
+     * The WebClients that are currently not in use.
+     */
+    private final BlockingQueue<WebClient> idleWebClients = new LinkedBlockingQueue<>();
+
+    /**
+     * All WebClients that have been created by the pool.
+     */
+    private final List<WebClient> webClients = new ArrayList<>();
+
+    /**
+     * Limits the number of WebClients that are in use at the same time.
+     */
+    private final Semaphore permits;
+
+    /**
+     * The cache shared by all WebClients.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * Initializes the WebClientPool.
+     *
+     * @param maxSize The maximum number of WebClients of the pool.
+     */
+    public WebClientPool(final int maxSize) {
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Provides a WebClient of the pool. A new WebClient is created if no idle WebClient is available and the maximum
+     * pool size has not been reached yet. The WebClient has to be returned to the pool using the method release.
+     *
+     * @return A WebClient.
+     * @throws Exception In case no WebClient became available in time.
+     */
+    public WebClient borrow() throws Exception {
+        WebClient webClient;
+
+        if (!this.permits.tryAcquire(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new Exception("No WebClient became available within " + BORROW_TIMEOUT_SECONDS + " seconds.");
+        }
+
+        webClient = this.idleWebClients.poll();
+
+        if (webClient == null) {
+            try {
+                webClient = this.createWebClient();
+            } catch (RuntimeException e) {
+                this.permits.release();
+                throw e;
+            }
+        }
+
+        return webClient;
+    }
+
+    /**
+     * Returns a WebClient to the pool.
+     *
+     * @param webClient The WebClient that has been provided by the method borrow.
+     */
+    public void release(final WebClient webClient) {
+        this.idleWebClients.offer(webClient);
+        this.permits.release();
+    }
+
+    /**
+     * Closes all WebClients of the pool.
+     */
+    public synchronized void close() {
+        for (WebClient webClient : this.webClients) {
+            webClient.close();
+        }
+
+        this.webClients.clear();
+        this.idleWebClients.clear();
+        this.cache.clear();
+    }
+
+    /**
+     * Creates a new WebClient configured for the evaluation of static HTML.
+     *
+     * @return The WebClient.
+     */
+    private synchronized WebClient createWebClient() {
+        WebClient webClient = new WebClient();
+
+        webClient.getOptions().setUseInsecureSSL(true);
+        webClient.getOptions().setCssEnabled(false);
+        webClient.getOptions().setJavaScriptEnabled(false);
+        webClient.getOptions().setDownloadImages(false);
+        webClient.getOptions().setThrowExceptionOnScriptError(false);
+        webClient.setCache(this.cache);
+
+        this.webClients.add(webClient);
+
+        return webClient;
+    }
+}
@@ -1,5 +1,7 @@
 package backend.dao.statistic;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import backend.dao.ObjectUnchangedException;
@@ -40,6 +42,17 @@ public interface StatisticDAO {
      */
     List<Statistic> getStatisticsOfInstrumentType(InstrumentType instrumentType) throws Exception;
 
+    /**
+     * Gets all statistics of the given InstrumentType that belong to one of the given dates. This includes all
+     * statistics irrespective of the sector or industry group they belong to.
+     *
+     * @param instrumentType The type of the statistics requested.
+     * @param dates          The dates of the statistics without intraday attributes.
+     * @return The statistics of the given dates.
+     * @throws Exception Statistics retrieval failed.
+     */
+    List<Statistic> getStatisticsOfDates(InstrumentType instrumentType, Collection<Date> dates) throws Exception;
+
     /**
      * Gets all statistics of the given InstrumentType. By specifying the id of the sector or industry group only those
      * statistics are returned that represent all instruments of the sector or industry group with the given id. If no
@@ -75,4 +88,23 @@ public interface StatisticDAO {
      * @throws Exception                Statistic update failed.
      */
     void updateStatistic(Statistic statistic) throws ObjectUnchangedException, Exception;
+
+    /**
+     * Inserts or updates the given statistics in a single transaction. Statistics without ID are inserted, statistics
+     * with ID are updated. The statements are sent to the database in JDBC batches. The uniqueness of InstrumentType,
+     * date, sector and industry group is enforced by a database constraint; if it is violated, none of the statistics
+     * is persisted.
+     *
+     * @param statistics The statistics to be inserted or updated.
+     * @throws Exception Insertion or update failed.
+     */
+    void upsertStatistics(List<Statistic> statistics) throws Exception;
+
+    /**
+     * Deletes the given statistics in a single transaction using JDBC batches.
+     *
+     * @param statistics The statistics to be deleted.
+     * @throws Exception Deletion failed.
+     */
+    void deleteStatistics(List<Statistic> statistics) throws Exception;
 }
@@ -1,6 +1,7 @@
 package backend.dao.statistic;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -12,6 +13,9 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+
 import backend.dao.ObjectUnchangedException;
 import backend.model.LocalizedException;
 import backend.model.instrument.InstrumentType;
@@ -23,6 +27,11 @@ import backend.model.statistic.Statistic;
  * @author Michael
  */
 public class StatisticHibernateDAO implements StatisticDAO {
+    /**
+     * The number of statements that are sent to the database in a single JDBC batch.
+     */
+    private static final int JDBC_BATCH_SIZE = 500;
+
     /**
      * Factory for database session.
      */
@@ -128,6 +137,51 @@ public class StatisticHibernateDAO implements StatisticDAO {
         return statistics;
     }
 
+    /**
+     * Gets all statistics of the given InstrumentType that belong to one of the given dates.
+     */
+    @Override
+    public List<Statistic> getStatisticsOfDates(final InstrumentType instrumentType, final Collection<Date> dates)
+            throws Exception {
+        List<Statistic> statistics = null;
+        EntityManager entityManager;
+
+        if (dates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        entityManager = this.sessionFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        try {
+            List<Predicate> predicates = new ArrayList<Predicate>();
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Statistic> criteriaQuery = criteriaBuilder.createQuery(Statistic.class);
+            Root<Statistic> criteria = criteriaQuery.from(Statistic.class);
+            criteriaQuery.select(criteria);
+            criteriaQuery.orderBy(criteriaBuilder.desc(criteria.get("date")));
+
+            predicates.add(criteriaBuilder.equal(criteria.get("instrumentType"), instrumentType));
+            predicates.add(criteria.get("date").in(dates));
+
+            criteriaQuery.where(predicates.toArray(new Predicate[predicates.size()]));
+            TypedQuery<Statistic> typedQuery = entityManager.createQuery(criteriaQuery);
+            statistics = typedQuery.getResultList();
+
+            entityManager.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            entityManager.close();
+        }
+
+        return statistics;
+    }
+
     /**
      * Gets all statistics of the given InstrumentType with relation to the given sector or industry group. If no ids
      * are provided, the general statistics are provided irrespective of sector or industry group.
@@ -217,6 +271,81 @@ public class StatisticHibernateDAO implements StatisticDAO {
         entityManager.close();
     }
 
+    /**
+     * Inserts or updates the given statistics in a single transaction.
+     */
+    @Override
+    public void upsertStatistics(final List<Statistic> statistics) throws Exception {
+        StatelessSession session;
+
+        if (statistics.isEmpty()) {
+            return;
+        }
+
+        for (Statistic statistic : statistics) {
+            statistic.validate();
+        }
+
+        // A StatelessSession neither reads the entities before update nor keeps them in a persistence context.
+        session = this.sessionFactory.unwrap(SessionFactory.class).openStatelessSession();
+        session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        try {
+            session.getTransaction().begin();
+
+            for (Statistic statistic : statistics) {
+                if (statistic.getId() == null) {
+                    session.insert(statistic);
+                } else {
+                    session.update(statistic);
+                }
+            }
+
+            session.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Deletes the given statistics in a single transaction.
+     */
+    @Override
+    public void deleteStatistics(final List<Statistic> statistics) throws Exception {
+        StatelessSession session;
+
+        if (statistics.isEmpty()) {
+            return;
+        }
+
+        session = this.sessionFactory.unwrap(SessionFactory.class).openStatelessSession();
+        session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        try {
+            session.getTransaction().begin();
+
+            for (Statistic statistic : statistics) {
+                session.delete(statistic);
+            }
+
+            session.getTransaction().commit();
+        } catch (Exception exception) {
+            // If something breaks a rollback is necessary.
+            if (session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+            throw exception;
+        } finally {
+            session.close();
+        }
+    }
+
     /**
      * Gets the Statistic with the given InstrumentType / Date combination.
      *
@@ -0,0 +1,88 @@
+package backend.model.instrument;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * References the newest Quotation of an Instrument.
+ *
+ * The data are a projection of the QUOTATION table. They are maintained whenever quotations are inserted or deleted.
+ * This way the newest Quotation of each Instrument can be determined without aggregating the whole QUOTATION table.
+ *
+ * @author Michael
+ */
+@Table(name = "LATEST_QUOTATION")
+@Entity
+public class LatestQuotation {
+    /**
+     * The ID of the Instrument.
+     */
+    @Id
+    @Column(name = "INSTRUMENT_ID")
+    private Integer instrumentId;
+
+    /**
+     * The ID of the newest Quotation of the Instrument.
+     */
+    @Column(name = "QUOTATION_ID")
+    private Integer quotationId;
+
+    /**
+     * The date of the newest Quotation of the Instrument.
+     */
+    @Column(name = "DATE")
+    private Date date;
+
+    /**
+     * Default constructor.
+     */
+    public LatestQuotation() {
+
+    }
+
+    /**
+     * @return the instrumentId
+     */
+    public Integer getInstrumentId() {
+        return instrumentId;
+    }
+
+    /**
+     * @param instrumentId the instrumentId to set
+     */
+    public void setInstrumentId(final Integer instrumentId) {
+        this.instrumentId = instrumentId;
+    }
+
+    /**
+     * @return the quotationId
+     */
+    public Integer getQuotationId() {
+        return quotationId;
+    }
+
+    /**
+     * @param quotationId the quotationId to set
+     */
+    public void setQuotationId(final Integer quotationId) {
+        this.quotationId = quotationId;
+    }
+
+    /**
+     * @return the date
+     */
+    public Date getDate() {
+        return date;
+    }
+
+    /**
+     * @param date the date to set
+     */
+    public void setDate(final Date date) {
+        this.date = date;
+    }
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -26,10 +27,19 @@ import backend.model.Currency;
  *
  * @author Michael
  */
-@Table(name = "QUOTATION")
+@Table(name = "QUOTATION", indexes = {
+        @Index(name = Quotation.INDEX_INSTRUMENT_DATE, columnList = "INSTRUMENT_ID, DATE, QUOTATION_ID") })
 @Entity
 @SequenceGenerator(name = "quotationSequence", initialValue = 1, allocationSize = 1)
 public class Quotation {
+    /**
+     * The name of the composite index on INSTRUMENT_ID and DATE.
+     *
+     * The QUOTATION_ID is part of the index as well. This way the ID of the newest Quotation of an Instrument can be
+     * determined from the index alone, without accessing the table rows.
+     */
+    public static final String INDEX_INSTRUMENT_DATE = "IDX_QUOTATION_INSTRUMENT_DATE";
+
     /**
      * The precision of a price column.
      */
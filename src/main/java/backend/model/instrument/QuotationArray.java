@@ -8,7 +8,9 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -60,6 +62,22 @@ public class QuotationArray {
         this.quotations = quotations;
     }
 
+    /**
+     * Provides the IDs of the instruments of all quotations.
+     *
+     * @return The distinct instrument IDs.
+     */
+    @JsonIgnore
+    public Set<Integer> getInstrumentIds() {
+        Set<Integer> instrumentIds = new LinkedHashSet<>();
+
+        for (Quotation quotation : this.quotations) {
+            instrumentIds.add(quotation.getInstrument().getId());
+        }
+
+        return instrumentIds;
+    }
+
     /**
      * Returns all quotations of the Instrument with the given Id.
      *
@@ -0,0 +1,30 @@
+package backend.model.instrument;
+
+import java.util.Comparator;
+
+/**
+ * Compares two quotations by the RS number of their RelativeStrengthData.
+ *
+ * @author Michael
+ */
+public class QuotationRsNumberComparator implements Comparator<Quotation> {
+    /**
+     * Compares its two quotations for order by the RS number of their RelativeStrengthData. The quotation with the
+     * higher RS number comes first. Quotations without RelativeStrengthData come last.
+     */
+    @Override
+    public int compare(final Quotation quotation1, final Quotation quotation2) {
+        RelativeStrengthData rsData1 = quotation1.getRelativeStrengthData();
+        RelativeStrengthData rsData2 = quotation2.getRelativeStrengthData();
+
+        if (rsData1 == null && rsData2 == null) {
+            return 0;
+        } else if (rsData1 == null) {
+            return 1;
+        } else if (rsData2 == null) {
+            return -1;
+        }
+
+        return Integer.compare(rsData2.getRsNumber(), rsData1.getRsNumber());
+    }
+}
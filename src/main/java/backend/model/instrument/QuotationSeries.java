@@ -0,0 +1,250 @@
+package backend.model.instrument;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only, column-oriented representation of a trading history. The attributes of the quotations are held in arrays
+ * of primitives sorted by date, beginning with the newest Quotation. Prices are stored as long values scaled by the
+ * number of decimals that are persisted for a Quotation. Therefore sums of prices are calculated without any loss of
+ * precision.
+ *
+ * @author Michael
+ */
+public class QuotationSeries {
+    /**
+     * The number of decimals of prices.
+     */
+    public static final int PRICE_SCALE = 3;
+
+    /**
+     * The factor by which prices are scaled.
+     */
+    private static final double PRICE_SCALE_FACTOR = Math.pow(10, PRICE_SCALE);
+
+    /**
+     * The factor by which prices are scaled as float.
+     */
+    private static final float PRICE_SCALE_FACTOR_FLOAT = (float) PRICE_SCALE_FACTOR;
+
+    /**
+     * The number of bits of the significand of a float, including the implicit leading bit.
+     */
+    private static final int FLOAT_SIGNIFICAND_BITS = 24;
+
+    /**
+     * The exclusive upper bound of integers whose absolute value is represented exactly as float.
+     */
+    private static final long MAX_EXACT_FLOAT_INTEGER = 1L << FLOAT_SIGNIFICAND_BITS;
+
+    /**
+     * The dates of the quotations in milliseconds since the epoch.
+     */
+    private long[] dates;
+
+    /**
+     * The scaled opening prices.
+     */
+    private long[] open;
+
+    /**
+     * The scaled high prices.
+     */
+    private long[] high;
+
+    /**
+     * The scaled low prices.
+     */
+    private long[] low;
+
+    /**
+     * The scaled closing prices.
+     */
+    private long[] close;
+
+    /**
+     * The trading volumes.
+     */
+    private long[] volume;
+
+    /**
+     * The index of the newest Quotation of each day, mapped by the epoch day.
+     */
+    private Map<Long, Integer> indexOfEpochDay;
+
+    /**
+     * Initializes the QuotationSeries with the given quotations.
+     *
+     * @param sortedQuotations The quotations sorted by date, beginning with the newest Quotation.
+     */
+    public QuotationSeries(final QuotationArray sortedQuotations) {
+        List<Quotation> quotations = sortedQuotations.getQuotations();
+        int numberOfQuotations = quotations.size();
+        Quotation quotation;
+
+        this.dates = new long[numberOfQuotations];
+        this.open = new long[numberOfQuotations];
+        this.high = new long[numberOfQuotations];
+        this.low = new long[numberOfQuotations];
+        this.close = new long[numberOfQuotations];
+        this.volume = new long[numberOfQuotations];
+        this.indexOfEpochDay = new HashMap<>(numberOfQuotations * 2);
+
+        for (int i = 0; i < numberOfQuotations; i++) {
+            quotation = quotations.get(i);
+
+            this.dates[i] = quotation.getDate().getTime();
+            this.open[i] = this.getScaledPrice(quotation.getOpen());
+            this.high[i] = this.getScaledPrice(quotation.getHigh());
+            this.low[i] = this.getScaledPrice(quotation.getLow());
+            this.close[i] = this.getScaledPrice(quotation.getClose());
+            this.volume[i] = quotation.getVolume();
+
+            // Quotations are sorted newest first. Only the newest Quotation of each day is referenced.
+            this.indexOfEpochDay.putIfAbsent(this.getEpochDay(quotation.getDate()), i);
+        }
+    }
+
+    /**
+     * @return The number of quotations.
+     */
+    public int size() {
+        return this.close.length;
+    }
+
+    /**
+     * Gets the index of the newest Quotation of the day of the given date. Intraday attributes of the date (hours,
+     * minutes, ...) are not taken into account.
+     *
+     * @param date The date.
+     * @return The index of the Quotation. -1, if no Quotation exists on the given day.
+     */
+    public int getIndexOfDate(final Date date) {
+        Integer index = this.indexOfEpochDay.get(this.getEpochDay(date));
+
+        if (index == null) {
+            return -1;
+        }
+
+        return index;
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The date of the Quotation in milliseconds since the epoch.
+     */
+    public long getDate(final int index) {
+        return this.dates[index];
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The opening price.
+     */
+    public double getOpen(final int index) {
+        return getPrice(this.open[index]);
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The high price.
+     */
+    public double getHigh(final int index) {
+        return getPrice(this.high[index]);
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The low price.
+     */
+    public double getLow(final int index) {
+        return getPrice(this.low[index]);
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The closing price.
+     */
+    public double getClose(final int index) {
+        return getPrice(this.close[index]);
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The closing price as float, converted the same way as BigDecimal.floatValue().
+     */
+    public float getCloseAsFloat(final int index) {
+        return getPriceAsFloat(this.close[index]);
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The closing price scaled by the number of decimals of prices.
+     */
+    public long getScaledClose(final int index) {
+        return this.close[index];
+    }
+
+    /**
+     * @param index The index of the Quotation.
+     * @return The trading volume.
+     */
+    public long getVolume(final int index) {
+        return this.volume[index];
+    }
+
+    /**
+     * Converts the given scaled price into its actual value.
+     *
+     * @param scaledPrice The price scaled by the number of decimals of prices.
+     * @return The price.
+     */
+    public static double getPrice(final long scaledPrice) {
+        return scaledPrice / PRICE_SCALE_FACTOR;
+    }
+
+    /**
+     * Converts the given scaled price into its actual value as float. The result is the float nearest to the price, as
+     * provided by BigDecimal.floatValue(). Converting the double value of getPrice to float may round differently.
+     *
+     * @param scaledPrice The price scaled by the number of decimals of prices.
+     * @return The price.
+     */
+    public static float getPriceAsFloat(final long scaledPrice) {
+        // Both operands are exact float values. Therefore the quotient is rounded to the nearest float.
+        if (Math.abs(scaledPrice) < MAX_EXACT_FLOAT_INTEGER) {
+            return scaledPrice / PRICE_SCALE_FACTOR_FLOAT;
+        }
+
+        return BigDecimal.valueOf(scaledPrice, PRICE_SCALE).floatValue();
+    }
+
+    /**
+     * Converts the given price into a long value scaled by the number of decimals of prices.
+     *
+     * @param price The price.
+     * @return The scaled price. 0, if no price is given.
+     */
+    private long getScaledPrice(final BigDecimal price) {
+        if (price == null) {
+            return 0;
+        }
+
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    /**
+     * Determines the epoch day of the given date in the default time zone.
+     *
+     * @param date The date.
+     * @return The number of days since the epoch.
+     */
+    private long getEpochDay(final Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+}
@@ -0,0 +1,186 @@
+package backend.model.scan;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A user-defined filter that is applied to the most recent Quotation of each Instrument.
+ *
+ * A ScanFilter is either a condition or a group. A condition compares a field with a constant value or with a
+ * reference field, for example "RS_NUMBER GREATER_OR_EQUAL 70" or "PRICE GREATER SMA_50". A group combines its filters
+ * using a conjunction. Groups can be nested to build arbitrary expressions.
+ *
+ * @author Michael
+ */
+public class ScanFilter {
+    /**
+     * The conjunction that combines the filters of a group.
+     */
+    private ScanFilterConjunction conjunction;
+
+    /**
+     * The filters of a group.
+     */
+    private List<ScanFilter> filters;
+
+    /**
+     * The field of a condition.
+     */
+    private ScanFilterField field;
+
+    /**
+     * The operator of a condition.
+     */
+    private ScanFilterOperator operator;
+
+    /**
+     * The constant value the field of a condition is compared with.
+     */
+    private BigDecimal value;
+
+    /**
+     * The field whose value the field of a condition is compared with. Used instead of a constant value.
+     */
+    private ScanFilterField referenceField;
+
+    /**
+     * Default constructor.
+     */
+    public ScanFilter() {
+
+    }
+
+    /**
+     * Initializes a condition that compares a field with a constant value.
+     *
+     * @param field    The field.
+     * @param operator The operator.
+     * @param value    The constant value.
+     */
+    public ScanFilter(final ScanFilterField field, final ScanFilterOperator operator, final BigDecimal value) {
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * Initializes a condition that compares a field with a reference field.
+     *
+     * @param field          The field.
+     * @param operator       The operator.
+     * @param referenceField The reference field.
+     */
+    public ScanFilter(final ScanFilterField field, final ScanFilterOperator operator,
+            final ScanFilterField referenceField) {
+        this.field = field;
+        this.operator = operator;
+        this.referenceField = referenceField;
+    }
+
+    /**
+     * Initializes a group.
+     *
+     * @param conjunction The conjunction that combines the filters.
+     * @param filters     The filters of the group.
+     */
+    public ScanFilter(final ScanFilterConjunction conjunction, final List<ScanFilter> filters) {
+        this.conjunction = conjunction;
+        this.filters = filters;
+    }
+
+    /**
+     * @return the conjunction
+     */
+    public ScanFilterConjunction getConjunction() {
+        return conjunction;
+    }
+
+    /**
+     * @param conjunction the conjunction to set
+     */
+    public void setConjunction(final ScanFilterConjunction conjunction) {
+        this.conjunction = conjunction;
+    }
+
+    /**
+     * @return the filters
+     */
+    public List<ScanFilter> getFilters() {
+        return filters;
+    }
+
+    /**
+     * @param filters the filters to set
+     */
+    public void setFilters(final List<ScanFilter> filters) {
+        this.filters = filters;
+    }
+
+    /**
+     * @return the field
+     */
+    public ScanFilterField getField() {
+        return field;
+    }
+
+    /**
+     * @param field the field to set
+     */
+    public void setField(final ScanFilterField field) {
+        this.field = field;
+    }
+
+    /**
+     * @return the operator
+     */
+    public ScanFilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @param operator the operator to set
+     */
+    public void setOperator(final ScanFilterOperator operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * @return the value
+     */
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    /**
+     * @param value the value to set
+     */
+    public void setValue(final BigDecimal value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the referenceField
+     */
+    public ScanFilterField getReferenceField() {
+        return referenceField;
+    }
+
+    /**
+     * @param referenceField the referenceField to set
+     */
+    public void setReferenceField(final ScanFilterField referenceField) {
+        this.referenceField = referenceField;
+    }
+
+    /**
+     * Checks if the ScanFilter is a group of filters.
+     *
+     * @return true, if the ScanFilter is a group; false, if it is a condition.
+     */
+    @JsonIgnore
+    public boolean isGroup() {
+        return this.conjunction != null || this.filters != null;
+    }
+}
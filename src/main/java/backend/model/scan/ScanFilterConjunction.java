@@ -0,0 +1,18 @@
+package backend.model.scan;
+
+/**
+ * The conjunction that combines the filters of a ScanFilter group.
+ *
+ * @author Michael
+ */
+public enum ScanFilterConjunction {
+    /**
+     * All filters of the group have to match.
+     */
+    AND,
+
+    /**
+     * At least one filter of the group has to match.
+     */
+    OR
+}
@@ -0,0 +1,230 @@
+package backend.model.scan;
+
+import java.math.BigDecimal;
+
+/**
+ * The attributes of a Quotation and its Indicator, MovingAverageData and RelativeStrengthData that can be used in a
+ * ScanFilter condition.
+ *
+ * @author Michael
+ */
+public enum ScanFilterField {
+    /**
+     * The closing price of the Quotation.
+     */
+    PRICE("q", "close", BigDecimal.class),
+
+    /**
+     * The volume of the Quotation.
+     */
+    VOLUME("q", "volume", Long.class),
+
+    /**
+     * The distance to the 52-week high in percent.
+     */
+    DISTANCE_TO_52_WEEK_HIGH("r", "distanceTo52WeekHigh", Float.class),
+
+    /**
+     * The distance to the 52-week low in percent.
+     */
+    DISTANCE_TO_52_WEEK_LOW("r", "distanceTo52WeekLow", Float.class),
+
+    /**
+     * The Bollinger BandWidth of the last 10 trading days.
+     */
+    BOLLINGER_BAND_WIDTH_10_DAYS("r", "bollingerBandWidth10Days", Float.class),
+
+    /**
+     * The Bollinger BandWidth of the last 10 weeks.
+     */
+    BOLLINGER_BAND_WIDTH_10_WEEKS("r", "bollingerBandWidth10Weeks", Float.class),
+
+    /**
+     * The threshold of the Bollinger BandWidth (10 days) below which 25 percent of all values are.
+     */
+    BBW_10_THRESHOLD_25_PERCENT("r", "bbw10Threshold25Percent", Float.class),
+
+    /**
+     * The volume differential of the last 5 days in percent.
+     */
+    VOLUME_DIFFERENTIAL_5_DAYS("r", "volumeDifferential5Days", Float.class),
+
+    /**
+     * The length of the base in weeks.
+     */
+    BASE_LENGTH_WEEKS("r", "baseLengthWeeks", Integer.class),
+
+    /**
+     * The Up/Down Volume Ratio of the last 50 trading days.
+     */
+    UP_DOWN_VOLUME_RATIO("r", "upDownVolumeRatio", Float.class),
+
+    /**
+     * The Accumulation/Distribution Ratio of the last 30 trading days.
+     */
+    ACC_DIS_RATIO_30_DAYS("r", "accDisRatio30Days", Float.class),
+
+    /**
+     * The Accumulation/Distribution Ratio of the last 63 trading days.
+     */
+    ACC_DIS_RATIO_63_DAYS("r", "accDisRatio63Days", Float.class),
+
+    /**
+     * The performance of the last 5 days in percent.
+     */
+    PERFORMANCE_5_DAYS("r", "performance5Days", Float.class),
+
+    /**
+     * The average trading liquidity of the last 20 days.
+     */
+    LIQUIDITY_20_DAYS("r", "liquidity20Days", Float.class),
+
+    /**
+     * The Average True Range Percent of the last 20 days.
+     */
+    AVERAGE_TRUE_RANGE_PERCENT_20("r", "averageTrueRangePercent20", Float.class),
+
+    /**
+     * The Slow Stochastic of the last 14 days.
+     */
+    SLOW_STOCHASTIC_14_DAYS("r", "slowStochastic14Days", Float.class),
+
+    /**
+     * The EMA(10).
+     */
+    EMA_10("m", "ema10", Float.class),
+
+    /**
+     * The EMA(21).
+     */
+    EMA_21("m", "ema21", Float.class),
+
+    /**
+     * The SMA(10).
+     */
+    SMA_10("m", "sma10", Float.class),
+
+    /**
+     * The SMA(50).
+     */
+    SMA_50("m", "sma50", Float.class),
+
+    /**
+     * The SMA(150).
+     */
+    SMA_150("m", "sma150", Float.class),
+
+    /**
+     * The SMA(200).
+     */
+    SMA_200("m", "sma200", Float.class),
+
+    /**
+     * The SMA(30) of the volume.
+     */
+    SMA_30_VOLUME("m", "sma30Volume", Long.class),
+
+    /**
+     * The sum of weighted price performances used for RS number calculation.
+     */
+    RS_PERCENT_SUM("s", "rsPercentSum", Float.class),
+
+    /**
+     * The RS number.
+     */
+    RS_NUMBER("s", "rsNumber", Integer.class),
+
+    /**
+     * The RS number of the distance to the 52-week high.
+     */
+    RS_NUMBER_DISTANCE_52_WEEK_HIGH("s", "rsNumberDistance52WeekHigh", Integer.class),
+
+    /**
+     * The RS number of the Accumulation/Distribution Ratio.
+     */
+    RS_NUMBER_ACC_DIS_RATIO("s", "rsNumberAccDisRatio", Integer.class),
+
+    /**
+     * The RS number of the sector.
+     */
+    RS_NUMBER_SECTOR("s", "rsNumberSector", Integer.class),
+
+    /**
+     * The RS number of the industry group.
+     */
+    RS_NUMBER_INDUSTRY_GROUP("s", "rsNumberIndustryGroup", Integer.class),
+
+    /**
+     * The composite RS number of the Instrument and its industry group.
+     */
+    RS_NUMBER_COMPOSITE_IG("s", "rsNumberCompositeIg", Integer.class),
+
+    /**
+     * The price of the RS line.
+     */
+    RS_LINE_PRICE("s", "rsLinePrice", BigDecimal.class),
+
+    /**
+     * The EMA(21) of the RS line.
+     */
+    RS_LINE_EMA_21("s", "rsLineEma21", Float.class);
+
+    /**
+     * The alias of the entity that holds the attribute: q (Quotation), r (Indicator), m (MovingAverageData) or s
+     * (RelativeStrengthData).
+     */
+    private final String entityAlias;
+
+    /**
+     * The name of the attribute.
+     */
+    private final String attribute;
+
+    /**
+     * The type of the attribute values.
+     */
+    private final Class<? extends Number> valueType;
+
+    /**
+     * Initializes the ScanFilterField.
+     *
+     * @param entityAlias The alias of the entity that holds the attribute.
+     * @param attribute   The name of the attribute.
+     * @param valueType   The type of the attribute values.
+     */
+    ScanFilterField(final String entityAlias, final String attribute, final Class<? extends Number> valueType) {
+        this.entityAlias = entityAlias;
+        this.attribute = attribute;
+        this.valueType = valueType;
+    }
+
+    /**
+     * @return the entityAlias
+     */
+    public String getEntityAlias() {
+        return entityAlias;
+    }
+
+    /**
+     * @return the attribute
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * @return the valueType
+     */
+    public Class<? extends Number> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Provides the path of the attribute within a query, consisting of the entity alias and the attribute name.
+     *
+     * @return The path of the attribute.
+     */
+    public String getPath() {
+        return this.entityAlias + "." + this.attribute;
+    }
+}
@@ -0,0 +1,59 @@
+package backend.model.scan;
+
+/**
+ * The comparison operator of a ScanFilter condition.
+ *
+ * @author Michael
+ */
+public enum ScanFilterOperator {
+    /**
+     * Less than.
+     */
+    LESS("<"),
+
+    /**
+     * Less than or equal.
+     */
+    LESS_OR_EQUAL("<="),
+
+    /**
+     * Equal.
+     */
+    EQUAL("="),
+
+    /**
+     * Not equal.
+     */
+    NOT_EQUAL("<>"),
+
+    /**
+     * Greater than or equal.
+     */
+    GREATER_OR_EQUAL(">="),
+
+    /**
+     * Greater than.
+     */
+    GREATER(">");
+
+    /**
+     * The symbol of the operator in a query.
+     */
+    private final String symbol;
+
+    /**
+     * Initializes the ScanFilterOperator.
+     *
+     * @param symbol The symbol of the operator in a query.
+     */
+    ScanFilterOperator(final String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * @return the symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+}
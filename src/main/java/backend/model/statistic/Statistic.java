@@ -14,16 +14,26 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 /**
  * Statistical data of all instruments of an InstrumentType at a certain point in time.
  *
  * @author Michael
  */
-@Table(name = "STATISTIC")
+@Table(name = "STATISTIC", uniqueConstraints = { @UniqueConstraint(name = Statistic.UNIQUE_KEY, columnNames = {
+        "INSTRUMENT_TYPE", "DATE", "SECTOR_ID", "INDUSTRY_GROUP_ID" }) })
 @Entity
 @SequenceGenerator(name = "statisticSequence", initialValue = 1, allocationSize = 1)
 public class Statistic {
+    /**
+     * The name of the unique constraint on INSTRUMENT_TYPE, DATE, SECTOR_ID and INDUSTRY_GROUP_ID.
+     *
+     * Either SECTOR_ID or INDUSTRY_GROUP_ID is always null. Therefore the database has to treat null values as equal
+     * within unique constraints (HSQLDB property sql.unique_nulls=false).
+     */
+    public static final String UNIQUE_KEY = "UK_STATISTIC_TYPE_DATE_SECTOR_IG";
+
     /**
      * The maximum InstrumentType field length allowed.
      */
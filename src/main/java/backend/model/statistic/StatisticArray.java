@@ -3,8 +3,9 @@ package backend.model.statistic;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -16,6 +17,9 @@ import backend.tools.DateTools;
 /**
  * An array of statistics.
  *
+ * Lookups are performed using hash-based indexes that are built on the first lookup and maintained by addStatistic. If
+ * the List of statistics is modified directly, the indexes are not updated.
+ *
  * @author Michael
  */
 public class StatisticArray {
@@ -24,6 +28,16 @@ public class StatisticArray {
      */
     private List<Statistic> statistics;
 
+    /**
+     * The statistics indexed by day, sector and industry group.
+     */
+    private Map<StatisticKey, Statistic> statisticIndex;
+
+    /**
+     * The first Statistic of each day, indexed by the time of the day without intraday attributes.
+     */
+    private Map<Long, Statistic> dayIndex;
+
     /**
      * Default constructor.
      */
@@ -54,6 +68,8 @@ public class StatisticArray {
      */
     public void setStatistics(final List<Statistic> statistics) {
         this.statistics = statistics;
+        this.statisticIndex = null;
+        this.dayIndex = null;
     }
 
     /**
@@ -75,6 +91,10 @@ public class StatisticArray {
      */
     public void addStatistic(final Statistic statistic) {
         this.statistics.add(statistic);
+
+        if (this.statisticIndex != null) {
+            this.addToIndexes(statistic);
+        }
     }
 
     /**
@@ -88,21 +108,9 @@ public class StatisticArray {
      * @return The Statistic of the given date.
      */
     public Statistic getStatistic(final Date date, final Integer sectorId, final Integer industryGroupId) {
-        Date requestDate;
-        Date statisticDate;
-
-        requestDate = DateTools.getDateWithoutIntradayAttributes(date);
-
-        for (Statistic statistic : this.statistics) {
-            statisticDate = DateTools.getDateWithoutIntradayAttributes(statistic.getDate());
-
-            if (statisticDate.getTime() == requestDate.getTime() && Objects.equals(statistic.getSectorId(), sectorId)
-                    && Objects.equals(statistic.getIndustryGroupId(), industryGroupId)) {
-                return statistic;
-            }
-        }
+        this.buildIndexes();
 
-        return null;
+        return this.statisticIndex.get(new StatisticKey(date, sectorId, industryGroupId));
     }
 
     /**
@@ -112,19 +120,38 @@ public class StatisticArray {
      * @return The Statistic of the given date.
      */
     public Statistic getStatistic(final Date date) {
-        Date requestDate;
-        Date statisticDate;
+        this.buildIndexes();
 
-        requestDate = DateTools.getDateWithoutIntradayAttributes(date);
+        return this.dayIndex.get(DateTools.getDateWithoutIntradayAttributes(date).getTime());
+    }
 
-        for (Statistic statistic : this.statistics) {
-            statisticDate = DateTools.getDateWithoutIntradayAttributes(statistic.getDate());
+    /**
+     * Builds the indexes of the statistics, if they have not been built yet.
+     */
+    private void buildIndexes() {
+        if (this.statisticIndex != null) {
+            return;
+        }
+
+        this.statisticIndex = new HashMap<>();
+        this.dayIndex = new HashMap<>();
 
-            if (statisticDate.getTime() == requestDate.getTime()) {
-                return statistic;
-            }
+        for (Statistic statistic : this.statistics) {
+            this.addToIndexes(statistic);
         }
+    }
+
+    /**
+     * Adds the given Statistic to the indexes. If a Statistic with the same key already exists, the existing Statistic
+     * is kept.
+     *
+     * @param statistic The Statistic.
+     */
+    private void addToIndexes(final Statistic statistic) {
+        StatisticKey key = new StatisticKey(statistic.getDate(), statistic.getSectorId(),
+                statistic.getIndustryGroupId());
 
-        return null;
+        this.statisticIndex.putIfAbsent(key, statistic);
+        this.dayIndex.putIfAbsent(key.getDay(), statistic);
     }
 }
@@ -0,0 +1,76 @@
+package backend.model.statistic;
+
+import java.util.Date;
+import java.util.Objects;
+
+import backend.tools.DateTools;
+
+/**
+ * Identifies a Statistic by its day and the sector or industry group it belongs to. Used as key for the lookup of
+ * statistics.
+ *
+ * @author Michael
+ */
+public class StatisticKey {
+    /**
+     * The time of the day without intraday attributes.
+     */
+    private final long day;
+
+    /**
+     * The ID of the sector the Statistic belongs to.
+     */
+    private final Integer sectorId;
+
+    /**
+     * The ID of the industry group the Statistic belongs to.
+     */
+    private final Integer industryGroupId;
+
+    /**
+     * Initializes the StatisticKey. Only day, month and year of the given date are taken into account.
+     *
+     * @param date            The date of the Statistic.
+     * @param sectorId        The ID of the sector the Statistic belongs to.
+     * @param industryGroupId The ID of the industry group the Statistic belongs to.
+     */
+    public StatisticKey(final Date date, final Integer sectorId, final Integer industryGroupId) {
+        this.day = DateTools.getDateWithoutIntradayAttributes(date).getTime();
+        this.sectorId = sectorId;
+        this.industryGroupId = industryGroupId;
+    }
+
+    /**
+     * @return the day
+     */
+    public long getDay() {
+        return day;
+    }
+
+    /**
+     * Calculates the hashCode of a StatisticKey.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, industryGroupId, sectorId);
+    }
+
+    /**
+     * Indicates whether some other StatisticKey is "equal to" this one.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        StatisticKey other = (StatisticKey) obj;
+        return day == other.day && Objects.equals(industryGroupId, other.industryGroupId)
+                && Objects.equals(sectorId, other.sectorId);
+    }
+}
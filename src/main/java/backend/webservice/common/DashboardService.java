@@ -1,6 +1,10 @@
 package backend.webservice.common;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 import org.apache.logging.log4j.LogManager;
@@ -13,6 +17,7 @@ import backend.dao.DAOManager;
 import backend.dao.instrument.InstrumentDAO;
 import backend.dao.list.ListDAO;
 import backend.dao.quotation.persistence.QuotationDAO;
+import backend.dao.statistic.StatisticDAO;
 import backend.model.LocalizedException;
 import backend.model.dashboard.MarketHealthStatus;
 import backend.model.dashboard.SwingTradingEnvironmentStatus;
@@ -29,6 +34,10 @@ import backend.webservice.ScanTemplate;
 /**
  * Common implementation of the Dashboard service that can be used by multiple service interfaces like SOAP or REST.
  *
+ * The MarketHealthStatus of all sectors and industry groups is calculated after each scan and held in the
+ * MarketHealthStatusCache. Requests without List restriction are answered from the cache. All other requests and
+ * requests before the first refresh calculate the status on demand.
+ *
  * @author Michael
  */
 public class DashboardService {
@@ -57,6 +66,16 @@ public class DashboardService {
      */
     private List<Statistic> statistics;
 
+    /**
+     * The number of instruments trading near the 52-week high, keyed by the ID of their sector and industry group.
+     */
+    private Map<Integer, Integer> numbersNear52wHigh;
+
+    /**
+     * The number of instruments trading near the 52-week low, keyed by the ID of their sector and industry group.
+     */
+    private Map<Integer, Integer> numbersNear52wLow;
+
     /**
      * Application logging.
      */
@@ -79,22 +98,25 @@ public class DashboardService {
      */
     public WebServiceResult getMarketHealthStatus(final Integer instrumentId, final Integer listId) {
         WebServiceResult getStatusResult = new WebServiceResult(null);
-        MarketHealthStatus marketHealthStatus = new MarketHealthStatus();
+        MarketHealthStatus marketHealthStatus = null;
 
         try {
+            // The Instrument is validated before the cache is read. Otherwise an invalid request could be answered.
             this.initializeInstrument(instrumentId);
-            this.validateInstrumentType();
-            this.initializeList(listId);
-            this.initializeStatistics();
-
-            this.fillBasicData(marketHealthStatus);
-            marketHealthStatus.setSwingTradingEnvironmentStatus(this.getSwingTradingEnvironmentStatus(this.instrument));
-            marketHealthStatus.setDistributionDaysSum(this.getDistributionDaysSum());
-            marketHealthStatus.setNumberNear52wHigh(this.getNumberNear52wHigh());
-            marketHealthStatus.setNumberNear52wLow(this.getNumberNear52wLow());
-            marketHealthStatus.setNumberUpOnVolume(this.getNumberUpOnVolume());
-            marketHealthStatus.setNumberDownOnVolume(this.getNumberDownOnVolume());
-            marketHealthStatus.setAggregateIndicator(this.getAggregateIndicator());
+            this.validateInstrumentType(this.instrument.getType());
+
+            if (listId == null) {
+                marketHealthStatus = MarketHealthStatusCache.getMarketHealthStatus(instrumentId);
+            }
+
+            if (marketHealthStatus == null) {
+                this.initializeQuotations();
+                this.initializeList(listId);
+                this.initializeStatistics();
+                this.initializeNumbersNear52w();
+                marketHealthStatus = this.calculateMarketHealthStatus();
+            }
+
             getStatusResult.setData(marketHealthStatus);
         } catch (LocalizedException localizedException) {
             getStatusResult.addMessage(
@@ -108,6 +130,149 @@ public class DashboardService {
         return getStatusResult;
     }
 
+    /**
+     * Determines the health status of all sectors or all industry groups.
+     *
+     * @param instrumentType The InstrumentType: Either sector or industry group.
+     * @return The health status of each sector or industry group.
+     */
+    public WebServiceResult getMarketHealthStatuses(final InstrumentType instrumentType) {
+        WebServiceResult getStatusesResult = new WebServiceResult(null);
+        List<MarketHealthStatus> marketHealthStatuses;
+
+        try {
+            this.validateInstrumentType(instrumentType);
+            marketHealthStatuses = MarketHealthStatusCache.getMarketHealthStatuses(instrumentType);
+
+            if (marketHealthStatuses == null) {
+                marketHealthStatuses = new ArrayList<>(this.calculateMarketHealthStatuses(instrumentType).values());
+            }
+
+            getStatusesResult.setData(marketHealthStatuses);
+        } catch (LocalizedException localizedException) {
+            getStatusesResult.addMessage(
+                    new WebServiceMessage(WebServiceMessageType.E, localizedException.getLocalizedMessage()));
+        } catch (Exception e) {
+            getStatusesResult.addMessage(new WebServiceMessage(WebServiceMessageType.E,
+                    this.resources.getString("dashboard.getMarketHealthStatusError")));
+            LOGGER.error(this.resources.getString("dashboard.getMarketHealthStatusError"), e);
+        }
+
+        return getStatusesResult;
+    }
+
+    /**
+     * Calculates the MarketHealthStatus of all sectors and industry groups and stores them in the
+     * MarketHealthStatusCache.
+     *
+     * @throws Exception Calculation failed.
+     */
+    public void refreshMarketHealthStatusCache() throws Exception {
+        Map<Integer, MarketHealthStatus> sectorStatuses;
+        Map<Integer, MarketHealthStatus> industryGroupStatuses;
+
+        sectorStatuses = this.calculateMarketHealthStatuses(InstrumentType.SECTOR);
+        industryGroupStatuses = this.calculateMarketHealthStatuses(InstrumentType.IND_GROUP);
+        MarketHealthStatusCache.update(sectorStatuses, industryGroupStatuses);
+    }
+
+    /**
+     * Calculates the MarketHealthStatus of all instruments of the given InstrumentType. The data of all instruments are
+     * loaded in bulk: The quotations of all sectors or industry groups, the statistics of all stocks and the results of
+     * the 52-week high and low templates are each queried only once.
+     *
+     * Instruments without quotations are skipped.
+     *
+     * @param instrumentType The InstrumentType: Either sector or industry group.
+     * @return The MarketHealthStatus of each Instrument, keyed by Instrument ID.
+     * @throws Exception Calculation failed.
+     */
+    private Map<Integer, MarketHealthStatus> calculateMarketHealthStatuses(final InstrumentType instrumentType)
+            throws Exception {
+
+        InstrumentDAO instrumentDAO = DAOManager.getInstance().getInstrumentDAO();
+        StatisticDAO statisticDAO = DAOManager.getInstance().getStatisticDAO();
+        Map<Integer, MarketHealthStatus> marketHealthStatuses = new LinkedHashMap<>();
+        List<Instrument> markets = instrumentDAO.getInstruments(instrumentType);
+        List<Integer> marketIds = new ArrayList<>();
+        Map<Integer, List<Quotation>> quotationsOfMarkets;
+        Map<Integer, List<Statistic>> statisticsOfMarkets;
+
+        for (Instrument market : markets) {
+            marketIds.add(market.getId());
+        }
+
+        this.list = null;
+        this.initializeNumbersNear52w();
+        quotationsOfMarkets = this.quotationDAO.getQuotationsOfInstruments(marketIds, null);
+        statisticsOfMarkets = this.getStatisticsOfMarkets(
+                statisticDAO.getStatisticsOfInstrumentType(InstrumentType.STOCK), instrumentType);
+
+        for (Instrument market : markets) {
+            if (quotationsOfMarkets.get(market.getId()).isEmpty()) {
+                continue;
+            }
+
+            market.setQuotations(quotationsOfMarkets.get(market.getId()));
+            this.instrument = market;
+            this.statistics = statisticsOfMarkets.getOrDefault(market.getId(), new ArrayList<>());
+            marketHealthStatuses.put(market.getId(), this.calculateMarketHealthStatus());
+        }
+
+        return marketHealthStatuses;
+    }
+
+    /**
+     * Groups the given statistics by the sector or industry group they belong to. The order of the statistics is
+     * retained.
+     *
+     * @param stockStatistics The statistics of all stocks.
+     * @param instrumentType  The InstrumentType defining if statistics are grouped by sector or by industry group.
+     * @return The statistics keyed by the ID of the sector or industry group.
+     */
+    private Map<Integer, List<Statistic>> getStatisticsOfMarkets(final List<Statistic> stockStatistics,
+            final InstrumentType instrumentType) {
+
+        Map<Integer, List<Statistic>> statisticsOfMarkets = new HashMap<>();
+        Integer marketId;
+
+        for (Statistic statistic : stockStatistics) {
+            if (instrumentType == InstrumentType.SECTOR) {
+                marketId = statistic.getSectorId();
+            } else {
+                marketId = statistic.getIndustryGroupId();
+            }
+
+            if (marketId != null) {
+                statisticsOfMarkets.computeIfAbsent(marketId, id -> new ArrayList<>()).add(statistic);
+            }
+        }
+
+        return statisticsOfMarkets;
+    }
+
+    /**
+     * Calculates the MarketHealthStatus of the initialized Instrument based on the initialized statistics and numbers
+     * of instruments near the 52-week high and low.
+     *
+     * @return The MarketHealthStatus.
+     * @throws Exception Calculation failed.
+     */
+    private MarketHealthStatus calculateMarketHealthStatus() throws Exception {
+        MarketHealthStatus marketHealthStatus = new MarketHealthStatus();
+
+        this.fillBasicData(marketHealthStatus);
+        marketHealthStatus.setSwingTradingEnvironmentStatus(this.getSwingTradingEnvironmentStatus(this.instrument));
+        marketHealthStatus.setDistributionDaysSum(this.getDistributionDaysSum());
+        marketHealthStatus.setNumberNear52wHigh(this.numbersNear52wHigh.getOrDefault(this.instrument.getId(), 0));
+        marketHealthStatus.setNumberNear52wLow(this.numbersNear52wLow.getOrDefault(this.instrument.getId(), 0));
+        marketHealthStatus.setNumberUpOnVolume(this.getNumberUpOnVolume());
+        marketHealthStatus.setNumberDownOnVolume(this.getNumberDownOnVolume());
+        marketHealthStatus.setAggregateIndicator(this.getAggregateIndicator());
+
+        return marketHealthStatus;
+    }
+
     /**
      * Initializes the Instrument for which the health status is determined.
      *
@@ -119,10 +284,26 @@ public class DashboardService {
 
         try {
             this.instrument = instrumentDAO.getInstrument(instrumentId);
-            this.instrument.setQuotations(this.quotationDAO.getQuotationsOfInstrument(instrumentId));
         } catch (Exception e) {
             throw new LocalizedException("instrument.notFound", instrumentId);
         }
+
+        if (this.instrument == null) {
+            throw new LocalizedException("instrument.notFound", instrumentId);
+        }
+    }
+
+    /**
+     * Initializes the quotations of the Instrument for which the health status is determined.
+     *
+     * @throws LocalizedException Initialization failed.
+     */
+    private void initializeQuotations() throws LocalizedException {
+        try {
+            this.instrument.setQuotations(this.quotationDAO.getQuotationsOfInstrument(this.instrument.getId()));
+        } catch (Exception e) {
+            throw new LocalizedException("instrument.notFound", this.instrument.getId());
+        }
     }
 
     /**
@@ -179,14 +360,14 @@ public class DashboardService {
     }
 
     /**
-     * Validates the InstrumentType of the Instrument. The market health status can only be determined for instruments
-     * of type sector or industry group.
+     * Validates the InstrumentType. The market health status can only be determined for instruments of type sector or
+     * industry group.
      *
+     * @param instrumentType The InstrumentType to be validated.
      * @throws LocalizedException In case the InstrumentType is not allowed.
      */
-    private void validateInstrumentType() throws LocalizedException {
-        if (this.instrument.getType() != InstrumentType.SECTOR
-                && this.instrument.getType() != InstrumentType.IND_GROUP) {
+    private void validateInstrumentType(final InstrumentType instrumentType) throws LocalizedException {
+        if (instrumentType != InstrumentType.SECTOR && instrumentType != InstrumentType.IND_GROUP) {
             throw new LocalizedException("dashboard.wrongInstrumentType");
         }
     }
@@ -319,73 +500,56 @@ public class DashboardService {
     }
 
     /**
-     * Determines the number of instruments that trade near the 52-week high. Only those instruments are taken into
-     * account where the given Instrument is referenced as sector or industry group.
-     *
-     * @return The number of instruments near the 52-week high.
+     * Initializes the number of instruments that trade near the 52-week high and low for each sector and industry
+     * group. Each ScanTemplate is queried only once for all sectors and industry groups. Only instruments of the
+     * initialized List are taken into account, if a List is given.
      */
-    private int getNumberNear52wHigh() {
-        List<Quotation> allInstrumentsNear52wHigh;
-        int numberNear52wHigh = 0;
-        Instrument sector;
-        Instrument industryGroup;
+    private void initializeNumbersNear52w() {
+        this.numbersNear52wHigh = new HashMap<>();
+        this.numbersNear52wLow = new HashMap<>();
 
         try {
-            allInstrumentsNear52wHigh = this.quotationDAO.getQuotationsByTemplate(ScanTemplate.NEAR_52_WEEK_HIGH,
-                    InstrumentType.STOCK, null, null, null);
-
-            for (Quotation tempQuotation : allInstrumentsNear52wHigh) {
-                sector = tempQuotation.getInstrument().getSector();
-                industryGroup = tempQuotation.getInstrument().getIndustryGroup();
-
-                if (industryGroup != null && industryGroup.getId().equals(this.instrument.getId())
-                        && this.isInstrumentPartOfList(tempQuotation.getInstrument())) {
-                    numberNear52wHigh++;
-                } else if (sector != null && sector.getId().equals(this.instrument.getId())
-                        && this.isInstrumentPartOfList(tempQuotation.getInstrument())) {
-                    numberNear52wHigh++;
-                }
-            }
+            this.countInstrumentsPerMarket(this.quotationDAO.getQuotationsByTemplate(ScanTemplate.NEAR_52_WEEK_HIGH,
+                    InstrumentType.STOCK, null, null, null), this.numbersNear52wHigh);
         } catch (Exception e) {
             LOGGER.error("Failed to determine number of stocks near 52-week high.", e);
         }
 
-        return numberNear52wHigh;
+        try {
+            this.countInstrumentsPerMarket(this.quotationDAO.getQuotationsByTemplate(ScanTemplate.NEAR_52_WEEK_LOW,
+                    InstrumentType.STOCK, null, null, null), this.numbersNear52wLow);
+        } catch (Exception e) {
+            LOGGER.error("Failed to determine number of stocks near 52-week low.", e);
+        }
     }
 
     /**
-     * Determines the number of instruments that trade near the 52-week low. Only those instruments are taken into
-     * account where the given Instrument is referenced as sector or industry group.
+     * Counts the instruments of the given quotations per sector and industry group. Only instruments of the initialized
+     * List are taken into account, if a List is given.
      *
-     * @return The number of instruments near the 52-week low.
+     * @param quotations The quotations of the instruments to be counted.
+     * @param numbers    The number of instruments keyed by the ID of their sector and industry group.
      */
-    private int getNumberNear52wLow() {
-        List<Quotation> allInstrumentsNear52wLow;
-        int numberNear52wLow = 0;
+    private void countInstrumentsPerMarket(final List<Quotation> quotations, final Map<Integer, Integer> numbers) {
         Instrument sector;
         Instrument industryGroup;
 
-        try {
-            allInstrumentsNear52wLow = this.quotationDAO.getQuotationsByTemplate(ScanTemplate.NEAR_52_WEEK_LOW,
-                    InstrumentType.STOCK, null, null, null);
-
-            for (Quotation tempQuotation : allInstrumentsNear52wLow) {
-                sector = tempQuotation.getInstrument().getSector();
-                industryGroup = tempQuotation.getInstrument().getIndustryGroup();
-
-                if (industryGroup != null && industryGroup.getId().equals(this.instrument.getId())
-                        && this.isInstrumentPartOfList(tempQuotation.getInstrument())) {
-                    numberNear52wLow++;
-                } else if (sector != null && sector.getId().equals(this.instrument.getId())
-                        && this.isInstrumentPartOfList(tempQuotation.getInstrument())) {
-                    numberNear52wLow++;
-                }
+        for (Quotation tempQuotation : quotations) {
+            if (!this.isInstrumentPartOfList(tempQuotation.getInstrument())) {
+                continue;
+            }
+
+            sector = tempQuotation.getInstrument().getSector();
+            industryGroup = tempQuotation.getInstrument().getIndustryGroup();
+
+            if (sector != null) {
+                numbers.merge(sector.getId(), 1, Integer::sum);
             }
-        } catch (Exception e) {
-            LOGGER.error("Failed to determine number of stocks near 52-week low.", e);
-        }
 
-        return numberNear52wLow;
+            if (industryGroup != null) {
+                numbers.merge(industryGroup.getId(), 1, Integer::sum);
+            }
+        }
     }
 
     /**
@@ -200,6 +200,7 @@ public class InstrumentService {
 
                 // Delete instrument if exists.
                 this.instrumentDAO.deleteInstrument(instrument);
+                MarketHealthStatusCache.remove(id);
                 deleteInstrumentResult.addMessage(new WebServiceMessage(WebServiceMessageType.S,
                         MessageFormat.format(this.resources.getString("instrument.deleteSuccess"), id)));
             } else {
@@ -249,6 +250,7 @@ public class InstrumentService {
         // Update instrument if validation is successful.
         try {
             this.instrumentDAO.updateInstrument(convertedInstrument);
+            MarketHealthStatusCache.remove(convertedInstrument.getId());
             updateInstrumentResult.addMessage(new WebServiceMessage(WebServiceMessageType.S, MessageFormat
                     .format(this.resources.getString("instrument.updateSuccess"), convertedInstrument.getId())));
         } catch (ObjectUnchangedException objectUnchangedException) {
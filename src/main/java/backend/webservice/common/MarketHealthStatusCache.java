@@ -0,0 +1,122 @@
+package backend.webservice.common;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import backend.model.dashboard.MarketHealthStatus;
+import backend.model.instrument.InstrumentType;
+
+/**
+ * Holds the precomputed MarketHealthStatus of each sector and industry group. The cache is refreshed after each scan
+ * and after each rebuild of the statistics.
+ * Until the first refresh, the cache is empty and the status has to be calculated on request.
+ *
+ * The statuses of an InstrumentType are replaced as a whole. Readers therefore never see a partially refreshed state.
+ * The status of a sector or industry group is removed, if the Instrument is updated or deleted.
+ *
+ * @author Michael
+ */
+public final class MarketHealthStatusCache {
+    /**
+     * The MarketHealthStatus of each sector and industry group, grouped by InstrumentType and keyed by Instrument ID.
+     */
+    private static volatile Map<InstrumentType, Map<Integer, MarketHealthStatus>> statuses;
+
+    /**
+     * Private constructor. The cache is accessed statically.
+     */
+    private MarketHealthStatusCache() {
+
+    }
+
+    /**
+     * Replaces the cached statuses.
+     *
+     * @param sectorStatuses        The MarketHealthStatus of each sector, keyed by Instrument ID.
+     * @param industryGroupStatuses The MarketHealthStatus of each industry group, keyed by Instrument ID.
+     */
+    public static synchronized void update(final Map<Integer, MarketHealthStatus> sectorStatuses,
+            final Map<Integer, MarketHealthStatus> industryGroupStatuses) {
+
+        Map<InstrumentType, Map<Integer, MarketHealthStatus>> newStatuses = new EnumMap<>(InstrumentType.class);
+
+        newStatuses.put(InstrumentType.SECTOR, sectorStatuses);
+        newStatuses.put(InstrumentType.IND_GROUP, industryGroupStatuses);
+        statuses = newStatuses;
+    }
+
+    /**
+     * Removes the cached status of the Instrument with the given ID. The status is calculated on request until the
+     * next refresh.
+     *
+     * @param instrumentId The ID of the Instrument.
+     */
+    public static synchronized void remove(final Integer instrumentId) {
+        Map<InstrumentType, Map<Integer, MarketHealthStatus>> currentStatuses = statuses;
+        Map<InstrumentType, Map<Integer, MarketHealthStatus>> newStatuses = new EnumMap<>(InstrumentType.class);
+        Map<Integer, MarketHealthStatus> statusesOfType;
+
+        if (currentStatuses == null) {
+            return;
+        }
+
+        for (Map.Entry<InstrumentType, Map<Integer, MarketHealthStatus>> entry : currentStatuses.entrySet()) {
+            statusesOfType = new HashMap<>(entry.getValue());
+            statusesOfType.remove(instrumentId);
+            newStatuses.put(entry.getKey(), statusesOfType);
+        }
+
+        statuses = newStatuses;
+    }
+
+    /**
+     * Removes all cached statuses.
+     */
+    public static void clear() {
+        statuses = null;
+    }
+
+    /**
+     * Gets the cached MarketHealthStatus of the sector or industry group with the given ID.
+     *
+     * @param instrumentId The ID of the sector or industry group.
+     * @return The MarketHealthStatus; null, if no status has been cached for the given ID.
+     */
+    public static MarketHealthStatus getMarketHealthStatus(final Integer instrumentId) {
+        Map<InstrumentType, Map<Integer, MarketHealthStatus>> currentStatuses = statuses;
+        MarketHealthStatus marketHealthStatus;
+
+        if (currentStatuses == null) {
+            return null;
+        }
+
+        for (Map<Integer, MarketHealthStatus> statusesOfType : currentStatuses.values()) {
+            marketHealthStatus = statusesOfType.get(instrumentId);
+
+            if (marketHealthStatus != null) {
+                return marketHealthStatus;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the cached statuses of all sectors or all industry groups.
+     *
+     * @param instrumentType The InstrumentType: Either sector or industry group.
+     * @return The statuses; null, if the cache has not been filled yet.
+     */
+    public static List<MarketHealthStatus> getMarketHealthStatuses(final InstrumentType instrumentType) {
+        Map<InstrumentType, Map<Integer, MarketHealthStatus>> currentStatuses = statuses;
+
+        if (currentStatuses == null || !currentStatuses.containsKey(instrumentType)) {
+            return null;
+        }
+
+        return new ArrayList<>(currentStatuses.get(instrumentType).values());
+    }
+}
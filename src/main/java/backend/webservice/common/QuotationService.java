@@ -1,16 +1,20 @@
 package backend.webservice.common;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
 import java.util.ResourceBundle;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import backend.controller.scan.RsNumberBackfillThread;
 import backend.dao.DAOManager;
 import backend.dao.quotation.persistence.QuotationDAO;
 import backend.model.LocalizedException;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.QuotationArray;
+import backend.model.scan.ScanFilter;
 import backend.model.webservice.WebServiceMessage;
 import backend.model.webservice.WebServiceMessageType;
 import backend.model.webservice.WebServiceResult;
@@ -85,6 +89,75 @@ public class QuotationService {
         return getRecentQuotationsResult;
     }
 
+    /**
+     * Provides a list of the most recent Quotation of each Instrument that matches the given ScanFilter.
+     *
+     * @param scanFilter     The user-defined filter that is applied to the most recent quotations.
+     * @param instrumentType The InstrumentType. Parameter can be omitted (null).
+     * @param minLiquidity   The minimum trading liquidity that is required. Parameter can be omitted (null).
+     * @param minAtrp        The minimum Average True Range Percent that is required. Parameter can be omitted (null).
+     * @return A list of the most recent Quotation of each Instrument that matches the given ScanFilter.
+     */
+    public WebServiceResult getQuotationsByFilter(final ScanFilter scanFilter, final InstrumentType instrumentType,
+            final Float minLiquidity, final Float minAtrp) {
+
+        QuotationArray quotations = new QuotationArray();
+        WebServiceResult getQuotationsResult = new WebServiceResult(null);
+
+        try {
+            quotations.setQuotations(
+                    this.quotationDAO.getQuotationsByFilter(scanFilter, instrumentType, minLiquidity, minAtrp));
+            getQuotationsResult.setData(quotations);
+        } catch (LocalizedException localizedException) {
+            getQuotationsResult.addMessage(
+                    new WebServiceMessage(WebServiceMessageType.E, localizedException.getLocalizedMessage()));
+        } catch (Exception e) {
+            getQuotationsResult.addMessage(new WebServiceMessage(WebServiceMessageType.E,
+                    this.resources.getString("quotation.getRecentQuotationsError")));
+
+            LOGGER.error(this.resources.getString("quotation.getRecentQuotationsError"), e);
+        }
+
+        return getQuotationsResult;
+    }
+
+    /**
+     * Starts the calculation of the RS numbers of all historical quotations. The calculation is performed in the
+     * background.
+     *
+     * @param instrumentType The InstrumentType whose RS numbers are calculated. All instrument types having RS numbers
+     *                       are calculated, if the parameter is omitted (null).
+     * @return The result of the start request.
+     */
+    public WebServiceResult backfillRsNumbers(final InstrumentType instrumentType) {
+        WebServiceResult backfillResult = new WebServiceResult(null);
+        List<InstrumentType> instrumentTypes;
+
+        if (instrumentType != null) {
+            instrumentTypes = Arrays.asList(instrumentType);
+        } else {
+            instrumentTypes = Arrays.asList(InstrumentType.STOCK, InstrumentType.ETF, InstrumentType.SECTOR,
+                    InstrumentType.IND_GROUP, InstrumentType.RATIO);
+        }
+
+        try {
+            if (RsNumberBackfillThread.startBackfill(instrumentTypes)) {
+                backfillResult.addMessage(new WebServiceMessage(WebServiceMessageType.I,
+                        this.resources.getString("quotation.backfillRsNumbersStarted")));
+            } else {
+                backfillResult.addMessage(new WebServiceMessage(WebServiceMessageType.W,
+                        this.resources.getString("quotation.backfillRsNumbersRunning")));
+            }
+        } catch (Exception e) {
+            backfillResult.addMessage(new WebServiceMessage(WebServiceMessageType.E,
+                    this.resources.getString("quotation.backfillRsNumbersError")));
+
+            LOGGER.error(this.resources.getString("quotation.backfillRsNumbersError"), e);
+        }
+
+        return backfillResult;
+    }
+
     /**
      * Provides a List of all quotations of the Instrument with the given ID.
      *
@@ -5,6 +5,7 @@ import java.util.ResourceBundle;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import backend.controller.scan.StatisticCalculationController;
 import backend.dao.DAOManager;
 import backend.dao.statistic.StatisticDAO;
 import backend.model.instrument.InstrumentType;
@@ -65,4 +66,45 @@ public class StatisticService {
 
         return getStatisticsResult;
     }
+
+    /**
+     * Rebuilds the statistics of all days based on the whole trading history of all stocks. After each scan only the
+     * statistics of the days with modified quotations are updated. A rebuild is required, if the sector or industry
+     * group of stocks has been changed. The rebuild may take several minutes.
+     *
+     * The MarketHealthStatusCache is refreshed afterwards, because the health status of sectors and industry groups is
+     * based on the statistics.
+     *
+     * @return The result of the rebuild.
+     */
+    public WebServiceResult rebuildStatistics() {
+        WebServiceResult rebuildStatisticsResult = new WebServiceResult(null);
+        StatisticCalculationController statisticCalculationController = new StatisticCalculationController();
+
+        try {
+            statisticCalculationController.updateStatistic();
+            this.refreshMarketHealthStatusCache();
+            rebuildStatisticsResult.addMessage(new WebServiceMessage(WebServiceMessageType.S,
+                    this.resources.getString("statistic.rebuildSuccess")));
+        } catch (Exception e) {
+            rebuildStatisticsResult.addMessage(new WebServiceMessage(WebServiceMessageType.E,
+                    this.resources.getString("statistic.rebuildError")));
+            LOGGER.error(this.resources.getString("statistic.rebuildError"), e);
+        }
+
+        return rebuildStatisticsResult;
+    }
+
+    /**
+     * Recalculates the health status of all sectors and industry groups that is provided by the dashboard. If the
+     * calculation fails, the cache is cleared. The status is then calculated on request until the next refresh.
+     */
+    private void refreshMarketHealthStatusCache() {
+        try {
+            new DashboardService().refreshMarketHealthStatusCache();
+        } catch (Exception e) {
+            MarketHealthStatusCache.clear();
+            LOGGER.error("Failed to refresh the market health status of sectors and industry groups.", e);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package backend.webservice.rest;
 
+import backend.model.instrument.InstrumentType;
 import backend.model.webservice.WebServiceResult;
 import backend.webservice.common.DashboardService;
 import jakarta.ws.rs.GET;
@@ -32,4 +33,18 @@ public class DashboardRestService {
         DashboardService dashboardService = new DashboardService();
         return dashboardService.getMarketHealthStatus(instrumentId, listId);
     }
+
+    /**
+     * Determines the health status of all sectors or all industry groups.
+     *
+     * @param instrumentType The InstrumentType: Either sector or industry group.
+     * @return The health status of each sector or industry group.
+     */
+    @GET
+    @Path("/marketHealthStatuses")
+    @Produces(MediaType.APPLICATION_JSON)
+    public WebServiceResult getMarketHealthStatuses(@QueryParam("instrumentType") final InstrumentType instrumentType) {
+        DashboardService dashboardService = new DashboardService();
+        return dashboardService.getMarketHealthStatuses(instrumentType);
+    }
 }
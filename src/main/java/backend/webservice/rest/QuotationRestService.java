@@ -1,6 +1,8 @@
 package backend.webservice.rest;
 
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
@@ -8,6 +10,7 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 import backend.model.instrument.InstrumentType;
+import backend.model.scan.ScanFilter;
 import backend.model.webservice.WebServiceResult;
 import backend.webservice.ScanTemplate;
 import backend.webservice.common.QuotationService;
@@ -41,6 +44,41 @@ public class QuotationRestService {
         return quotationService.getQuotations(scanTemplate, instrumentType, startDate, minLiquidity, minAtrp);
     }
 
+    /**
+     * Provides the most recent Quotation of each Instrument that matches the given user-defined filter.
+     *
+     * @param scanFilter     The filter consisting of conditions (field, operator, value) that are combined by AND/OR.
+     * @param instrumentType The type of Instrument that is requested. Parameter can be omitted (null).
+     * @param minLiquidity   The minimum trading liquidity that is required. Parameter can be omitted (null).
+     * @param minAtrp        The minimum Average True Range Percent that is required. Parameter can be omitted (null).
+     * @return A list of the most recent quotations that match the filter.
+     */
+    @POST
+    @Path("/filter")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public WebServiceResult getQuotationsByFilter(final ScanFilter scanFilter,
+            @QueryParam("instrumentType") final InstrumentType instrumentType,
+            @QueryParam("minLiquidity") final Float minLiquidity, @QueryParam("minAtrp") final Float minAtrp) {
+
+        QuotationService quotationService = new QuotationService();
+        return quotationService.getQuotationsByFilter(scanFilter, instrumentType, minLiquidity, minAtrp);
+    }
+
+    /**
+     * Starts the calculation of the RS numbers of all historical quotations.
+     *
+     * @param instrumentType The type of Instrument whose RS numbers are calculated. Parameter can be omitted (null).
+     * @return The result of the start request.
+     */
+    @POST
+    @Path("/backfillRsNumbers")
+    @Produces(MediaType.APPLICATION_JSON)
+    public WebServiceResult backfillRsNumbers(@QueryParam("instrumentType") final InstrumentType instrumentType) {
+        QuotationService quotationService = new QuotationService();
+        return quotationService.backfillRsNumbers(instrumentType);
+    }
+
     /**
      * Provides a List of all quotations of the Instrument with the given ID.
      *
@@ -1,6 +1,7 @@
 package backend.webservice.rest;
 
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
@@ -34,4 +35,17 @@ public class StatisticRestService {
         StatisticService statisticService = new StatisticService();
         return statisticService.getStatistics(instrumentType, sectorId, industryGroupId);
     }
+
+    /**
+     * Rebuilds the statistics of all days.
+     *
+     * @return The result of the rebuild.
+     */
+    @POST
+    @Path("/rebuild")
+    @Produces(MediaType.APPLICATION_JSON)
+    public WebServiceResult rebuildStatistics() {
+        StatisticService statisticService = new StatisticService();
+        return statisticService.rebuildStatistics();
+    }
 }
@@ -1,9 +1,11 @@
 package backend.calculator;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
@@ -19,6 +21,7 @@ import backend.model.instrument.Instrument;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
+import backend.model.instrument.QuotationSeries;
 
 /**
  * Tests the BollingerCalculator.
@@ -173,4 +176,73 @@ public class BollingerCalculatorTest {
 
         assertEquals(expectedThreshold, actualThreshold);
     }
+
+    /**
+     * Tests the calculation of the Bollinger BandWidth of the whole trading history. Each value is expected to be equal
+     * to the Bollinger BandWidth calculated for the single Quotation.
+     */
+    @Test
+    public void testGetBollingerBandWidths() {
+        QuotationArray sortedQuotations = new QuotationArray(this.dmlStock.getQuotationsSortedByDate());
+        float[] actualBollingerBandWidths;
+        float expectedBollingerBandWidth;
+        final int days10 = 10;
+
+        actualBollingerBandWidths = this.bollingerCalculator.getBollingerBandWidths(days10, 2, sortedQuotations);
+
+        assertEquals(sortedQuotations.getQuotations().size(), actualBollingerBandWidths.length);
+
+        for (int i = 0; i < sortedQuotations.getQuotations().size(); i++) {
+            expectedBollingerBandWidth = this.bollingerCalculator.getBollingerBandWidth(days10, 2,
+                    sortedQuotations.getQuotations().get(i), sortedQuotations);
+
+            assertEquals(expectedBollingerBandWidth, actualBollingerBandWidths[i]);
+        }
+    }
+
+    /**
+     * Tests the calculation of the Bollinger BandWidth threshold for multiple percent values. The threshold is expected
+     * to be equal to the value at the given percentile of all sorted Bollinger BandWidth values.
+     */
+    @Test
+    public void testGetBollingerBandWidthThresholdPercentiles() {
+        QuotationArray sortedQuotations = new QuotationArray(this.dmlStock.getQuotationsSortedByDate());
+        List<Float> sortedBandWidths = new ArrayList<>();
+        float[] bandWidths;
+        float actualThreshold;
+        final int days10 = 10;
+        final int[] thresholds = {0, 1, 25, 50, 75, 99};
+        final int hundredPercent = 100;
+
+        bandWidths = this.bollingerCalculator.getBollingerBandWidths(days10, 2, sortedQuotations);
+
+        for (float bandWidth : bandWidths) {
+            if (bandWidth > 0) {
+                sortedBandWidths.add(bandWidth);
+            }
+        }
+
+        Collections.sort(sortedBandWidths);
+
+        for (int threshold : thresholds) {
+            actualThreshold = this.bollingerCalculator.getBollingerBandWidthThreshold(days10, 2, threshold,
+                    sortedQuotations.getQuotations().get(0), sortedQuotations);
+
+            assertEquals(sortedBandWidths.get(sortedBandWidths.size() * threshold / hundredPercent), actualThreshold);
+        }
+    }
+
+    /**
+     * Tests if the Bollinger BandWidth calculated based on a QuotationSeries is identical to the Bollinger BandWidth
+     * calculated based on a QuotationArray.
+     */
+    @Test
+    public void testGetBollingerBandWidthsOfQuotationSeries() {
+        QuotationArray sortedQuotations = new QuotationArray(this.dmlStock.getQuotationsSortedByDate());
+        QuotationSeries quotationSeries = new QuotationSeries(sortedQuotations);
+        final int days10 = 10;
+
+        assertArrayEquals(this.bollingerCalculator.getBollingerBandWidths(days10, 2, sortedQuotations),
+                this.bollingerCalculator.getBollingerBandWidths(days10, 2, quotationSeries));
+    }
 }
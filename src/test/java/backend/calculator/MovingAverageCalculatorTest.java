@@ -1,10 +1,14 @@
 package backend.calculator;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -19,6 +23,7 @@ import backend.model.instrument.Instrument;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
+import backend.model.instrument.QuotationSeries;
 
 /**
  * Tests the MovingAvageCalculator.
@@ -336,4 +341,123 @@ public class MovingAverageCalculatorTest {
 
         assertEquals(expectedEma10, actualEma10);
     }
+
+    /**
+     * Tests if the Simple Moving Averages calculated for the whole trading history are identical to the values
+     * calculated separately for each Quotation.
+     */
+    @Test
+    public void testGetSimpleMovingAverages() {
+        QuotationArray sortedQuotations = new QuotationArray(this.dmlStock.getQuotationsSortedByDate());
+        float[] actualSma50;
+        float expectedSma50;
+        final int days50 = 50;
+
+        actualSma50 = this.movingAverageCalculator.getSimpleMovingAverages(days50, sortedQuotations);
+
+        assertEquals(sortedQuotations.getQuotations().size(), actualSma50.length);
+
+        for (int i = 0; i < actualSma50.length; i++) {
+            expectedSma50 = this.movingAverageCalculator.getSimpleMovingAverage(days50,
+                    sortedQuotations.getQuotations().get(i), sortedQuotations);
+            assertEquals(expectedSma50, actualSma50[i]);
+        }
+    }
+
+    /**
+     * Tests if the Exponential Moving Averages calculated for the whole trading history are identical to the values
+     * calculated separately for each Quotation.
+     */
+    @Test
+    public void testGetExponentialMovingAverages() {
+        QuotationArray sortedQuotations = new QuotationArray(this.dmlStock.getQuotationsSortedByDate());
+        float[] actualEma21;
+        float expectedEma21;
+        final int days21 = 21;
+
+        actualEma21 = this.movingAverageCalculator.getExponentialMovingAverages(days21, sortedQuotations);
+
+        assertEquals(sortedQuotations.getQuotations().size(), actualEma21.length);
+
+        for (int i = 0; i < actualEma21.length; i++) {
+            expectedEma21 = this.movingAverageCalculator.getExponentialMovingAverage(days21,
+                    sortedQuotations.getQuotations().get(i), sortedQuotations);
+            assertEquals(expectedEma21, actualEma21[i]);
+        }
+    }
+
+    /**
+     * Tests if the Simple Moving Average Volumes calculated for the whole trading history are identical to the values
+     * calculated separately for each Quotation.
+     */
+    @Test
+    public void testGetSimpleMovingAverageVolumes() {
+        QuotationArray sortedQuotations = new QuotationArray(this.dmlStock.getQuotationsSortedByDate());
+        long[] actualVolume;
+        long expectedVolume;
+        final int days30 = 30;
+
+        actualVolume = this.movingAverageCalculator.getSimpleMovingAverageVolumes(days30, sortedQuotations);
+
+        assertEquals(sortedQuotations.getQuotations().size(), actualVolume.length);
+
+        for (int i = 0; i < actualVolume.length; i++) {
+            expectedVolume = this.movingAverageCalculator.getSimpleMovingAverageVolume(days30,
+                    sortedQuotations.getQuotations().get(i), sortedQuotations);
+            assertEquals(expectedVolume, actualVolume[i]);
+        }
+    }
+
+    /**
+     * Tests if the moving averages calculated based on a QuotationSeries are identical to those calculated based on a
+     * QuotationArray.
+     */
+    @Test
+    public void testGetMovingAveragesOfQuotationSeries() {
+        QuotationArray sortedQuotations = new QuotationArray(this.dmlStock.getQuotationsSortedByDate());
+        QuotationSeries quotationSeries = new QuotationSeries(sortedQuotations);
+        final int days10 = 10;
+        final int days21 = 21;
+        final int days30 = 30;
+        final int days200 = 200;
+
+        assertArrayEquals(this.movingAverageCalculator.getSimpleMovingAverages(days10, sortedQuotations),
+                this.movingAverageCalculator.getSimpleMovingAverages(days10, quotationSeries));
+        assertArrayEquals(this.movingAverageCalculator.getSimpleMovingAverages(days200, sortedQuotations),
+                this.movingAverageCalculator.getSimpleMovingAverages(days200, quotationSeries));
+        assertArrayEquals(this.movingAverageCalculator.getExponentialMovingAverages(days21, sortedQuotations),
+                this.movingAverageCalculator.getExponentialMovingAverages(days21, quotationSeries));
+        assertArrayEquals(this.movingAverageCalculator.getSimpleMovingAverageVolumes(days30, sortedQuotations),
+                this.movingAverageCalculator.getSimpleMovingAverageVolumes(days30, quotationSeries));
+    }
+
+    /**
+     * Tests if the Simple Moving Averages calculated based on a QuotationSeries are identical to those calculated based
+     * on a QuotationArray, if prices have three decimals. The average of such prices frequently has to be rounded.
+     */
+    @Test
+    public void testGetSimpleMovingAveragesOfQuotationSeriesThreeDecimals() {
+        QuotationArray sortedQuotations = new QuotationArray(new ArrayList<>());
+        QuotationSeries quotationSeries;
+        Quotation quotation;
+        Random random = new Random(1);
+        final int numberOfQuotations = 1000;
+        final int maxScaledPrice = 100000;
+        final int days10 = 10;
+        final long millisPerDay = 86400000;
+
+        for (int i = 0; i < numberOfQuotations; i++) {
+            quotation = new Quotation();
+            quotation.setDate(new Date(millisPerDay * (numberOfQuotations - i)));
+            quotation.setClose(BigDecimal.valueOf(random.nextInt(maxScaledPrice), QuotationSeries.PRICE_SCALE));
+            sortedQuotations.getQuotations().add(quotation);
+        }
+
+        quotationSeries = new QuotationSeries(sortedQuotations);
+
+        assertArrayEquals(this.movingAverageCalculator.getSimpleMovingAverages(days10, sortedQuotations),
+                this.movingAverageCalculator.getSimpleMovingAverages(days10, quotationSeries));
+        assertArrayEquals(this.movingAverageCalculator.getExponentialMovingAverages(days10, sortedQuotations),
+                this.movingAverageCalculator.getExponentialMovingAverages(days10, quotationSeries));
+    }
 }
@@ -0,0 +1,88 @@
+package backend.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the PercentileRankCalculator.
+ *
+ * @author Michael
+ */
+public class PercentileRankCalculatorTest {
+    /**
+     * The PercentileRankCalculator under test.
+     */
+    private PercentileRankCalculator percentileRankCalculator;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.percentileRankCalculator = new PercentileRankCalculator();
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.percentileRankCalculator = null;
+    }
+
+    /**
+     * Tests the ranking of positive, negative and equal values.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testGetPercentileRanks() {
+        float[] values = {-2.5f, 10, 0, 10, -0.0f, 3.75f};
+        boolean[] hasValue = {true, true, true, true, true, true};
+        int[] ranks;
+
+        ranks = this.percentileRankCalculator.getPercentileRanks(values, hasValue);
+
+        // Equal values are ranked by their index.
+        assertEquals(100, ranks[1]);
+        assertEquals(83, ranks[3]);
+        assertEquals(67, ranks[5]);
+        assertEquals(50, ranks[2]);
+        assertEquals(33, ranks[4]);
+        assertEquals(17, ranks[0]);
+    }
+
+    /**
+     * Tests the ranking of values that are not defined.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testGetPercentileRanksUndefinedValues() {
+        float[] values = {0, 5, 0, 1};
+        boolean[] hasValue = {false, true, false, true};
+        int[] ranks;
+
+        ranks = this.percentileRankCalculator.getPercentileRanks(values, hasValue);
+
+        // Undefined values are ranked below all defined values.
+        assertEquals(100, ranks[1]);
+        assertEquals(75, ranks[3]);
+        assertEquals(50, ranks[0]);
+        assertEquals(25, ranks[2]);
+    }
+
+    /**
+     * Tests the percentile rank of a position. The rank is rounded half up.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testGetPercentileRank() {
+        assertEquals(100, this.percentileRankCalculator.getPercentileRank(0, 3));
+        assertEquals(67, this.percentileRankCalculator.getPercentileRank(1, 3));
+        assertEquals(33, this.percentileRankCalculator.getPercentileRank(2, 3));
+        assertEquals(1, this.percentileRankCalculator.getPercentileRank(199, 200));
+        assertEquals(50, this.percentileRankCalculator.getPercentileRank(1, 2));
+    }
+}
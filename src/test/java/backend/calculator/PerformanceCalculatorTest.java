@@ -184,6 +184,29 @@ public class PerformanceCalculatorTest {
         assertEquals(expectedRSPercentSum, actualRSPercentSum);
     }
 
+    /**
+     * Tests the calculation of the RS percentage sum based on an array of closing prices sorted by date in ascending
+     * order. The results have to be equal to the calculation based on quotations.
+     */
+    @Test
+    public void testGetRSPercentSumOfClosingPrices() {
+        List<Quotation> quotations = this.dmlStock.getQuotationsSortedByDate();
+        double[] closingPrices = new double[quotations.size()];
+        final float expectedRSPercentSum = -89.55f;
+        final float expectedRSPercentSumOfIncompleteHistory = -94.17f;
+
+        for (int i = 0; i < quotations.size(); i++) {
+            closingPrices[quotations.size() - 1 - i] = quotations.get(i).getClose().doubleValue();
+        }
+
+        assertEquals(expectedRSPercentSum,
+                this.performanceCalculator.getRSPercentSum(closingPrices, 0, closingPrices.length - 1));
+
+        // Without the oldest closing price the 12 month performance can't be calculated.
+        assertEquals(expectedRSPercentSumOfIncompleteHistory,
+                this.performanceCalculator.getRSPercentSum(closingPrices, 1, closingPrices.length - 1));
+    }
+
     /**
      * Tests the calculation of the average performance on up-days.
      */
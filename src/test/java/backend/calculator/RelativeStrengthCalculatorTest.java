@@ -4,13 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import backend.model.instrument.Indicator;
+import backend.model.instrument.Instrument;
 import backend.model.instrument.Quotation;
 
 /**
@@ -154,4 +158,70 @@ public class RelativeStrengthCalculatorTest {
         assertEquals(67, this.dmlQuotation3.getRelativeStrengthData().getRsNumberAccDisRatio());
         assertEquals(100, this.dmlQuotation1.getRelativeStrengthData().getRsNumberAccDisRatio());
     }
+
+    /**
+     * Tests the calculation of all RS numbers in one pass.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testCalculateRsNumbers() {
+        List<Quotation> quotations = new ArrayList<>();
+
+        // Prepare all quotations on which the RS numbers are to be calculated.
+        quotations.add(this.dmlQuotation1);
+        quotations.add(this.dmlQuotation2);
+        quotations.add(this.dmlQuotation3);
+
+        // Calculate the RS numbers.
+        this.relativeStrengthCalculator.calculateRsNumbers(quotations);
+
+        // Verify the correct calculation.
+        assertEquals(100, this.dmlQuotation1.getRelativeStrengthData().getRsNumber());
+        assertEquals(67, this.dmlQuotation1.getRelativeStrengthData().getRsNumberDistance52WeekHigh());
+        assertEquals(100, this.dmlQuotation1.getRelativeStrengthData().getRsNumberAccDisRatio());
+        assertEquals(33, this.dmlQuotation2.getRelativeStrengthData().getRsNumber());
+        assertEquals(100, this.dmlQuotation2.getRelativeStrengthData().getRsNumberDistance52WeekHigh());
+        assertEquals(33, this.dmlQuotation2.getRelativeStrengthData().getRsNumberAccDisRatio());
+        assertEquals(67, this.dmlQuotation3.getRelativeStrengthData().getRsNumber());
+        assertEquals(33, this.dmlQuotation3.getRelativeStrengthData().getRsNumberDistance52WeekHigh());
+        assertEquals(67, this.dmlQuotation3.getRelativeStrengthData().getRsNumberAccDisRatio());
+
+        // Assure the order of the quotations is not changed.
+        assertEquals(this.dmlQuotation1, quotations.get(0));
+        assertEquals(this.dmlQuotation2, quotations.get(1));
+        assertEquals(this.dmlQuotation3, quotations.get(2));
+    }
+
+    /**
+     * Tests the ranking of a subset of instruments by their RS percent sum.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testGetRsNumbersOfInstruments() {
+        List<Quotation> quotations = new ArrayList<>();
+        Set<Integer> instrumentIds = new HashSet<>();
+        Map<Integer, Integer> rsNumbers;
+
+        quotations.add(this.dmlQuotation1);
+        quotations.add(this.dmlQuotation2);
+        quotations.add(this.dmlQuotation3);
+
+        for (int i = 0; i < quotations.size(); i++) {
+            quotations.get(i).setInstrument(new Instrument());
+            quotations.get(i).getInstrument().setId(i + 1);
+        }
+
+        // Rank the instruments of dmlQuotation2 and dmlQuotation3 only.
+        instrumentIds.add(2);
+        instrumentIds.add(3);
+
+        rsNumbers = this.relativeStrengthCalculator.getRsNumbersOfInstruments(quotations, instrumentIds);
+
+        assertEquals(2, rsNumbers.size());
+        assertEquals(50, rsNumbers.get(2).intValue());
+        assertEquals(100, rsNumbers.get(3).intValue());
+
+        // Assure the quotations are not modified.
+        assertEquals(0, this.dmlQuotation3.getRelativeStrengthData().getRsNumber());
+    }
 }
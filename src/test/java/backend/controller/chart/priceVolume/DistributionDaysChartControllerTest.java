@@ -119,19 +119,9 @@ public class DistributionDaysChartControllerTest {
      */
     private void initializeDMLIndicators() {
         IndicatorCalculationController indicatorCalculator = new IndicatorCalculationController();
-        List<Quotation> sortedQuotations = this.dmlStock.getQuotationsSortedByDate();
-        Quotation quotation;
-
-        for (int i = 0; i < sortedQuotations.size(); i++) {
-            quotation = sortedQuotations.get(i);
-
-            // Calculate all Indicators only for most recent Quotation like in the ScanThread.
-            if (i == 0) {
-                quotation = indicatorCalculator.calculateIndicators(this.dmlStock, quotation, true);
-            } else {
-                quotation = indicatorCalculator.calculateIndicators(this.dmlStock, quotation, false);
-            }
-        }
+
+        // Calculate all Indicators only for most recent Quotation like in the ScanThread.
+        indicatorCalculator.calculateIndicators(this.dmlStock);
     }
 
     /**
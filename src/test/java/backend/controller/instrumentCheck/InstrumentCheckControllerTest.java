@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -20,7 +19,6 @@ import backend.dao.quotation.provider.QuotationProviderYahooDAOStub;
 import backend.model.StockExchange;
 import backend.model.instrument.Instrument;
 import backend.model.instrument.InstrumentType;
-import backend.model.instrument.Quotation;
 import backend.model.instrument.QuotationArray;
 import backend.tools.DateTools;
 
@@ -104,23 +102,12 @@ public class InstrumentCheckControllerTest {
      */
     private void initializeDMLIndicators() {
         IndicatorCalculationController indicatorCalculator = new IndicatorCalculationController();
-        List<Quotation> sortedQuotations;
         Instrument instrument = new Instrument();
-        Quotation quotation;
 
         instrument.setQuotations(this.dmlQuotations.getQuotations());
-        sortedQuotations = instrument.getQuotationsSortedByDate();
 
-        for (int i = 0; i < sortedQuotations.size(); i++) {
-            quotation = sortedQuotations.get(i);
-
-            // Calculate all Indicators only for most recent Quotation like in the ScanThread.
-            if (i == 0) {
-                quotation = indicatorCalculator.calculateIndicators(instrument, quotation, true);
-            } else {
-                quotation = indicatorCalculator.calculateIndicators(instrument, quotation, false);
-            }
-        }
+        // Calculate all Indicators only for most recent Quotation like in the ScanThread.
+        indicatorCalculator.calculateIndicators(instrument);
     }
 
     /**
@@ -0,0 +1,212 @@
+package backend.controller.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import backend.dao.quotation.provider.QuotationProviderDAO;
+import backend.dao.quotation.provider.QuotationProviderYahooDAOStub;
+import backend.model.StockExchange;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
+import backend.model.instrument.MovingAverageData;
+import backend.model.instrument.Quotation;
+import backend.model.instrument.QuotationSeries;
+
+/**
+ * Tests the IndicatorCalculationController.
+ *
+ * @author Michael
+ */
+public class IndicatorCalculationControllerTest {
+    /**
+     * DAO to access quotation data from Yahoo.
+     */
+    private static QuotationProviderDAO quotationProviderYahooDAO;
+
+    /**
+     * The IndicatorCalculationController under test.
+     */
+    private IndicatorCalculationController indicatorCalculationController;
+
+    /**
+     * Tasks to be performed once at startup of test class.
+     */
+    @BeforeAll
+    public static void setUpClass() {
+        try {
+            quotationProviderYahooDAO = new QuotationProviderYahooDAOStub();
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tasks to be performed once at the end of the test class.
+     */
+    @AfterAll
+    public static void tearDownClass() {
+        quotationProviderYahooDAO = null;
+    }
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.indicatorCalculationController = new IndicatorCalculationController();
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.indicatorCalculationController = null;
+    }
+
+    /**
+     * Gets a new instance of the DML Instrument with its quotations.
+     *
+     * @return The DML Instrument.
+     */
+    private Instrument getDmlInstrument() {
+        List<Quotation> quotations = new ArrayList<>();
+        Instrument dmlStock = new Instrument();
+
+        dmlStock.setSymbol("DML");
+        dmlStock.setStockExchange(StockExchange.TSX);
+        dmlStock.setType(InstrumentType.STOCK);
+        dmlStock.setName("Denison Mines");
+
+        try {
+            quotations.addAll(quotationProviderYahooDAO.getQuotationHistory(dmlStock, 1));
+            dmlStock.setQuotations(quotations);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+
+        return dmlStock;
+    }
+
+    /**
+     * Tests the incremental calculation of indicators for quotations that have been added after the initial
+     * calculation.
+     */
+    @Test
+    public void testCalculateIndicatorsIncremental() {
+        final int numberOfNewQuotations = 3;
+
+        this.assertIncrementalEqualsFullCalculation(this.getDmlInstrument(), this.getDmlInstrument(),
+                numberOfNewQuotations);
+    }
+
+    /**
+     * Tests the incremental calculation of indicators for prices with up to five integer digits. The moving averages of
+     * the incremental calculation have to be equal to those of a full calculation.
+     */
+    @Test
+    public void testCalculateIndicatorsIncrementalHighPrices() {
+        Instrument expectedInstrument = this.getDmlInstrument();
+        Instrument actualInstrument = this.getDmlInstrument();
+        final BigDecimal priceFactor = new BigDecimal("7919.317");
+        final int numberOfNewQuotations = 30;
+
+        for (Instrument instrument : List.of(expectedInstrument, actualInstrument)) {
+            for (Quotation quotation : instrument.getQuotations()) {
+                quotation.setClose(quotation.getClose().multiply(priceFactor).setScale(QuotationSeries.PRICE_SCALE,
+                        RoundingMode.HALF_UP));
+            }
+        }
+
+        this.assertIncrementalEqualsFullCalculation(expectedInstrument, actualInstrument, numberOfNewQuotations);
+    }
+
+    /**
+     * Calculates the indicators of the expected Instrument in full. The indicators of the actual Instrument are first
+     * calculated without the newest quotations and then incremental after the newest quotations have been added. The
+     * moving averages of the newest quotations have to be equal.
+     *
+     * @param expectedInstrument    The Instrument whose indicators are calculated in full.
+     * @param actualInstrument      The Instrument whose indicators are calculated incremental. It has to provide the
+     *                              same quotations as the expected Instrument.
+     * @param numberOfNewQuotations The number of quotations that are added before the incremental calculation.
+     */
+    private void assertIncrementalEqualsFullCalculation(final Instrument expectedInstrument,
+            final Instrument actualInstrument, final int numberOfNewQuotations) {
+
+        List<Quotation> expectedQuotations = this.indicatorCalculationController.calculateIndicators(expectedInstrument);
+        List<Quotation> newQuotations = new ArrayList<>();
+        List<Quotation> modifiedQuotations;
+        MovingAverageData expectedMaData;
+        MovingAverageData actualMaData;
+
+        // Initially calculate indicators without the newest quotations.
+        for (int i = 0; i < numberOfNewQuotations; i++) {
+            newQuotations.add(actualInstrument.getQuotationsSortedByDate().remove(0));
+        }
+
+        this.indicatorCalculationController.calculateIndicators(actualInstrument);
+
+        // Add the new quotations and calculate incremental.
+        actualInstrument.getQuotations().addAll(newQuotations);
+        modifiedQuotations = this.indicatorCalculationController.calculateIndicatorsIncremental(actualInstrument);
+
+        assertEquals(numberOfNewQuotations, modifiedQuotations.size());
+        assertNotNull(actualInstrument.getQuotationsSortedByDate().get(0).getIndicator());
+
+        for (int i = 0; i < numberOfNewQuotations; i++) {
+            expectedMaData = expectedQuotations.get(i).getMovingAverageData();
+            actualMaData = actualInstrument.getQuotationsSortedByDate().get(i).getMovingAverageData();
+
+            assertEquals(expectedMaData.getSma10(), actualMaData.getSma10());
+            assertEquals(expectedMaData.getSma50(), actualMaData.getSma50());
+            assertEquals(expectedMaData.getSma150(), actualMaData.getSma150());
+            assertEquals(expectedMaData.getSma200(), actualMaData.getSma200());
+            assertEquals(expectedMaData.getSma30Volume(), actualMaData.getSma30Volume());
+            assertEquals(expectedMaData.getEma10(), actualMaData.getEma10());
+            assertEquals(expectedMaData.getEma21(), actualMaData.getEma21());
+        }
+    }
+
+    /**
+     * Tests the incremental calculation of indicators if no new quotations have been added since the last calculation.
+     * Only the most recent Quotation is expected to be calculated.
+     */
+    @Test
+    public void testCalculateIndicatorsIncrementalNoNewQuotations() {
+        Instrument instrument = this.getDmlInstrument();
+        List<Quotation> modifiedQuotations;
+
+        this.indicatorCalculationController.calculateIndicators(instrument);
+        modifiedQuotations = this.indicatorCalculationController.calculateIndicatorsIncremental(instrument);
+
+        assertEquals(1, modifiedQuotations.size());
+        assertEquals(instrument.getQuotationsSortedByDate().get(0), modifiedQuotations.get(0));
+    }
+
+    /**
+     * Tests the incremental calculation of indicators if no indicators have been calculated before. The whole trading
+     * history is expected to be calculated.
+     */
+    @Test
+    public void testCalculateIndicatorsIncrementalWithoutHistory() {
+        Instrument instrument = this.getDmlInstrument();
+        List<Quotation> modifiedQuotations;
+
+        modifiedQuotations = this.indicatorCalculationController.calculateIndicatorsIncremental(instrument);
+
+        assertEquals(instrument.getQuotations().size(), modifiedQuotations.size());
+    }
+}
@@ -0,0 +1,88 @@
+package backend.controller.scan;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the RateLimiter.
+ *
+ * @author Michael
+ */
+public class RateLimiterTest {
+    /**
+     * The number of nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    /**
+     * Acquires the given number of tokens and measures the time needed.
+     *
+     * @param rateLimiter    The RateLimiter.
+     * @param numberOfTokens The number of tokens to acquire.
+     * @return The time in milliseconds needed to acquire all tokens.
+     */
+    private long acquireTokens(final RateLimiter rateLimiter, final int numberOfTokens) {
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < numberOfTokens; i++) {
+                rateLimiter.acquire();
+            }
+        } catch (InterruptedException e) {
+            fail(e.getMessage());
+        }
+
+        return (System.nanoTime() - start) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Tests acquiring tokens if the bucket has to be refilled between each query.
+     */
+    @Test
+    public void testAcquireWithRefill() {
+        RateLimiter rateLimiter;
+        final long intervalMillis = 100;
+        final int numberOfTokens = 3;
+        long elapsedMillis;
+
+        rateLimiter = new RateLimiter(intervalMillis, 1);
+        elapsedMillis = this.acquireTokens(rateLimiter, numberOfTokens);
+
+        // The first token is available immediately. Each further token needs one interval.
+        assertTrue(elapsedMillis >= (numberOfTokens - 1) * intervalMillis);
+    }
+
+    /**
+     * Tests acquiring tokens that are available within the capacity of the bucket.
+     */
+    @Test
+    public void testAcquireWithinCapacity() {
+        RateLimiter rateLimiter;
+        final long intervalMillis = 10000;
+        final int capacity = 3;
+        long elapsedMillis;
+
+        rateLimiter = new RateLimiter(intervalMillis, capacity);
+        elapsedMillis = this.acquireTokens(rateLimiter, capacity);
+
+        assertTrue(elapsedMillis < intervalMillis);
+    }
+
+    /**
+     * Tests acquiring tokens without any limitation of the rate.
+     */
+    @Test
+    public void testAcquireUnlimited() {
+        RateLimiter rateLimiter;
+        final long maxElapsedMillis = 1000;
+        final int numberOfTokens = 1000;
+        long elapsedMillis;
+
+        rateLimiter = new RateLimiter(0, 1);
+        elapsedMillis = this.acquireTokens(rateLimiter, numberOfTokens);
+
+        assertTrue(elapsedMillis < maxElapsedMillis);
+    }
+}
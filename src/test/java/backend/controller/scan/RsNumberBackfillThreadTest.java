@@ -0,0 +1,123 @@
+package backend.controller.scan;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import backend.dao.quotation.persistence.ClosingPriceHistory;
+import backend.model.instrument.InstrumentType;
+
+/**
+ * Tests the RsNumberBackfillThread.
+ *
+ * @author Michael
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public class RsNumberBackfillThreadTest {
+    /**
+     * The number of trading days of the history. One more than needed for the 3-month performance.
+     */
+    private static final int NUMBER_OF_DAYS = 64;
+
+    /**
+     * The day number of the first trading day.
+     */
+    private static final int FIRST_DAY = 19000;
+
+    /**
+     * The RsNumberBackfillThread under test.
+     */
+    private RsNumberBackfillThread rsNumberBackfillThread;
+
+    /**
+     * The trading history of a rising, a flat and a falling Instrument.
+     */
+    private ClosingPriceHistory closingPriceHistory;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.rsNumberBackfillThread = new RsNumberBackfillThread(Arrays.asList(InstrumentType.STOCK));
+        this.closingPriceHistory = new ClosingPriceHistory();
+
+        this.addQuotations(1, new BigDecimal("0.10"));
+        this.addQuotations(2, BigDecimal.ZERO);
+        this.addQuotations(3, new BigDecimal("-0.05"));
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.closingPriceHistory = null;
+        this.rsNumberBackfillThread = null;
+    }
+
+    /**
+     * Adds a linear trading history to the ClosingPriceHistory.
+     *
+     * @param instrumentId The ID of the Instrument. The ID of each Quotation is based on the instrument ID.
+     * @param dailyChange  The change of the closing price per day.
+     */
+    private void addQuotations(final int instrumentId, final BigDecimal dailyChange) {
+        BigDecimal closingPrice = BigDecimal.TEN;
+        Date date;
+
+        for (int i = 0; i < NUMBER_OF_DAYS; i++) {
+            date = Date.from(LocalDate.ofEpochDay(FIRST_DAY + i).atStartOfDay(ZoneId.systemDefault()).toInstant());
+            this.closingPriceHistory.addQuotation(instrumentId, instrumentId * 1000 + i, date, closingPrice);
+            closingPrice = closingPrice.add(dailyChange);
+        }
+    }
+
+    /**
+     * Tests the calculation of the RS numbers of a trading day.
+     */
+    @Test
+    public void testCalculateRsNumbersOfDay() {
+        RsNumbersOfDay rsNumbersOfDay = this.rsNumberBackfillThread.calculateRsNumbersOfDay(this.closingPriceHistory,
+                FIRST_DAY + NUMBER_OF_DAYS - 2);
+
+        // The 3-month performance is counted twice: (16.2 / 10 - 1) * 100 * 2 = 124.
+        assertArrayEquals(new int[] {1062, 2062, 3062}, rsNumbersOfDay.getQuotationIds());
+        assertArrayEquals(new float[] {124, 0, -62}, rsNumbersOfDay.getRsPercentSums());
+        assertArrayEquals(new int[] {100, 67, 33}, rsNumbersOfDay.getRsNumbers());
+    }
+
+    /**
+     * Tests that the newest Quotation of each Instrument is not updated.
+     */
+    @Test
+    public void testNewestQuotationIsSkipped() {
+        RsNumbersOfDay rsNumbersOfDay = this.rsNumberBackfillThread.calculateRsNumbersOfDay(this.closingPriceHistory,
+                FIRST_DAY + NUMBER_OF_DAYS - 1);
+
+        assertEquals(0, rsNumbersOfDay.size());
+    }
+
+    /**
+     * Tests the determination of the trading days.
+     */
+    @Test
+    public void testGetTradingDays() {
+        int[] tradingDays = this.closingPriceHistory.getTradingDays();
+
+        assertEquals(NUMBER_OF_DAYS, tradingDays.length);
+        assertEquals(FIRST_DAY, tradingDays[0]);
+        assertEquals(FIRST_DAY + NUMBER_OF_DAYS - 1, tradingDays[NUMBER_OF_DAYS - 1]);
+        assertEquals(3, this.closingPriceHistory.getNumberOfInstruments());
+        assertEquals(-1, this.closingPriceHistory.getIndexOfDay(0, FIRST_DAY - 1));
+    }
+}
@@ -1,6 +1,7 @@
 package backend.controller.scan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Map;
@@ -54,6 +55,14 @@ public class ScanControllerTest {
         assertEquals(expectedQueryInterval, actualQueryInterval);
     }
 
+    /**
+     * Tests getting the indication for a full indicator update.
+     */
+    @Test
+    public void testIsFullIndicatorUpdate() {
+        assertFalse(this.scanController.isFullIndicatorUpdate());
+    }
+
     /**
      * Tests getting the data providers.
      */
@@ -0,0 +1,228 @@
+package backend.controller.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import backend.model.StockExchange;
+import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
+
+/**
+ * Tests the ScanDependencyGraph.
+ *
+ * @author Michael
+ */
+public class ScanDependencyGraphTest {
+    /**
+     * A stock that is part of the sector.
+     */
+    private Instrument stock1;
+
+    /**
+     * Another stock that is part of the sector.
+     */
+    private Instrument stock2;
+
+    /**
+     * The index that is used as divisor of the ratio.
+     */
+    private Instrument index;
+
+    /**
+     * A sector whose quotations are calculated based on a list of stocks.
+     */
+    private Instrument sector;
+
+    /**
+     * A ratio between the sector and the index.
+     */
+    private Instrument ratio;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        final int stock1Id = 1;
+        final int stock2Id = 2;
+        final int indexId = 3;
+        final int sectorId = 4;
+        final int ratioId = 5;
+        backend.model.list.List sectorList = new backend.model.list.List();
+
+        this.stock1 = this.getInstrument(stock1Id, "AAA", InstrumentType.STOCK);
+        this.stock2 = this.getInstrument(stock2Id, "BBB", InstrumentType.STOCK);
+        this.index = this.getInstrument(indexId, "SPY", InstrumentType.ETF);
+
+        sectorList.setName("Sector constituents");
+        sectorList.addInstrument(this.stock1);
+        sectorList.addInstrument(this.stock2);
+        this.sector = this.getInstrument(sectorId, "SEC", InstrumentType.SECTOR);
+        this.sector.setDataSourceList(sectorList);
+
+        this.ratio = this.getInstrument(ratioId, "SEC/SPY", InstrumentType.RATIO);
+        this.ratio.setDividend(this.sector);
+        this.ratio.setDivisor(this.index);
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.ratio = null;
+        this.sector = null;
+        this.index = null;
+        this.stock2 = null;
+        this.stock1 = null;
+    }
+
+    /**
+     * Initializes an Instrument.
+     *
+     * @param id     The ID.
+     * @param symbol The symbol.
+     * @param type   The InstrumentType.
+     * @return The Instrument.
+     */
+    private Instrument getInstrument(final Integer id, final String symbol, final InstrumentType type) {
+        Instrument instrument = new Instrument();
+
+        instrument.setId(id);
+        instrument.setSymbol(symbol);
+        instrument.setName(symbol);
+        instrument.setStockExchange(StockExchange.NYSE);
+        instrument.setType(type);
+
+        return instrument;
+    }
+
+    /**
+     * Tests the determination of the execution levels. The ratio depends on the sector and therefore has to be updated
+     * after the sector.
+     */
+    @Test
+    public void testGetExecutionLevels() {
+        List<Instrument> instruments = new ArrayList<>();
+        ScanDependencyGraph dependencyGraph;
+        List<List<Instrument>> executionLevels;
+
+        // Add the ratio first to make sure the order of the given instruments is irrelevant.
+        instruments.add(this.ratio);
+        instruments.add(this.sector);
+        dependencyGraph = new ScanDependencyGraph(instruments);
+
+        executionLevels = dependencyGraph.getExecutionLevels();
+
+        assertEquals(2, executionLevels.size());
+        assertEquals(1, executionLevels.get(0).size());
+        assertEquals(this.sector, executionLevels.get(0).get(0));
+        assertEquals(1, executionLevels.get(1).size());
+        assertEquals(this.ratio, executionLevels.get(1).get(0));
+    }
+
+    /**
+     * Tests the determination of the execution levels of independent instruments. All instruments are expected to be
+     * part of a single level.
+     */
+    @Test
+    public void testGetExecutionLevelsIndependent() {
+        List<Instrument> instruments = new ArrayList<>();
+        ScanDependencyGraph dependencyGraph;
+        List<List<Instrument>> executionLevels;
+        final int stockRatioId = 6;
+        Instrument stockRatio = this.getInstrument(stockRatioId, "AAA/SPY", InstrumentType.RATIO);
+
+        stockRatio.setDividend(this.stock1);
+        stockRatio.setDivisor(this.index);
+
+        instruments.add(this.sector);
+        instruments.add(stockRatio);
+        dependencyGraph = new ScanDependencyGraph(instruments);
+
+        executionLevels = dependencyGraph.getExecutionLevels();
+
+        assertEquals(1, executionLevels.size());
+        assertEquals(2, executionLevels.get(0).size());
+    }
+
+    /**
+     * Tests the determination of the execution levels of instruments with a circular dependency. The instruments are
+     * expected to be part of the last level.
+     */
+    @Test
+    public void testGetExecutionLevelsCircular() {
+        List<Instrument> instruments = new ArrayList<>();
+        ScanDependencyGraph dependencyGraph;
+        List<List<Instrument>> executionLevels;
+        final int inverseRatioId = 6;
+        Instrument inverseRatio = this.getInstrument(inverseRatioId, "SPY/SEC", InstrumentType.RATIO);
+
+        inverseRatio.setDividend(this.index);
+        inverseRatio.setDivisor(this.ratio);
+        this.ratio.setDivisor(inverseRatio);
+
+        instruments.add(this.sector);
+        instruments.add(this.ratio);
+        instruments.add(inverseRatio);
+        dependencyGraph = new ScanDependencyGraph(instruments);
+
+        executionLevels = dependencyGraph.getExecutionLevels();
+
+        assertEquals(2, executionLevels.size());
+        assertEquals(this.sector, executionLevels.get(0).get(0));
+        assertEquals(2, executionLevels.get(1).size());
+    }
+
+    /**
+     * Tests getting the IDs of all instruments that are a dependency of another Instrument.
+     */
+    @Test
+    public void testGetDependencyIds() {
+        List<Instrument> instruments = new ArrayList<>();
+        ScanDependencyGraph dependencyGraph;
+        Set<Integer> dependencyIds;
+        final int expectedNumberOfDependencies = 4;
+
+        instruments.add(this.ratio);
+        instruments.add(this.sector);
+        dependencyGraph = new ScanDependencyGraph(instruments);
+
+        dependencyIds = dependencyGraph.getDependencyIds();
+
+        assertEquals(expectedNumberOfDependencies, dependencyIds.size());
+        assertTrue(dependencyIds.contains(this.stock1.getId()));
+        assertTrue(dependencyIds.contains(this.stock2.getId()));
+        assertTrue(dependencyIds.contains(this.index.getId()));
+        assertTrue(dependencyIds.contains(this.sector.getId()));
+    }
+
+    /**
+     * Tests getting the IDs of the instruments that are no longer needed after each level of execution. The stocks are
+     * needed by the sector of the first level. The sector and the index are needed by the ratio of the second level.
+     */
+    @Test
+    public void testGetReleasedDependencyIds() {
+        List<Instrument> instruments = new ArrayList<>();
+        ScanDependencyGraph dependencyGraph;
+        List<Set<Integer>> releasedDependencyIds;
+
+        instruments.add(this.ratio);
+        instruments.add(this.sector);
+        dependencyGraph = new ScanDependencyGraph(instruments);
+
+        releasedDependencyIds = dependencyGraph.getReleasedDependencyIds(dependencyGraph.getExecutionLevels());
+
+        assertEquals(2, releasedDependencyIds.size());
+        assertEquals(Set.of(this.stock1.getId(), this.stock2.getId()), releasedDependencyIds.get(0));
+        assertEquals(Set.of(this.index.getId(), this.sector.getId()), releasedDependencyIds.get(1));
+    }
+}
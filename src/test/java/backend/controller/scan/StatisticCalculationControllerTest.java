@@ -8,7 +8,9 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -475,4 +477,35 @@ public class StatisticCalculationControllerTest {
             fail(e.getMessage());
         }
     }
+
+    /**
+     * Tests the incremental calculation of the statistics of the given dates.
+     */
+    @Test
+    public void testCalculateStatisticsOfDates() {
+        Set<Date> dates = new HashSet<>();
+        List<Statistic> calculatedStatistics;
+        Statistic statistic;
+        final int num2 = 2;
+
+        dates.add(DateTools.getDateWithoutIntradayAttributes(this.appleQuotation2.getDate()));
+
+        try {
+            calculatedStatistics = this.statisticCalculationController.calculateEnhancedStatistics(dates);
+
+            // Only the statistic of the requested day should exist.
+            assertEquals(1, calculatedStatistics.size());
+
+            statistic = calculatedStatistics.get(0);
+            assertEquals(DateTools.getDateWithoutIntradayAttributes(this.appleQuotation2.getDate()).getTime(),
+                    statistic.getDate().getTime());
+            assertEquals(0, statistic.getNumberAdvance());
+            assertEquals(num2, statistic.getNumberDecline());
+            assertEquals(0, statistic.getNumberAboveSma50());
+            assertEquals(num2, statistic.getNumberAtOrBelowSma50());
+            assertEquals(1, statistic.getNumberChurning());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
 }
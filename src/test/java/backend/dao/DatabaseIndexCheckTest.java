@@ -0,0 +1,93 @@
+package backend.dao;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import backend.dao.quotation.persistence.QuotationQueryProvider;
+import backend.model.instrument.Quotation;
+
+/**
+ * Tests the DatabaseIndexCheck and the query plans of the indexed Quotation queries.
+ *
+ * @author Michael
+ */
+public class DatabaseIndexCheckTest {
+    /**
+     * The check for database indexes.
+     */
+    private static DatabaseIndexCheck databaseIndexCheck;
+
+    /**
+     * Tasks to be performed once at startup of test class.
+     */
+    @BeforeAll
+    public static void setUpClass() {
+        databaseIndexCheck = DAOManager.getInstance().getDatabaseIndexCheck();
+    }
+
+    /**
+     * Tasks to be performed once at end of test class.
+     */
+    @AfterAll
+    public static void tearDownClass() {
+        try {
+            DAOManager.getInstance().close();
+        } catch (IOException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the determination of missing indexes if all indexes have been created by schema generation.
+     */
+    @Test
+    public void testGetMissingIndexes() {
+        List<String> missingIndexes;
+
+        try {
+            missingIndexes = databaseIndexCheck.getMissingIndexes();
+            assertTrue(missingIndexes.isEmpty(), "Missing indexes: " + missingIndexes);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the query plan for quotations of an Instrument on a certain date.
+     */
+    @Test
+    public void testQueryPlanQuotationOfInstrumentAndDate() {
+        String plan;
+
+        try {
+            plan = databaseIndexCheck.getQueryPlan("SELECT quotation_id FROM Quotation "
+                    + "WHERE instrument_id = 1 AND date = TIMESTAMP '2022-07-22 00:00:00'");
+            assertTrue(plan.contains(Quotation.INDEX_INSTRUMENT_DATE), plan);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the query plan for the IDs of the newest Quotation of each Instrument.
+     */
+    @Test
+    public void testQueryPlanQuotationIdsWithMaxDate() {
+        String plan;
+
+        try {
+            plan = databaseIndexCheck.getQueryPlan(
+                    QuotationQueryProvider.QUERY_QUOTATION_IDS_WITH_MAX_DATE.replace(":instrumentIds", "(1, 2, 3)"));
+            assertTrue(plan.contains(Quotation.INDEX_INSTRUMENT_DATE), plan);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+}
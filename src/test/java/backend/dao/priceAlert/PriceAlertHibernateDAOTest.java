@@ -1,10 +1,12 @@
 package backend.dao.priceAlert;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -330,4 +332,62 @@ public class PriceAlertHibernateDAOTest {
             fail(e.getMessage());
         }
     }
+
+    /**
+     * Tests the update of the results of a stock quote check of multiple price alerts.
+     */
+    @Test
+    public void testUpdateStockQuoteData() {
+        PriceAlert databasePriceAlert;
+        List<PriceAlert> updatedPriceAlerts;
+        Date stockQuoteTime = new Date();
+        final float appleDistance = -1.5f;
+        final float netflixDistance = 2.5f;
+
+        this.appleAlert.setLastStockQuoteTime(stockQuoteTime);
+        this.appleAlert.setTriggerDistancePercent(appleDistance);
+        this.appleAlert.setTriggerTime(stockQuoteTime);
+        this.netflixAlert.setLastStockQuoteTime(stockQuoteTime);
+        this.netflixAlert.setTriggerDistancePercent(netflixDistance);
+
+        try {
+            updatedPriceAlerts = priceAlertDAO.updateStockQuoteData(Arrays.asList(this.appleAlert, this.netflixAlert));
+
+            // Only the Apple alert has been persisted.
+            assertEquals(1, updatedPriceAlerts.size());
+            assertEquals(this.appleAlert.getId(), updatedPriceAlerts.get(0).getId());
+
+            // The stock quote data of the Apple alert have been updated.
+            databasePriceAlert = priceAlertDAO.getPriceAlert(this.appleAlert.getId());
+            assertEquals(stockQuoteTime.getTime(), databasePriceAlert.getLastStockQuoteTime().getTime());
+            assertEquals(appleDistance, databasePriceAlert.getTriggerDistancePercent());
+            assertEquals(stockQuoteTime.getTime(), databasePriceAlert.getTriggerTime().getTime());
+
+            // The Netflix alert has already been triggered before. Therefore it is not updated.
+            databasePriceAlert = priceAlertDAO.getPriceAlert(this.netflixAlert.getId());
+            assertNull(databasePriceAlert.getLastStockQuoteTime());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the update of the mail transmission time of a triggered price alert.
+     */
+    @Test
+    public void testUpdateMailTransmissionTime() {
+        PriceAlert databasePriceAlert;
+        Date mailTransmissionTime = new Date();
+
+        this.netflixAlert.setMailTransmissionTime(mailTransmissionTime);
+
+        try {
+            priceAlertDAO.updateMailTransmissionTime(Arrays.asList(this.netflixAlert));
+
+            databasePriceAlert = priceAlertDAO.getPriceAlert(this.netflixAlert.getId());
+            assertEquals(mailTransmissionTime.getTime(), databasePriceAlert.getMailTransmissionTime().getTime());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
 }
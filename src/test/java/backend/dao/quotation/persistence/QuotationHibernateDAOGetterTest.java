@@ -6,8 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -23,6 +26,10 @@ import backend.model.instrument.Instrument;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
 import backend.model.instrument.RelativeStrengthData;
+import backend.model.scan.ScanFilter;
+import backend.model.scan.ScanFilterConjunction;
+import backend.model.scan.ScanFilterField;
+import backend.model.scan.ScanFilterOperator;
 import backend.webservice.ScanTemplate;
 
 /**
@@ -362,6 +369,79 @@ public class QuotationHibernateDAOGetterTest {
         }
     }
 
+    /**
+     * Tests the retrieval of all quotations of multiple instruments.
+     */
+    @Test
+    public void testGetQuotationsOfInstruments() {
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
+        List<Quotation> appleQuotations;
+        List<Quotation> microsoftQuotations;
+
+        try {
+            quotationsOfInstruments = quotationDAO.getQuotationsOfInstruments(
+                    Arrays.asList(this.appleStock.getId(), this.microsoftStock.getId()), null);
+            assertEquals(2, quotationsOfInstruments.size());
+
+            // The quotations are sorted by date, newest first.
+            appleQuotations = quotationsOfInstruments.get(this.appleStock.getId());
+            assertEquals(2, appleQuotations.size());
+            assertEquals(this.appleQuotation2, appleQuotations.get(0));
+            assertEquals(this.appleQuotation1, appleQuotations.get(1));
+
+            microsoftQuotations = quotationsOfInstruments.get(this.microsoftStock.getId());
+            assertEquals(1, microsoftQuotations.size());
+            assertEquals(this.microsoftQuotation1, microsoftQuotations.get(0));
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the retrieval of the newest quotations of multiple instruments if the number of quotations per Instrument
+     * is limited.
+     */
+    @Test
+    public void testGetQuotationsOfInstrumentsLimited() {
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
+        List<Quotation> appleQuotations;
+
+        try {
+            quotationsOfInstruments = quotationDAO.getQuotationsOfInstruments(
+                    Arrays.asList(this.appleStock.getId(), this.microsoftStock.getId()), 1);
+
+            appleQuotations = quotationsOfInstruments.get(this.appleStock.getId());
+            assertEquals(1, appleQuotations.size());
+            assertEquals(this.appleQuotation2, appleQuotations.get(0));
+
+            assertEquals(1, quotationsOfInstruments.get(this.microsoftStock.getId()).size());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the retrieval of the quotations of multiple instruments that have been created on or after a given date.
+     */
+    @Test
+    public void testGetQuotationsOfInstrumentsSince() {
+        Map<Integer, List<Quotation>> quotationsOfInstruments;
+        List<Quotation> appleQuotations;
+
+        try {
+            quotationsOfInstruments = quotationDAO.getQuotationsOfInstrumentsSince(
+                    Arrays.asList(this.appleStock.getId(), this.microsoftStock.getId()), this.appleQuotation2.getDate());
+            assertEquals(2, quotationsOfInstruments.size());
+
+            // The older Quotation of Apple is not provided.
+            appleQuotations = quotationsOfInstruments.get(this.appleStock.getId());
+            assertEquals(1, appleQuotations.size());
+            assertEquals(this.appleQuotation2, appleQuotations.get(0));
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
     /**
      * Tests the retrieval of the most recent Quotation for each Instrument of a List.
      */
@@ -439,6 +519,80 @@ public class QuotationHibernateDAOGetterTest {
         }
     }
 
+    /**
+     * Tests if the in-memory snapshot of the newest quotations is invalidated when a Quotation is updated. Initially
+     * only the Apple Quotation has an Indicator. After an Indicator has been added to the Microsoft Quotation, both
+     * quotations are expected to match the ScanTemplate.
+     */
+    @Test
+    public void testGetQuotationsByTemplateAfterUpdate() {
+        List<Quotation> quotations;
+        List<Quotation> updateQuotations = new ArrayList<>();
+
+        try {
+            quotationDAO.refreshLatestQuotationSnapshot();
+            quotations = quotationDAO.getQuotationsByTemplate(ScanTemplate.ALL, InstrumentType.STOCK, null, null, null);
+            assertEquals(1, quotations.size());
+
+            this.microsoftQuotation1.setIndicator(new Indicator());
+            updateQuotations.add(this.microsoftQuotation1);
+            quotationDAO.updateQuotations(updateQuotations);
+
+            quotations = quotationDAO.getQuotationsByTemplate(ScanTemplate.ALL, InstrumentType.STOCK, null, null, null);
+            assertEquals(2, quotations.size());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            try {
+                // Remove the newly created Indicator.
+                this.microsoftQuotation1.setIndicator(null);
+                quotationDAO.updateQuotations(updateQuotations);
+            } catch (Exception e) {
+                fail(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tests if the invalidation of the in-memory snapshot is deferred until a running bulk update has ended. While the
+     * bulk update is running, the ScanTemplate is evaluated on the snapshot as it was before the update.
+     */
+    @Test
+    public void testGetQuotationsByTemplateDuringBulkUpdate() {
+        List<Quotation> quotations;
+        List<Quotation> updateQuotations = new ArrayList<>();
+
+        try {
+            quotationDAO.refreshLatestQuotationSnapshot();
+            quotationDAO.beginBulkUpdate();
+
+            try {
+                this.microsoftQuotation1.setIndicator(new Indicator());
+                updateQuotations.add(this.microsoftQuotation1);
+                quotationDAO.updateQuotations(updateQuotations);
+
+                quotations = quotationDAO.getQuotationsByTemplate(ScanTemplate.ALL, InstrumentType.STOCK, null, null,
+                        null);
+                assertEquals(1, quotations.size());
+            } finally {
+                quotationDAO.endBulkUpdate();
+            }
+
+            quotations = quotationDAO.getQuotationsByTemplate(ScanTemplate.ALL, InstrumentType.STOCK, null, null, null);
+            assertEquals(2, quotations.size());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            try {
+                // Remove the newly created Indicator.
+                this.microsoftQuotation1.setIndicator(null);
+                quotationDAO.updateQuotations(updateQuotations);
+            } catch (Exception e) {
+                fail(e.getMessage());
+            }
+        }
+    }
+
     /**
      * Tests the retrieval of the most recent Quotation of each Instrument of type STOCK. Especially the filling of
      * transient attributes is tested here.
@@ -480,4 +634,36 @@ public class QuotationHibernateDAOGetterTest {
             fail(e.getMessage());
         }
     }
+
+    /**
+     * Tests the retrieval of the most recent Quotation of each Instrument that matches a user-defined ScanFilter.
+     */
+    @Test
+    public void testGetQuotationsByFilter() {
+        List<Quotation> quotations;
+        int rsNumber = this.appleQuotation2.getRelativeStrengthData().getRsNumber();
+        int baseLengthWeeks = this.appleQuotation2.getIndicator().getBaseLengthWeeks();
+        ScanFilter matchingFilter = new ScanFilter(ScanFilterConjunction.AND, Arrays.asList(
+                new ScanFilter(ScanFilterField.RS_NUMBER, ScanFilterOperator.GREATER_OR_EQUAL,
+                        new BigDecimal(rsNumber)),
+                new ScanFilter(ScanFilterField.BASE_LENGTH_WEEKS, ScanFilterOperator.EQUAL,
+                        new BigDecimal(baseLengthWeeks))));
+        ScanFilter nonMatchingFilter = new ScanFilter(ScanFilterConjunction.OR, Arrays.asList(
+                new ScanFilter(ScanFilterField.RS_NUMBER, ScanFilterOperator.GREATER, new BigDecimal(rsNumber)),
+                new ScanFilter(ScanFilterField.BASE_LENGTH_WEEKS, ScanFilterOperator.GREATER,
+                        new BigDecimal(baseLengthWeeks))));
+
+        try {
+            quotations = quotationDAO.getQuotationsByFilter(matchingFilter, InstrumentType.STOCK, null, null);
+
+            // Assure the newest Quotation of the Apple stock is provided.
+            assertEquals(1, quotations.size());
+            assertEquals(this.appleQuotation2, quotations.get(0));
+
+            quotations = quotationDAO.getQuotationsByFilter(nonMatchingFilter, InstrumentType.STOCK, null, null);
+            assertTrue(quotations.isEmpty());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
 }
@@ -24,6 +24,7 @@ import backend.dao.instrument.InstrumentDAO;
 import backend.model.Currency;
 import backend.model.instrument.Indicator;
 import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
 
 /**
@@ -262,6 +263,53 @@ public class QuotationHibernateDAOTest {
         }
     }
 
+    /**
+     * Tests if the newest Quotation of an Instrument is determined correctly after quotations have been inserted and
+     * deleted.
+     */
+    @Test
+    public void testRecentQuotationAfterInsertAndDelete() {
+        Calendar calendar = Calendar.getInstance();
+        List<Quotation> quotations = new ArrayList<>();
+        List<Quotation> recentQuotations;
+        Quotation newQuotation;
+
+        // Define a new Quotation that is newer than all existing quotations.
+        calendar.add(Calendar.DAY_OF_YEAR, 2);
+        newQuotation = new Quotation();
+        newQuotation.setDate(calendar.getTime());
+        newQuotation.setClose(new BigDecimal("78.19"));
+        newQuotation.setCurrency(Currency.USD);
+        newQuotation.setInstrument(this.appleStock);
+        quotations.add(newQuotation);
+
+        try {
+            // The Indicator shares the ID of its Quotation. Therefore it can only be added after insertion.
+            quotationDAO.insertQuotations(quotations);
+            newQuotation.setIndicator(new Indicator());
+            quotationDAO.updateQuotations(quotations);
+
+            recentQuotations = quotationDAO.getRecentQuotations(InstrumentType.STOCK);
+            assertEquals(1, recentQuotations.size());
+            assertEquals(newQuotation.getId(), recentQuotations.get(0).getId());
+
+            // After deletion the previously newest Quotation has to be determined again.
+            quotationDAO.deleteQuotations(quotations);
+            quotations.clear();
+            recentQuotations = quotationDAO.getRecentQuotations(InstrumentType.STOCK);
+            assertEquals(1, recentQuotations.size());
+            assertEquals(this.appleQuotation2.getId(), recentQuotations.get(0).getId());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            try {
+                quotationDAO.deleteQuotations(quotations);
+            } catch (Exception e) {
+                fail(e.getMessage());
+            }
+        }
+    }
+
     /**
      * Tests updating a Quotation adding a new Indicator relation.
      */
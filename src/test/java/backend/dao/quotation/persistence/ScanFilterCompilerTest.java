@@ -0,0 +1,174 @@
+package backend.dao.quotation.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import backend.model.LocalizedException;
+import backend.model.instrument.InstrumentType;
+import backend.model.scan.ScanFilter;
+import backend.model.scan.ScanFilterConjunction;
+import backend.model.scan.ScanFilterField;
+import backend.model.scan.ScanFilterOperator;
+
+/**
+ * Tests the ScanFilterCompiler.
+ *
+ * @author Michael
+ */
+public class ScanFilterCompilerTest {
+    /**
+     * The ScanFilterCompiler under test.
+     */
+    private ScanFilterCompiler scanFilterCompiler;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.scanFilterCompiler = new ScanFilterCompiler();
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.scanFilterCompiler = null;
+    }
+
+    /**
+     * Provides a filter for stocks trading above their SMA(50) with an RS number of at least the given value.
+     *
+     * @param minRsNumber The minimum RS number.
+     * @return The ScanFilter.
+     */
+    private ScanFilter getUptrendFilter(final int minRsNumber) {
+        return new ScanFilter(ScanFilterConjunction.AND, Arrays.asList(
+                new ScanFilter(ScanFilterField.RS_NUMBER, ScanFilterOperator.GREATER_OR_EQUAL,
+                        new BigDecimal(minRsNumber)),
+                new ScanFilter(ScanFilterField.PRICE, ScanFilterOperator.GREATER, ScanFilterField.SMA_50)));
+    }
+
+    /**
+     * Tests the compilation of a filter with conditions on constant values and reference fields.
+     */
+    @Test
+    public void testCompile() {
+        CompiledScanFilter compiledScanFilter;
+        final int minRsNumber = 70;
+
+        try {
+            compiledScanFilter = this.scanFilterCompiler.compile(this.getUptrendFilter(minRsNumber),
+                    InstrumentType.STOCK);
+
+            assertEquals("(q.close > m.sma50 AND s.rsNumber >= ?)", compiledScanFilter.getNormalizedExpression());
+            assertEquals(Arrays.asList(minRsNumber), compiledScanFilter.getParameters());
+            assertTrue(compiledScanFilter.getQuery().contains("LEFT JOIN q.movingAverageData m"));
+            assertTrue(compiledScanFilter.getQuery().contains("LEFT JOIN q.relativeStrengthData s"));
+            assertFalse(compiledScanFilter.getQuery().contains("LEFT JOIN q.indicator r"));
+            assertTrue(compiledScanFilter.getQuery().contains("i.type = :instrumentType"));
+            assertTrue(compiledScanFilter.getQuery().endsWith("(q.close > m.sma50 AND s.rsNumber >= :p0)"));
+        } catch (LocalizedException e) {
+            fail(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Tests if filters that only differ in their values and the order of their conditions share the same query.
+     */
+    @Test
+    public void testQueryCache() {
+        CompiledScanFilter firstCompiledScanFilter;
+        CompiledScanFilter secondCompiledScanFilter;
+        ScanFilter reorderedFilter = this.getUptrendFilter(80);
+
+        reorderedFilter.setFilters(Arrays.asList(reorderedFilter.getFilters().get(1),
+                reorderedFilter.getFilters().get(0)));
+
+        try {
+            firstCompiledScanFilter = this.scanFilterCompiler.compile(this.getUptrendFilter(70), null);
+            secondCompiledScanFilter = this.scanFilterCompiler.compile(reorderedFilter, null);
+
+            assertSame(firstCompiledScanFilter.getQuery(), secondCompiledScanFilter.getQuery());
+            assertEquals(Arrays.asList(80), secondCompiledScanFilter.getParameters());
+            assertEquals(1, this.scanFilterCompiler.getCacheSize());
+        } catch (LocalizedException e) {
+            fail(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Tests the normalization of nested groups and the conversion of values to the type of the field.
+     */
+    @Test
+    public void testNestedGroups() {
+        CompiledScanFilter compiledScanFilter;
+        ScanFilter nearHigh = new ScanFilter(ScanFilterField.DISTANCE_TO_52_WEEK_HIGH,
+                ScanFilterOperator.GREATER_OR_EQUAL, new BigDecimal("-5"));
+        ScanFilter tightBase = new ScanFilter(ScanFilterConjunction.OR, Arrays.asList(
+                new ScanFilter(ScanFilterField.BASE_LENGTH_WEEKS, ScanFilterOperator.GREATER, new BigDecimal("4")),
+                new ScanFilter(ScanFilterConjunction.OR, Arrays.asList(new ScanFilter(
+                        ScanFilterField.BOLLINGER_BAND_WIDTH_10_DAYS, ScanFilterOperator.LESS_OR_EQUAL,
+                        ScanFilterField.BBW_10_THRESHOLD_25_PERCENT)))));
+        ScanFilter scanFilter = new ScanFilter(ScanFilterConjunction.AND, Arrays.asList(nearHigh,
+                new ScanFilter(ScanFilterConjunction.AND, Arrays.asList(tightBase, nearHigh))));
+
+        try {
+            compiledScanFilter = this.scanFilterCompiler.compile(scanFilter, null);
+
+            assertEquals("((r.baseLengthWeeks > ? OR r.bollingerBandWidth10Days <= r.bbw10Threshold25Percent) "
+                    + "AND r.distanceTo52WeekHigh >= ?)", compiledScanFilter.getNormalizedExpression());
+            assertEquals(Arrays.asList(4, -5f), compiledScanFilter.getParameters());
+            assertTrue(compiledScanFilter.getQuery().contains("r.baseLengthWeeks > :p0"));
+            assertTrue(compiledScanFilter.getQuery().contains("r.distanceTo52WeekHigh >= :p1"));
+        } catch (LocalizedException e) {
+            fail(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Tests the compilation of invalid filters.
+     */
+    @Test
+    public void testInvalidFilters() {
+        ScanFilter incompleteCondition = new ScanFilter();
+        ScanFilter emptyGroup = new ScanFilter(ScanFilterConjunction.AND, new ArrayList<>());
+        ScanFilter nonIntegralValue = new ScanFilter(ScanFilterField.RS_NUMBER, ScanFilterOperator.GREATER,
+                new BigDecimal("80.5"));
+
+        incompleteCondition.setField(ScanFilterField.RS_NUMBER);
+        incompleteCondition.setOperator(ScanFilterOperator.GREATER);
+
+        this.assertCompilationFails(null, "quotation.noFilterError");
+        this.assertCompilationFails(incompleteCondition, "quotation.filterIncompleteCondition");
+        this.assertCompilationFails(emptyGroup, "quotation.filterEmptyGroup");
+        this.assertCompilationFails(nonIntegralValue, "quotation.filterNonIntegralValue");
+    }
+
+    /**
+     * Assures that the compilation of the given filter fails with the given message.
+     *
+     * @param scanFilter The ScanFilter.
+     * @param messageKey The key of the expected message.
+     */
+    private void assertCompilationFails(final ScanFilter scanFilter, final String messageKey) {
+        try {
+            this.scanFilterCompiler.compile(scanFilter, null);
+            fail("Compilation should have failed with " + messageKey);
+        } catch (LocalizedException e) {
+            assertEquals(new LocalizedException(messageKey).getLocalizedMessage(), e.getLocalizedMessage());
+        }
+    }
+}
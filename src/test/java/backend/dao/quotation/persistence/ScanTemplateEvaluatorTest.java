@@ -0,0 +1,135 @@
+package backend.dao.quotation.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import backend.model.instrument.InstrumentType;
+import backend.webservice.ScanTemplate;
+
+/**
+ * Tests the ScanTemplateEvaluator.
+ *
+ * @author Michael
+ */
+public class ScanTemplateEvaluatorTest {
+    /**
+     * ID of the Quotation of a stock in a healthy uptrend that trades in a tight range.
+     */
+    private static final int UPTREND_STOCK_QUOTATION_ID = 1;
+
+    /**
+     * ID of the Quotation of a stock without Indicator data.
+     */
+    private static final int STOCK_WITHOUT_INDICATOR_QUOTATION_ID = 2;
+
+    /**
+     * ID of the Quotation of an ETF that declines on volume near its 52-week low.
+     */
+    private static final int DECLINING_ETF_QUOTATION_ID = 3;
+
+    /**
+     * The ScanTemplateEvaluator under test.
+     */
+    private ScanTemplateEvaluator scanTemplateEvaluator;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+
+        rows.add(new Object[] {UPTREND_STOCK_QUOTATION_ID, InstrumentType.STOCK, new BigDecimal("100.00"), 1, -10f,
+                50f, 5f, 15f, 6f, -10f, 2f, 5, 1, 98f, 95f, 90f, 80f, 70f, 1, 85});
+        rows.add(new Object[] {STOCK_WITHOUT_INDICATOR_QUOTATION_ID, InstrumentType.STOCK, new BigDecimal("50.00"),
+                null, null, null, null, null, null, null, null, null, 2, 46f, 45f, 48f, 47f, 46f, null, null});
+        rows.add(new Object[] {DECLINING_ETF_QUOTATION_ID, InstrumentType.ETF, new BigDecimal("20.00"), 3, -40f, 3f,
+                12f, 30f, 10f, 30f, -12f, 0, null, null, null, null, null, null, null, null});
+
+        this.scanTemplateEvaluator = new ScanTemplateEvaluator(new LatestQuotationSnapshot(rows));
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.scanTemplateEvaluator = null;
+    }
+
+    /**
+     * Tests if all templates can be evaluated in memory.
+     */
+    @Test
+    public void testIsSupported() {
+        for (ScanTemplate scanTemplate : ScanTemplate.values()) {
+            assertTrue(this.scanTemplateEvaluator.isSupported(scanTemplate), scanTemplate.toString());
+        }
+    }
+
+    /**
+     * Tests the evaluation of the "Minervini Trend Template".
+     */
+    @Test
+    public void testMinerviniTrendTemplate() {
+        assertEquals(Arrays.asList(UPTREND_STOCK_QUOTATION_ID),
+                this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.MINERVINI_TREND_TEMPLATE, null));
+    }
+
+    /**
+     * Tests the evaluation of the "Swing Trading Environment" Template, which does not require Indicator data.
+     */
+    @Test
+    public void testSwingTradingEnvironment() {
+        assertEquals(Arrays.asList(UPTREND_STOCK_QUOTATION_ID, STOCK_WITHOUT_INDICATOR_QUOTATION_ID),
+                this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.SWING_TRADING_ENVIRONMENT, null));
+    }
+
+    /**
+     * Tests the evaluation of the templates that check for a consolidation.
+     */
+    @Test
+    public void testConsolidationTemplates() {
+        List<Integer> expectedIds = Arrays.asList(UPTREND_STOCK_QUOTATION_ID);
+
+        assertEquals(expectedIds,
+                this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.BREAKOUT_CANDIDATES, null));
+        assertEquals(expectedIds,
+                this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.CONSOLIDATION_10_WEEKS, null));
+        assertEquals(expectedIds, this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.BUYABLE_BASE, null));
+    }
+
+    /**
+     * Tests the evaluation of the templates that check for price moves on volume and the 52-week low.
+     */
+    @Test
+    public void testDownOnVolumeNear52WeekLow() {
+        List<Integer> expectedIds = Arrays.asList(DECLINING_ETF_QUOTATION_ID);
+
+        assertEquals(expectedIds, this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.DOWN_ON_VOLUME, null));
+        assertEquals(expectedIds, this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.NEAR_52_WEEK_LOW, null));
+        assertTrue(this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.UP_ON_VOLUME, null).isEmpty());
+    }
+
+    /**
+     * Tests the evaluation of the Template "ALL" with and without InstrumentType.
+     */
+    @Test
+    public void testAllWithInstrumentType() {
+        assertEquals(Arrays.asList(UPTREND_STOCK_QUOTATION_ID, DECLINING_ETF_QUOTATION_ID),
+                this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.ALL, null));
+        assertEquals(Arrays.asList(UPTREND_STOCK_QUOTATION_ID),
+                this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.ALL, InstrumentType.STOCK));
+        assertEquals(Arrays.asList(DECLINING_ETF_QUOTATION_ID),
+                this.scanTemplateEvaluator.getQuotationIds(ScanTemplate.ALL, InstrumentType.ETF));
+    }
+}
@@ -0,0 +1,181 @@
+package backend.dao.quotation.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import backend.model.instrument.Instrument;
+import backend.model.instrument.InstrumentType;
+import backend.model.instrument.Quotation;
+import backend.model.instrument.RelativeStrengthData;
+
+/**
+ * Tests the ScanTemplateProcessor.
+ *
+ * @author Michael
+ */
+public class ScanTemplateProcessorTest {
+    /**
+     * The date of all quotations.
+     */
+    private final Date quotationDate = new Date();
+
+    /**
+     * The most recent quotations of the sectors.
+     */
+    private List<Quotation> sectorQuotations;
+
+    /**
+     * The most recent quotations of the industry groups.
+     */
+    private List<Quotation> industryGroupQuotations;
+
+    /**
+     * The ScanTemplateProcessor under test.
+     */
+    private ScanTemplateProcessor scanTemplateProcessor;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.sectorQuotations = new ArrayList<>();
+        this.industryGroupQuotations = new ArrayList<>();
+
+        // The DAO provides the quotations of sectors and industry groups without database access.
+        this.scanTemplateProcessor = new ScanTemplateProcessor(new QuotationHibernateDAO(null) {
+            @Override
+            public List<Quotation> getRecentQuotations(final InstrumentType instrumentType) throws Exception {
+                if (instrumentType == InstrumentType.SECTOR) {
+                    return sectorQuotations;
+                }
+
+                return industryGroupQuotations;
+            }
+        });
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.scanTemplateProcessor = null;
+        this.industryGroupQuotations = null;
+        this.sectorQuotations = null;
+    }
+
+    /**
+     * Gets an Instrument with the given attributes.
+     *
+     * @param id   The ID of the Instrument.
+     * @param type The InstrumentType.
+     * @return The Instrument.
+     */
+    private Instrument getInstrument(final Integer id, final InstrumentType type) {
+        Instrument instrument = new Instrument();
+
+        instrument.setId(id);
+        instrument.setType(type);
+
+        return instrument;
+    }
+
+    /**
+     * Gets a Quotation of the given Instrument.
+     *
+     * @param instrument The Instrument.
+     * @param rsNumber   The RS number of the Quotation; null, if the Quotation has no RelativeStrengthData.
+     * @return The Quotation.
+     */
+    private Quotation getQuotation(final Instrument instrument, final Integer rsNumber) {
+        Quotation quotation = new Quotation();
+        RelativeStrengthData rsData;
+
+        quotation.setInstrument(instrument);
+        quotation.setDate(this.quotationDate);
+
+        if (rsNumber != null) {
+            rsData = new RelativeStrengthData();
+            rsData.setRsNumber(rsNumber);
+            quotation.setRelativeStrengthData(rsData);
+        }
+
+        return quotation;
+    }
+
+    /**
+     * Tests filling the transient RS numbers of stock quotations. The sector of one stock has no Quotation, the
+     * industry group of that stock has two quotations. Another stock has no RelativeStrengthData.
+     */
+    @Test
+    public void testFillTransientAttributes() {
+        final int sectorIdWithoutQuotation = 1;
+        final int sectorId = 2;
+        final int industryGroupIdDuplicated = 11;
+        final int industryGroupId = 12;
+        final int sectorRsNumber = 70;
+        final int industryGroupRsNumber = 80;
+        final int stockRsNumber = 90;
+        final int rsNumberDistance52WeekHigh = 60;
+        final int rsNumberAccDisRatio = 51;
+        final int expectedCompositeRsNumber = 75; // (2 * 90 + 80 + 60 + 51) / 5 = 74.2, rounded up.
+        Instrument sectorWithoutQuotation = this.getInstrument(sectorIdWithoutQuotation, InstrumentType.SECTOR);
+        Instrument sector = this.getInstrument(sectorId, InstrumentType.SECTOR);
+        Instrument industryGroupDuplicated = this.getInstrument(industryGroupIdDuplicated, InstrumentType.IND_GROUP);
+        Instrument industryGroup = this.getInstrument(industryGroupId, InstrumentType.IND_GROUP);
+        Instrument stock1 = this.getInstrument(1, InstrumentType.STOCK);
+        Instrument stock2 = this.getInstrument(2, InstrumentType.STOCK);
+        Instrument stock3 = this.getInstrument(3, InstrumentType.STOCK);
+        Quotation stock1Quotation;
+        Quotation stock2Quotation;
+        Quotation stock3Quotation;
+
+        stock1.setSector(sectorWithoutQuotation);
+        stock1.setIndustryGroup(industryGroupDuplicated);
+        stock2.setSector(sector);
+        stock2.setIndustryGroup(industryGroup);
+        stock3.setSector(sector);
+        stock3.setIndustryGroup(industryGroup);
+
+        this.sectorQuotations.add(this.getQuotation(sector, sectorRsNumber));
+        this.industryGroupQuotations.add(this.getQuotation(industryGroupDuplicated, industryGroupRsNumber));
+        this.industryGroupQuotations.add(this.getQuotation(industryGroupDuplicated, industryGroupRsNumber));
+        this.industryGroupQuotations.add(this.getQuotation(industryGroup, industryGroupRsNumber));
+
+        stock1Quotation = this.getQuotation(stock1, stockRsNumber);
+        stock2Quotation = this.getQuotation(stock2, stockRsNumber);
+        stock2Quotation.getRelativeStrengthData().setRsNumberDistance52WeekHigh(rsNumberDistance52WeekHigh);
+        stock2Quotation.getRelativeStrengthData().setRsNumberAccDisRatio(rsNumberAccDisRatio);
+        stock3Quotation = this.getQuotation(stock3, null);
+
+        try {
+            this.scanTemplateProcessor.fillTransientAttributes(InstrumentType.STOCK,
+                    Arrays.asList(stock1Quotation, stock2Quotation, stock3Quotation));
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+
+        // No Quotation of the sector and no distinct Quotation of the industry group exists.
+        assertEquals(0, stock1Quotation.getRelativeStrengthData().getRsNumberSector());
+        assertEquals(0, stock1Quotation.getRelativeStrengthData().getRsNumberIndustryGroup());
+        assertEquals(0, stock1Quotation.getRelativeStrengthData().getRsNumberCompositeIg());
+
+        assertEquals(sectorRsNumber, stock2Quotation.getRelativeStrengthData().getRsNumberSector());
+        assertEquals(industryGroupRsNumber, stock2Quotation.getRelativeStrengthData().getRsNumberIndustryGroup());
+        assertEquals(expectedCompositeRsNumber, stock2Quotation.getRelativeStrengthData().getRsNumberCompositeIg());
+
+        // The Quotation without RelativeStrengthData is skipped.
+        assertNull(stock3Quotation.getRelativeStrengthData());
+    }
+}
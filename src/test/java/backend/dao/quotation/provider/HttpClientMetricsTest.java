@@ -0,0 +1,71 @@
+package backend.dao.quotation.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the HttpClientMetrics.
+ *
+ * @author Michael
+ */
+public class HttpClientMetricsTest {
+    /**
+     * The metrics under test.
+     */
+    private HttpClientMetrics metrics;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        this.metrics = new HttpClientMetrics();
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.metrics = null;
+    }
+
+    /**
+     * Tests the metrics if no call has been recorded.
+     */
+    @Test
+    public void testMetricsWithoutCalls() {
+        assertEquals(0, this.metrics.getNumberOfCalls());
+        assertEquals(0, this.metrics.getAverageHandshakeMillis());
+        assertEquals(0, this.metrics.getAverageResponseMillis());
+        assertEquals(0, this.metrics.getConnectionReusePercent());
+    }
+
+    /**
+     * Tests the calculation of average times and connection reuse.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testMetrics() {
+        // Four calls, of which only the first one establishes a new connection.
+        for (int i = 0; i < 4; i++) {
+            this.metrics.recordCall();
+        }
+
+        this.metrics.recordHandshake(120);
+        this.metrics.recordResponse(200);
+        this.metrics.recordResponse(40);
+        this.metrics.recordResponse(30);
+        this.metrics.recordFailedCall();
+
+        assertEquals(4, this.metrics.getNumberOfCalls());
+        assertEquals(1, this.metrics.getNumberOfFailedCalls());
+        assertEquals(1, this.metrics.getNumberOfHandshakes());
+        assertEquals(120, this.metrics.getAverageHandshakeMillis());
+        assertEquals(90, this.metrics.getAverageResponseMillis());
+        assertEquals(75, this.metrics.getConnectionReusePercent());
+    }
+}
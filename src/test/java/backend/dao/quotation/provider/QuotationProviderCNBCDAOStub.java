@@ -2,6 +2,7 @@ package backend.dao.quotation.provider;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 
 import backend.model.StockExchange;
 import backend.model.instrument.Instrument;
@@ -31,4 +32,12 @@ public class QuotationProviderCNBCDAOStub extends QuotationProviderCNBCDAO {
 
         return this.convertJSONToQuotation(currentQuotationJSON);
     }
+
+    /**
+     * Gets the current quotation data of multiple symbols as JSON String.
+     */
+    @Override
+    protected String getCurrentQuotationsJSON(final List<String> querySymbols) throws Exception {
+        return Files.readString(Paths.get("src/test/resources/cnbcMultipleQuotes.json"));
+    }
 }
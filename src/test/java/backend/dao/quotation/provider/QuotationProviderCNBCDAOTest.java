@@ -1,10 +1,13 @@
 package backend.dao.quotation.provider;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -56,6 +59,37 @@ public class QuotationProviderCNBCDAOTest {
         return quotation;
     }
 
+    /**
+     * Gets a Quotation of Ford as expected from the CNBC API.
+     *
+     * @return A Quotation.
+     */
+    private Quotation getFordQuotation() {
+        Quotation quotation = new Quotation();
+
+        quotation.setClose(new BigDecimal("12.47"));
+        quotation.setCurrency(Currency.USD);
+
+        return quotation;
+    }
+
+    /**
+     * Tests the retrieval of the query URL for the current quotations of multiple symbols.
+     */
+    @Test
+    public void testGetQueryUrlCurrentQuotations() {
+        final String expectedURL = "https://quote.cnbc.com/quote-html-webservice/restQuote/symbolType/"
+                + "symbol?symbols=RIO-GB%7CF%7CDML-CA&requestMethod=itv&noform=1&partnerId=2&fund=1&exthrs=1"
+                + "&output=json&events=1";
+        List<String> querySymbols = new ArrayList<>();
+
+        querySymbols.add("RIO-GB");
+        querySymbols.add("F");
+        querySymbols.add("DML-CA");
+
+        assertEquals(expectedURL, quotationProviderCNBCDAO.getQueryUrlCurrentQuotations(querySymbols));
+    }
+
     /**
      * Tests the retrieval of the query URL for the current quotation of a stock listed at the LSE.
      */
@@ -230,6 +264,67 @@ public class QuotationProviderCNBCDAOTest {
         }
     }
 
+    /**
+     * Tests getting current Quotation data of multiple instruments with a single query.
+     */
+    @Test
+    public void testGetCurrentQuotations() {
+        List<Instrument> instruments = new ArrayList<>();
+        List<Quotation> actualQuotations;
+        Quotation expectedRioQuotation = this.getRioTintoQuotation();
+        Quotation expectedFordQuotation = this.getFordQuotation();
+
+        instruments.add(new Instrument("F", StockExchange.NYSE));
+        instruments.add(new Instrument("AGN", StockExchange.CSE));
+        instruments.add(new Instrument("RIO", StockExchange.LSE));
+        instruments.add(new Instrument("XYZQ", StockExchange.NYSE));
+
+        try {
+            actualQuotations = quotationProviderCNBCDAO.getCurrentQuotations(instruments);
+
+            assertEquals(instruments.size(), actualQuotations.size());
+
+            assertTrue(expectedFordQuotation.getClose().compareTo(actualQuotations.get(0).getClose()) == 0);
+            assertEquals(expectedFordQuotation.getCurrency(), actualQuotations.get(0).getCurrency());
+
+            // The CSE is not supported by CNBC.
+            assertNull(actualQuotations.get(1));
+
+            assertTrue(expectedRioQuotation.getClose().compareTo(actualQuotations.get(2).getClose()) == 0);
+            assertEquals(expectedRioQuotation.getCurrency(), actualQuotations.get(2).getCurrency());
+
+            // The symbol is unknown to CNBC.
+            assertNull(actualQuotations.get(3));
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests getting current Quotation data of multiple instruments whose symbols differ in case from the symbols of the
+     * response.
+     */
+    @Test
+    public void testGetCurrentQuotationsLowerCaseSymbols() {
+        List<Instrument> instruments = new ArrayList<>();
+        List<Quotation> actualQuotations;
+        Quotation expectedRioQuotation = this.getRioTintoQuotation();
+        Quotation expectedFordQuotation = this.getFordQuotation();
+
+        instruments.add(new Instrument("f", StockExchange.NYSE));
+        instruments.add(new Instrument("rio", StockExchange.LSE));
+
+        try {
+            actualQuotations = quotationProviderCNBCDAO.getCurrentQuotations(instruments);
+
+            assertEquals(instruments.size(), actualQuotations.size());
+            assertTrue(expectedFordQuotation.getClose().compareTo(actualQuotations.get(0).getClose()) == 0);
+            assertTrue(expectedRioQuotation.getClose().compareTo(actualQuotations.get(1).getClose()) == 0);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
     /**
      * Tests the determination of the currency based on the currency string provided by the CNBC API.
      */
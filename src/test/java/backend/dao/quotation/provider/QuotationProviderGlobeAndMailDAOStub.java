@@ -4,9 +4,6 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 
-import com.gargoylesoftware.htmlunit.WebClient;
-import com.gargoylesoftware.htmlunit.html.HtmlPage;
-
 import backend.model.StockExchange;
 import backend.model.instrument.Instrument;
 import backend.model.instrument.Quotation;
@@ -28,29 +25,12 @@ public class QuotationProviderGlobeAndMailDAOStub extends QuotationProviderGlobe
     public Quotation getCurrentQuotation(final Instrument instrument) throws Exception {
         String userPath = System.getProperty("user.dir");
         String htmlPath = "file:" + userPath;
-        WebClient webClient = new WebClient();
-        HtmlPage htmlPage;
-        Quotation quotation;
-
-        this.disableHtmlUnitLogging();
 
         if (instrument.getSymbol().equals("PMET") && instrument.getStockExchange().equals(StockExchange.TSXV)) {
             htmlPath = htmlPath + "//src//test//resources//GlobeAndMail//GlobeAndMailTSXVQuotePMET.htm";
         }
 
-        try {
-            webClient.getOptions().setUseInsecureSSL(true);
-            webClient.getOptions().setCssEnabled(false);
-            webClient.getOptions().setJavaScriptEnabled(false);
-
-            htmlPage = webClient.getPage(htmlPath);
-
-            quotation = this.getQuotationFromHtmlPage(htmlPage, instrument);
-        } finally {
-            webClient.close();
-        }
-
-        return quotation;
+        return this.getQuotationFromRenderedPage(htmlPath, instrument);
     }
 
     /**
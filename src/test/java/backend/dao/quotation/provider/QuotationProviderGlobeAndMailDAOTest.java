@@ -1,10 +1,13 @@
 package backend.dao.quotation.provider;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
@@ -101,6 +104,41 @@ public class QuotationProviderGlobeAndMailDAOTest {
         }
     }
 
+    /**
+     * Tests getting current Quotation data from the static HTML of the page without rendering.
+     */
+    @Test
+    public void testGetQuotationFromHtml() {
+        Quotation actualQuotation;
+        Quotation expectedQuotation;
+        String html;
+
+        try {
+            html = Files.readString(Paths.get("src/test/resources/GlobeAndMail/GlobeAndMailTSXVQuotePMET.htm"));
+            actualQuotation = quotationProviderGlobeAndMailDAO.getQuotationFromHtml(html,
+                    this.fixtureHelper.getPatriotBatteryMetalsInstrument());
+            expectedQuotation = this.getPatriotBatteryMetalsQuotation();
+
+            assertTrue(expectedQuotation.getClose().compareTo(actualQuotation.getClose()) == 0);
+            assertEquals(expectedQuotation.getCurrency(), actualQuotation.getCurrency());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests getting current Quotation data from HTML that does not contain the price.
+     */
+    @Test
+    public void testGetQuotationFromHtmlWithoutPrice() {
+        final String html = "<html><body><span class=\"barchart-overview-field-value\"><barchart-field "
+                + "symbol=\"PMET.VN\" type=\"price\" name=\"lastPriceExt\" value=\"-\">-</barchart-field></span>"
+                + "</body></html>";
+
+        assertNull(quotationProviderGlobeAndMailDAO.getQuotationFromHtml(html,
+                this.fixtureHelper.getPatriotBatteryMetalsInstrument()));
+    }
+
     /**
      * Tests the retrieval of the query URL for the current quotation of a stock listed at the TSX/V.
      */
@@ -7,6 +7,7 @@ import java.util.List;
 import backend.model.StockExchange;
 import backend.model.instrument.Instrument;
 import backend.model.instrument.Quotation;
+import okhttp3.OkHttpClient;
 
 /**
  * Stub to simulate receiving of quotation data using the investing.com website. A local HTML file is used instead of a
@@ -15,6 +16,14 @@ import backend.model.instrument.Quotation;
  * @author Michael
  */
 public class QuotationProviderInvestingDAOStub extends QuotationProviderInvestingDAO {
+    /**
+     * Initializes the QuotationProviderInvestingDAOStub. The HTTP client is never used, because no live queries are
+     * performed.
+     */
+    public QuotationProviderInvestingDAOStub() {
+        super(new OkHttpClient());
+    }
+
     /**
      * Gets the current Quotation of the given Instrument.
      */
@@ -1,9 +1,12 @@
 package backend.dao.quotation.provider;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -17,6 +20,11 @@ import backend.model.StockExchange;
 import backend.model.instrument.Instrument;
 import backend.model.instrument.InstrumentType;
 import backend.model.instrument.Quotation;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * Tests the Investing Quotation DAO.
@@ -66,6 +74,21 @@ public class QuotationProviderInvestingDAOTest {
         return quotation;
     }
 
+    /**
+     * Gets an HTTP client that answers each request with the given HTTP status and the content of the given file
+     * instead of performing a live query.
+     *
+     * @param statusCode The HTTP status of the response.
+     * @param jsonPath   The path of the file that contains the response body.
+     * @return The HTTP client.
+     */
+    private OkHttpClient getHttpClient(final int statusCode, final String jsonPath) {
+        return new OkHttpClient.Builder().addInterceptor(chain -> new Response.Builder().request(chain.request())
+                .protocol(Protocol.HTTP_1_1).code(statusCode).message("")
+                .body(ResponseBody.create(Files.readString(Paths.get(jsonPath)), MediaType.get("application/json")))
+                .build()).build();
+    }
+
     /**
      * Gets an Instrument of the Amazon stock.
      *
@@ -164,6 +187,45 @@ public class QuotationProviderInvestingDAOTest {
         }
     }
 
+    /**
+     * Tests getting current Quotation data using the HTTP client. The response body is parsed while it is received.
+     */
+    @Test
+    public void testGetCurrentQuotationHttpClient() {
+        QuotationProviderInvestingDAO investingDAO;
+        Quotation actualQuotation;
+        final int statusOk = 200;
+
+        investingDAO = new QuotationProviderInvestingDAO(
+                this.getHttpClient(statusOk, "src/test/resources/Investing/investingCurlResultAAPL.json"));
+
+        try {
+            actualQuotation = investingDAO.getCurrentQuotation(this.getAmazonInstrument());
+            assertEquals(this.getAmazonQuotation(), actualQuotation);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tests getting current Quotation data if investing.com responds with an HTTP status that indicates an error.
+     */
+    @Test
+    public void testGetCurrentQuotationHttpError() {
+        QuotationProviderInvestingDAO investingDAO;
+        final int statusForbidden = 403;
+
+        investingDAO = new QuotationProviderInvestingDAO(
+                this.getHttpClient(statusForbidden, "src/test/resources/Investing/investingCurlResultAAPL.json"));
+
+        try {
+            investingDAO.getCurrentQuotation(this.getAmazonInstrument());
+            fail("Determination of the Quotation should have failed because of the HTTP status.");
+        } catch (Exception expected) {
+            assertTrue(expected.getMessage().contains(String.valueOf(statusForbidden)), expected.getMessage());
+        }
+    }
+
     /**
      * Tests the retrieval of the query URL for the current quotation of a stock listed at the NYSE.
      */
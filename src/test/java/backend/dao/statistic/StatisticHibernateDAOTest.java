@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -466,8 +467,8 @@ public class StatisticHibernateDAOTest {
         Statistic databaseStatistic;
 
         try {
-            // Change Statistic.
-            statisticTodayStock.setInstrumentType(InstrumentType.ETF);
+            // Change Statistic. The InstrumentType is kept, because the ETF Statistic of today already exists.
+            statisticTodayStock.setNumberAdvance(statisticTodayStock.getNumberAdvance() + 1);
             statisticDAO.updateStatistic(this.statisticTodayStock);
 
             // Get the Statistic that should have been changed.
@@ -496,4 +497,84 @@ public class StatisticHibernateDAOTest {
             fail(e.getMessage());
         }
     }
+
+    /**
+     * Tests the insertion and update of multiple statistics in a single call.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testUpsertStatistics() {
+        Calendar calendar = this.getCalendarNow();
+        Statistic newStatistic = new Statistic();
+        Statistic databaseStatistic;
+
+        calendar.add(Calendar.DAY_OF_MONTH, -2);
+
+        newStatistic.setInstrumentType(InstrumentType.STOCK);
+        newStatistic.setDate(calendar.getTime());
+        newStatistic.setNumberAdvance(10);
+        newStatistic.setNumberDecline(15);
+        this.statisticYesterdayStock.setNumberAdvance(100);
+
+        try {
+            statisticDAO.upsertStatistics(Arrays.asList(newStatistic, this.statisticYesterdayStock));
+
+            // Check if the new Statistic has been inserted.
+            databaseStatistic = statisticDAO.getStatistic(newStatistic.getId());
+            assertEquals(newStatistic, databaseStatistic);
+
+            // Check if the existing Statistic has been updated.
+            databaseStatistic = statisticDAO.getStatistic(this.statisticYesterdayStock.getId());
+            assertEquals(this.statisticYesterdayStock, databaseStatistic);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            // Remove the Statistic to revert to the original database state.
+            try {
+                statisticDAO.deleteStatistics(Arrays.asList(newStatistic));
+            } catch (Exception e) {
+                fail(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tries to upsert a Statistic of a certain type and date for which a Statistic already exists. The unique
+     * constraint of the database has to reject the whole batch.
+     */
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void testUpsertDuplicateStatistic() {
+        Calendar calendar = this.getCalendarNow();
+        Statistic newStatistic = new Statistic();
+        Statistic duplicateStatistic = new Statistic();
+        List<Statistic> statistics;
+
+        calendar.add(Calendar.DAY_OF_MONTH, -2);
+
+        newStatistic.setInstrumentType(InstrumentType.STOCK);
+        newStatistic.setDate(calendar.getTime());
+        newStatistic.setNumberAdvance(10);
+        newStatistic.setNumberDecline(15);
+
+        duplicateStatistic.setInstrumentType(InstrumentType.STOCK);
+        duplicateStatistic.setDate(this.statisticTodayStock.getDate());
+        duplicateStatistic.setNumberAdvance(10);
+        duplicateStatistic.setNumberDecline(5);
+
+        try {
+            statisticDAO.upsertStatistics(Arrays.asList(newStatistic, duplicateStatistic));
+            fail("The 'upsertStatistics' method should have thrown an exception.");
+        } catch (Exception expected) {
+            // All is well.
+        }
+
+        try {
+            // No Statistic of the batch has been persisted.
+            statistics = statisticDAO.getStatistics(InstrumentType.STOCK, null, null);
+            assertEquals(2, statistics.size());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package backend.model.instrument;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import backend.dao.quotation.provider.QuotationProviderDAO;
+import backend.dao.quotation.provider.QuotationProviderYahooDAOStub;
+import backend.model.StockExchange;
+
+/**
+ * Tests the QuotationSeries model.
+ *
+ * @author Michael
+ */
+public class QuotationSeriesTest {
+    /**
+     * The quotations on which the QuotationSeries is based.
+     */
+    private QuotationArray quotationArray;
+
+    /**
+     * The QuotationSeries under test.
+     */
+    private QuotationSeries quotationSeries;
+
+    /**
+     * DAO to access quotation data from Yahoo.
+     */
+    private static QuotationProviderDAO quotationProviderYahooDAO;
+
+    /**
+     * Tasks to be performed once at startup of test class.
+     */
+    @BeforeAll
+    public static void setUpClass() {
+        try {
+            quotationProviderYahooDAO = new QuotationProviderYahooDAOStub();
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tasks to be performed once at the end of the test class.
+     */
+    @AfterAll
+    public static void tearDownClass() {
+        quotationProviderYahooDAO = null;
+    }
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Quotation> quotations = new ArrayList<>();
+        Instrument dmlStock = new Instrument();
+
+        dmlStock.setSymbol("DML");
+        dmlStock.setStockExchange(StockExchange.TSX);
+        dmlStock.setType(InstrumentType.STOCK);
+
+        try {
+            quotations.addAll(quotationProviderYahooDAO.getQuotationHistory(dmlStock, 1));
+            this.quotationArray = new QuotationArray(quotations);
+            this.quotationArray.sortQuotationsByDate();
+            this.quotationSeries = new QuotationSeries(this.quotationArray);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.quotationSeries = null;
+        this.quotationArray = null;
+    }
+
+    /**
+     * Tests if the values of the QuotationSeries are equal to the values of the quotations.
+     */
+    @Test
+    public void testValues() {
+        Quotation quotation;
+
+        assertEquals(this.quotationArray.getQuotations().size(), this.quotationSeries.size());
+
+        for (int i = 0; i < this.quotationSeries.size(); i++) {
+            quotation = this.quotationArray.getQuotations().get(i);
+
+            assertEquals(quotation.getDate().getTime(), this.quotationSeries.getDate(i));
+            assertEquals(quotation.getOpen().doubleValue(), this.quotationSeries.getOpen(i));
+            assertEquals(quotation.getHigh().doubleValue(), this.quotationSeries.getHigh(i));
+            assertEquals(quotation.getLow().doubleValue(), this.quotationSeries.getLow(i));
+            assertEquals(quotation.getClose().doubleValue(), this.quotationSeries.getClose(i));
+            assertEquals(quotation.getVolume(), this.quotationSeries.getVolume(i));
+        }
+    }
+
+    /**
+     * Tests getting the index of a Quotation by its date.
+     */
+    @Test
+    public void testGetIndexOfDate() {
+        final int expectedIndex = 7;
+        Calendar calendar = Calendar.getInstance();
+        final int hoursLater = 3;
+
+        // Intraday attributes are not taken into account.
+        calendar.setTime(this.quotationArray.getQuotations().get(expectedIndex).getDate());
+        calendar.set(Calendar.HOUR_OF_DAY, hoursLater);
+
+        assertEquals(expectedIndex, this.quotationSeries.getIndexOfDate(calendar.getTime()));
+    }
+
+    /**
+     * Tests getting the index of a date for which no Quotation exists.
+     */
+    @Test
+    public void testGetIndexOfDateNotExisting() {
+        assertEquals(-1, this.quotationSeries.getIndexOfDate(new Date(0)));
+    }
+
+    /**
+     * Tests the conversion of scaled prices to float. The result has to be equal to BigDecimal.floatValue() of the
+     * price, below and above the range of prices that are converted without BigDecimal.
+     */
+    @Test
+    public void testGetPriceAsFloat() {
+        final long[] scaledPrices = { 0, 1, 79140, 16777215, 16777216, 16777217, 123456789, -2500 };
+
+        for (long scaledPrice : scaledPrices) {
+            assertEquals(BigDecimal.valueOf(scaledPrice, QuotationSeries.PRICE_SCALE).floatValue(),
+                    QuotationSeries.getPriceAsFloat(scaledPrice));
+        }
+    }
+
+    /**
+     * Tests the determination of the closing price as float. The price has to be equal to BigDecimal.floatValue() of
+     * the closing price of the Quotation.
+     */
+    @Test
+    public void testGetCloseAsFloat() {
+        for (int i = 0; i < this.quotationSeries.size(); i++) {
+            assertEquals(this.quotationArray.getQuotations().get(i).getClose().floatValue(),
+                    this.quotationSeries.getCloseAsFloat(i));
+        }
+    }
+}
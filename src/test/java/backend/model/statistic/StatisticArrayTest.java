@@ -0,0 +1,125 @@
+package backend.model.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the StatisticArray.
+ *
+ * @author Michael
+ */
+public class StatisticArrayTest {
+    /**
+     * The ID of the sector used in the tests.
+     */
+    private static final Integer SECTOR_ID = 1;
+
+    /**
+     * The ID of the industry group used in the tests.
+     */
+    private static final Integer INDUSTRY_GROUP_ID = 2;
+
+    /**
+     * The general Statistic of the current day.
+     */
+    private Statistic generalStatistic;
+
+    /**
+     * The sector Statistic of the current day.
+     */
+    private Statistic sectorStatistic;
+
+    /**
+     * The StatisticArray under test.
+     */
+    private StatisticArray statisticArray;
+
+    /**
+     * Tasks to be performed before each test is run.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<Statistic> statistics = new ArrayList<>();
+
+        this.generalStatistic = new Statistic();
+        this.generalStatistic.setDate(this.getDate(0, 0));
+
+        this.sectorStatistic = new Statistic();
+        this.sectorStatistic.setDate(this.getDate(0, 0));
+        this.sectorStatistic.setSectorId(SECTOR_ID);
+
+        statistics.add(this.sectorStatistic);
+        statistics.add(this.generalStatistic);
+        this.statisticArray = new StatisticArray(statistics);
+    }
+
+    /**
+     * Tasks to be performed after each test has been run.
+     */
+    @AfterEach
+    public void tearDown() {
+        this.statisticArray = null;
+        this.sectorStatistic = null;
+        this.generalStatistic = null;
+    }
+
+    /**
+     * Provides a date relative to the current day.
+     *
+     * @param days  The number of days that are added to the current day.
+     * @param hours The hour of the day.
+     * @return The date.
+     */
+    private Date getDate(final int days, final int hours) {
+        Calendar calendar = Calendar.getInstance();
+
+        calendar.add(Calendar.DAY_OF_YEAR, days);
+        calendar.set(Calendar.HOUR_OF_DAY, hours);
+
+        return calendar.getTime();
+    }
+
+    /**
+     * Tests the lookup of statistics by day, sector and industry group.
+     */
+    @Test
+    public void testGetStatistic() {
+        final int hours = 15;
+
+        assertSame(this.generalStatistic, this.statisticArray.getStatistic(this.getDate(0, hours), null, null));
+        assertSame(this.sectorStatistic, this.statisticArray.getStatistic(this.getDate(0, hours), SECTOR_ID, null));
+        assertNull(this.statisticArray.getStatistic(this.getDate(0, hours), null, INDUSTRY_GROUP_ID));
+        assertNull(this.statisticArray.getStatistic(this.getDate(-1, hours), null, null));
+
+        // The first Statistic of the day is provided, if only the date is given.
+        assertSame(this.sectorStatistic, this.statisticArray.getStatistic(this.getDate(0, hours)));
+    }
+
+    /**
+     * Tests the lookup of statistics that have been added after the first lookup.
+     */
+    @Test
+    public void testGetAddedStatistic() {
+        Statistic industryGroupStatistic = new Statistic();
+
+        industryGroupStatistic.setDate(this.getDate(-1, 0));
+        industryGroupStatistic.setIndustryGroupId(INDUSTRY_GROUP_ID);
+
+        assertNull(this.statisticArray.getStatistic(this.getDate(-1, 0), null, INDUSTRY_GROUP_ID));
+
+        this.statisticArray.addStatistic(industryGroupStatistic);
+
+        assertSame(industryGroupStatistic, this.statisticArray.getStatistic(this.getDate(-1, 0), null,
+                INDUSTRY_GROUP_ID));
+        assertSame(industryGroupStatistic, this.statisticArray.getStatistic(this.getDate(-1, 0)));
+    }
+}
@@ -2,6 +2,9 @@ package backend.webservice.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -417,6 +420,133 @@ public class DashboardServiceTest {
         assertEquals(expectedErrorMessage, actualErrorMessage);
     }
 
+    /**
+     * Tests the determination of the health status of all industry groups.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetMarketHealthStatuses() {
+        List<MarketHealthStatus> marketHealthStatuses;
+        MarketHealthStatus marketHealthStatus = null;
+        WebServiceResult getMarketHealthStatusesResult;
+        DashboardService dashboardService = new DashboardService();
+        final int expectedNumberUpOnVolume = 10;
+        final int expectedNumberDownOnVolume = 15;
+
+        getMarketHealthStatusesResult = dashboardService.getMarketHealthStatuses(InstrumentType.IND_GROUP);
+
+        // Assure no error message exists
+        assertFalse(WebServiceTools.resultContainsErrorMessage(getMarketHealthStatusesResult));
+
+        // The status of the Copper industry group has to be calculated like the status of a single request.
+        marketHealthStatuses = (List<MarketHealthStatus>) getMarketHealthStatusesResult.getData();
+        for (MarketHealthStatus tempStatus : marketHealthStatuses) {
+            if (tempStatus.getSymbol().equals(this.copperIndustryGroup.getSymbol())) {
+                marketHealthStatus = tempStatus;
+            }
+        }
+
+        assertNotNull(marketHealthStatus);
+        assertEquals(this.copperIgQuotation1.getDate().getTime(), marketHealthStatus.getDate().getTime());
+        assertEquals(SwingTradingEnvironmentStatus.GREEN, marketHealthStatus.getSwingTradingEnvironmentStatus());
+        assertEquals(1, marketHealthStatus.getNumberNear52wHigh());
+        assertEquals(1, marketHealthStatus.getNumberNear52wLow());
+        assertEquals(expectedNumberUpOnVolume, marketHealthStatus.getNumberUpOnVolume());
+        assertEquals(expectedNumberDownOnVolume, marketHealthStatus.getNumberDownOnVolume());
+    }
+
+    /**
+     * Tests the determination of the health status of all instruments of a type other than sector or industry group.
+     */
+    @Test
+    public void testGetMarketHealthStatusesWrongType() {
+        WebServiceResult getMarketHealthStatusesResult;
+        DashboardService dashboardService = new DashboardService();
+
+        getMarketHealthStatusesResult = dashboardService.getMarketHealthStatuses(InstrumentType.ETF);
+
+        // Assure an error message exists
+        assertTrue(WebServiceTools.resultContainsErrorMessage(getMarketHealthStatusesResult));
+        assertEquals(this.resources.getString("dashboard.wrongInstrumentType"),
+                getMarketHealthStatusesResult.getMessages().get(0).getText());
+    }
+
+    /**
+     * Tests that the health status is provided by the MarketHealthStatusCache after the cache has been refreshed.
+     */
+    @Test
+    public void testGetMarketHealthStatusFromCache() {
+        WebServiceResult getMarketHealthStatusResult;
+        DashboardService dashboardService = new DashboardService();
+        MarketHealthStatus cachedStatus;
+
+        try {
+            dashboardService.refreshMarketHealthStatusCache();
+            cachedStatus = MarketHealthStatusCache.getMarketHealthStatus(this.copperIndustryGroup.getId());
+            assertNotNull(cachedStatus);
+
+            getMarketHealthStatusResult = new DashboardService().getMarketHealthStatus(this.copperIndustryGroup.getId(),
+                    null);
+
+            assertFalse(WebServiceTools.resultContainsErrorMessage(getMarketHealthStatusResult));
+            assertSame(cachedStatus, getMarketHealthStatusResult.getData());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            MarketHealthStatusCache.clear();
+        }
+    }
+
+    /**
+     * Tests that the Instrument is validated before the MarketHealthStatusCache is read. The type of the industry group
+     * is changed after the cache has been refreshed. An error is expected instead of the cached status.
+     */
+    @Test
+    public void testGetMarketHealthStatusFromCacheWrongType() {
+        WebServiceResult getMarketHealthStatusResult;
+        DashboardService dashboardService = new DashboardService();
+
+        try {
+            dashboardService.refreshMarketHealthStatusCache();
+            assertNotNull(MarketHealthStatusCache.getMarketHealthStatus(this.copperIndustryGroup.getId()));
+
+            this.copperIndustryGroup.setType(InstrumentType.ETF);
+            instrumentDAO.updateInstrument(this.copperIndustryGroup);
+
+            getMarketHealthStatusResult = dashboardService.getMarketHealthStatus(this.copperIndustryGroup.getId(),
+                    null);
+
+            assertTrue(WebServiceTools.resultContainsErrorMessage(getMarketHealthStatusResult));
+            assertEquals(this.resources.getString("dashboard.wrongInstrumentType"),
+                    getMarketHealthStatusResult.getMessages().get(0).getText());
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            MarketHealthStatusCache.clear();
+        }
+    }
+
+    /**
+     * Tests the removal of the status of a single Instrument from the MarketHealthStatusCache.
+     */
+    @Test
+    public void testRemoveMarketHealthStatusFromCache() {
+        DashboardService dashboardService = new DashboardService();
+
+        try {
+            dashboardService.refreshMarketHealthStatusCache();
+            assertNotNull(MarketHealthStatusCache.getMarketHealthStatus(this.copperIndustryGroup.getId()));
+
+            MarketHealthStatusCache.remove(this.copperIndustryGroup.getId());
+
+            assertNull(MarketHealthStatusCache.getMarketHealthStatus(this.copperIndustryGroup.getId()));
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            MarketHealthStatusCache.clear();
+        }
+    }
+
     /**
      * Tests determination of the SwingTradingEnvironmentStatus 'GREEN'.
      */
@@ -488,24 +488,11 @@ public class QuotationServiceFixture {
      */
     public List<Quotation> getDenisonMinesQuotationsWithIndicators(final Instrument instrument,
             final List<Quotation> quotations) {
-        Quotation quotation;
-        List<Quotation> quotationsWithIndicators = new ArrayList<>();
         IndicatorCalculationController indicatorCalculator = new IndicatorCalculationController();
 
         // Quotations of Instrument are needed for indicator calculation.
         instrument.setQuotations(quotations);
 
-        for (int i = 0; i < quotations.size(); i++) {
-            quotation = quotations.get(i);
-
-            if (i == 0)
-                quotation = indicatorCalculator.calculateIndicators(instrument, quotation, true);
-            else
-                quotation = indicatorCalculator.calculateIndicators(instrument, quotation, false);
-
-            quotationsWithIndicators.add(quotation);
-        }
-
-        return quotationsWithIndicators;
+        return indicatorCalculator.calculateIndicators(instrument);
     }
 }